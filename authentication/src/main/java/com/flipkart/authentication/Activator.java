@@ -1,10 +1,41 @@
 package com.flipkart.authentication;
 
+import com.flipkart.authentication.cache.UserExistenceCache;
+import com.flipkart.authentication.cache.UserExistenceCacheImpl;
+import com.flipkart.authentication.cache.UserIdentifierFilterImpl;
+import com.flipkart.authentication.cache.UserProfileCacheImpl;
+import com.flipkart.authentication.dao.DaoConfiguration;
+import com.flipkart.authentication.dao.DaoRouter;
+import com.flipkart.authentication.dao.DaoRouters;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.security.PasswordHasherImpl;
+import com.flipkart.authentication.security.TokenKeyConfiguration;
+import com.flipkart.authentication.validation.ValidatorServiceImpl;
+import com.flipkart.authentication.validation.groups.GetUserChecker;
+import com.flipkart.authentication.validation.groups.UserCreationChecker;
+import com.flipkart.authentication.validation.groups.UserLoginChecker;
+import com.flipkart.authentication.validation.groups.UserUpdateChecker;
+import com.flipkart.exception.CustomException;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.cm.ManagedService;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * <p>
@@ -17,10 +48,18 @@ import org.osgi.framework.BundleContext;
 public class Activator implements BundleActivator {
 
     private static final Logger LOGGER = LogManager.getLogger(Activator.class);
+    private static final String USER_PROFILE_CACHE_NAME = "com.flipkart.authentication:type=UserProfileCache";
+    private ServiceRegistration<UserExistenceCache> userExistenceCacheRegistration;
+    private ServiceRegistration<ManagedService> daoConfigurationRegistration;
+    private ServiceRegistration<ManagedService> tokenKeyConfigurationRegistration;
+    private final List<ServiceRegistration<?>> daoRegistrations = new ArrayList<>();
 
     /**
      * <p>
-     * Invoked when the osgi bundle starts. Initializes and starts JAX-RS server.
+     * Invoked when the osgi bundle starts. Warms the validation of the user, indexes the user identifiers, warms the
+     * user caches, publishes the user existence cache and the versions of the user DAO, starts the DAO routers, listens
+     * to the configuration of the DAO versions and the token signing keys and registers the statistics of the user
+     * profile cache.
      * </p>
      *
      * @param context Refers the context of the bundle.
@@ -28,11 +67,58 @@ public class Activator implements BundleActivator {
     @Override
     public void start(final BundleContext context) {
         LOGGER.info("Starting bundle - authentication");
+        final UserExistenceCache userExistenceCache = UserExistenceCacheImpl.getInstance();
+
+        ValidatorServiceImpl.getInstance().warm(new User(), UserCreationChecker.class, UserLoginChecker.class,
+                UserUpdateChecker.class, GetUserChecker.class);
+
+        try {
+            DaoRouters.getUserDAO().indexUserIdentifiers();
+        } catch (final CustomException exception) {
+            LOGGER.warn(String.format("User identifiers are not indexed - %s", exception.getMessage()));
+        }
+
+        try {
+            userExistenceCache.warm();
+        } catch (final CustomException exception) {
+            LOGGER.warn(String.format("User existence cache is not warmed - %s", exception.getMessage()));
+        }
+
+        try {
+            UserIdentifierFilterImpl.getInstance().warm();
+        } catch (final CustomException exception) {
+            LOGGER.warn(String.format("User identifier filter is not warmed - %s", exception.getMessage()));
+        }
+        userExistenceCacheRegistration = context.registerService(UserExistenceCache.class, userExistenceCache, null);
+        DaoConfiguration.getInstance().start();
+        final Hashtable<String, String> daoConfigurationProperties = new Hashtable<>();
+
+        daoConfigurationProperties.put(Constants.SERVICE_PID, DaoConfiguration.PID);
+        daoConfigurationRegistration = context.registerService(ManagedService.class, DaoConfiguration.getInstance(),
+                daoConfigurationProperties);
+        final Hashtable<String, String> tokenKeyConfigurationProperties = new Hashtable<>();
+
+        tokenKeyConfigurationProperties.put(Constants.SERVICE_PID, TokenKeyConfiguration.PID);
+        tokenKeyConfigurationRegistration = context.registerService(ManagedService.class,
+                TokenKeyConfiguration.getInstance(), tokenKeyConfigurationProperties);
+
+        for (final DaoRouter<?> router : DaoRouters.getAll()) {
+            daoRegistrations.addAll(router.register(context));
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(UserProfileCacheImpl.getInstance(),
+                    new ObjectName(USER_PROFILE_CACHE_NAME));
+        } catch (final JMException exception) {
+            LOGGER.warn(String.format("User profile cache statistics are not registered - %s", exception.getMessage()));
+        }
     }
 
     /**
      * <p>
-     * Invoked when the osgi bundle stops. Stops and destroys the JAX-RS server.
+     * Invoked when the osgi bundle stops. Withdraws the user existence cache, the configurations and the DAO services,
+     * stops the password hashing and the shadow read threads and unregisters the statistics of the user profile cache,
+     * the DAO routers and the metrics of the methods.
      * </p>
      *
      * @param context Refers the context of the bundle.
@@ -40,5 +126,33 @@ public class Activator implements BundleActivator {
     @Override
     public void stop(final BundleContext context) {
         LOGGER.info("Stopping the bundle - authentication");
+
+        if (Objects.nonNull(userExistenceCacheRegistration)) {
+            userExistenceCacheRegistration.unregister();
+        }
+
+        if (Objects.nonNull(daoConfigurationRegistration)) {
+            daoConfigurationRegistration.unregister();
+        }
+
+        if (Objects.nonNull(tokenKeyConfigurationRegistration)) {
+            tokenKeyConfigurationRegistration.unregister();
+        }
+        daoRegistrations.forEach(ServiceRegistration::unregister);
+        daoRegistrations.clear();
+        PasswordHasherImpl.getInstance().shutdown();
+        DaoConfiguration.getInstance().shutdown();
+        MetricRegistry.getInstance().unregisterAll();
+
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName userProfileCacheName = new ObjectName(USER_PROFILE_CACHE_NAME);
+
+            if (mBeanServer.isRegistered(userProfileCacheName)) {
+                mBeanServer.unregisterMBean(userProfileCacheName);
+            }
+        } catch (final JMException exception) {
+            LOGGER.warn(String.format("User profile cache statistics are not unregistered - %s", exception.getMessage()));
+        }
     }
 }
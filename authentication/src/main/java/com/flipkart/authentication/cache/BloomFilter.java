@@ -0,0 +1,131 @@
+package com.flipkart.authentication.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Represents a concurrent bloom filter of strings. A value which is not present is reported as absent with certainty,
+ * while a value which is present may be reported falsely with the configured probability. The filter is sized for the
+ * expected number of values and the false positive probability grows once more values are added.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numberOfBits;
+    private final int numberOfHashes;
+
+    /**
+     * <p>
+     * Constructs the BloomFilter sized for the given number of values and false positive probability.
+     * </p>
+     *
+     * @param expectedInsertions Refers the number of values expected to be added.
+     * @param falsePositiveProbability Refers the probability of reporting an absent value as present.
+     */
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        final long insertions = Math.max(1, expectedInsertions);
+        final long optimalBits = (long) (-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        final int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE));
+
+        this.bits = new AtomicLongArray(words);
+        this.numberOfBits = (long) words * Long.SIZE;
+        this.numberOfHashes = Math.max(1, (int) Math.round((double) numberOfBits / insertions * Math.log(2)));
+    }
+
+    /**
+     * <p>
+     * Adds the value to the filter.
+     * </p>
+     *
+     * @param value Refers the value to be added.
+     */
+    public void put(final CharSequence value) {
+        final long hash = hash(value);
+        final long firstHash = mix(hash);
+        final long secondHash = mix(hash ^ 0x9E3779B97F4A7C15L);
+
+        for (int index = 0; index < numberOfHashes; index++) {
+            setBit(Math.floorMod(firstHash + index * secondHash, numberOfBits));
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the value might have been added to the filter.
+     * </p>
+     *
+     * @param value Refers the value to be checked.
+     * @return false if the value was never added or true if it might have been added.
+     */
+    public boolean mightContain(final CharSequence value) {
+        final long hash = hash(value);
+        final long firstHash = mix(hash);
+        final long secondHash = mix(hash ^ 0x9E3779B97F4A7C15L);
+
+        for (int index = 0; index < numberOfHashes; index++) {
+            final long bitIndex = Math.floorMod(firstHash + index * secondHash, numberOfBits);
+
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Sets the bit at the given index.
+     * </p>
+     *
+     * @param bitIndex Refers the index of the bit.
+     */
+    private void setBit(final long bitIndex) {
+        final int wordIndex = (int) (bitIndex >>> 6);
+        final long mask = 1L << bitIndex;
+        long word;
+
+        do {
+            word = bits.get(wordIndex);
+        } while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    /**
+     * <p>
+     * Computes the 64 bit FNV-1a hash of the characters of the value.
+     * </p>
+     *
+     * @param value Refers the value to be hashed.
+     * @return the hash of the value.
+     */
+    private static long hash(final CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+
+        for (int index = 0; index < value.length(); index++) {
+            hash = (hash ^ value.charAt(index)) * 0x100000001B3L;
+        }
+
+        return hash;
+    }
+
+    /**
+     * <p>
+     * Spreads the bits of the hash so that the derived indexes are independent of each other.
+     * </p>
+     *
+     * @param hash Refers the hash to be mixed.
+     * @return the mixed hash.
+     */
+    private static long mix(final long hash) {
+        long mixed = hash;
+
+        mixed = (mixed ^ (mixed >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+
+        return mixed ^ (mixed >>> 33);
+    }
+}
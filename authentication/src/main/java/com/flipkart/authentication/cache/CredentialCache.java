@@ -0,0 +1,46 @@
+package com.flipkart.authentication.cache;
+
+import com.flipkart.authentication.model.User;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Provides the cache of the credential rows of the users who logged in recently, looked up by the normalized
+ * identifier of the user.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface CredentialCache {
+
+    /**
+     * <p>
+     * Gets the cached user of the identifier.
+     * </p>
+     *
+     * @param identifier Refers the normalized email id or mobile number.
+     * @return Optional of {@link User} if cached or empty otherwise.
+     */
+    Optional<User> get(final String identifier);
+
+    /**
+     * <p>
+     * Caches the user by the identifier.
+     * </p>
+     *
+     * @param identifier Refers the normalized email id or mobile number.
+     * @param user Refers the {@link User} to be cached.
+     */
+    void put(final String identifier, final User user);
+
+    /**
+     * <p>
+     * Removes the cached entries of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    void invalidate(final int userId);
+}
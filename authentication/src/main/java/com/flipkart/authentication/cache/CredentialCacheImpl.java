@@ -0,0 +1,150 @@
+package com.flipkart.authentication.cache;
+
+import com.flipkart.authentication.model.User;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Keeps the credential rows of the recent logins in a small least recently used map. The entries expire after a short
+ * time so that a change made through another node is picked up, and the entries of a user are removed when the user
+ * is updated through this node.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class CredentialCacheImpl implements CredentialCache {
+
+    private final Map<String, Entry> entries;
+    private final long timeToLive;
+
+    /**
+     * <p>
+     * Default constructor of the CredentialCacheImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private CredentialCacheImpl() {
+        final int capacity = Integer.getInteger("flipkart.user.credential.cache.size", 1024);
+
+        timeToLive = TimeUnit.SECONDS.toMillis(Long.getLong("flipkart.user.credential.cache.seconds", 300));
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of CredentialCacheImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final CredentialCacheImpl CREDENTIAL_CACHE = new CredentialCacheImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of CredentialCacheImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of CredentialCacheImpl Class.
+     */
+    public static CredentialCache getInstance() {
+        return InstanceHolder.CREDENTIAL_CACHE;
+    }
+
+    /**
+     * <p>
+     * Gets the cached user of the identifier.
+     * </p>
+     *
+     * @param identifier Refers the normalized email id or mobile number.
+     * @return Optional of {@link User} if cached or empty otherwise.
+     */
+    @Override
+    public synchronized Optional<User> get(final String identifier) {
+        final Entry entry = entries.get(identifier);
+
+        if (Objects.isNull(entry)) {
+            return Optional.empty();
+        }
+
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(identifier);
+
+            return Optional.empty();
+        }
+
+        return Optional.of(copy(entry.user));
+    }
+
+    /**
+     * <p>
+     * Caches the user by the identifier.
+     * </p>
+     *
+     * @param identifier Refers the normalized email id or mobile number.
+     * @param user Refers the {@link User} to be cached.
+     */
+    @Override
+    public synchronized void put(final String identifier, final User user) {
+        entries.put(identifier, new Entry(copy(user), System.currentTimeMillis() + timeToLive));
+    }
+
+    /**
+     * <p>
+     * Removes the cached entries of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    @Override
+    public synchronized void invalidate(final int userId) {
+        entries.values().removeIf(entry -> entry.user.getId() == userId);
+    }
+
+    /**
+     * <p>
+     * Copies the credential fields of the user so that the cached user is not changed by the callers.
+     * </p>
+     *
+     * @param user Refers the {@link User} to be copied.
+     * @return the copy of the user.
+     */
+    private User copy(final User user) {
+        final User copiedUser = new User();
+
+        copiedUser.setId(user.getId());
+        copiedUser.setName(user.getName());
+        copiedUser.setEmailId(user.getEmailId());
+        copiedUser.setMobileNumber(user.getMobileNumber());
+        copiedUser.setPassword(user.getPassword());
+
+        return copiedUser;
+    }
+
+    /**
+     * <p>
+     * Holds the cached user with its expiry.
+     * </p>
+     */
+    private static class Entry {
+
+        private final User user;
+        private final long expiresAt;
+
+        private Entry(final User user, final long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.flipkart.authentication.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Estimates how often the keys are accessed with a count-min sketch of 4 bit counters, sixteen of them packed in each
+ * long. All the counters are halved once the number of recorded accesses reaches ten times the capacity, so the
+ * estimate follows the recent popularity of the keys. The counters are updated without locks and an update lost to a
+ * race only makes the estimate a little lower.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class FrequencySketch {
+
+    private static final long[] SEEDS = {0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL,
+            0xCBF29CE484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+    private final AtomicLongArray table;
+    private final AtomicInteger additions;
+    private final int tableMask;
+    private final int sampleSize;
+
+    /**
+     * <p>
+     * Constructs the FrequencySketch for the given number of cached keys.
+     * </p>
+     *
+     * @param capacity Refers the maximum number of cached keys.
+     */
+    public FrequencySketch(final int capacity) {
+        final int tableSize = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+
+        this.table = new AtomicLongArray(tableSize);
+        this.additions = new AtomicInteger();
+        this.tableMask = tableSize - 1;
+        this.sampleSize = 10 * Math.max(16, capacity);
+    }
+
+    /**
+     * <p>
+     * Gets the estimated number of recent accesses of the key.
+     * </p>
+     *
+     * @param key Refers the key.
+     * @return the estimated frequency between 0 and 15.
+     */
+    public int frequency(final int key) {
+        int frequency = MAX_COUNT;
+
+        for (final long seed : SEEDS) {
+            final long hash = hash(key, seed);
+
+            frequency = Math.min(frequency, (int) ((table.get(indexOf(hash)) >>> shiftOf(hash)) & MAX_COUNT));
+        }
+
+        return frequency;
+    }
+
+    /**
+     * <p>
+     * Records an access of the key.
+     * </p>
+     *
+     * @param key Refers the key.
+     */
+    public void increment(final int key) {
+        boolean added = false;
+
+        for (final long seed : SEEDS) {
+            final long hash = hash(key, seed);
+
+            added |= incrementAt(indexOf(hash), shiftOf(hash));
+        }
+
+        if (added && additions.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * <p>
+     * Increments the counter at the given position unless it is saturated.
+     * </p>
+     *
+     * @param index Refers the index of the long holding the counter.
+     * @param shift Refers the position of the counter in the long.
+     * @return true if the counter is incremented or false otherwise.
+     */
+    private boolean incrementAt(final int index, final int shift) {
+        long word;
+
+        do {
+            word = table.get(index);
+
+            if (((word >>> shift) & MAX_COUNT) == MAX_COUNT) {
+                return false;
+            }
+        } while (!table.compareAndSet(index, word, word + (1L << shift)));
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Halves all the counters so that the old accesses are forgotten over time.
+     * </p>
+     */
+    private void reset() {
+        final int currentAdditions = additions.get();
+
+        if (currentAdditions < sampleSize || !additions.compareAndSet(currentAdditions, currentAdditions / 2)) {
+            return;
+        }
+
+        for (int index = 0; index < table.length(); index++) {
+            final long word = table.get(index);
+
+            table.compareAndSet(index, word, (word >>> 1) & RESET_MASK);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the index of the long holding the counter of the hash.
+     * </p>
+     *
+     * @param hash Refers the hash of the key.
+     * @return the index in the table.
+     */
+    private int indexOf(final long hash) {
+        return (int) (hash >>> 32) & tableMask;
+    }
+
+    /**
+     * <p>
+     * Gets the position of the counter of the hash in its long.
+     * </p>
+     *
+     * @param hash Refers the hash of the key.
+     * @return the shift of the counter.
+     */
+    private int shiftOf(final long hash) {
+        return ((int) hash & 15) << 2;
+    }
+
+    /**
+     * <p>
+     * Hashes the key with the seed of one of the rows of the sketch.
+     * </p>
+     *
+     * @param key Refers the key.
+     * @param seed Refers the seed of the row.
+     * @return the hash of the key.
+     */
+    private static long hash(final int key, final long seed) {
+        long hash = (key + seed) * seed;
+
+        hash ^= hash >>> 29;
+        hash *= 0xBF58476D1CE4E5B9L;
+
+        return hash ^ (hash >>> 32);
+    }
+}
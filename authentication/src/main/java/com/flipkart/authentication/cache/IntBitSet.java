@@ -0,0 +1,69 @@
+package com.flipkart.authentication.cache;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * Represents a concurrent set of non-negative int values stored as bits. The bits are kept in fixed size pages which
+ * are allocated on first use, so the set grows without copying and both reads and writes are lock free.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class IntBitSet {
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_SHIFT) / Long.SIZE;
+    private final AtomicReferenceArray<AtomicLongArray> pages;
+
+    public IntBitSet() {
+        pages = new AtomicReferenceArray<>(1 << (Integer.SIZE - 1 - PAGE_SHIFT));
+    }
+
+    /**
+     * <p>
+     * Adds the value to the set.
+     * </p>
+     *
+     * @param value Refers the non-negative value to be added.
+     */
+    public void add(final int value) {
+        final int pageIndex = value >>> PAGE_SHIFT;
+        AtomicLongArray page = pages.get(pageIndex);
+
+        if (Objects.isNull(page)) {
+            pages.compareAndSet(pageIndex, null, new AtomicLongArray(WORDS_PER_PAGE));
+            page = pages.get(pageIndex);
+        }
+        final int bitIndex = value & PAGE_MASK;
+        final int wordIndex = bitIndex >>> 6;
+        final long mask = 1L << bitIndex;
+        long word;
+
+        do {
+            word = page.get(wordIndex);
+        } while ((word & mask) == 0 && !page.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    /**
+     * <p>
+     * Checks whether the value is present in the set or not.
+     * </p>
+     *
+     * @param value Refers the value to be checked.
+     * @return true if the value is present or false otherwise.
+     */
+    public boolean contains(final int value) {
+        if (value < 0) {
+            return false;
+        }
+        final AtomicLongArray page = pages.get(value >>> PAGE_SHIFT);
+        final int bitIndex = value & PAGE_MASK;
+
+        return Objects.nonNull(page) && (page.get(bitIndex >>> 6) & (1L << bitIndex)) != 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.flipkart.authentication.cache;
+
+/**
+ * <p>
+ * Provides the cache of the existing user ids so that the existence of the user is checked without querying the
+ * database on every request.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface UserExistenceCache {
+
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return true if the user already exists or false otherwise.
+     */
+    boolean isUserExist(final int userId);
+
+    /**
+     * <p>
+     * Adds the id of the newly created user to the cache.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    void add(final int userId);
+
+    /**
+     * <p>
+     * Loads the ids of all the existing users into the cache.
+     * </p>
+     */
+    void warm();
+}
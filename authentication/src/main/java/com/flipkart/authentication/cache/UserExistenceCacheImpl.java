@@ -0,0 +1,138 @@
+package com.flipkart.authentication.cache;
+
+import com.flipkart.authentication.dao.UserDAO;
+import com.flipkart.authentication.dao.DaoRouters;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Caches the ids of the existing users in a bit set. The ids which are not found are remembered for a short time so
+ * that the repeated requests for an unknown user don't reach the database either.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserExistenceCacheImpl implements UserExistenceCache {
+
+    private static final Logger LOGGER = LogManager.getLogger(UserExistenceCacheImpl.class);
+    private final UserDAO userDAO;
+    private final IntBitSet existingUserIds;
+    private final Map<Integer, Long> unknownUserIds;
+    private final long unknownUserTimeToLive;
+    private final int unknownUserCapacity;
+
+    /**
+     * <p>
+     * Default constructor of the UserExistenceCacheImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private UserExistenceCacheImpl() {
+        userDAO = DaoRouters.getUserDAO();
+        existingUserIds = new IntBitSet();
+        unknownUserIds = new ConcurrentHashMap<>();
+        unknownUserTimeToLive = TimeUnit.SECONDS.toMillis(Long.getLong("flipkart.user.cache.negative.seconds", 5));
+        unknownUserCapacity = Integer.getInteger("flipkart.user.cache.negative.size", 10000);
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of UserExistenceCacheImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final UserExistenceCacheImpl USER_EXISTENCE_CACHE = new UserExistenceCacheImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of UserExistenceCacheImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of UserExistenceCacheImpl Class.
+     */
+    public static UserExistenceCache getInstance() {
+        return InstanceHolder.USER_EXISTENCE_CACHE;
+    }
+
+    /**
+     * <p>
+     * Checks whether the user exists or not. Queries the database only when the user is neither cached as existing
+     * nor recently found to be unknown.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return true if the user already exists or false otherwise.
+     */
+    @Override
+    public boolean isUserExist(final int userId) {
+        if (userId <= 0) {
+            return false;
+        }
+
+        if (existingUserIds.contains(userId)) {
+            return true;
+        }
+        final Long expiresAt = unknownUserIds.get(userId);
+        final long now = System.currentTimeMillis();
+
+        if (Objects.nonNull(expiresAt) && expiresAt > now) {
+            return false;
+        }
+
+        if (userDAO.isUserExist(userId)) {
+            add(userId);
+
+            return true;
+        }
+
+        if (unknownUserIds.size() >= unknownUserCapacity) {
+            unknownUserIds.values().removeIf(expiry -> expiry <= now);
+
+            if (unknownUserIds.size() >= unknownUserCapacity) {
+                unknownUserIds.clear();
+            }
+        }
+        unknownUserIds.put(userId, now + unknownUserTimeToLive);
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Adds the id of the newly created user to the cache.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    @Override
+    public void add(final int userId) {
+        if (userId > 0) {
+            existingUserIds.add(userId);
+            unknownUserIds.remove(userId);
+        }
+    }
+
+    /**
+     * <p>
+     * Loads the ids of all the existing users into the cache.
+     * </p>
+     */
+    @Override
+    public void warm() {
+        final int[] userIds = userDAO.getUserIds();
+
+        for (final int userId : userIds) {
+            add(userId);
+        }
+        LOGGER.info(String.format("User existence cache loaded with %d users", userIds.length));
+    }
+}
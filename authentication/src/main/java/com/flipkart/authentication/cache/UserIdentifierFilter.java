@@ -0,0 +1,41 @@
+package com.flipkart.authentication.cache;
+
+/**
+ * <p>
+ * Provides the filter of the email ids and mobile numbers already registered, so that a new user is accepted without
+ * querying the database when both the identifiers are definitely new.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface UserIdentifierFilter {
+
+    /**
+     * <p>
+     * Checks whether the email id or the mobile number might be already registered.
+     * </p>
+     *
+     * @param emailId Refers the email id of the user.
+     * @param mobileNumber Refers the mobile number of the user.
+     * @return false if both are definitely new or true if either of them might be registered.
+     */
+    boolean mightExist(final String emailId, final String mobileNumber);
+
+    /**
+     * <p>
+     * Adds the email id and the mobile number of the user to the filter.
+     * </p>
+     *
+     * @param emailId Refers the email id of the user.
+     * @param mobileNumber Refers the mobile number of the user.
+     */
+    void add(final String emailId, final String mobileNumber);
+
+    /**
+     * <p>
+     * Loads the email ids and mobile numbers of all the existing users into the filter.
+     * </p>
+     */
+    void warm();
+}
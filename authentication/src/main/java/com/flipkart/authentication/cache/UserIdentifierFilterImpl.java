@@ -0,0 +1,117 @@
+package com.flipkart.authentication.cache;
+
+import com.flipkart.authentication.dao.UserDAO;
+import com.flipkart.authentication.dao.DaoRouters;
+import com.flipkart.authentication.model.UserIdentifier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Keeps the email ids and mobile numbers of the registered users, normalized as {@link UserIdentifier}, in a bloom
+ * filter. Until the filter is warmed every identifier is reported as possibly registered, so the database is still
+ * checked.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserIdentifierFilterImpl implements UserIdentifierFilter {
+
+    private static final Logger LOGGER = LogManager.getLogger(UserIdentifierFilterImpl.class);
+    private final UserDAO userDAO;
+    private final BloomFilter bloomFilter;
+    private volatile boolean warmed;
+
+    /**
+     * <p>
+     * Default constructor of the UserIdentifierFilterImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private UserIdentifierFilterImpl() {
+        userDAO = DaoRouters.getUserDAO();
+        bloomFilter = new BloomFilter(Long.getLong("flipkart.user.filter.size", 2_000_000),
+                Double.parseDouble(System.getProperty("flipkart.user.filter.fpp", "0.01")));
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of UserIdentifierFilterImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final UserIdentifierFilterImpl USER_IDENTIFIER_FILTER = new UserIdentifierFilterImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of UserIdentifierFilterImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of UserIdentifierFilterImpl Class.
+     */
+    public static UserIdentifierFilter getInstance() {
+        return InstanceHolder.USER_IDENTIFIER_FILTER;
+    }
+
+    /**
+     * <p>
+     * Checks whether the email id or the mobile number might be already registered.
+     * </p>
+     *
+     * @param emailId Refers the email id of the user.
+     * @param mobileNumber Refers the mobile number of the user.
+     * @return false if both are definitely new or true if either of them might be registered.
+     */
+    @Override
+    public boolean mightExist(final String emailId, final String mobileNumber) {
+        if (!warmed) {
+            return true;
+        }
+
+        return (Objects.nonNull(emailId) && bloomFilter.mightContain(UserIdentifier.normalizeEmailId(emailId)))
+                || (Objects.nonNull(mobileNumber)
+                && bloomFilter.mightContain(UserIdentifier.normalizeMobileNumber(mobileNumber)));
+    }
+
+    /**
+     * <p>
+     * Adds the email id and the mobile number of the user to the filter.
+     * </p>
+     *
+     * @param emailId Refers the email id of the user.
+     * @param mobileNumber Refers the mobile number of the user.
+     */
+    @Override
+    public void add(final String emailId, final String mobileNumber) {
+        if (Objects.nonNull(emailId)) {
+            bloomFilter.put(UserIdentifier.normalizeEmailId(emailId));
+        }
+
+        if (Objects.nonNull(mobileNumber)) {
+            bloomFilter.put(UserIdentifier.normalizeMobileNumber(mobileNumber));
+        }
+    }
+
+    /**
+     * <p>
+     * Loads the email ids and mobile numbers of all the existing users into the filter.
+     * </p>
+     */
+    @Override
+    public void warm() {
+        final AtomicLong count = new AtomicLong();
+
+        userDAO.loadUserIdentifiers((emailId, mobileNumber) -> {
+            add(emailId, mobileNumber);
+            count.incrementAndGet();
+        });
+        warmed = true;
+        LOGGER.info(String.format("User identifier filter loaded with %d users", count.get()));
+    }
+}
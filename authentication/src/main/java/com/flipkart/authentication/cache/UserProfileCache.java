@@ -0,0 +1,35 @@
+package com.flipkart.authentication.cache;
+
+import com.flipkart.authentication.model.UserProfile;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Provides the read through cache of the user profiles.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface UserProfileCache {
+
+    /**
+     * <p>
+     * Gets the profile of the user from the cache, or from the database when not cached.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return Optional of {@link UserProfile} if the user exists or empty otherwise.
+     */
+    Optional<UserProfile> get(final int userId);
+
+    /**
+     * <p>
+     * Removes the cached profile of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    void invalidate(final int userId);
+}
@@ -0,0 +1,230 @@
+package com.flipkart.authentication.cache;
+
+import com.flipkart.authentication.dao.UserDAO;
+import com.flipkart.authentication.dao.DaoRouters;
+import com.flipkart.authentication.model.UserProfile;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Caches the user profiles read from the database. The profiles are kept in segments ordered by their last access and
+ * a new profile is admitted into a full segment only when it is accessed more often than the least recently used
+ * profile, as estimated by a {@link FrequencySketch}. So a scan over many users read once doesn't push out the users
+ * who are active in their sessions.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserProfileCacheImpl implements UserProfileCache, UserProfileCacheMXBean {
+
+    private static final int SEGMENTS = 16;
+    private final UserDAO userDAO;
+    private final Segment[] segments;
+    private final FrequencySketch frequencySketch;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+    private final AtomicLong evictionCount;
+    private final AtomicLong rejectionCount;
+
+    /**
+     * <p>
+     * Default constructor of the UserProfileCacheImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private UserProfileCacheImpl() {
+        final int capacity = Integer.getInteger("flipkart.user.profile.cache.size", 10_000);
+
+        userDAO = DaoRouters.getUserDAO();
+        segments = new Segment[SEGMENTS];
+        frequencySketch = new FrequencySketch(capacity);
+        hitCount = new AtomicLong();
+        missCount = new AtomicLong();
+        evictionCount = new AtomicLong();
+        rejectionCount = new AtomicLong();
+
+        for (int index = 0; index < SEGMENTS; index++) {
+            segments[index] = new Segment(Math.max(1, capacity / SEGMENTS));
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of UserProfileCacheImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final UserProfileCacheImpl USER_PROFILE_CACHE = new UserProfileCacheImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of UserProfileCacheImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of UserProfileCacheImpl Class.
+     */
+    public static UserProfileCacheImpl getInstance() {
+        return InstanceHolder.USER_PROFILE_CACHE;
+    }
+
+    /**
+     * <p>
+     * Gets the profile of the user from the cache, or from the database when not cached. A profile read while the
+     * segment is invalidated is returned but not cached, so an update is never hidden by an older read.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return Optional of {@link UserProfile} if the user exists or empty otherwise.
+     */
+    @Override
+    public Optional<UserProfile> get(final int userId) {
+        final Segment segment = segmentOf(userId);
+        final long invalidations;
+
+        frequencySketch.increment(userId);
+
+        synchronized (segment) {
+            final UserProfile userProfile = segment.profiles.get(userId);
+
+            if (Objects.nonNull(userProfile)) {
+                hitCount.incrementAndGet();
+
+                return Optional.of(userProfile);
+            }
+            invalidations = segment.invalidations;
+        }
+        missCount.incrementAndGet();
+        final Optional<UserProfile> optionalUserProfile = userDAO.getUserById(userId).map(UserProfile::new);
+
+        optionalUserProfile.ifPresent(userProfile -> admit(segment, userProfile, invalidations));
+
+        return optionalUserProfile;
+    }
+
+    /**
+     * <p>
+     * Removes the cached profile of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    @Override
+    public void invalidate(final int userId) {
+        final Segment segment = segmentOf(userId);
+
+        synchronized (segment) {
+            segment.profiles.remove(userId);
+            segment.invalidations++;
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public double getHitRatio() {
+        final long hits = hitCount.get();
+        final long requests = hits + missCount.get();
+
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public long getRejectionCount() {
+        return rejectionCount.get();
+    }
+
+    @Override
+    public int getSize() {
+        int size = 0;
+
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.profiles.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * <p>
+     * Adds the profile to the segment if it is not full, or in place of the least recently used profile if the new
+     * profile is accessed more often.
+     * </p>
+     *
+     * @param segment Refers the segment of the user.
+     * @param userProfile Refers the {@link UserProfile} to be cached.
+     * @param invalidations Refers the number of invalidations of the segment before the profile was read.
+     */
+    private void admit(final Segment segment, final UserProfile userProfile, final long invalidations) {
+        synchronized (segment) {
+            if (segment.invalidations != invalidations) {
+                return;
+            }
+
+            if (segment.profiles.size() >= segment.capacity) {
+                final Iterator<Integer> iterator = segment.profiles.keySet().iterator();
+                final int victim = iterator.next();
+
+                if (frequencySketch.frequency(userProfile.getId()) <= frequencySketch.frequency(victim)) {
+                    rejectionCount.incrementAndGet();
+
+                    return;
+                }
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+            segment.profiles.put(userProfile.getId(), userProfile);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the segment of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the segment holding the profile of the user.
+     */
+    private Segment segmentOf(final int userId) {
+        return segments[(userId ^ (userId >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * <p>
+     * Holds the profiles of a segment ordered from the least recently used.
+     * </p>
+     */
+    private static class Segment {
+
+        private final Map<Integer, UserProfile> profiles;
+        private final int capacity;
+        private long invalidations;
+
+        private Segment(final int capacity) {
+            this.profiles = new LinkedHashMap<>(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.flipkart.authentication.cache;
+
+/**
+ * <p>
+ * Exposes the statistics of the user profile cache through JMX.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface UserProfileCacheMXBean {
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRatio();
+
+    long getEvictionCount();
+
+    long getRejectionCount();
+
+    int getSize();
+}
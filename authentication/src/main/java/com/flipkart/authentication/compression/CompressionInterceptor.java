@@ -0,0 +1,109 @@
+package com.flipkart.authentication.compression;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * Compresses the bodies of the responses over the threshold with gzip or deflate as negotiated by the
+ * {@code Accept-Encoding} header of the request. The pre-rendered status bodies within the threshold are written as
+ * they are without being buffered, and the streamed bodies are held until they grow over the threshold. The threshold,
+ * the compression level and the number of pooled deflaters are read from {@code flipkart.compression.threshold},
+ * {@code flipkart.compression.level} and {@code flipkart.compression.pool}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionInterceptor implements WriterInterceptor {
+
+    private static final Logger LOGGER = LogManager.getLogger(CompressionInterceptor.class);
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String VARY = "Vary";
+    private final int threshold;
+    private final Map<ContentEncoding, DeflaterPool> deflaterPools;
+    @Context
+    private HttpHeaders httpHeaders;
+
+    public CompressionInterceptor() {
+        final int level = Integer.getInteger("flipkart.compression.level", Deflater.BEST_SPEED);
+        final int capacity = Integer.getInteger("flipkart.compression.pool",
+                Runtime.getRuntime().availableProcessors() * 2);
+
+        threshold = Integer.getInteger("flipkart.compression.threshold", 1024);
+        deflaterPools = new EnumMap<>(ContentEncoding.class);
+
+        for (final ContentEncoding contentEncoding : ContentEncoding.values()) {
+            deflaterPools.put(contentEncoding, new DeflaterPool(capacity, level, contentEncoding.isRaw()));
+        }
+        LOGGER.info(String.format("Compressing the responses over %d bytes at level %d", threshold, level));
+    }
+
+    /**
+     * <p>
+     * Writes the body through a {@link CompressionOutputStream} when the client accepts a compressed body, and sets
+     * the encoding of the response once the body grows over the threshold.
+     * </p>
+     *
+     * @param context Refers the context of the writing of the body.
+     */
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        final Object entity = context.getEntity();
+        final MultivaluedMap<String, Object> headers = context.getHeaders();
+
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                || entity instanceof byte[] && ((byte[]) entity).length <= threshold) {
+            context.proceed();
+
+            return;
+        }
+        headers.add(VARY, ACCEPT_ENCODING);
+        final ContentEncoding contentEncoding = ContentEncoding.negotiate(httpHeaders.getHeaderString(ACCEPT_ENCODING))
+                .orElse(null);
+
+        if (Objects.isNull(contentEncoding)) {
+            context.proceed();
+
+            return;
+        }
+        final CompressionOutputStream compressionOutputStream = new CompressionOutputStream(context.getOutputStream(),
+                contentEncoding, deflaterPools.get(contentEncoding), threshold, () -> {
+                    headers.putSingle(HttpHeaders.CONTENT_ENCODING, contentEncoding.getName());
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                });
+
+        context.setOutputStream(compressionOutputStream);
+
+        try {
+            context.proceed();
+            compressionOutputStream.finish();
+        } finally {
+            compressionOutputStream.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Ends the idle deflaters of all the encodings.
+     * </p>
+     */
+    public void close() {
+        deflaterPools.values().forEach(DeflaterPool::close);
+    }
+}
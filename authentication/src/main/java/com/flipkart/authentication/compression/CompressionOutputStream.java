@@ -0,0 +1,198 @@
+package com.flipkart.authentication.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * Holds the body of a response until it grows over the threshold, and then compresses it with a deflater of the pool.
+ * A body within the threshold is written as it is on {@link #finish()}, so the small responses are neither compressed
+ * nor take a deflater. The listener is told right before the first compressed byte is written, while the headers of
+ * the response can still be changed.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class CompressionOutputStream extends OutputStream {
+
+    private static final int OUTPUT_BUFFER_SIZE = 2048;
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private final OutputStream outputStream;
+    private final ContentEncoding contentEncoding;
+    private final DeflaterPool deflaterPool;
+    private final Runnable compressionListener;
+    private final byte[] buffer;
+    private int count;
+    private Deflater deflater;
+    private byte[] outputBuffer;
+    private CRC32 checksum;
+    private boolean finished;
+
+    /**
+     * <p>
+     * Constructs the CompressionOutputStream writing to the given stream.
+     * </p>
+     *
+     * @param outputStream Refers the stream of the response.
+     * @param contentEncoding Refers the {@link ContentEncoding} of the compressed body.
+     * @param deflaterPool Refers the {@link DeflaterPool} of the encoding.
+     * @param threshold Refers the size in bytes up to which the body is not compressed.
+     * @param compressionListener Refers the listener told when the body is to be compressed.
+     */
+    public CompressionOutputStream(final OutputStream outputStream, final ContentEncoding contentEncoding,
+                                   final DeflaterPool deflaterPool, final int threshold,
+                                   final Runnable compressionListener) {
+        this.outputStream = outputStream;
+        this.contentEncoding = contentEncoding;
+        this.deflaterPool = deflaterPool;
+        this.compressionListener = compressionListener;
+        this.buffer = new byte[threshold];
+    }
+
+    @Override
+    public void write(final int value) throws IOException {
+        write(new byte[] {(byte) value}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (finished) {
+            throw new IOException("Stream is already finished");
+        }
+
+        if (Objects.isNull(deflater)) {
+            if (count + length <= buffer.length) {
+                System.arraycopy(bytes, offset, buffer, count, length);
+                count += length;
+
+                return;
+            }
+            startCompression();
+            deflate(buffer, 0, count);
+        }
+        deflate(bytes, offset, length);
+    }
+
+    /**
+     * <p>
+     * Flushes the compressed bytes written so far. The held body is not flushed, as it is not yet known whether it is
+     * to be compressed.
+     * </p>
+     */
+    @Override
+    public void flush() throws IOException {
+        if (Objects.nonNull(deflater)) {
+            outputStream.flush();
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the held body as it is, or the end of the compressed body. The stream of the response is left open.
+     * </p>
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        if (Objects.isNull(deflater)) {
+            outputStream.write(buffer, 0, count);
+
+            return;
+        }
+        deflater.finish();
+
+        while (!deflater.finished()) {
+            writeDeflated();
+        }
+
+        if (contentEncoding.isRaw()) {
+            final long value = checksum.getValue();
+            final long size = deflater.getBytesRead();
+
+            outputStream.write(new byte[] {(byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24),
+                    (byte) size, (byte) (size >> 8), (byte) (size >> 16), (byte) (size >> 24)});
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the deflater to the pool. Called after {@link #finish()}, or instead of it when the writing failed.
+     * </p>
+     */
+    public void release() {
+        finished = true;
+
+        if (Objects.nonNull(deflater)) {
+            deflaterPool.release(deflater);
+            deflater = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * <p>
+     * Tells the listener and takes a deflater from the pool, and writes the gzip header for the gzip encoding.
+     * </p>
+     */
+    private void startCompression() throws IOException {
+        compressionListener.run();
+        deflater = deflaterPool.acquire();
+        outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+
+        if (contentEncoding.isRaw()) {
+            checksum = new CRC32();
+            outputStream.write(GZIP_HEADER);
+        }
+    }
+
+    /**
+     * <p>
+     * Compresses the bytes and writes the deflated blocks to the stream of the response.
+     * </p>
+     *
+     * @param bytes Refers the bytes to be compressed.
+     * @param offset Refers the start of the bytes.
+     * @param length Refers the number of bytes.
+     */
+    private void deflate(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (Objects.nonNull(checksum)) {
+            checksum.update(bytes, offset, length);
+        }
+        deflater.setInput(bytes, offset, length);
+
+        while (!deflater.needsInput()) {
+            writeDeflated();
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the next deflated block of the deflater to the stream of the response.
+     * </p>
+     */
+    private void writeDeflated() throws IOException {
+        final int length = deflater.deflate(outputBuffer, 0, outputBuffer.length, Deflater.NO_FLUSH);
+
+        if (length > 0) {
+            outputStream.write(outputBuffer, 0, length);
+        }
+    }
+}
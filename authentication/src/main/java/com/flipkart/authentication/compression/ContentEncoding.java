@@ -0,0 +1,113 @@
+package com.flipkart.authentication.compression;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Represents the content encodings the responses are compressed with. Gzip is preferred when the client accepts both
+ * with the same quality.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public enum ContentEncoding {
+
+    GZIP("gzip", true),
+    DEFLATE("deflate", false);
+
+    private final String name;
+    private final boolean raw;
+
+    ContentEncoding(final String name, final boolean raw) {
+        this.name = name;
+        this.raw = raw;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <p>
+     * Checks whether the deflater writes the raw deflate blocks without the zlib header and checksum, which are framed
+     * by the gzip header and trailer instead.
+     * </p>
+     *
+     * @return true if the deflate blocks are raw.
+     */
+    public boolean isRaw() {
+        return raw;
+    }
+
+    /**
+     * <p>
+     * Chooses the encoding of the highest quality accepted by the {@code Accept-Encoding} header of the request.
+     * </p>
+     *
+     * @param acceptEncoding Refers the value of the {@code Accept-Encoding} header.
+     * @return Optional of {@link ContentEncoding} or empty if the client accepts none of them.
+     */
+    public static Optional<ContentEncoding> negotiate(final String acceptEncoding) {
+        if (Objects.isNull(acceptEncoding) || acceptEncoding.isBlank()) {
+            return Optional.empty();
+        }
+        ContentEncoding chosenEncoding = null;
+        float chosenQuality = 0;
+        float gzipQuality = -1;
+        float deflateQuality = -1;
+        float anyQuality = -1;
+
+        for (final String coding : acceptEncoding.split(",")) {
+            final int index = coding.indexOf(';');
+            final String name = (index < 0 ? coding : coding.substring(0, index)).trim();
+            final float quality = index < 0 ? 1 : parseQuality(coding.substring(index + 1));
+
+            if ("gzip".equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (DEFLATE.name.equalsIgnoreCase(name)) {
+                deflateQuality = Math.max(deflateQuality, quality);
+            } else if ("*".equals(name)) {
+                anyQuality = quality;
+            }
+        }
+        gzipQuality = gzipQuality < 0 ? anyQuality : gzipQuality;
+        deflateQuality = deflateQuality < 0 ? anyQuality : deflateQuality;
+
+        if (gzipQuality > chosenQuality) {
+            chosenEncoding = GZIP;
+            chosenQuality = gzipQuality;
+        }
+
+        if (deflateQuality > chosenQuality) {
+            chosenEncoding = DEFLATE;
+        }
+
+        return Optional.ofNullable(chosenEncoding);
+    }
+
+    /**
+     * <p>
+     * Parses the quality from the parameters of a coding. An invalid quality is taken as not acceptable.
+     * </p>
+     *
+     * @param parameters Refers the parameters after the name of the coding.
+     * @return the quality between 0 and 1.
+     */
+    private static float parseQuality(final String parameters) {
+        for (final String parameter : parameters.split(";")) {
+            final String[] parts = parameter.split("=", 2);
+
+            if (parts.length == 2 && "q".equalsIgnoreCase(parts[0].trim())) {
+                try {
+                    return Math.min(1, Math.max(0, Float.parseFloat(parts[1].trim())));
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+}
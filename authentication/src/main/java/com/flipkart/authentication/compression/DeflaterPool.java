@@ -0,0 +1,79 @@
+package com.flipkart.authentication.compression;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * Keeps the deflaters of an encoding to be reused by the responses, as each deflater holds native memory of a few
+ * hundred kilobytes which is costly to allocate per request and only freed by {@link Deflater#end()}. A deflater is
+ * reset when released, and ended when the pool is full.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class DeflaterPool {
+
+    private final BlockingQueue<Deflater> deflaters;
+    private final int level;
+    private final boolean raw;
+
+    /**
+     * <p>
+     * Constructs the DeflaterPool keeping up to the given number of idle deflaters.
+     * </p>
+     *
+     * @param capacity Refers the maximum number of idle deflaters.
+     * @param level Refers the compression level of the deflaters.
+     * @param raw Refers whether the deflaters write raw deflate blocks.
+     */
+    public DeflaterPool(final int capacity, final int level, final boolean raw) {
+        this.deflaters = new ArrayBlockingQueue<>(capacity);
+        this.level = level;
+        this.raw = raw;
+    }
+
+    /**
+     * <p>
+     * Takes an idle deflater or creates a new one when none is idle.
+     * </p>
+     *
+     * @return the {@link Deflater}.
+     */
+    public Deflater acquire() {
+        final Deflater deflater = deflaters.poll();
+
+        return Objects.isNull(deflater) ? new Deflater(level, raw) : deflater;
+    }
+
+    /**
+     * <p>
+     * Resets the deflater and keeps it for the next response, or ends it when the pool is full.
+     * </p>
+     *
+     * @param deflater Refers the {@link Deflater} acquired from the pool.
+     */
+    public void release(final Deflater deflater) {
+        deflater.reset();
+
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * <p>
+     * Ends all the idle deflaters.
+     * </p>
+     */
+    public void close() {
+        Deflater deflater;
+
+        while (Objects.nonNull(deflater = deflaters.poll())) {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.flipkart.authentication.controller;
+
+import com.flipkart.authentication.json.StatusResponse;
+import com.flipkart.authentication.service.ServiceExecutor;
+
+import jakarta.ws.rs.container.AsyncResponse;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Completes the suspended responses of the controllers from the stages of the asynchronous services.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public final class AsyncResponses {
+
+    private AsyncResponses() {
+    }
+
+    /**
+     * <p>
+     * Resumes the response with the result of the stage, or with the exception it failed with, which is then mapped
+     * as if thrown by the resource method.
+     * </p>
+     *
+     * @param asyncResponse Refers the suspended response.
+     * @param stage Refers the stage of the response.
+     */
+    public static void resume(final AsyncResponse asyncResponse, final CompletionStage<?> stage) {
+        stage.whenComplete((result, throwable) -> asyncResponse.resume(Objects.isNull(throwable)
+                ? result : ServiceExecutor.unwrap(throwable)));
+    }
+
+    /**
+     * <p>
+     * Gets the status of the first failed check. The checks are started by the caller, so they run concurrently.
+     * </p>
+     *
+     * @param firstCheck Refers the stage of the first check.
+     * @param firstStatus Refers the status if the first check fails.
+     * @param secondCheck Refers the stage of the second check.
+     * @param secondStatus Refers the status if the second check fails.
+     * @return the stage completed with the Optional of the {@link StatusResponse} or empty if both the checks passed.
+     */
+    public static CompletionStage<Optional<StatusResponse>> check(final CompletionStage<Boolean> firstCheck,
+                                                                  final StatusResponse firstStatus,
+                                                                  final CompletionStage<Boolean> secondCheck,
+                                                                  final StatusResponse secondStatus) {
+        return firstCheck.thenCombine(secondCheck, (isFirstPassed, isSecondPassed) -> !isFirstPassed
+                ? Optional.of(firstStatus)
+                : isSecondPassed ? Optional.empty() : Optional.of(secondStatus));
+    }
+
+    /**
+     * <p>
+     * Continues with the next stage if the checks passed, or with the body of the failed status otherwise.
+     * </p>
+     *
+     * @param checks Refers the stage of the checks.
+     * @param next Refers the next stage started when the checks passed.
+     * @return the stage of the body of the response.
+     */
+    public static CompletionStage<byte[]> ifPassed(final CompletionStage<Optional<StatusResponse>> checks,
+                                                   final Supplier<CompletionStage<byte[]>> next) {
+        return checks.thenCompose(failedStatus -> failedStatus.isPresent()
+                ? CompletableFuture.completedFuture(failedStatus.get().asBytes())
+                : next.get());
+    }
+}
@@ -0,0 +1,160 @@
+package com.flipkart.authentication.controller;
+
+import com.flipkart.authentication.exceptions.PasswordHashingFailedException;
+import com.flipkart.authentication.exceptions.UserIdentifierTakenException;
+import com.flipkart.authentication.exceptions.UserNotFoundException;
+import com.flipkart.authentication.json.StatusResponse;
+import com.flipkart.exception.CustomException;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Maps the exceptions thrown by the controllers of all the bundles to the pre-rendered {@link StatusResponse}
+ * mapped for the exception or for its nearest super class, with the Retry-After header when the mapping sets one. The
+ * exceptions not mapped are answered as failed requests.
+ * The mappings are given by the bundle starting the server through the {@link CustomExceptionMapperBuilder} and are
+ * not changed after, so no bundle alters the responses of another one.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Provider
+public class CustomExceptionMapper implements ExceptionMapper<CustomException> {
+
+    private static final Logger LOGGER = LogManager.getLogger(CustomExceptionMapper.class);
+    private static final Mapping REQUEST_FAILED = new Mapping(Response.Status.INTERNAL_SERVER_ERROR,
+            StatusResponse.REQUEST_FAILED, 0);
+    private final Map<Class<?>, Mapping> mappings;
+
+    private CustomExceptionMapper(final CustomExceptionMapperBuilder customExceptionMapperBuilder) {
+        mappings = Map.copyOf(customExceptionMapperBuilder.mappings);
+    }
+
+    /**
+     * <p>
+     * Maps the exception to the response registered for it.
+     * </p>
+     *
+     * @param exception Refers the exception thrown while handling the request.
+     * @return the response of the exception.
+     */
+    @Override
+    public Response toResponse(final CustomException exception) {
+        Mapping mapping = null;
+
+        for (Class<?> type = exception.getClass(); Objects.isNull(mapping) && CustomException.class.isAssignableFrom(type);
+             type = type.getSuperclass()) {
+            mapping = mappings.get(type);
+        }
+
+        if (Objects.isNull(mapping)) {
+            mapping = REQUEST_FAILED;
+        }
+        LOGGER.error(String.format("%s - %s", exception.getClass().getSimpleName(), exception.getMessage()));
+
+        final Response.ResponseBuilder responseBuilder = Response.status(mapping.status)
+                .type(MediaType.APPLICATION_JSON).entity(mapping.statusResponse.asBytes());
+
+        if (mapping.retryAfterSeconds > 0) {
+            responseBuilder.header(HttpHeaders.RETRY_AFTER, mapping.retryAfterSeconds);
+        }
+
+        return responseBuilder.build();
+    }
+
+    /**
+     * <p>
+     * Collects the responses of the exceptions when the server is started. The exceptions of the authentication bundle
+     * are mapped already, the password hashing rejected under load as unavailable for a second.
+     * </p>
+     */
+    public static class CustomExceptionMapperBuilder {
+
+        private final Map<Class<?>, Mapping> mappings;
+
+        /**
+         * Utilizes the builder pattern to construct the instance of {@link CustomExceptionMapper}.
+         */
+        public CustomExceptionMapperBuilder() {
+            mappings = new HashMap<>();
+
+            addMapping(UserNotFoundException.class, Response.Status.NOT_FOUND, StatusResponse.USER_NOT_FOUND);
+            addMapping(UserIdentifierTakenException.class, Response.Status.CONFLICT,
+                    StatusResponse.IDENTIFIER_ALREADY_REGISTERED);
+            addMapping(PasswordHashingFailedException.class, Response.Status.SERVICE_UNAVAILABLE,
+                    StatusResponse.SERVICE_BUSY, 1);
+        }
+
+        /**
+         * <p>
+         * Maps the exception to the response.
+         * </p>
+         *
+         * @param exceptionClass Refers the class of the exception.
+         * @param status Refers the status of the response.
+         * @param statusResponse Refers the {@link StatusResponse} to be sent.
+         * @return the builder.
+         */
+        public CustomExceptionMapperBuilder addMapping(final Class<? extends CustomException> exceptionClass,
+                                                       final Response.Status status,
+                                                       final StatusResponse statusResponse) {
+            return addMapping(exceptionClass, status, statusResponse, 0);
+        }
+
+        /**
+         * <p>
+         * Maps the exception to the response telling the client when to retry.
+         * </p>
+         *
+         * @param exceptionClass Refers the class of the exception.
+         * @param status Refers the status of the response.
+         * @param statusResponse Refers the {@link StatusResponse} to be sent.
+         * @param retryAfterSeconds Refers the seconds sent in the Retry-After header, or 0 to send no header.
+         * @return the builder.
+         */
+        public CustomExceptionMapperBuilder addMapping(final Class<? extends CustomException> exceptionClass,
+                                                       final Response.Status status,
+                                                       final StatusResponse statusResponse,
+                                                       final int retryAfterSeconds) {
+            mappings.put(exceptionClass, new Mapping(status, statusResponse, retryAfterSeconds));
+
+            return this;
+        }
+
+        public CustomExceptionMapper build() {
+            return new CustomExceptionMapper(this);
+        }
+    }
+
+    /**
+     * <p>
+     * Holds the status and the body of the response of an exception.
+     * </p>
+     */
+    private static class Mapping {
+
+        private final Response.Status status;
+        private final StatusResponse statusResponse;
+        private final int retryAfterSeconds;
+
+        private Mapping(final Response.Status status, final StatusResponse statusResponse,
+                        final int retryAfterSeconds) {
+            this.status = status;
+            this.statusResponse = statusResponse;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.flipkart.authentication.controller;
+
+import com.flipkart.authentication.service.ServiceExecutor;
+
+import jakarta.ws.rs.container.AsyncResponse;
+
+import org.apache.cxf.continuations.ContinuationProvider;
+import org.apache.cxf.jaxrs.JAXRSInvoker;
+import org.apache.cxf.message.Exchange;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Invokes the resource methods on the {@link ServiceExecutor} and returns a stage of the result, so the request is
+ * suspended and the transport thread is released while the method blocks on the database. The methods already
+ * completing asynchronously, and all the methods when the transport does not support suspending the request, are
+ * invoked as they are.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class DispatchingInvoker extends JAXRSInvoker {
+
+    private final ServiceExecutor serviceExecutor;
+
+    public DispatchingInvoker() {
+        serviceExecutor = ServiceExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Invokes the resource method on the executor and completes the stage with its result or with the exception thrown
+     * by it, which is then mapped as if thrown on the transport thread.
+     * </p>
+     *
+     * @param exchange Refers the exchange of the request.
+     * @param serviceObject Refers the resource.
+     * @param method Refers the resource method.
+     * @param parameters Refers the parameters of the method.
+     * @return the {@link CompletionStage} of the result.
+     */
+    @Override
+    protected Object performInvocation(final Exchange exchange, final Object serviceObject, final Method method,
+                                       final Object[] parameters) throws Exception {
+        if (CompletionStage.class.isAssignableFrom(method.getReturnType())
+                || Arrays.asList(method.getParameterTypes()).contains(AsyncResponse.class)
+                || Objects.isNull(exchange.getInMessage().get(ContinuationProvider.class.getName()))) {
+            return super.performInvocation(exchange, serviceObject, method, parameters);
+        }
+
+        return serviceExecutor.submit(() -> {
+            try {
+                return super.performInvocation(exchange, serviceObject, method, parameters);
+            } catch (InvocationTargetException exception) {
+                if (exception.getCause() instanceof Exception) {
+                    throw (Exception) exception.getCause();
+                }
+                throw exception;
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.flipkart.authentication.controller;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Represents where the resource methods of the server are invoked. The mode is read from
+ * {@code flipkart.server.execution}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public enum ExecutionMode {
+
+    /**
+     * Invoked on the thread of the HTTP transport which received the request.
+     */
+    TRANSPORT,
+    /**
+     * Invoked on a fixed pool of {@code flipkart.server.threads} platform threads, releasing the transport thread.
+     */
+    PLATFORM,
+    /**
+     * Invoked on a new virtual thread for each request, releasing the transport thread. Needs Java 21, and falls back
+     * to {@link #PLATFORM} on an older runtime.
+     */
+    VIRTUAL;
+
+    private static final Logger LOGGER = LogManager.getLogger(ExecutionMode.class);
+
+    /**
+     * <p>
+     * Gets the configured execution mode, which is {@link #TRANSPORT} by default or when the configured mode is
+     * unknown.
+     * </p>
+     *
+     * @return the {@link ExecutionMode}.
+     */
+    public static ExecutionMode getConfigured() {
+        final String executionMode = System.getProperty("flipkart.server.execution", TRANSPORT.name());
+
+        try {
+            return valueOf(executionMode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            LOGGER.warn(String.format("Unknown execution mode %s, invoking on the transport thread", executionMode));
+
+            return TRANSPORT;
+        }
+    }
+
+    /**
+     * <p>
+     * Creates the executor invoking the resource methods in this mode.
+     * </p>
+     *
+     * @return Optional of {@link ExecutorService} or empty if the methods are invoked on the transport thread.
+     */
+    public Optional<ExecutorService> createExecutor() {
+        return switch (this) {
+            case TRANSPORT -> Optional.empty();
+            case PLATFORM -> Optional.of(createPlatformExecutor());
+            case VIRTUAL -> Optional.of(createVirtualExecutor());
+        };
+    }
+
+    /**
+     * <p>
+     * Creates the executor starting a virtual thread for each task. It is looked up reflectively as the bundles are
+     * built for Java 17.
+     * </p>
+     *
+     * @return the {@link ExecutorService}.
+     */
+    private static ExecutorService createVirtualExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            LOGGER.warn("Virtual threads are not supported by the runtime, invoking on platform threads");
+
+            return createPlatformExecutor();
+        }
+    }
+
+    /**
+     * <p>
+     * Creates the fixed pool of platform threads.
+     * </p>
+     *
+     * @return the {@link ExecutorService}.
+     */
+    private static ExecutorService createPlatformExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(Integer.getInteger("flipkart.server.threads",
+                Runtime.getRuntime().availableProcessors() * 8), runnable -> {
+            final Thread thread = new Thread(runnable, String.format("request-worker-%d", threadCount.incrementAndGet()));
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.flipkart.authentication.controller;
+
+import com.flipkart.authentication.metrics.MetricRegistry;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Exposes the latencies and the failures of the resource and DAO methods of all the bundles for Prometheus.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Path("/metrics")
+public class MetricsController {
+
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+    private final MetricRegistry metricRegistry;
+
+    /**
+     * <p>
+     * Default constructor of MetricsController class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private MetricsController() {
+        metricRegistry = MetricRegistry.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of MetricsController class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final MetricsController METRICS_CONTROLLER = new MetricsController();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of MetricsController Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of MetricsController Class.
+     */
+    public static MetricsController getInstance() {
+        return InstanceHolder.METRICS_CONTROLLER;
+    }
+
+    /**
+     * <p>
+     * Gets the metrics of all the measured methods in the Prometheus text format.
+     * </p>
+     *
+     * @return the metrics in bytes.
+     */
+    @Produces(PROMETHEUS_TEXT)
+    @GET
+    public byte[] getMetrics() {
+        return metricRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -3,17 +3,21 @@ package com.flipkart.authentication.controller;
 import com.flipkart.authentication.json.JsonObject;
 import com.flipkart.authentication.model.User;
 import com.flipkart.authentication.model.UserCredential;
-import com.flipkart.authentication.service.UserService;
-import com.flipkart.authentication.service.UserServiceImpl;
+import com.flipkart.authentication.model.UserProfile;
+import com.flipkart.authentication.security.RateLimited;
+import com.flipkart.authentication.security.TokenService;
+import com.flipkart.authentication.security.TokenServiceImpl;
+import com.flipkart.authentication.service.AsyncUserService;
+import com.flipkart.authentication.service.AsyncUserServiceImpl;
+import com.flipkart.authentication.validation.ValidatorService;
+import com.flipkart.authentication.validation.ValidatorServiceImpl;
 import com.flipkart.authentication.validation.groups.GetUserChecker;
 import com.flipkart.authentication.validation.groups.UserCreationChecker;
 import com.flipkart.authentication.validation.groups.UserLoginChecker;
 import com.flipkart.authentication.validation.groups.UserUpdateChecker;
 import com.flipkart.authentication.json.Json;
 import com.flipkart.authentication.json.JsonFactory;
-
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
+import com.flipkart.authentication.json.StatusResponse;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
@@ -22,16 +26,15 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import org.hibernate.validator.HibernateValidator;
-import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
-
 import java.util.Objects;
-import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * <p>
@@ -44,10 +47,12 @@ import java.util.Optional;
 @Path("/user")
 public class UserController {
 
-    private final UserService userService;
+    private final AsyncUserService asyncUserService;
+    private final TokenService tokenService;
     private final JsonFactory jsonFactory;
-    private final Validator validator;
+    private final ValidatorService validatorService;
     private static final Logger LOGGER = LogManager.getLogger(UserController.class);
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
 
     /**
      * <p>
@@ -55,10 +60,10 @@ public class UserController {
      * </p>
      */
     private UserController() {
-        userService = UserServiceImpl.getInstance();
-        jsonFactory = new JsonFactory();
-        validator = Validation.byProvider(HibernateValidator.class).configure()
-                .messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
+        asyncUserService = AsyncUserServiceImpl.getInstance();
+        tokenService = TokenServiceImpl.getInstance();
+        jsonFactory = JsonFactory.getInstance();
+        validatorService = ValidatorServiceImpl.getInstance();
     }
 
     /**
@@ -84,58 +89,62 @@ public class UserController {
 
     /**
      * <p>
-     * Checks if the user already exists, if not then creates a new user.
+     * Checks if the user already exists, if not then creates a new user. The response is resumed once the user is
+     * created.
      * </p>
      *
-     * @param user Refers the {@link User}to be created.
-     * @return the json node.
+     * @param user          Refers the {@link User}to be created.
+     * @param asyncResponse Refers the suspended response.
      */
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
     @POST
-    public byte[] createUser(final User user) {
-        final JsonObject violationsInJson = jsonFactory.createJsonObject();
+    @RateLimited(value = "create", client = "10/60")
+    public void createUser(final User user, @Suspended final AsyncResponse asyncResponse) {
+        final JsonObject violationsInJson = (JsonObject) validate(UserCreationChecker.class, user);
 
-        validator.validate(user, UserCreationChecker.class).forEach(violation -> violationsInJson
-                .put(violation.getPropertyPath().toString(), violation.getMessage()));
+        if (!violationsInJson.isEmpty()) {
+            asyncResponse.resume(violationsInJson.asBytes());
 
-        if (violationsInJson.isEmpty()) {
-            if (userService.createUser(user)) {
+            return;
+        }
+        AsyncResponses.resume(asyncResponse, asyncUserService.createUser(user).thenApply(isCreated -> {
+            if (isCreated) {
                 LOGGER.info("User account created successfully");
 
-                return violationsInJson.put("status", "user created successfully").asBytes();
-            } else {
-                LOGGER.warn("User account already exists");
-
-                return violationsInJson.put("status", "user already registered").asBytes();
+                return StatusResponse.USER_CREATED.asBytes();
             }
-        }
+            LOGGER.warn("User account already exists");
 
-        return violationsInJson.asBytes();
+            return StatusResponse.USER_ALREADY_REGISTERED.asBytes();
+        }));
     }
 
     /**
      * <p>
-     * Gets the existing user by the given credentials.
+     * Gets the existing user by the given credentials and issues the token to be sent as the bearer token of the
+     * later requests. The response is resumed once the credentials are verified.
      * </p>
      *
      * @param userCredential Refers the credentials of the user
-     * @return the json node.
+     * @param asyncResponse  Refers the suspended response.
      */
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
     @GET
-    public byte[] getUser(final UserCredential userCredential) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
+    @RateLimited(value = "login", client = "30/60", identifier = "5/60")
+    public void getUser(final UserCredential userCredential, @Suspended final AsyncResponse asyncResponse) {
         final String username = userCredential.getUsername();
         final String password = userCredential.getPassword();
         final User user = new User();
 
         if (Objects.isNull(username)) {
-            return jsonObject.put("error :", "username can't be null").asBytes();
+            asyncResponse.resume(StatusResponse.USERNAME_NULL.asBytes());
+
+            return;
         }
 
-        if (username.matches("\\d+")) {
+        if (DIGITS.matcher(username).matches()) {
             user.setMobileNumber(username);
         } else {
             user.setEmailId(username);
@@ -143,73 +152,76 @@ public class UserController {
         user.setPassword(password);
         final JsonObject violationsInJson = (JsonObject) validate(UserLoginChecker.class, user);
 
-        if (violationsInJson.isEmpty()) {
-            final Optional<User> optionalUser = userService.getUser(username, password);
+        if (!violationsInJson.isEmpty()) {
+            asyncResponse.resume(violationsInJson.asBytes());
 
-            if (optionalUser.isPresent()) {
-                return violationsInJson.put("status", "Login successful").asBytes();
-            } else {
-                return violationsInJson.put("error", "Wrong credentials").asBytes();
-            }
+            return;
         }
-
-        return violationsInJson.asBytes();
+        AsyncResponses.resume(asyncResponse, asyncUserService.getUser(username, password).thenApply(optionalUser ->
+                optionalUser.isPresent()
+                        ? violationsInJson.put("status", "Login successful")
+                                .put("token", tokenService.issue(optionalUser.get().getId())).asBytes()
+                        : StatusResponse.WRONG_CREDENTIALS.asBytes()));
     }
 
     /**
      * <p>
-     * Updates the details of the user.
+     * Updates the details of the user. The response is resumed once the user is updated.
      * </p>
      *
-     * @param user Refers the current {@link User}.
-     * @return the json node.0
+     * @param userId        Refers the id of the user.
+     * @param user          Refers the current {@link User}.
+     * @param asyncResponse Refers the suspended response.
      */
     @Path("/{userId}")
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
     @PUT
-    public byte[] updateUser(@PathParam("userId") final int userId, final User user) {
+    @RateLimited(value = "update", client = "20/60")
+    public void updateUser(@PathParam("userId") final int userId, final User user,
+                           @Suspended final AsyncResponse asyncResponse) {
         final JsonObject violationsInJson = (JsonObject) validate(UserUpdateChecker.class, user);
 
-        if (violationsInJson.isEmpty()) {
-            user.setId(userId);
-            userService.updateUser(user);
-            LOGGER.info(String.format("User : id - %d - User details updated", user.getId()));
+        if (!violationsInJson.isEmpty()) {
+            asyncResponse.resume(violationsInJson.asBytes());
 
-            return jsonFactory.createJsonObject().put("status", "update successful").asBytes();
-        } else {
-            return violationsInJson.asBytes();
+            return;
         }
+        user.setId(userId);
+        AsyncResponses.resume(asyncResponse, asyncUserService.updateUser(user).thenApply(updated -> {
+            LOGGER.info(String.format("User : id - %d - User details updated", user.getId()));
+
+            return StatusResponse.UPDATE_SUCCESSFUL.asBytes();
+        }));
     }
 
     /**
      * <p>
-     * Gets the user by id.
+     * Gets the profile of the user by id. The response is resumed once the profile is read.
      * </p>
      *
      * @param userId Refers the id of the user.
-     * @return the json node.
+     * @param asyncResponse Refers the suspended response.
      */
     @Path("/{userId}")
     @Produces(MediaType.APPLICATION_JSON)
     @GET
-    public byte[] getUserById(@PathParam("userId") final int userId) {
+    @RateLimited(value = "get", client = "120/60")
+    public void getUserById(@PathParam("userId") final int userId, @Suspended final AsyncResponse asyncResponse) {
         final User user = new User();
 
         user.setId(userId);
         final JsonObject violationsInJson = (JsonObject) validate(GetUserChecker.class, user);
 
-        if (violationsInJson.isEmpty()) {
-            final Optional<User> optionalUser = userService.getUserById(userId);
+        if (!violationsInJson.isEmpty()) {
+            asyncResponse.resume(violationsInJson.asBytes());
 
-            if (optionalUser.isPresent()) {
-                return violationsInJson.set("user", jsonFactory.toJson(optionalUser.get())).asBytes();
-            } else {
-                return violationsInJson.put("status", "User not found").asBytes();
-            }
+            return;
         }
-
-        return violationsInJson.asBytes();
+        AsyncResponses.resume(asyncResponse, asyncUserService.getUserById(userId).thenApply(optionalUserProfile ->
+                optionalUserProfile.isPresent()
+                        ? violationsInJson.set("user", jsonFactory.toJson(optionalUserProfile.get())).asBytes()
+                        : StatusResponse.USER_NOT_FOUND.asBytes()));
     }
 
     /**
@@ -222,11 +234,6 @@ public class UserController {
      * @return the object node contains the violations.
      */
     private Json validate(final Class<?> clazz, final User user) {
-        final JsonObject violationsInJson = jsonFactory.createJsonObject();
-
-        validator.validate(user, clazz).forEach(violation -> violationsInJson
-                .put(violation.getPropertyPath().toString(), violation.getMessage()));
-
-        return violationsInJson;
+        return validatorService.validate(user, clazz).orElseGet(jsonFactory::createJsonObject);
     }
 }
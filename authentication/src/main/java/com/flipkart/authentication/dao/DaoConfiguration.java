@@ -0,0 +1,240 @@
+package com.flipkart.authentication.dao;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.osgi.service.cm.ManagedService;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+import java.util.Dictionary;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Selects the versions of the DAOs of all the bundles from the configuration {@value #PID} of the ConfigAdmin, applied
+ * at runtime on each update. The property named after a DAO, like {@code cart=v2}, selects its version, and
+ * {@code shadow.rate} or {@code <name>.shadow.rate} the share of its reads shadowed on the other version. Without a
+ * configuration the versions are read from {@code flipkart.dao.<name>} and default to v1, with no shadow reads. The
+ * shadow reads run on a single background thread and are dropped when it falls behind. Each {@link DaoRouter} is
+ * registered as an MXBean under {@value #DOMAIN}. The thread and the MXBeans are stopped with the bundle and started
+ * again with it, while the routers are kept.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class DaoConfiguration implements ManagedService {
+
+    public static final String PID = "com.flipkart.dao";
+    private static final Logger LOGGER = LogManager.getLogger(DaoConfiguration.class);
+    private static final String DOMAIN = "com.flipkart.dao";
+    private static final String SHADOW_RATE = "shadow.rate";
+    private final Map<String, DaoRouter<?>> routers;
+    private volatile ThreadPoolExecutor shadowExecutor;
+    private volatile Dictionary<?, ?> properties;
+
+    /**
+     * <p>
+     * Default constructor of the DaoConfiguration class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private DaoConfiguration() {
+        routers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of DaoConfiguration class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final DaoConfiguration DAO_CONFIGURATION = new DaoConfiguration();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of DaoConfiguration Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of DaoConfiguration Class.
+     */
+    public static DaoConfiguration getInstance() {
+        return InstanceHolder.DAO_CONFIGURATION;
+    }
+
+    /**
+     * <p>
+     * Registers the router of a DAO and selects its configured version.
+     * </p>
+     *
+     * @param router Refers the {@link DaoRouter} of the DAO.
+     * @return the registered router.
+     */
+    public <R extends DaoRouter<?>> R register(final R router) {
+        routers.put(router.getName(), router);
+        configure(router);
+        registerMBean(router);
+
+        return router;
+    }
+
+    /**
+     * <p>
+     * Registers the MXBeans of the routers again when the bundle is started again, as the routers are registered
+     * only once.
+     * </p>
+     */
+    public synchronized void start() {
+        for (final DaoRouter<?> router : routers.values()) {
+            registerMBean(router);
+        }
+    }
+
+    /**
+     * <p>
+     * Applies the updated configuration to all the DAOs.
+     * </p>
+     *
+     * @param properties Refers the properties of the configuration or null if it is deleted.
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void updated(final Dictionary properties) {
+        this.properties = properties;
+
+        for (final DaoRouter<?> router : routers.values()) {
+            configure(router);
+        }
+    }
+
+    /**
+     * <p>
+     * Runs a shadow read on the background thread, unless it is behind.
+     * </p>
+     *
+     * @param shadowRead Refers the shadow read.
+     */
+    void shadow(final Runnable shadowRead) {
+        getShadowExecutor().execute(shadowRead);
+    }
+
+    /**
+     * <p>
+     * Gets the thread running the shadow reads, creating it if it is not created yet or was shut down.
+     * </p>
+     *
+     * @return the {@link ThreadPoolExecutor} of the shadow reads.
+     */
+    private ThreadPoolExecutor getShadowExecutor() {
+        ThreadPoolExecutor executor = shadowExecutor;
+
+        if (Objects.isNull(executor)) {
+            synchronized (this) {
+                executor = shadowExecutor;
+
+                if (Objects.isNull(executor)) {
+                    executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(64),
+                            runnable -> {
+                                final Thread thread = new Thread(runnable, "dao-shadow");
+
+                                thread.setDaemon(true);
+
+                                return thread;
+                            }, new ThreadPoolExecutor.DiscardPolicy());
+                    shadowExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * <p>
+     * Stops the shadow reads and unregisters the MXBeans of the routers. The shadow reads sampled afterwards run on a
+     * new thread.
+     * </p>
+     */
+    public synchronized void shutdown() {
+        if (Objects.nonNull(shadowExecutor)) {
+            shadowExecutor.shutdownNow();
+            shadowExecutor = null;
+        }
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        for (final DaoRouter<?> router : routers.values()) {
+            try {
+                final ObjectName objectName = getObjectName(router);
+
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (final JMException exception) {
+                LOGGER.warn(String.format("Router of the %s DAO is not unregistered - %s", router.getName(),
+                        exception.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Selects the configured version and shadow rate of the DAO.
+     * </p>
+     *
+     * @param router Refers the {@link DaoRouter} of the DAO.
+     */
+    private void configure(final DaoRouter<?> router) {
+        final String name = router.getName();
+        final String version = getProperty(name, System.getProperty(String.join(".", "flipkart.dao", name), "v1"));
+        final String shadowRate = getProperty(String.join(".", name, SHADOW_RATE), getProperty(SHADOW_RATE, "0"));
+
+        try {
+            router.select(version.trim(), Math.min(1, Math.max(0, Double.parseDouble(shadowRate.trim()))));
+        } catch (final NumberFormatException exception) {
+            LOGGER.warn(String.format("Shadow rate %s of the %s DAO is not a number", shadowRate, name));
+            router.select(version.trim(), 0);
+        }
+    }
+
+    /**
+     * <p>
+     * Registers the router as an MXBean, unless it is already registered.
+     * </p>
+     *
+     * @param router Refers the {@link DaoRouter} of the DAO.
+     */
+    private void registerMBean(final DaoRouter<?> router) {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = getObjectName(router);
+
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(router, objectName);
+            }
+        } catch (final JMException exception) {
+            LOGGER.warn(String.format("Router of the %s DAO is not registered - %s", router.getName(),
+                    exception.getMessage()));
+        }
+    }
+
+    private String getProperty(final String key, final String defaultValue) {
+        final Dictionary<?, ?> configuration = properties;
+        final Object value = Objects.isNull(configuration) ? null : configuration.get(key);
+
+        return Objects.isNull(value) ? defaultValue : value.toString();
+    }
+
+    private ObjectName getObjectName(final DaoRouter<?> router) throws JMException {
+        return new ObjectName(String.format("%s:type=Router,name=%s", DOMAIN, router.getName()));
+    }
+}
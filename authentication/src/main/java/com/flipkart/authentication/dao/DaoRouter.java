@@ -0,0 +1,321 @@
+package com.flipkart.authentication.dao;
+
+import com.flipkart.authentication.json.JsonFactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceFactory;
+import org.osgi.framework.ServiceRegistration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Routes the calls of a DAO to the implementation of the version selected by the {@link DaoConfiguration}, so the
+ * version can be switched at runtime. The implementations are created on their first selection. Each DAO has its own
+ * router implementing its interface, which passes the writes to {@link #getPrimary()} and the reads to
+ * {@link #read(String, Function)}.
+ * </p>
+ *
+ * <p>
+ * In the shadow mode a sampled share of the reads is run again on the other version by a background thread, comparing
+ * the results and the latencies. The result of the primary version is written as JSON before it is returned, so the
+ * comparison is not affected by the caller changing it, and the caller only waits for that write on a shadowed read.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public abstract class DaoRouter<T> implements DaoRouterMXBean {
+
+    private static final Logger LOGGER = LogManager.getLogger(DaoRouter.class);
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private final Class<T> type;
+    private final String name;
+    private final Map<String, Supplier<? extends T>> versions;
+    private final LongAdder shadowCount;
+    private final LongAdder mismatchCount;
+    private final LongAdder shadowFailureCount;
+    private final LongAdder primaryTime;
+    private final LongAdder shadowTime;
+    private volatile String version;
+    private volatile T primary;
+    private volatile T shadow;
+    private volatile double shadowRate;
+
+    /**
+     * <p>
+     * Creates the router of the DAO. No version is selected until the router is registered with the
+     * {@link DaoConfiguration}.
+     * </p>
+     *
+     * @param type Refers the interface of the DAO.
+     * @param name Refers the name of the DAO in the configuration.
+     * @param versions Refers the implementations of the DAO by their version.
+     */
+    protected DaoRouter(final Class<T> type, final String name, final Map<String, Supplier<? extends T>> versions) {
+        this.type = type;
+        this.name = name;
+        this.versions = versions;
+        shadowCount = new LongAdder();
+        mismatchCount = new LongAdder();
+        shadowFailureCount = new LongAdder();
+        primaryTime = new LongAdder();
+        shadowTime = new LongAdder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <p>
+     * Selects the version the calls are routed to, and the share of the reads shadowed on the other version.
+     * </p>
+     *
+     * @param version Refers the version to be selected.
+     * @param shadowRate Refers the share of the reads to be shadowed, from 0 to 1.
+     */
+    synchronized void select(final String version, final double shadowRate) {
+        final Supplier<? extends T> implementation = versions.get(version);
+
+        if (Objects.isNull(implementation)) {
+            LOGGER.warn(String.format("Version %s of the %s DAO is unknown, keeping %s", version, name, this.version));
+
+            return;
+        }
+
+        if (!version.equals(this.version)) {
+            final Optional<? extends T> selected = create(version, implementation);
+
+            if (selected.isEmpty()) {
+                LOGGER.warn(String.format("Keeping the %s DAO on %s", name, this.version));
+
+                return;
+            }
+            primary = selected.get();
+            this.version = version;
+            LOGGER.info(String.format("Routing the %s DAO to %s", name, version));
+        }
+        final Optional<String> shadowVersion = versions.keySet().stream().filter(key -> !key.equals(version))
+                .findFirst();
+
+        shadow = shadowRate > 0 && shadowVersion.isPresent()
+                ? create(shadowVersion.get(), versions.get(shadowVersion.get())).orElse(null) : null;
+        this.shadowRate = shadowRate;
+    }
+
+    /**
+     * <p>
+     * Creates the implementation of a version, logging the failure of the creation, such as a session factory which
+     * can't be built, instead of passing it to the configuration.
+     * </p>
+     *
+     * @param version Refers the version to be created.
+     * @param implementation Refers the supplier of the implementation.
+     * @return the implementation or empty if it failed to be created.
+     */
+    private Optional<? extends T> create(final String version, final Supplier<? extends T> implementation) {
+        try {
+            return Optional.of(implementation.get());
+        } catch (final RuntimeException | LinkageError exception) {
+            LOGGER.error(String.format("Version %s of the %s DAO failed to be created - %s", version, name,
+                    exception));
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * <p>
+     * Registers each version of the DAO as an OSGi service of its interface with the properties {@code dao.name} and
+     * {@code dao.version}. The implementations are created when the services are first got.
+     * </p>
+     *
+     * @param context Refers the context of the bundle.
+     * @return the registrations of the services.
+     */
+    public List<ServiceRegistration<T>> register(final BundleContext context) {
+        final List<ServiceRegistration<T>> registrations = new ArrayList<>();
+
+        for (final Map.Entry<String, Supplier<? extends T>> entry : versions.entrySet()) {
+            final Hashtable<String, String> properties = new Hashtable<>();
+
+            properties.put("dao.name", name);
+            properties.put("dao.version", entry.getKey());
+            registrations.add(context.registerService(type, new ServiceFactory<T>() {
+
+                @Override
+                public T getService(final Bundle bundle, final ServiceRegistration<T> registration) {
+                    return entry.getValue().get();
+                }
+
+                @Override
+                public void ungetService(final Bundle bundle, final ServiceRegistration<T> registration,
+                                         final T service) {
+                }
+            }, properties));
+        }
+
+        return registrations;
+    }
+
+    /**
+     * <p>
+     * Gets the implementation of the selected version, which runs the writes and the reads not shadowed.
+     * </p>
+     *
+     * @return the implementation of the selected version.
+     */
+    protected T getPrimary() {
+        return primary;
+    }
+
+    /**
+     * <p>
+     * Runs a read on the selected version and, for the sampled share of the reads in the shadow mode, again on the
+     * other version in the background.
+     * </p>
+     *
+     * @param method Refers the name of the read method.
+     * @param read Refers the read run on an implementation.
+     * @return the result of the selected version.
+     */
+    protected <R> R read(final String method, final Function<T, R> read) {
+        final T target = primary;
+        final T shadowTarget = shadow;
+
+        if (Objects.isNull(shadowTarget) || ThreadLocalRandom.current().nextDouble() >= shadowRate) {
+            return read.apply(target);
+        }
+        final long startTime = System.nanoTime();
+        final R result = read.apply(target);
+        final long primaryNanos = System.nanoTime() - startTime;
+        final byte[] snapshot;
+
+        try {
+            snapshot = snapshot(result);
+        } catch (final RuntimeException exception) {
+            shadowFailureCount.increment();
+            LOGGER.warn(String.format("Shadow read %s.%s is skipped, the result can't be written - %s",
+                    type.getSimpleName(), method, exception.getMessage()));
+
+            return result;
+        }
+        DaoConfiguration.getInstance().shadow(() -> compare(shadowTarget, method, read, snapshot, primaryNanos));
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * Runs the read on the shadow version and compares its result and latency with the primary one. The results are
+     * compared by their JSON, and never logged. The results failing to be written as JSON are counted as different.
+     * </p>
+     *
+     * @param shadowTarget Refers the implementation of the shadow version.
+     * @param method Refers the name of the read method.
+     * @param read Refers the read run on an implementation.
+     * @param snapshot Refers the JSON of the result of the primary version.
+     * @param primaryNanos Refers the latency of the primary version in nanoseconds.
+     */
+    private <R> void compare(final T shadowTarget, final String method, final Function<T, R> read,
+                             final byte[] snapshot, final long primaryNanos) {
+        final long startTime = System.nanoTime();
+        final R shadowResult;
+
+        try {
+            shadowResult = read.apply(shadowTarget);
+        } catch (final RuntimeException exception) {
+            shadowFailureCount.increment();
+            LOGGER.warn(String.format("Shadow read %s.%s failed - %s", type.getSimpleName(), method,
+                    exception.getMessage()));
+
+            return;
+        }
+        shadowTime.add(System.nanoTime() - startTime);
+        primaryTime.add(primaryNanos);
+        shadowCount.increment();
+
+        boolean same;
+
+        try {
+            same = Arrays.equals(snapshot, snapshot(shadowResult));
+        } catch (final RuntimeException exception) {
+            same = false;
+        }
+
+        if (!same) {
+            mismatchCount.increment();
+            LOGGER.warn(String.format("Shadow read %s.%s differs between the versions", type.getSimpleName(),
+                    method));
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the result of a read as JSON, the empty optional and null as null.
+     * </p>
+     *
+     * @param result Refers the result of the read.
+     * @return the JSON of the result or null.
+     */
+    private byte[] snapshot(final Object result) {
+        final Object value = result instanceof Optional ? ((Optional<?>) result).orElse(null) : result;
+
+        return Objects.isNull(value) ? null : JsonFactory.getInstance().toBytes(value);
+    }
+
+    @Override
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public double getShadowRate() {
+        return Objects.isNull(shadow) ? 0 : shadowRate;
+    }
+
+    @Override
+    public long getShadowCount() {
+        return shadowCount.sum();
+    }
+
+    @Override
+    public long getMismatchCount() {
+        return mismatchCount.sum();
+    }
+
+    @Override
+    public long getShadowFailureCount() {
+        return shadowFailureCount.sum();
+    }
+
+    @Override
+    public double getPrimaryMeanTime() {
+        final long count = shadowCount.sum();
+
+        return count == 0 ? 0 : primaryTime.sum() / NANOS_PER_MILLI / count;
+    }
+
+    @Override
+    public double getShadowMeanTime() {
+        final long count = shadowCount.sum();
+
+        return count == 0 ? 0 : shadowTime.sum() / NANOS_PER_MILLI / count;
+    }
+}
@@ -0,0 +1,27 @@
+package com.flipkart.authentication.dao;
+
+/**
+ * <p>
+ * Exposes the version a DAO is routed to and the comparison of its shadow reads through JMX. The times are the means
+ * of the shadowed reads in milliseconds.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface DaoRouterMXBean {
+
+    String getVersion();
+
+    double getShadowRate();
+
+    long getShadowCount();
+
+    long getMismatchCount();
+
+    long getShadowFailureCount();
+
+    double getPrimaryMeanTime();
+
+    double getShadowMeanTime();
+}
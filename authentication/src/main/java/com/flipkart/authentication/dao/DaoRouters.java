@@ -0,0 +1,55 @@
+package com.flipkart.authentication.dao;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Holds the {@link DaoRouter} of each DAO of the authentication bundle. The services use the routed DAOs, so their
+ * versions follow the {@link DaoConfiguration}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class DaoRouters {
+
+    /**
+     * <p>
+     * Default constructor of DaoRouters class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private DaoRouters() {}
+
+    /**
+     * <p>
+     * Creates a single instance of the router of each DAO.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final RoutedUserDAO USER_DAO_ROUTER = DaoConfiguration.getInstance().register(
+                new RoutedUserDAO());
+    }
+
+    /**
+     * <p>
+     * Gets the user DAO routed to the selected version.
+     * </p>
+     *
+     * @return the routed {@link UserDAO}.
+     */
+    public static UserDAO getUserDAO() {
+        return InstanceHolder.USER_DAO_ROUTER;
+    }
+
+    /**
+     * <p>
+     * Gets the routers of all the DAOs of the bundle.
+     * </p>
+     *
+     * @return the list of {@link DaoRouter}.
+     */
+    public static List<DaoRouter<?>> getAll() {
+        return List.of(InstanceHolder.USER_DAO_ROUTER);
+    }
+}
@@ -0,0 +1,74 @@
+package com.flipkart.authentication.dao;
+
+import com.flipkart.authentication.model.User;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Routes the calls of the {@link UserDAO} to the selected version, shadowing the reads of the user and its existence
+ * and ids.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RoutedUserDAO extends DaoRouter<UserDAO> implements UserDAO {
+
+    /**
+     * <p>
+     * Creates the router of the user DAO with its v1 and v2 implementations.
+     * </p>
+     */
+    public RoutedUserDAO() {
+        super(UserDAO.class, "user", Map.of("v1", com.flipkart.authentication.dao.v1.UserDAOImpl::getInstance,
+                "v2", com.flipkart.authentication.dao.v2.UserDAOImpl::getInstance));
+    }
+
+    @Override
+    public boolean createUser(final User user) {
+        return getPrimary().createUser(user);
+    }
+
+    @Override
+    public Optional<User> getUser(final String identifier) {
+        return read("getUser", userDAO -> userDAO.getUser(identifier));
+    }
+
+    @Override
+    public void updateUser(final User user) {
+        getPrimary().updateUser(user);
+    }
+
+    @Override
+    public Optional<User> getUserById(final int userId) {
+        return read("getUserById", userDAO -> userDAO.getUserById(userId));
+    }
+
+    @Override
+    public boolean isUserExist(final String emailId, final String mobile_number) {
+        return read("isUserExist", userDAO -> userDAO.isUserExist(emailId, mobile_number));
+    }
+
+    @Override
+    public boolean isUserExist(final int userId) {
+        return read("isUserExist", userDAO -> userDAO.isUserExist(userId));
+    }
+
+    @Override
+    public int[] getUserIds() {
+        return read("getUserIds", UserDAO::getUserIds);
+    }
+
+    @Override
+    public void loadUserIdentifiers(final BiConsumer<String, String> consumer) {
+        getPrimary().loadUserIdentifiers(consumer);
+    }
+
+    @Override
+    public void indexUserIdentifiers() {
+        getPrimary().indexUserIdentifiers();
+    }
+}
@@ -0,0 +1,250 @@
+package com.flipkart.authentication.dao;
+
+import com.flipkart.authentication.jfr.DaoCallEvent;
+import com.flipkart.authentication.metrics.MethodMetrics;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.metrics.MetricType;
+import com.flipkart.authentication.model.User;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Measures the calls of the {@link UserDAO} of a version with the {@link MetricRegistry}, and records them as
+ * {@link DaoCallEvent}s when a flight recording enables them. The metrics of each method are got once on creation,
+ * so a call only adds a clock read and the recording to the DAO. The method is started as the current one of the
+ * thread, so the Hibernate work of the call is attributed to it.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TimedUserDAO implements UserDAO {
+
+    private final UserDAO userDAO;
+    private final MethodMetrics createUserMetrics;
+    private final MethodMetrics getUserMetrics;
+    private final MethodMetrics updateUserMetrics;
+    private final MethodMetrics getUserByIdMetrics;
+    private final MethodMetrics isUserExistByEmailMetrics;
+    private final MethodMetrics isUserExistByIdMetrics;
+    private final MethodMetrics getUserIdsMetrics;
+    private final MethodMetrics loadUserIdentifiersMetrics;
+    private final MethodMetrics indexUserIdentifiersMetrics;
+
+    /**
+     * <p>
+     * Wraps the DAO to measure its calls.
+     * </p>
+     *
+     * @param userDAO Refers the {@link UserDAO} to be measured.
+     * @param version Refers the version of the DAO.
+     */
+    public TimedUserDAO(final UserDAO userDAO, final String version) {
+        final MetricRegistry metricRegistry = MetricRegistry.getInstance();
+
+        this.userDAO = userDAO;
+        createUserMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.createUser", version);
+        getUserMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.getUser", version);
+        updateUserMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.updateUser", version);
+        getUserByIdMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.getUserById", version);
+        isUserExistByEmailMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.isUserExistByEmail",
+                version);
+        isUserExistByIdMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.isUserExistById", version);
+        getUserIdsMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.getUserIds", version);
+        loadUserIdentifiersMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.loadUserIdentifiers",
+                version);
+        indexUserIdentifiersMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "UserDAO.indexUserIdentifiers",
+                version);
+    }
+
+    @Override
+    public boolean createUser(final User user) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = createUserMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = userDAO.createUser(user);
+
+            createUserMetrics.record(startTime);
+            event.record(createUserMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            createUserMetrics.recordFailure(startTime);
+            event.recordFailure(createUserMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public Optional<User> getUser(final String identifier) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getUserMetrics.start();
+
+        event.begin();
+
+        try {
+            final Optional<User> result = userDAO.getUser(identifier);
+
+            getUserMetrics.record(startTime);
+            event.record(getUserMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getUserMetrics.recordFailure(startTime);
+            event.recordFailure(getUserMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public void updateUser(final User user) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = updateUserMetrics.start();
+
+        event.begin();
+
+        try {
+            userDAO.updateUser(user);
+            updateUserMetrics.record(startTime);
+            event.record(updateUserMetrics);
+        } catch (final RuntimeException exception) {
+            updateUserMetrics.recordFailure(startTime);
+            event.recordFailure(updateUserMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public Optional<User> getUserById(final int userId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getUserByIdMetrics.start();
+
+        event.begin();
+
+        try {
+            final Optional<User> result = userDAO.getUserById(userId);
+
+            getUserByIdMetrics.record(startTime);
+            event.record(getUserByIdMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getUserByIdMetrics.recordFailure(startTime);
+            event.recordFailure(getUserByIdMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isUserExist(final String emailId, final String mobile_number) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = isUserExistByEmailMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = userDAO.isUserExist(emailId, mobile_number);
+
+            isUserExistByEmailMetrics.record(startTime);
+            event.record(isUserExistByEmailMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            isUserExistByEmailMetrics.recordFailure(startTime);
+            event.recordFailure(isUserExistByEmailMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isUserExist(final int userId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = isUserExistByIdMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = userDAO.isUserExist(userId);
+
+            isUserExistByIdMetrics.record(startTime);
+            event.record(isUserExistByIdMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            isUserExistByIdMetrics.recordFailure(startTime);
+            event.recordFailure(isUserExistByIdMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public int[] getUserIds() {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getUserIdsMetrics.start();
+
+        event.begin();
+
+        try {
+            final int[] result = userDAO.getUserIds();
+
+            getUserIdsMetrics.record(startTime);
+            event.record(getUserIdsMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getUserIdsMetrics.recordFailure(startTime);
+            event.recordFailure(getUserIdsMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public void loadUserIdentifiers(final BiConsumer<String, String> consumer) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = loadUserIdentifiersMetrics.start();
+
+        event.begin();
+
+        try {
+            userDAO.loadUserIdentifiers(consumer);
+            loadUserIdentifiersMetrics.record(startTime);
+            event.record(loadUserIdentifiersMetrics);
+        } catch (final RuntimeException exception) {
+            loadUserIdentifiersMetrics.recordFailure(startTime);
+            event.recordFailure(loadUserIdentifiersMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public void indexUserIdentifiers() {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = indexUserIdentifiersMetrics.start();
+
+        event.begin();
+
+        try {
+            userDAO.indexUserIdentifiers();
+            indexUserIdentifiersMetrics.record(startTime);
+            event.record(indexUserIdentifiersMetrics);
+        } catch (final RuntimeException exception) {
+            indexUserIdentifiersMetrics.recordFailure(startTime);
+            event.recordFailure(indexUserIdentifiersMetrics);
+
+            throw exception;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.flipkart.authentication.dao;
 import com.flipkart.authentication.model.User;
 
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * <p>
@@ -26,15 +27,13 @@ public interface UserDAO {
 
     /**
      * <p>
-     * Gets the existing user by the given credentials.
+     * Gets the existing user by the normalized email id or mobile number.
      * </p>
      *
-     * @param emailIdOrMobileNumber Refers the mobile number or email id of the user.
-     * @param password Refers the password of the user.
-     * @param query Refers the query in String.
-     * @return Optional of {@link User} if the credentials are correct or null otherwise.
+     * @param identifier Refers the normalized mobile number or email id of the user.
+     * @return Optional of {@link User} if the user exists or null otherwise.
      */
-    Optional<User> getUser(final String emailIdOrMobileNumber, final String password, final String query);
+    Optional<User> getUser(final String identifier);
 
     /**
      * <p>
@@ -65,4 +64,40 @@ public interface UserDAO {
      * @return true if the user already exists or false otherwise.
      */
     boolean isUserExist(final String emailId, final String mobile_number);
+
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return true if the user already exists or false otherwise.
+     */
+    boolean isUserExist(final int userId);
+
+    /**
+     * <p>
+     * Gets the ids of all the users.
+     * </p>
+     *
+     * @return the ids of the users.
+     */
+    int[] getUserIds();
+
+    /**
+     * <p>
+     * Passes the email id and mobile number of every user to the given consumer.
+     * </p>
+     *
+     * @param consumer Refers the consumer of the email id and the mobile number.
+     */
+    void loadUserIdentifiers(final BiConsumer<String, String> consumer);
+
+    /**
+     * <p>
+     * Widens the password column of the users created before the passwords were hashed to hold the hashes, and
+     * creates the normalized identifiers of the users who don't have them yet.
+     * </p>
+     */
+    void indexUserIdentifiers();
 }
@@ -2,16 +2,22 @@ package com.flipkart.authentication.dao.v1;
 
 import com.flipkart.authentication.exceptions.UpdateActionFailedException;
 import com.flipkart.authentication.exceptions.UserCheckFailedException;
+import com.flipkart.authentication.exceptions.UserIdentifierTakenException;
 import com.flipkart.authentication.exceptions.UserNotFoundException;
 import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.model.UserIdentifier;
 import com.flipkart.authentication.dao.UserDAO;
+import com.flipkart.authentication.dao.TimedUserDAO;
 import com.flipkart.database.connection.DatabaseConnection;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
 
 /**
  * <p>
@@ -23,6 +29,7 @@ import java.util.Optional;
  */
 public class UserDAOImpl implements UserDAO {
 
+    private static final String UNIQUE_VIOLATION = "23505";
     private final Connection connection;
 
     /**
@@ -36,12 +43,12 @@ public class UserDAOImpl implements UserDAO {
 
     /**
      * <p>
-     * Creates a single instance of UserDAOImpl class.
+     * Creates a single instance of UserDAOImpl class, measured by the {@link TimedUserDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final UserDAOImpl USER_DAO = new UserDAOImpl();
+        private static final UserDAO USER_DAO = new TimedUserDAO(new UserDAOImpl(), "v1");
     }
 
     /**
@@ -51,7 +58,7 @@ public class UserDAOImpl implements UserDAO {
      *
      * @return returns the single instance of UserDAOImpl class.
      */
-    public static UserDAOImpl getInstance() {
+    public static UserDAO getInstance() {
         return InstanceHolder.USER_DAO;
     }
 
@@ -65,14 +72,18 @@ public class UserDAOImpl implements UserDAO {
      */
     @Override
     public boolean createUser(final User user) {
-        try (final PreparedStatement preparedStatement = connection
-                .prepareStatement(String.join(" ", "insert into users(name, mobile_number, email, password)",
-                "values(?, ?, ?, ?) returning id"))) {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ",
+                "with new_user as (insert into users(name, mobile_number, email, password) values(?, ?, ?, ?) returning id),",
+                "identifiers as (insert into user_identifiers(identifier, user_id)",
+                "select identifier, id from new_user, (values (?), (?)) as new_identifiers(identifier))",
+                "select id from new_user"))) {
             connection.setAutoCommit(true);
             preparedStatement.setString(1, user.getName());
             preparedStatement.setString(2, user.getMobileNumber());
             preparedStatement.setString(3, user.getEmailId());
             preparedStatement.setString(4, user.getPassword());
+            preparedStatement.setString(5, UserIdentifier.normalizeEmailId(user.getEmailId()));
+            preparedStatement.setString(6, UserIdentifier.normalizeMobileNumber(user.getMobileNumber()));
             final ResultSet resultSet = preparedStatement.executeQuery();
 
             resultSet.next();
@@ -80,25 +91,28 @@ public class UserDAOImpl implements UserDAO {
 
             return true;
         } catch (final SQLException exception) {
+            if (UNIQUE_VIOLATION.equals(exception.getSQLState())) {
+                return false;
+            }
             throw new UserNotFoundException(exception.getMessage());
         }
     }
 
     /**
      * <p>
-     * Gets the existing user by the given credentials.
+     * Gets the existing user by the normalized email id or mobile number.
      * </p>
      *
-     * @param emailIdOrMobileNumber Refers the mobile number or email id of the user
-     * @param password Refers the password of the user.
-     * @return Optional of {@link User} if the credentials are correct or null otherwise.
+     * @param identifier Refers the normalized mobile number or email id of the user.
+     * @return Optional of {@link User} if the user exists or null otherwise.
      */
     @Override
-    public Optional<User> getUser(final String emailIdOrMobileNumber, final String password, final String query) {
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+    public Optional<User> getUser(final String identifier) {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ",
+                "select users.id, users.name, users.mobile_number, users.email, users.password from user_identifiers",
+                "join users on users.id = user_identifiers.user_id where user_identifiers.identifier = ?"))) {
             connection.setAutoCommit(true);
-            preparedStatement.setString(1, emailIdOrMobileNumber);
-            preparedStatement.setString(2, password);
+            preparedStatement.setString(1, identifier);
 
             return Optional.ofNullable(getUserObjectFromResultSet(preparedStatement.executeQuery()));
         } catch (final SQLException exception) {
@@ -108,23 +122,42 @@ public class UserDAOImpl implements UserDAO {
 
     /**
      * <p>
-     * Updates the details of the user.
+     * Updates the details of the user. The identifiers not yet held by the user are inserted without ignoring the
+     * conflicts, so the whole update is rejected when the email id or mobile number is held by another user.
      * </p>
      *
      * @param user Refers the current {@link User}.
+     * @throws UserIdentifierTakenException if the email id or mobile number is registered by another user.
      */
     @Override
     public void updateUser(final User user) {
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ","update",
-                "users set name=? ,email=?, password=?, mobile_number=? where id =?"))) {
+        final String emailId = UserIdentifier.normalizeEmailId(user.getEmailId());
+        final String mobileNumber = UserIdentifier.normalizeMobileNumber(user.getMobileNumber());
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ",
+                "with updated_user as (update users set name=? ,email=?, password=?, mobile_number=? where id =? returning id),",
+                "removed_identifiers as (delete from user_identifiers where user_id in (select id from updated_user)",
+                "and identifier not in (?, ?))",
+                "insert into user_identifiers(identifier, user_id)",
+                "select identifier, id from updated_user, (values (?), (?)) as new_identifiers(identifier)",
+                "where not exists (select 1 from user_identifiers where user_identifiers.identifier =",
+                "new_identifiers.identifier and user_identifiers.user_id = updated_user.id)"))) {
             connection.setAutoCommit(true);
             preparedStatement.setString(1, user.getName());
             preparedStatement.setString(2, user.getEmailId());
             preparedStatement.setString(3, user.getPassword());
             preparedStatement.setString(4, user.getMobileNumber());
             preparedStatement.setInt(5, user.getId());
+            preparedStatement.setString(6, emailId);
+            preparedStatement.setString(7, mobileNumber);
+            preparedStatement.setString(8, emailId);
+            preparedStatement.setString(9, mobileNumber);
             preparedStatement.executeUpdate();
         } catch (SQLException exception) {
+            if (UNIQUE_VIOLATION.equals(exception.getSQLState())) {
+                throw new UserIdentifierTakenException(String.format("User id :%d - Email id or mobile number "
+                        + "already registered", user.getId()));
+            }
             throw new UpdateActionFailedException(exception.getMessage());
         }
     }
@@ -205,6 +238,7 @@ public class UserDAOImpl implements UserDAO {
      * @param userId Refers the id of the user.
      * @return true if the user already exists or false otherwise.
      */
+    @Override
     public boolean isUserExist(final int userId) {
         try (final PreparedStatement preparedStatement = connection.prepareStatement("select count(id) from users where id = ?")) {
             preparedStatement.setInt(1, userId);
@@ -217,4 +251,73 @@ public class UserDAOImpl implements UserDAO {
             throw new UserCheckFailedException(exception.getMessage());
         }
     }
+
+    /**
+     * <p>
+     * Gets the ids of all the users.
+     * </p>
+     *
+     * @return the ids of the users.
+     */
+    @Override
+    public int[] getUserIds() {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement("select id from users")) {
+            connection.setAutoCommit(true);
+            final ResultSet resultSet = preparedStatement.executeQuery();
+            final IntStream.Builder userIds = IntStream.builder();
+
+            while (resultSet.next()) {
+                userIds.add(resultSet.getInt(1));
+            }
+
+            return userIds.build().toArray();
+        } catch (SQLException exception) {
+            throw new UserCheckFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Passes the email id and mobile number of every user to the given consumer.
+     * </p>
+     *
+     * @param consumer Refers the consumer of the email id and the mobile number.
+     */
+    @Override
+    public void loadUserIdentifiers(final BiConsumer<String, String> consumer) {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement("select email, mobile_number from users")) {
+            connection.setAutoCommit(true);
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            while (resultSet.next()) {
+                consumer.accept(resultSet.getString(1), resultSet.getString(2));
+            }
+        } catch (SQLException exception) {
+            throw new UserCheckFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Widens the password column of the users created before the passwords were hashed to hold the hashes, and
+     * creates the normalized identifiers of the users who don't have them yet.
+     * </p>
+     */
+    @Override
+    public void indexUserIdentifiers() {
+        try (final Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.executeUpdate("alter table users alter column password type varchar(128)");
+            statement.executeUpdate(String.join(" ", "create table if not exists user_identifiers",
+                    "(identifier varchar(64) primary key, user_id int not null references users(id))"));
+            statement.executeUpdate("create index if not exists user_identifiers_user_id on user_identifiers(user_id)");
+            statement.executeUpdate(String.join(" ", "insert into user_identifiers(identifier, user_id)",
+                    "select lower(trim(email)), id from users where email is not null union all",
+                    "select '+' || ltrim(regexp_replace(mobile_number, '[^0-9]', '', 'g'), '0'), id from users",
+                    "where mobile_number is not null",
+                    "on conflict (identifier) do nothing"));
+        } catch (SQLException exception) {
+            throw new UserCheckFailedException(exception.getMessage());
+        }
+    }
 }
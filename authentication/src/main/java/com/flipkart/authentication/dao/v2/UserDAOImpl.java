@@ -1,22 +1,29 @@
 package com.flipkart.authentication.dao.v2;
 
+import com.flipkart.authentication.hibernate.SessionFactoryBuilder;
 import com.flipkart.authentication.exceptions.UpdateActionFailedException;
 import com.flipkart.authentication.exceptions.UserCheckFailedException;
 import com.flipkart.authentication.exceptions.UserCreationFailedException;
+import com.flipkart.authentication.exceptions.UserIdentifierTakenException;
 import com.flipkart.authentication.exceptions.UserNotFoundException;
 import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.model.UserIdentifier;
 import com.flipkart.authentication.dao.UserDAO;
+import com.flipkart.authentication.dao.TimedUserDAO;
 
 import jakarta.persistence.Query;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
+import org.hibernate.exception.ConstraintViolationException;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 public class UserDAOImpl implements UserDAO {
 
+    private static final String UNIQUE_VIOLATION = "23505";
     private final SessionFactory sessionFactory;
 
     /**
@@ -25,17 +32,17 @@ public class UserDAOImpl implements UserDAO {
      * </p>
      */
     private UserDAOImpl() {
-        sessionFactory = new Configuration().addAnnotatedClass(User.class).buildSessionFactory();
+        sessionFactory = SessionFactoryBuilder.build(User.class, UserIdentifier.class);
     }
 
     /**
      * <p>
-     * Creates a single instance of UserDAOImpl2 class.
+     * Creates a single instance of UserDAOImpl2 class, measured by the {@link TimedUserDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final UserDAOImpl USER_DAO = new UserDAOImpl();
+        private static final UserDAO USER_DAO = new TimedUserDAO(new UserDAOImpl(), "v2");
     }
 
     /**
@@ -45,7 +52,7 @@ public class UserDAOImpl implements UserDAO {
      *
      * @return returns the single instance of UserDAOImpl class.
      */
-    public static UserDAOImpl getInstance() {
+    public static UserDAO getInstance() {
         return InstanceHolder.USER_DAO;
     }
 
@@ -62,9 +69,16 @@ public class UserDAOImpl implements UserDAO {
         try (final Session session = sessionFactory.openSession()) {
             session.beginTransaction();
             session.persist(user);
+            session.persist(createUserIdentifier(UserIdentifier.normalizeEmailId(user.getEmailId()), user.getId()));
+            session.persist(createUserIdentifier(UserIdentifier.normalizeMobileNumber(user.getMobileNumber()), user.getId()));
             session.getTransaction().commit();
 
             return true;
+        } catch (ConstraintViolationException exception) {
+            if (UNIQUE_VIOLATION.equals(exception.getSQLState())) {
+                return false;
+            }
+            throw new UserCreationFailedException(exception.getMessage());
         } catch (Exception exception) {
             throw new UserCreationFailedException(exception.getMessage());
         }
@@ -72,22 +86,18 @@ public class UserDAOImpl implements UserDAO {
 
     /**
      * <p>
-     * Gets the existing user by the given credentials.
+     * Gets the existing user by the normalized email id or mobile number.
      * </p>
      *
-     * @param emailIdOrMobileNumber Refers the mobile number or email id of the user
-     * @param password Refers the password of the user.
-     * @return Optional of {@link User} if the credentials are correct or null otherwise.
+     * @param identifier Refers the normalized mobile number or email id of the user.
+     * @return Optional of {@link User} if the user exists or null otherwise.
      */
     @Override
-    public Optional<User> getUser(final String emailIdOrMobileNumber, final String password, final String hqlQuery) {
+    public Optional<User> getUser(final String identifier) {
         try (final Session session = sessionFactory.openSession()) {
-            final Query query = session.createQuery(hqlQuery, User.class);
-
-            query.setParameter("username", emailIdOrMobileNumber);
-            query.setParameter("password", password);
-
-            return  Optional.ofNullable((User) query.getSingleResult());
+            return session.createQuery(String.join(" ", "select u from users u join user_identifiers i",
+                    "on i.userId = u.id where i.identifier = :identifier"), User.class)
+                    .setParameter("identifier", identifier).uniqueResultOptional();
         } catch (Exception exception) {
             throw new UserNotFoundException(exception.getMessage());
         }
@@ -95,17 +105,40 @@ public class UserDAOImpl implements UserDAO {
 
     /**
      * <p>
-     * Updates the details of the user.
+     * Updates the details of the user. The update is rolled back when the email id or mobile number is held by
+     * another user.
      * </p>
      *
      * @param user Refers the current {@link User}.
+     * @throws UserIdentifierTakenException if the email id or mobile number is registered by another user.
      */
     @Override
     public void updateUser(final User user) {
         try (final Session session = sessionFactory.openSession()) {
             session.beginTransaction();
+            final String emailId = UserIdentifier.normalizeEmailId(user.getEmailId());
+            final String mobileNumber = UserIdentifier.normalizeMobileNumber(user.getMobileNumber());
+
             session.merge(user);
+            session.createMutationQuery(String.join(" ", "delete from user_identifiers i where i.userId = :userId",
+                    "and i.identifier not in (:emailId, :mobileNumber)")).setParameter("userId", user.getId())
+                    .setParameter("emailId", emailId).setParameter("mobileNumber", mobileNumber).executeUpdate();
+
+            for (final String identifier : new String[] {emailId, mobileNumber}) {
+                final UserIdentifier userIdentifier = session.find(UserIdentifier.class, identifier);
+
+                if (Objects.isNull(userIdentifier)) {
+                    session.persist(createUserIdentifier(identifier, user.getId()));
+                } else if (userIdentifier.getUserId() != user.getId()) {
+                    session.getTransaction().rollback();
+
+                    throw new UserIdentifierTakenException(String.format("User id :%d - Email id or mobile number "
+                            + "already registered", user.getId()));
+                }
+            }
             session.getTransaction().commit();
+        } catch (UserIdentifierTakenException exception) {
+            throw exception;
         } catch (Exception exception) {
             throw new UpdateActionFailedException(exception.getMessage());
         }
@@ -133,7 +166,7 @@ public class UserDAOImpl implements UserDAO {
     public boolean isUserExist(final String emailId, final String mobile_number) {
         try (final Session session = sessionFactory.openSession()) {
             final Query query = session.createNativeQuery(
-                    "select count(id) from users where users.emailId = :emailId or users.mobile_number = :mobileNumber", Integer.class);
+                    "select count(id) from users where users.email = :emailId or users.mobile_number = :mobileNumber", Integer.class);
             query.setParameter("emailId", emailId);
             query.setParameter("mobileNumber", mobile_number);
             final Integer count = (Integer) query.getSingleResult();
@@ -143,5 +176,100 @@ public class UserDAOImpl implements UserDAO {
             throw new UserCheckFailedException(exception.getMessage());
         }
     }
-}
 
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return true if the user already exists or false otherwise.
+     */
+    @Override
+    public boolean isUserExist(final int userId) {
+        try (final Session session = sessionFactory.openSession()) {
+            final Query query = session.createNativeQuery("select count(id) from users where users.id = :userId", Integer.class);
+            query.setParameter("userId", userId);
+            final Integer count = (Integer) query.getSingleResult();
+
+            return count > 0;
+        } catch (Exception exception) {
+            throw new UserCheckFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the ids of all the users.
+     * </p>
+     *
+     * @return the ids of the users.
+     */
+    @Override
+    public int[] getUserIds() {
+        try (final Session session = sessionFactory.openSession()) {
+            return session.createNativeQuery("select id from users", Integer.class).getResultList().stream()
+                    .mapToInt(Integer::intValue).toArray();
+        } catch (Exception exception) {
+            throw new UserCheckFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Passes the email id and mobile number of every user to the given consumer.
+     * </p>
+     *
+     * @param consumer Refers the consumer of the email id and the mobile number.
+     */
+    @Override
+    public void loadUserIdentifiers(final BiConsumer<String, String> consumer) {
+        try (final Session session = sessionFactory.openSession()) {
+            session.createQuery("select u.emailId, u.mobileNumber from users u", Object[].class).stream()
+                    .forEach(identifiers -> consumer.accept((String) identifiers[0], (String) identifiers[1]));
+        } catch (Exception exception) {
+            throw new UserCheckFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Widens the password column of the users created before the passwords were hashed to hold the hashes, and
+     * creates the normalized identifiers of the users who don't have them yet.
+     * </p>
+     */
+    @Override
+    public void indexUserIdentifiers() {
+        try (final Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeMutationQuery("alter table users alter column password type varchar(128)")
+                    .executeUpdate();
+            session.createNativeMutationQuery(String.join(" ", "insert into user_identifiers(identifier, user_id)",
+                    "select lower(trim(email)), id from users where email is not null union all",
+                    "select '+' || ltrim(regexp_replace(mobile_number, '[^0-9]', '', 'g'), '0'), id from users",
+                    "where mobile_number is not null",
+                    "on conflict (identifier) do nothing")).executeUpdate();
+            session.getTransaction().commit();
+        } catch (Exception exception) {
+            throw new UserCheckFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Creates the identifier of the user.
+     * </p>
+     *
+     * @param identifier Refers the normalized email id or mobile number.
+     * @param userId Refers the id of the user.
+     * @return the {@link UserIdentifier}.
+     */
+    private UserIdentifier createUserIdentifier(final String identifier, final int userId) {
+        final UserIdentifier userIdentifier = new UserIdentifier();
+
+        userIdentifier.setIdentifier(identifier);
+        userIdentifier.setUserId(userId);
+
+        return userIdentifier;
+    }
+}
@@ -0,0 +1,25 @@
+package com.flipkart.authentication.exceptions;
+
+import com.flipkart.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when the password can't be hashed or verified.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class PasswordHashingFailedException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the PasswordHashingFailedException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public PasswordHashingFailedException(final String message) {
+        super(message);
+    }
+}
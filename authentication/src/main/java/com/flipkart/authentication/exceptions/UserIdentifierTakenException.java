@@ -0,0 +1,24 @@
+package com.flipkart.authentication.exceptions;
+
+/**
+ * <p>
+ * Represents the exception when the user detail update is rejected as the email id or mobile number is already
+ * registered by another user.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserIdentifierTakenException extends UpdateActionFailedException {
+
+    /**
+     * <p>
+     * Constructs the UserIdentifierTakenException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public UserIdentifierTakenException(final String message) {
+        super(message);
+    }
+}
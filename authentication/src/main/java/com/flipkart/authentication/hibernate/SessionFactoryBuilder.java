@@ -0,0 +1,56 @@
+package com.flipkart.authentication.hibernate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+/**
+ * <p>
+ * Builds the session factory shared by the v2 DAOs of a bundle. The factory keeps the Hibernate statistics, attributes
+ * the statements, entity loads, flushes and second-level cache lookups of its sessions to the DAO method running them
+ * and counts the statements for the N+1 detection.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SessionFactoryBuilder {
+
+    /**
+     * <p>
+     * Default constructor of SessionFactoryBuilder class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private SessionFactoryBuilder() {}
+
+    /**
+     * <p>
+     * Builds the session factory of the annotated classes. The classes of the listeners are looked up by the class
+     * loader of this bundle and the entities by theirs.
+     * </p>
+     *
+     * @param annotatedClasses Refers the entities of the factory.
+     * @return the {@link SessionFactory}.
+     */
+    public static SessionFactory build(final Class<?>... annotatedClasses) {
+        final BootstrapServiceRegistryBuilder registryBuilder = new BootstrapServiceRegistryBuilder()
+                .applyClassLoader(SessionFactoryBuilder.class.getClassLoader())
+                .applyIntegrator(new SessionMetricsIntegrator());
+
+        for (final Class<?> annotatedClass : annotatedClasses) {
+            registryBuilder.applyClassLoader(annotatedClass.getClassLoader());
+        }
+        final Configuration configuration = new Configuration(registryBuilder.build());
+
+        for (final Class<?> annotatedClass : annotatedClasses) {
+            configuration.addAnnotatedClass(annotatedClass);
+        }
+        configuration.setProperty(AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE.toString());
+        configuration.setProperty(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                SessionMetricsListener.class.getName());
+        configuration.setStatementInspector(new StatementCountingInspector());
+
+        return configuration.buildSessionFactory();
+    }
+}
@@ -0,0 +1,48 @@
+package com.flipkart.authentication.hibernate;
+
+import com.flipkart.authentication.metrics.SessionMetrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Listens to the entities loaded by the sessions of the factory and attributes them to the {@link SessionMetrics} of
+ * the DAO method running on the thread, as the session events carry no entity loads.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+class SessionMetricsIntegrator implements Integrator, PostLoadEventListener {
+
+    @Override
+    public void integrate(final Metadata metadata, final BootstrapContext bootstrapContext,
+                          final SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void disintegrate(final SessionFactoryImplementor sessionFactory,
+                             final SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void onPostLoad(final PostLoadEvent event) {
+        final SessionMetrics sessionMetrics = SessionMetricsListener.getSessionMetrics();
+
+        if (Objects.nonNull(sessionMetrics)) {
+            sessionMetrics.recordEntityLoad();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.flipkart.authentication.hibernate;
+
+import com.flipkart.authentication.metrics.MethodMetrics;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.metrics.SessionMetrics;
+
+import org.hibernate.SessionEventListener;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Attributes the statements, flushes and second-level cache lookups of a session to the {@link SessionMetrics} of the
+ * DAO method running on the thread. Created by Hibernate for each session, so it has to be public with a default
+ * constructor.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SessionMetricsListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        final SessionMetrics sessionMetrics = getSessionMetrics();
+
+        if (Objects.nonNull(sessionMetrics)) {
+            sessionMetrics.recordQuery();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+
+    @Override
+    public void flushEnd(final int numberOfEntities, final int numberOfCollections) {
+        final SessionMetrics sessionMetrics = getSessionMetrics();
+
+        if (Objects.nonNull(sessionMetrics)) {
+            sessionMetrics.recordFlush();
+        }
+    }
+
+    @Override
+    public void cacheGetEnd(final boolean hit) {
+        final SessionMetrics sessionMetrics = getSessionMetrics();
+
+        if (Objects.nonNull(sessionMetrics)) {
+            sessionMetrics.recordCacheGet(hit);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the Hibernate metrics of the DAO method running on the thread.
+     * </p>
+     *
+     * @return the {@link SessionMetrics} or null if no DAO call is running.
+     */
+    static SessionMetrics getSessionMetrics() {
+        final MethodMetrics methodMetrics = MethodMetrics.current();
+
+        return Objects.isNull(methodMetrics) ? null : MetricRegistry.getInstance().getSessionMetrics(methodMetrics);
+    }
+}
@@ -0,0 +1,24 @@
+package com.flipkart.authentication.hibernate;
+
+import com.flipkart.database.statement.RepeatedStatementDetector;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * <p>
+ * Counts the statements prepared by the sessions into the request running on the thread for the
+ * {@link RepeatedStatementDetector}. The statements are left as they are.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        RepeatedStatementDetector.getInstance().count(sql);
+
+        return sql;
+    }
+}
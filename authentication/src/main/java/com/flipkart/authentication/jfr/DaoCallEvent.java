@@ -0,0 +1,76 @@
+package com.flipkart.authentication.jfr;
+
+import com.flipkart.authentication.metrics.MethodMetrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>
+ * Records a call of a DAO method in a flight recording. The statements run by the call are recorded as the
+ * Statement events of the database, with their ids and the rows they read or wrote. Disabled unless enabled by the
+ * recording settings, so the event is neither timed nor written when no recording asks for it.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Name("com.flipkart.DaoCall")
+@Label("DAO Call")
+@Category({"Flipkart", "Database"})
+@Description("Call of a DAO method")
+@Enabled(false)
+@Threshold("10 ms")
+public class DaoCallEvent extends Event {
+
+    @Label("Method")
+    @Description("DAO method called")
+    String method;
+
+    @Label("Version")
+    @Description("Version of the DAO")
+    String version;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * <p>
+     * Ends the event of a completed call and commits it if the recording takes it.
+     * </p>
+     *
+     * @param methodMetrics Refers the {@link MethodMetrics} of the DAO method.
+     */
+    public void record(final MethodMetrics methodMetrics) {
+        end();
+
+        if (shouldCommit()) {
+            this.method = methodMetrics.getMethod();
+            this.version = methodMetrics.getVersion();
+            commit();
+        }
+    }
+
+    /**
+     * <p>
+     * Ends the event of a failed call and commits it if the recording takes it.
+     * </p>
+     *
+     * @param methodMetrics Refers the {@link MethodMetrics} of the DAO method.
+     */
+    public void recordFailure(final MethodMetrics methodMetrics) {
+        end();
+
+        if (shouldCommit()) {
+            this.method = methodMetrics.getMethod();
+            this.version = methodMetrics.getVersion();
+            this.failed = true;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.flipkart.authentication.jfr;
+
+import jakarta.ws.rs.core.MediaType;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>
+ * Records the writing of an object by the JSON, CBOR or Smile mappers in a flight recording. Disabled unless enabled
+ * by the recording settings.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Name("com.flipkart.Serialization")
+@Label("Serialization")
+@Category({"Flipkart", "JSON"})
+@Description("Writing of an object by the mappers")
+@Enabled(false)
+@Threshold("5 ms")
+public class SerializationEvent extends Event {
+
+    @Label("Type")
+    @Description("Class of the object written")
+    String type;
+
+    @Label("Format")
+    @Description("Media type written")
+    String format;
+
+    @Label("Size")
+    @Description("Bytes written, or -1 when streamed to the response")
+    @DataAmount
+    long size;
+
+    /**
+     * <p>
+     * Ends the event and commits it if the recording takes it.
+     * </p>
+     *
+     * @param type Refers the class of the object written.
+     * @param mediaType Refers the media type written.
+     * @param size Refers the bytes written or -1 if not known.
+     */
+    public void record(final Class<?> type, final MediaType mediaType, final long size) {
+        end();
+
+        if (shouldCommit()) {
+            this.type = type.getName();
+            this.format = String.valueOf(mediaType);
+            this.size = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.flipkart.authentication.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>
+ * Records the validation of a request model by a group in a flight recording. Disabled unless enabled by the recording
+ * settings.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Name("com.flipkart.Validation")
+@Label("Validation")
+@Category({"Flipkart", "Validation"})
+@Description("Validation of a request model by a group")
+@Enabled(false)
+@Threshold("1 ms")
+public class ValidationEvent extends Event {
+
+    @Label("Type")
+    @Description("Class of the validated object")
+    String type;
+
+    @Label("Group")
+    @Description("Group of the constraints validated")
+    String group;
+
+    @Label("Violations")
+    int violations;
+
+    /**
+     * <p>
+     * Ends the event and commits it if the recording takes it.
+     * </p>
+     *
+     * @param type Refers the class of the validated object.
+     * @param group Refers the group class.
+     * @param violations Refers the count of the violations found.
+     */
+    public void record(final Class<?> type, final Class<?> group, final int violations) {
+        end();
+
+        if (shouldCommit()) {
+            this.type = type.getName();
+            this.group = group.getSimpleName();
+            this.violations = violations;
+            commit();
+        }
+    }
+}
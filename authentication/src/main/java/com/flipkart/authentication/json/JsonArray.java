@@ -1,10 +1,7 @@
 package com.flipkart.authentication.json;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.flipkart.authentication.exceptions.JsonProcessingFailedException;
 
 /**
  * <p>
@@ -82,17 +79,13 @@ public class JsonArray extends Json {
 
     /**
      * <p>
-     * Converts the object node to byte array and returns it.
+     * Converts the array node to byte array by the shared object mapper and returns it.
      * </p>
      *
      * @return the byte array.
      */
     @Override
     public byte[] asBytes() {
-        try {
-            return new ObjectMapper().writeValueAsBytes(arrayNode);
-        } catch (JsonProcessingException exception) {
-            throw new JsonProcessingFailedException(exception.getMessage());
-        }
+        return JsonFactory.getInstance().toBytes(arrayNode);
     }
 }
@@ -1,13 +1,36 @@
 package com.flipkart.authentication.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.jakarta.rs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jakarta.rs.cbor.JacksonCBORProvider;
+import com.fasterxml.jackson.jakarta.rs.json.JacksonJsonProvider;
+import com.fasterxml.jackson.jakarta.rs.smile.JacksonSmileProvider;
+import com.fasterxml.jackson.jakarta.rs.smile.SmileMediaTypes;
+import com.flipkart.authentication.exceptions.JsonProcessingFailedException;
+import com.flipkart.authentication.jfr.SerializationEvent;
+
+import jakarta.ws.rs.core.MediaType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
- * Creates JSON objects and arrays, and converts Java objects to JSON.
+ * Creates JSON objects and arrays, and converts Java objects to JSON. A single object mapper is shared by all the
+ * bundles and the writer of each type is looked up once, so that the objects are written straight to bytes without
+ * building a tree. The providers of the server write the entities as JSON, CBOR or Smile, as negotiated by the
+ * request, by mappers of the same configuration.
  * </p>
  *
  * @author Maharaja S
@@ -15,16 +38,44 @@ import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
  */
 public class JsonFactory {
 
+    public static final String APPLICATION_CBOR = CBORMediaTypes.APPLICATION_JACKSON_CBOR;
+    public static final String APPLICATION_SMILE = SmileMediaTypes.APPLICATION_JACKSON_SMILE;
     private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    private final Map<Class<?>, ObjectWriter> writers;
+
+    /**
+     * <p>
+     * Default constructor of the JsonFactory class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private JsonFactory() {
+        objectMapper = configure(new ObjectMapper());
+        cborMapper = configure(new CBORMapper());
+        smileMapper = configure(new SmileMapper());
+        writers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of JsonFactory class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    }
 
     /**
      * <p>
-     * Constructs a new JsonFactory.
+     * Gets a single object of JsonFactory Class and returns it.
      * </p>
      *
+     * @return returns the single instance of JsonFactory Class.
      */
-    public JsonFactory() {
-        this.objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    public static JsonFactory getInstance() {
+        return InstanceHolder.JSON_FACTORY;
     }
 
     /**
@@ -51,15 +102,21 @@ public class JsonFactory {
 
     /**
      * <p>
-     * Converts a Java object to JSON.
+     * Converts a Java object to JSON. The conversion is recorded as a {@link SerializationEvent} when a flight
+     * recording enables it.
      * </p>
      *
      * @param object Refers the Java object to convert.
      * @return the JSON representation of the object.
      */
     public Json toJson(final Object object) {
+        final SerializationEvent event = new SerializationEvent();
+
+        event.begin();
         final JsonNode jsonNode = objectMapper.valueToTree(object);
 
+        event.record(object.getClass(), MediaType.APPLICATION_JSON_TYPE, -1);
+
         if (jsonNode.isArray()) {
             return new JsonArray(jsonNode);
         }
@@ -69,12 +126,80 @@ public class JsonFactory {
 
     /**
      * <p>
-     * Returns the provider instance for Jackson.
+     * Creates a streaming parser of the JSON bytes by the shared mapper, to read a few fields without binding the
+     * whole document.
      * </p>
      *
-     * @return the provider.
+     * @param bytes Refers the JSON bytes to parse.
+     * @return the {@link JsonParser} of the bytes, to be closed by the caller.
+     * @throws IOException if the parser can't be created.
      */
-    public static JacksonJsonProvider getProvider(){
-        return new JacksonJsonProvider();
+    public JsonParser createParser(final byte[] bytes) throws IOException {
+        return objectMapper.createParser(bytes);
+    }
+
+    /**
+     * <p>
+     * Writes the Java object as JSON bytes without converting it to a tree. The writing is recorded as a
+     * {@link SerializationEvent} when a flight recording enables it.
+     * </p>
+     *
+     * @param object Refers the Java object to write.
+     * @return the byte array.
+     */
+    public byte[] toBytes(final Object object) {
+        final SerializationEvent event = new SerializationEvent();
+
+        event.begin();
+
+        try {
+            final byte[] bytes = writerFor(object.getClass()).writeValueAsBytes(object);
+
+            event.record(object.getClass(), MediaType.APPLICATION_JSON_TYPE, bytes.length);
+
+            return bytes;
+        } catch (JsonProcessingException exception) {
+            throw new JsonProcessingFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the writer of the given type, creating it on the first use.
+     * </p>
+     *
+     * @param type Refers the type of the objects to write.
+     * @return the {@link ObjectWriter} of the type.
+     */
+    private ObjectWriter writerFor(final Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * <p>
+     * Configures the mapper to leave out the null fields and to flush only when the output is closed.
+     * </p>
+     *
+     * @param mapper Refers the mapper of a format.
+     * @return the configured mapper.
+     */
+    private static ObjectMapper configure(final ObjectMapper mapper) {
+        return mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * <p>
+     * Returns the JSON, CBOR and Smile provider instances for Jackson backed by the shared mappers. The entities are
+     * written straight to the output stream of the response in the format accepted by the request.
+     * </p>
+     *
+     * @return the providers.
+     */
+    public static List<Object> getProviders() {
+        final JsonFactory jsonFactory = getInstance();
+
+        return Arrays.asList(new JacksonJsonProvider(jsonFactory.objectMapper),
+                new JacksonCBORProvider(jsonFactory.cborMapper), new JacksonSmileProvider(jsonFactory.smileMapper));
     }
 }
@@ -0,0 +1,49 @@
+package com.flipkart.authentication.json;
+
+import com.flipkart.authentication.jfr.SerializationEvent;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Records the entities written to the response by the providers of the {@link JsonFactory} as
+ * {@link SerializationEvent}s when a flight recording enables them. It runs inside the compression, so the event
+ * covers the writing by the mapper and the compressing of the bytes streamed through it. The pre-rendered byte arrays
+ * are not recorded.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Priority(Priorities.USER)
+public class SerializationInterceptor implements WriterInterceptor {
+
+    /**
+     * <p>
+     * Writes the entity and records its writing.
+     * </p>
+     *
+     * @param context Refers the context of the writing.
+     */
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        final Object entity = context.getEntity();
+
+        if (Objects.isNull(entity) || entity instanceof byte[]) {
+            context.proceed();
+
+            return;
+        }
+        final SerializationEvent event = new SerializationEvent();
+
+        event.begin();
+        context.proceed();
+        event.record(entity.getClass(), context.getMediaType(), -1);
+    }
+}
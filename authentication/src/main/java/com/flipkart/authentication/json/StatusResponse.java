@@ -0,0 +1,87 @@
+package com.flipkart.authentication.json;
+
+/**
+ * <p>
+ * Represents the constant status responses of the controllers and filters of all the bundles. Each response is
+ * written to JSON once when the constants are loaded and the same bytes are returned on every call.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public enum StatusResponse {
+
+    USER_CREATED("status", "user created successfully"),
+    USER_ALREADY_REGISTERED("status", "user already registered"),
+    IDENTIFIER_ALREADY_REGISTERED("status", "email id or mobile number already registered"),
+    USERNAME_NULL("error :", "username can't be null"),
+    WRONG_CREDENTIALS("error", "Wrong credentials"),
+    UPDATE_SUCCESSFUL("status", "update successful"),
+    USER_NOT_FOUND("status", "User not found"),
+    USER_ID_NOT_FOUND("status", "User id not found"),
+    LOGIN_REQUIRED("status", "Login required"),
+    INVALID_TOKEN("status", "Invalid or expired token"),
+    ACCESS_DENIED("status", "Access denied"),
+    TOO_MANY_REQUESTS("status", "Too many requests"),
+    SERVICE_BUSY("status", "Service is busy, try again later"),
+    PRODUCT_NOT_FOUND("status", "product not found"),
+    PRODUCT_ID_NOT_FOUND("status", "product id not found"),
+    ITEM_REMOVED("status", "Item removed"),
+    ITEM_NOT_FOUND("status", "Item not found"),
+    NO_ITEMS_FOUND("status", "No items found"),
+    ITEM_ADDED_TO_CART("status", "Item added to the cart"),
+    ITEM_ALREADY_IN_CART("status", "Item is already in the cart"),
+    STOCK_NOT_AVAILABLE("status", "Item is out of stock"),
+    ITEM_REMOVED_FROM_CART("status", "Item removed from the cart"),
+    NO_ITEMS_IN_CART("status", "No items in the cart"),
+    ITEM_ADDED_TO_WISHLIST("status", "Item added to the wishlist"),
+    ITEM_ALREADY_IN_WISHLIST("status", "Item is already in the wishlist"),
+    ITEM_REMOVED_FROM_WISHLIST("status", "Item removed from the wishlist"),
+    NO_ITEMS_IN_WISHLIST("status", "No items in wishlist"),
+    ORDER_PLACED("status", "Order placed successfully"),
+    ORDER_CANCELLED("status", "Order cancelled successfully"),
+    ORDER_NOT_FOUND("status", "Order not found"),
+    NO_ORDERS_FOUND("status", "No orders found"),
+    ADDRESS_ADDED("status", "Address added successfully"),
+    NO_ADDRESS_FOUND("status", "No address found"),
+    REQUEST_FAILED("status", "Request failed");
+
+    private final String message;
+    private final byte[] bytes;
+
+    /**
+     * <p>
+     * Constructs the status response and writes it to JSON as a single field.
+     * </p>
+     *
+     * @param fieldName Refers the name of the field holding the message.
+     * @param message Refers the message of the response.
+     */
+    StatusResponse(final String fieldName, final String message) {
+        this.message = message;
+        this.bytes = JsonFactory.getInstance().createJsonObject().put(fieldName, message).asBytes();
+    }
+
+    /**
+     * <p>
+     * Gets the message of the response.
+     * </p>
+     *
+     * @return the message.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * <p>
+     * Gets the JSON bytes of the response. The same array is shared by all the calls, so it is only to be written to
+     * the response and never modified.
+     * </p>
+     *
+     * @return the byte array.
+     */
+    public byte[] asBytes() {
+        return bytes;
+    }
+}
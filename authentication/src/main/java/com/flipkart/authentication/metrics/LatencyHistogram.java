@@ -0,0 +1,137 @@
+package com.flipkart.authentication.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Records latencies in nanoseconds into log-linear buckets, as in an HDR histogram. Each power of two is split into
+ * {@value #SUB_BUCKETS} linear sub buckets, so any recorded value is reported within 1/{@value #SUB_BUCKETS} of itself
+ * over the whole range of a long. Recording is a few atomic increments on preallocated counters, so it neither locks
+ * nor allocates on the path of the request.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder totalTime;
+    private final AtomicLong maxTime;
+
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(BUCKETS);
+        totalCount = new LongAdder();
+        totalTime = new LongAdder();
+        maxTime = new AtomicLong();
+    }
+
+    /**
+     * <p>
+     * Records the latency.
+     * </p>
+     *
+     * @param nanos Refers the latency in nanoseconds.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalTime.add(value);
+        long max = maxTime.get();
+
+        while (value > max && !maxTime.compareAndSet(max, value)) {
+            max = maxTime.get();
+        }
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalTime() {
+        return totalTime.sum();
+    }
+
+    public long getMaxTime() {
+        return maxTime.get();
+    }
+
+    /**
+     * <p>
+     * Gets the latency under which the given percentage of the recorded latencies fall. The counts are read while the
+     * latencies are still recorded, so the value is only as consistent as a snapshot taken without locking.
+     * </p>
+     *
+     * @param percentile Refers the percentile between 0 and 100.
+     * @return the highest latency of the bucket reaching the percentile in nanoseconds, or zero if nothing is recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            snapshot[index] = counts.get(index);
+            count += snapshot[index];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * count));
+        long seen = 0;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += snapshot[index];
+
+            if (seen >= rank) {
+                return Math.min(highestValueOf(index), maxTime.get());
+            }
+        }
+
+        return maxTime.get();
+    }
+
+    /**
+     * <p>
+     * Gets the bucket of the value. The values below {@value #SUB_BUCKETS} have a bucket each, and the others are
+     * bucketed by the position of their highest bit and the {@value #SUB_BUCKET_BITS} bits below it.
+     * </p>
+     *
+     * @param value Refers the non-negative value.
+     * @return the index of the bucket.
+     */
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * <p>
+     * Gets the highest value counted in the bucket.
+     * </p>
+     *
+     * @param index Refers the index of the bucket.
+     * @return the highest value of the bucket.
+     */
+    private static long highestValueOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final long subBucket = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
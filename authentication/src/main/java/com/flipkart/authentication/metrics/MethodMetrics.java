@@ -0,0 +1,168 @@
+package com.flipkart.authentication.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Holds the latencies and the failures of a resource or DAO method. The callers keep the instance got from the
+ * {@link MetricRegistry} and pass the {@link System#nanoTime()} taken before the call, so recording takes no lookup.
+ * The DAO calls are started by {@link #start()}, which marks the method as the current one of the thread until the
+ * call is recorded, so the work done under it, like the queries of the Hibernate sessions, is attributed to it.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class MethodMetrics implements MethodMetricsMXBean {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final ThreadLocal<MethodMetrics> CURRENT = new ThreadLocal<>();
+    private final MetricType type;
+    private final String method;
+    private final String version;
+    private final LatencyHistogram latencyHistogram;
+    private final LongAdder failureCount;
+
+    MethodMetrics(final MetricType type, final String method, final String version) {
+        this.type = type;
+        this.method = method;
+        this.version = version;
+        latencyHistogram = new LatencyHistogram();
+        failureCount = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Marks the start of a call as the current method of the thread.
+     * </p>
+     *
+     * @return the {@link System#nanoTime()} taken before the call.
+     */
+    public long start() {
+        CURRENT.set(this);
+
+        return System.nanoTime();
+    }
+
+    /**
+     * <p>
+     * Gets the method whose call is running on the current thread.
+     * </p>
+     *
+     * @return the {@link MethodMetrics} of the method or null if no call is started.
+     */
+    public static MethodMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * <p>
+     * Records a completed call.
+     * </p>
+     *
+     * @param startTime Refers the {@link System#nanoTime()} taken before the call.
+     */
+    public void record(final long startTime) {
+        latencyHistogram.record(System.nanoTime() - startTime);
+        end();
+    }
+
+    /**
+     * <p>
+     * Records a failed call. Its latency is recorded as well.
+     * </p>
+     *
+     * @param startTime Refers the {@link System#nanoTime()} taken before the call.
+     */
+    public void recordFailure(final long startTime) {
+        latencyHistogram.record(System.nanoTime() - startTime);
+        failureCount.increment();
+        end();
+    }
+
+    /**
+     * <p>
+     * Clears the current method of the thread if it is this one.
+     * </p>
+     */
+    private void end() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    public MetricType getType() {
+        return type;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    @Override
+    public long getCount() {
+        return latencyHistogram.getCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public double getMeanTime() {
+        final long count = latencyHistogram.getCount();
+
+        return count == 0 ? 0 : latencyHistogram.getTotalTime() / NANOS_PER_MILLI / count;
+    }
+
+    @Override
+    public double getMaxTime() {
+        return latencyHistogram.getMaxTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double get50thPercentile() {
+        return latencyHistogram.getValueAtPercentile(50) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double get90thPercentile() {
+        return latencyHistogram.getValueAtPercentile(90) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double get99thPercentile() {
+        return latencyHistogram.getValueAtPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double get999thPercentile() {
+        return latencyHistogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * <p>
+     * Gets the key of the method, unique among all the measured methods.
+     * </p>
+     *
+     * @param type Refers the {@link MetricType} of the method.
+     * @param method Refers the name of the method.
+     * @param version Refers the version of the DAO or null for the resource methods.
+     * @return the key of the method.
+     */
+    static String keyOf(final MetricType type, final String method, final String version) {
+        return Objects.isNull(version) ? String.join(":", type.name(), method)
+                : String.join(":", type.name(), version, method);
+    }
+}
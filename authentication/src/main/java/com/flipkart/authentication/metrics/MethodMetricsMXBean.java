@@ -0,0 +1,28 @@
+package com.flipkart.authentication.metrics;
+
+/**
+ * <p>
+ * Exposes the calls and the latencies of a resource or DAO method through JMX. The latencies are in milliseconds.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface MethodMetricsMXBean {
+
+    long getCount();
+
+    long getFailureCount();
+
+    double getMeanTime();
+
+    double getMaxTime();
+
+    double get50thPercentile();
+
+    double get90thPercentile();
+
+    double get99thPercentile();
+
+    double get999thPercentile();
+}
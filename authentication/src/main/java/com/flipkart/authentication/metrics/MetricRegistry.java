@@ -0,0 +1,330 @@
+package com.flipkart.authentication.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * Keeps the {@link MethodMetrics} of the resource and DAO methods of all the bundles. Each method is registered once,
+ * when it is first measured, as an MXBean under {@value #DOMAIN}, and all of them are written in the Prometheus text
+ * format for GET /metrics. The Hibernate work of the DAO methods is kept apart as their {@link SessionMetrics}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class MetricRegistry {
+
+    private static final Logger LOGGER = LogManager.getLogger(MetricRegistry.class);
+    private static final String DOMAIN = "com.flipkart.metrics";
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String SESSION_METRIC_NAME = "flipkart_dao_hibernate";
+    private final Map<String, MethodMetrics> methodMetrics;
+    private final Map<MethodMetrics, SessionMetrics> sessionMetrics;
+
+    /**
+     * <p>
+     * Default constructor of the MetricRegistry class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private MetricRegistry() {
+        methodMetrics = new ConcurrentHashMap<>();
+        sessionMetrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of MetricRegistry class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of MetricRegistry Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of MetricRegistry Class.
+     */
+    public static MetricRegistry getInstance() {
+        return InstanceHolder.METRIC_REGISTRY;
+    }
+
+    /**
+     * <p>
+     * Gets the metrics of the resource method, registering them on the first call.
+     * </p>
+     *
+     * @param type Refers the {@link MetricType} of the method.
+     * @param method Refers the name of the method.
+     * @return the {@link MethodMetrics} of the method.
+     */
+    public MethodMetrics getMethodMetrics(final MetricType type, final String method) {
+        return getMethodMetrics(type, method, null);
+    }
+
+    /**
+     * <p>
+     * Gets the metrics of the method of the given version of a DAO, registering them on the first call.
+     * </p>
+     *
+     * @param type Refers the {@link MetricType} of the method.
+     * @param method Refers the name of the method.
+     * @param version Refers the version of the DAO or null for the resource methods.
+     * @return the {@link MethodMetrics} of the method.
+     */
+    public MethodMetrics getMethodMetrics(final MetricType type, final String method, final String version) {
+        return methodMetrics.computeIfAbsent(MethodMetrics.keyOf(type, method, version), key -> {
+            final MethodMetrics metrics = new MethodMetrics(type, method, version);
+
+            try {
+                final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                final ObjectName objectName = getObjectName(metrics);
+
+                if (!mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.registerMBean(metrics, objectName);
+                }
+            } catch (final JMException exception) {
+                LOGGER.warn(String.format("Metrics of %s are not registered - %s", method, exception.getMessage()));
+            }
+
+            return metrics;
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the Hibernate metrics of the DAO method, registering them on the first call.
+     * </p>
+     *
+     * @param metrics Refers the {@link MethodMetrics} of the DAO method.
+     * @return the {@link SessionMetrics} of the method.
+     */
+    public SessionMetrics getSessionMetrics(final MethodMetrics metrics) {
+        final SessionMetrics existing = sessionMetrics.get(metrics);
+
+        return Objects.nonNull(existing) ? existing : sessionMetrics.computeIfAbsent(metrics, key -> {
+            final SessionMetrics session = new SessionMetrics(metrics);
+
+            try {
+                final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                final ObjectName objectName = getObjectName(session);
+
+                if (!mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.registerMBean(session, objectName);
+                }
+            } catch (final JMException exception) {
+                LOGGER.warn(String.format("Hibernate metrics of %s are not registered - %s", metrics.getMethod(),
+                        exception.getMessage()));
+            }
+
+            return session;
+        });
+    }
+
+    /**
+     * <p>
+     * Writes the metrics of all the methods in the Prometheus text format.
+     * </p>
+     *
+     * @return the metrics in text.
+     */
+    public String scrape() {
+        final List<MethodMetrics> allMetrics = new ArrayList<>(methodMetrics.values());
+        final StringBuilder builder = new StringBuilder(256 * (allMetrics.size() + 1));
+
+        allMetrics.sort(Comparator.comparing(MethodMetrics::getMethod));
+
+        for (final MetricType type : MetricType.values()) {
+            final String latencyName = String.format("%s_seconds", type.getMetricName());
+            final String failureName = String.format("%s_failures_total", type.getMetricName());
+
+            writeHeader(builder, latencyName, "summary", String.format("Latency of the %s.", type.getDescription()));
+
+            for (final MethodMetrics metrics : allMetrics) {
+                if (metrics.getType() == type) {
+                    final LatencyHistogram latencyHistogram = metrics.getLatencyHistogram();
+                    final String labels = getLabels(metrics);
+
+                    for (final double quantile : QUANTILES) {
+                        builder.append(latencyName).append('{').append(labels).append(",quantile=\"").append(quantile)
+                                .append("\"} ").append(latencyHistogram.getValueAtPercentile(quantile * 100)
+                                        / NANOS_PER_SECOND).append('\n');
+                    }
+                    writeSample(builder, latencyName + "_sum", labels,
+                            latencyHistogram.getTotalTime() / NANOS_PER_SECOND);
+                    writeSample(builder, latencyName + "_count", labels, latencyHistogram.getCount());
+                }
+            }
+            writeHeader(builder, latencyName + "_max", "gauge",
+                    String.format("Highest latency of the %s.", type.getDescription()));
+
+            for (final MethodMetrics metrics : allMetrics) {
+                if (metrics.getType() == type) {
+                    writeSample(builder, latencyName + "_max", getLabels(metrics),
+                            metrics.getLatencyHistogram().getMaxTime() / NANOS_PER_SECOND);
+                }
+            }
+            writeHeader(builder, failureName, "counter", String.format("Count of the %s.", type.getFailureDescription()));
+
+            for (final MethodMetrics metrics : allMetrics) {
+                if (metrics.getType() == type) {
+                    writeSample(builder, failureName, getLabels(metrics), metrics.getFailureCount());
+                }
+            }
+        }
+        writeSessionMetrics(builder);
+
+        return builder.toString();
+    }
+
+    /**
+     * <p>
+     * Writes the Hibernate metrics of the DAO methods as counters.
+     * </p>
+     *
+     * @param builder Refers the builder of the text.
+     */
+    private void writeSessionMetrics(final StringBuilder builder) {
+        final List<SessionMetrics> allMetrics = new ArrayList<>(sessionMetrics.values());
+
+        allMetrics.sort(Comparator.comparing(session -> session.getMethodMetrics().getMethod()));
+        writeSessionCounters(builder, allMetrics, "queries", "statements executed", SessionMetrics::getQueryCount);
+        writeSessionCounters(builder, allMetrics, "entity_loads", "entities loaded",
+                SessionMetrics::getEntityLoadCount);
+        writeSessionCounters(builder, allMetrics, "flushes", "flushes", SessionMetrics::getFlushCount);
+        writeSessionCounters(builder, allMetrics, "cache_hits", "second-level cache hits",
+                SessionMetrics::getSecondLevelCacheHitCount);
+        writeSessionCounters(builder, allMetrics, "cache_misses", "second-level cache misses",
+                SessionMetrics::getSecondLevelCacheMissCount);
+    }
+
+    private void writeSessionCounters(final StringBuilder builder, final List<SessionMetrics> allMetrics,
+                                      final String name, final String description,
+                                      final ToLongFunction<SessionMetrics> counter) {
+        final String metricName = String.format("%s_%s_total", SESSION_METRIC_NAME, name);
+
+        writeHeader(builder, metricName, "counter",
+                String.format("Count of the %s by the Hibernate sessions of the DAO methods.", description));
+
+        for (final SessionMetrics session : allMetrics) {
+            writeSample(builder, metricName, getLabels(session.getMethodMetrics()), counter.applyAsLong(session));
+        }
+    }
+
+    /**
+     * <p>
+     * Unregisters the MXBeans of all the methods.
+     * </p>
+     */
+    public void unregisterAll() {
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        for (final MethodMetrics metrics : methodMetrics.values()) {
+            try {
+                final ObjectName objectName = getObjectName(metrics);
+
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (final JMException exception) {
+                LOGGER.warn(String.format("Metrics of %s are not unregistered - %s", metrics.getMethod(),
+                        exception.getMessage()));
+            }
+        }
+
+        for (final SessionMetrics session : sessionMetrics.values()) {
+            try {
+                final ObjectName objectName = getObjectName(session);
+
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (final JMException exception) {
+                LOGGER.warn(String.format("Hibernate metrics of %s are not unregistered - %s",
+                        session.getMethodMetrics().getMethod(), exception.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the name of the MXBean of the method.
+     * </p>
+     *
+     * @param metrics Refers the {@link MethodMetrics} of the method.
+     * @return the object name.
+     */
+    private ObjectName getObjectName(final MethodMetrics metrics) throws JMException {
+        return Objects.isNull(metrics.getVersion())
+                ? new ObjectName(String.format("%s:type=%s,name=%s", DOMAIN, metrics.getType().getJmxType(),
+                        metrics.getMethod()))
+                : new ObjectName(String.format("%s:type=%s,version=%s,name=%s", DOMAIN,
+                        metrics.getType().getJmxType(), metrics.getVersion(), metrics.getMethod()));
+    }
+
+    /**
+     * <p>
+     * Gets the name of the MXBean of the Hibernate metrics of the DAO method.
+     * </p>
+     *
+     * @param session Refers the {@link SessionMetrics} of the method.
+     * @return the object name.
+     */
+    private ObjectName getObjectName(final SessionMetrics session) throws JMException {
+        final MethodMetrics metrics = session.getMethodMetrics();
+
+        return new ObjectName(String.format("%s:type=Hibernate,version=%s,name=%s", DOMAIN, metrics.getVersion(),
+                metrics.getMethod()));
+    }
+
+    /**
+     * <p>
+     * Gets the Prometheus labels of the method.
+     * </p>
+     *
+     * @param metrics Refers the {@link MethodMetrics} of the method.
+     * @return the labels without the braces.
+     */
+    private String getLabels(final MethodMetrics metrics) {
+        return Objects.isNull(metrics.getVersion())
+                ? String.format("method=\"%s\"", escape(metrics.getMethod()))
+                : String.format("method=\"%s\",version=\"%s\"", escape(metrics.getMethod()),
+                        escape(metrics.getVersion()));
+    }
+
+    private String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private void writeHeader(final StringBuilder builder, final String name, final String type, final String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void writeSample(final StringBuilder builder, final String name, final String labels, final double value) {
+        builder.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private void writeSample(final StringBuilder builder, final String name, final String labels, final long value) {
+        builder.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+}
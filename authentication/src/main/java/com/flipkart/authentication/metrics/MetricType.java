@@ -0,0 +1,45 @@
+package com.flipkart.authentication.metrics;
+
+/**
+ * <p>
+ * Represents the kinds of methods measured by the {@link MetricRegistry}, with the names they are exposed under.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public enum MetricType {
+
+    HTTP("Http", "flipkart_http_requests", "requests handled by the resource methods",
+            "requests answered with a server error"),
+    DAO("Dao", "flipkart_dao_calls", "calls of the DAO methods", "calls of the DAO methods failed with an exception");
+
+    private final String jmxType;
+    private final String metricName;
+    private final String description;
+    private final String failureDescription;
+
+    MetricType(final String jmxType, final String metricName, final String description,
+               final String failureDescription) {
+        this.jmxType = jmxType;
+        this.metricName = metricName;
+        this.description = description;
+        this.failureDescription = failureDescription;
+    }
+
+    public String getJmxType() {
+        return jmxType;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getFailureDescription() {
+        return failureDescription;
+    }
+}
@@ -0,0 +1,113 @@
+package com.flipkart.authentication.metrics;
+
+import com.flipkart.database.statement.RepeatedStatementDetector;
+import com.flipkart.database.statement.StatementCounts;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Measures the requests of each resource method, from before the rate limit and the authentication until the
+ * response is built, so the rejected requests are counted as well. The suspended requests are measured until they are
+ * resumed. The requests answered with a server error are counted as failures. The statements run by each request
+ * are counted by the {@link RepeatedStatementDetector} until its response, to flag the N+1 queries. The start of the
+ * request is kept in its {@link StatementCounts}, so the only object the filter allocates for a request is its counts,
+ * apart from the properties of the request held by the container.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Priority(Priorities.AUTHENTICATION - 200)
+public class MetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final String METHOD_METRICS_PROPERTY = "flipkart.metrics.method";
+    private static final String STATEMENT_COUNTS_PROPERTY = "flipkart.metrics.statements";
+    private final MetricRegistry metricRegistry;
+    private final RepeatedStatementDetector repeatedStatementDetector;
+    private final Map<Method, MethodMetrics> resourceMetrics;
+    @Context
+    private ResourceInfo resourceInfo;
+
+    public MetricsFilter() {
+        metricRegistry = MetricRegistry.getInstance();
+        repeatedStatementDetector = RepeatedStatementDetector.getInstance();
+        resourceMetrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Marks the start of the request and the metrics of its resource method, and binds the counts of its statements to
+     * the thread. The start is marked by the counts.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        final Method resourceMethod = resourceInfo.getResourceMethod();
+
+        if (Objects.isNull(resourceMethod)) {
+            return;
+        }
+        MethodMetrics methodMetrics = resourceMetrics.get(resourceMethod);
+
+        if (Objects.isNull(methodMetrics)) {
+            methodMetrics = resourceMetrics.computeIfAbsent(resourceMethod, method -> metricRegistry.getMethodMetrics(
+                    MetricType.HTTP, String.join(".", resourceInfo.getResourceClass().getSimpleName(),
+                            method.getName())));
+        }
+        final StatementCounts statementCounts = repeatedStatementDetector.begin(methodMetrics.getMethod());
+
+        repeatedStatementDetector.bind(statementCounts);
+        requestContext.setProperty(STATEMENT_COUNTS_PROPERTY, statementCounts);
+        requestContext.setProperty(METHOD_METRICS_PROPERTY, methodMetrics);
+    }
+
+    /**
+     * <p>
+     * Records the latency of the request and whether it failed, and flags the statements it repeated.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     * @param responseContext Refers the context of the response.
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        final Object methodMetrics = requestContext.getProperty(METHOD_METRICS_PROPERTY);
+        final Object statementCounts = requestContext.getProperty(STATEMENT_COUNTS_PROPERTY);
+
+        if (!(statementCounts instanceof StatementCounts)) {
+            return;
+        }
+        final long startTime = ((StatementCounts) statementCounts).getStartTime();
+
+        if (repeatedStatementDetector.current() == statementCounts) {
+            repeatedStatementDetector.bind(null);
+        }
+        repeatedStatementDetector.end((StatementCounts) statementCounts);
+
+        if (!(methodMetrics instanceof MethodMetrics)) {
+            return;
+        }
+
+        if (responseContext.getStatusInfo().getFamily() == Response.Status.Family.SERVER_ERROR) {
+            ((MethodMetrics) methodMetrics).recordFailure(startTime);
+        } else {
+            ((MethodMetrics) methodMetrics).record(startTime);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.flipkart.authentication.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Holds the statements executed, the entities loaded, the flushes and the second-level cache lookups of the Hibernate
+ * sessions used by the calls of a DAO method. Got from the {@link MetricRegistry} for the {@link MethodMetrics} of
+ * the method.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SessionMetrics implements SessionMetricsMXBean {
+
+    private final MethodMetrics methodMetrics;
+    private final LongAdder queryCount;
+    private final LongAdder entityLoadCount;
+    private final LongAdder flushCount;
+    private final LongAdder cacheHitCount;
+    private final LongAdder cacheMissCount;
+
+    SessionMetrics(final MethodMetrics methodMetrics) {
+        this.methodMetrics = methodMetrics;
+        queryCount = new LongAdder();
+        entityLoadCount = new LongAdder();
+        flushCount = new LongAdder();
+        cacheHitCount = new LongAdder();
+        cacheMissCount = new LongAdder();
+    }
+
+    public void recordQuery() {
+        queryCount.increment();
+    }
+
+    public void recordEntityLoad() {
+        entityLoadCount.increment();
+    }
+
+    public void recordFlush() {
+        flushCount.increment();
+    }
+
+    /**
+     * <p>
+     * Records a lookup of the second-level cache.
+     * </p>
+     *
+     * @param hit Refers whether the entry was found.
+     */
+    public void recordCacheGet(final boolean hit) {
+        if (hit) {
+            cacheHitCount.increment();
+        } else {
+            cacheMissCount.increment();
+        }
+    }
+
+    public MethodMetrics getMethodMetrics() {
+        return methodMetrics;
+    }
+
+    @Override
+    public long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    @Override
+    public long getEntityLoadCount() {
+        return entityLoadCount.sum();
+    }
+
+    @Override
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    @Override
+    public long getSecondLevelCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    @Override
+    public long getSecondLevelCacheMissCount() {
+        return cacheMissCount.sum();
+    }
+}
@@ -0,0 +1,22 @@
+package com.flipkart.authentication.metrics;
+
+/**
+ * <p>
+ * Exposes the Hibernate work done by the calls of a DAO method through JMX.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface SessionMetricsMXBean {
+
+    long getQueryCount();
+
+    long getEntityLoadCount();
+
+    long getFlushCount();
+
+    long getSecondLevelCacheHitCount();
+
+    long getSecondLevelCacheMissCount();
+}
@@ -27,6 +27,7 @@ public class Address {
     @GeneratedValue(strategy = IDENTITY)
     private int id;
     @Positive(message = "User id can't be zero or negative", groups = OrderChecker.class)
+    @Column(name = "user_id")
     private int userId;
     @NotNull(message = "Door number can't be null", groups = OrderChecker.class)
     @Column(name = "door_number")
@@ -46,17 +46,17 @@ public class User {
     @NotNull(groups = {UserCreationChecker.class, UserUpdateChecker.class})
     @Pattern(regexp = "^[a-zA-Z0-9]+(?:\\.[a-zA-Z0-9]+)*@[A-Za-z0-9]{2,}([.][a-zA-Z0-9]{2,})+$",
             message = "Email id is invalid", groups = {UserLoginChecker.class , UserCreationChecker.class})
-    @Column(name = "email", length = 60)
+    @Column(name = "email", length = 60, unique = true)
     @Size(max = 60, message = "Email length is exceeded", groups = UserCreationChecker.class)
     private String emailId;
     @NotNull(groups = {UserCreationChecker.class, UserUpdateChecker.class})
     @ValidMobileNumber(message = "Mobile number can't be null", groups = {UserLoginChecker.class, UserCreationChecker.class, UserUpdateChecker.class})
-    @Column(name = "mobile_number", length = 15)
+    @Column(name = "mobile_number", length = 15, unique = true)
     private String mobileNumber;
     @NotNull(groups = {UserLoginChecker.class, UserCreationChecker.class, UserUpdateChecker.class})
     @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,20}$",
             message = "Password is invalid", groups = {UserLoginChecker.class, UserCreationChecker.class})
-    @Column(length = 20)
+    @Column(length = 128)
     private String password;
     @Transient
     private List<Address> addresses;
@@ -0,0 +1,115 @@
+package com.flipkart.authentication.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Represents the normalized email id or mobile number by which the user logs in. Email ids are kept in lower case and
+ * mobile numbers in E.164 form, so that the user is found by a single lookup of the unique identifier.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Entity(name = "user_identifiers")
+@Table(indexes = @Index(name = "user_identifiers_user_id", columnList = "user_id"))
+public class UserIdentifier {
+
+    private static final int MAX_MOBILE_NUMBER_DIGITS = 15;
+    @Id
+    @Column(length = 64)
+    private String identifier;
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    public void setIdentifier(final String identifier) {
+        this.identifier = identifier;
+    }
+
+    public void setUserId(final int userId) {
+        this.userId = userId;
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    /**
+     * <p>
+     * Normalizes the email id or the mobile number given on login.
+     * </p>
+     *
+     * @param emailIdOrMobileNumber Refers the email id or mobile number of the user.
+     * @return the normalized identifier.
+     */
+    public static String normalize(final String emailIdOrMobileNumber) {
+        return emailIdOrMobileNumber.indexOf('@') >= 0
+                ? normalizeEmailId(emailIdOrMobileNumber) : normalizeMobileNumber(emailIdOrMobileNumber);
+    }
+
+    /**
+     * <p>
+     * Normalizes the email id by ignoring the surrounding spaces and the case.
+     * </p>
+     *
+     * @param emailId Refers the email id to be normalized.
+     * @return the normalized email id.
+     */
+    public static String normalizeEmailId(final String emailId) {
+        return emailId.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * <p>
+     * Normalizes the mobile number given with its country code to E.164 form, a plus sign followed by the country code
+     * and the subscriber number. The separators and the plus sign given are ignored, and the zeros of an international
+     * call prefix such as 00 are dropped as a country code never starts with zero. The numbers of more than 15 digits
+     * are not E.164 numbers and are kept as they are, so they never match a registered number.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number to be normalized.
+     * @return the normalized mobile number.
+     */
+    public static String normalizeMobileNumber(final String mobileNumber) {
+        final StringBuilder digits = new StringBuilder(mobileNumber.length() + 1).append('+');
+
+        for (int index = 0; index < mobileNumber.length(); index++) {
+            final char character = mobileNumber.charAt(index);
+
+            if (character >= '1' && character <= '9' || character == '0' && digits.length() > 1) {
+                digits.append(character);
+            }
+        }
+
+        return digits.length() > MAX_MOBILE_NUMBER_DIGITS + 1 ? mobileNumber : digits.toString();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (Objects.isNull(object) || getClass() != object.getClass()) {
+            return false;
+        }
+
+        return Objects.equals(identifier, ((UserIdentifier) object).identifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(identifier);
+    }
+}
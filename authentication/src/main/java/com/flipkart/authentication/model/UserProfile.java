@@ -0,0 +1,48 @@
+package com.flipkart.authentication.model;
+
+/**
+ * <p>
+ * Represents the public details of the user without the credentials. It is immutable so that a cached profile can
+ * be shared by the requests.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserProfile {
+
+    private final int id;
+    private final String name;
+    private final String emailId;
+    private final String mobileNumber;
+
+    /**
+     * <p>
+     * Constructs the UserProfile from the details of the user.
+     * </p>
+     *
+     * @param user Refers the {@link User}.
+     */
+    public UserProfile(final User user) {
+        this.id = user.getId();
+        this.name = user.getName();
+        this.emailId = user.getEmailId();
+        this.mobileNumber = user.getMobileNumber();
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmailId() {
+        return emailId;
+    }
+
+    public String getMobileNumber() {
+        return mobileNumber;
+    }
+}
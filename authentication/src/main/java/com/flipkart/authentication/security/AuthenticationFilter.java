@@ -0,0 +1,97 @@
+package com.flipkart.authentication.security;
+
+import com.flipkart.authentication.cache.UserExistenceCache;
+import com.flipkart.authentication.json.StatusResponse;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * <p>
+ * Authenticates the requests by the bearer token issued on login. A valid token marks its user as existing, so the
+ * user checks of the request are answered without the database. The requests on the resources of a user are rejected
+ * when the token belongs to a different user, and also when no token is sent if {@code flipkart.token.required} is set.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class AuthenticationFilter implements ContainerRequestFilter {
+
+    public static final String USER_ID_PROPERTY = "flipkart.userId";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_ID_PARAMETER = "userId";
+    private final TokenService tokenService;
+    private final UserExistenceCache userExistenceCache;
+    private final boolean tokenRequired;
+
+    /**
+     * <p>
+     * Constructs the AuthenticationFilter which marks the users of the valid tokens as existing in the given cache.
+     * </p>
+     *
+     * @param userExistenceCache Refers the {@link UserExistenceCache} used by the bundle serving the requests.
+     */
+    public AuthenticationFilter(final UserExistenceCache userExistenceCache) {
+        this.tokenService = TokenServiceImpl.getInstance();
+        this.userExistenceCache = userExistenceCache;
+        this.tokenRequired = Boolean.getBoolean("flipkart.token.required");
+    }
+
+    /**
+     * <p>
+     * Verifies the token of the request and aborts the request if it is not allowed.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        final String authorization = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
+        final String userIdParameter = requestContext.getUriInfo().getPathParameters().getFirst(USER_ID_PARAMETER);
+
+        if (Objects.isNull(authorization) || !authorization.startsWith(BEARER_PREFIX)) {
+            if (tokenRequired && Objects.nonNull(userIdParameter)) {
+                abort(requestContext, Response.Status.UNAUTHORIZED, StatusResponse.LOGIN_REQUIRED);
+            }
+
+            return;
+        }
+        final OptionalInt userId = tokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+
+        if (userId.isEmpty()) {
+            abort(requestContext, Response.Status.UNAUTHORIZED, StatusResponse.INVALID_TOKEN);
+
+            return;
+        }
+
+        if (Objects.nonNull(userIdParameter) && !userIdParameter.equals(String.valueOf(userId.getAsInt()))) {
+            abort(requestContext, Response.Status.FORBIDDEN, StatusResponse.ACCESS_DENIED);
+
+            return;
+        }
+        userExistenceCache.add(userId.getAsInt());
+        requestContext.setProperty(USER_ID_PROPERTY, userId.getAsInt());
+    }
+
+    /**
+     * <p>
+     * Aborts the request with the given status and response.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     * @param status Refers the status of the response.
+     * @param statusResponse Refers the {@link StatusResponse} to be sent.
+     */
+    private void abort(final ContainerRequestContext requestContext, final Response.Status status,
+                       final StatusResponse statusResponse) {
+        requestContext.abortWith(Response.status(status).type(MediaType.APPLICATION_JSON)
+                .entity(statusResponse.asBytes()).build());
+    }
+}
@@ -0,0 +1,54 @@
+package com.flipkart.authentication.security;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Provides the salted hashing of the passwords. Hashing is slow by design, so it runs away from the request threads
+ * and the results are completed asynchronously.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface PasswordHasher {
+
+    /**
+     * <p>
+     * Hashes the password with a new salt.
+     * </p>
+     *
+     * @param password Refers the password to be hashed.
+     * @return the future of the encoded hash containing the algorithm, cost and salt.
+     */
+    CompletableFuture<String> hash(final String password);
+
+    /**
+     * <p>
+     * Verifies the password against the stored hash. The stored passwords which are not hashed yet are compared as
+     * they are.
+     * </p>
+     *
+     * @param password Refers the password to be verified.
+     * @param storedPassword Refers the stored hash or the legacy password.
+     * @return the future of true if the password matches or false otherwise.
+     */
+    CompletableFuture<Boolean> verify(final String password, final String storedPassword);
+
+    /**
+     * <p>
+     * Checks whether the stored password has to be hashed again with the current cost.
+     * </p>
+     *
+     * @param storedPassword Refers the stored hash or the legacy password.
+     * @return true if the stored password is not hashed or hashed with a lower cost.
+     */
+    boolean needsRehash(final String storedPassword);
+
+    /**
+     * <p>
+     * Stops the threads hashing the passwords.
+     * </p>
+     */
+    void shutdown();
+}
@@ -0,0 +1,267 @@
+package com.flipkart.authentication.security;
+
+import com.flipkart.authentication.exceptions.AlgorithmNotFoundException;
+import com.flipkart.authentication.exceptions.PasswordHashingFailedException;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Hashes the passwords with PBKDF2 and a random salt. The hashes are encoded as
+ * {@code pbkdf2-sha256$iterations$salt$hash} so that the cost can be raised later and the old hashes are upgraded on
+ * login. The hashing runs on a pool sized to the processors with a bounded queue, so a burst of logins is rejected
+ * instead of taking the CPU from the other requests.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class PasswordHasherImpl implements PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String SEPARATOR = "$";
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 256;
+    private final ThreadLocal<SecretKeyFactory> secretKeyFactories;
+    private final SecureRandom secureRandom;
+    private final AtomicInteger threadCount;
+    private final int threads;
+    private final int queueSize;
+    private final int iterations;
+    private volatile ThreadPoolExecutor executor;
+
+    /**
+     * <p>
+     * Default constructor of the PasswordHasherImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private PasswordHasherImpl() {
+        threads = Integer.getInteger("flipkart.password.hash.threads", Runtime.getRuntime().availableProcessors());
+        queueSize = Integer.getInteger("flipkart.password.hash.queue.size", 256);
+        threadCount = new AtomicInteger();
+        secretKeyFactories = ThreadLocal.withInitial(() -> {
+            try {
+                return SecretKeyFactory.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException exception) {
+                throw new AlgorithmNotFoundException(exception.getMessage());
+            }
+        });
+        secureRandom = new SecureRandom();
+        iterations = Integer.getInteger("flipkart.password.hash.iterations", 600_000);
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of PasswordHasherImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final PasswordHasherImpl PASSWORD_HASHER = new PasswordHasherImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of PasswordHasherImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of PasswordHasherImpl Class.
+     */
+    public static PasswordHasher getInstance() {
+        return InstanceHolder.PASSWORD_HASHER;
+    }
+
+    /**
+     * <p>
+     * Hashes the password with a new salt.
+     * </p>
+     *
+     * @param password Refers the password to be hashed.
+     * @return the future of the encoded hash containing the algorithm, cost and salt.
+     */
+    @Override
+    public CompletableFuture<String> hash(final String password) {
+        final byte[] salt = new byte[SALT_LENGTH];
+
+        secureRandom.nextBytes(salt);
+
+        return submit(() -> String.join(SEPARATOR, PREFIX, String.valueOf(iterations),
+                Base64.getEncoder().encodeToString(salt),
+                Base64.getEncoder().encodeToString(derive(password, salt, iterations))));
+    }
+
+    /**
+     * <p>
+     * Verifies the password against the stored hash. The stored passwords which are not hashed yet are compared as
+     * they are.
+     * </p>
+     *
+     * @param password Refers the password to be verified.
+     * @param storedPassword Refers the stored hash or the legacy password.
+     * @return the future of true if the password matches or false otherwise.
+     */
+    @Override
+    public CompletableFuture<Boolean> verify(final String password, final String storedPassword) {
+        if (Objects.isNull(password) || Objects.isNull(storedPassword)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        if (!isHashed(storedPassword)) {
+            return CompletableFuture.completedFuture(MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8)));
+        }
+        final String[] parts = storedPassword.split("\\$");
+
+        if (parts.length != 4) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final int storedIterations;
+        final byte[] salt;
+        final byte[] hash;
+
+        try {
+            storedIterations = Integer.parseInt(parts[1]);
+            salt = Base64.getDecoder().decode(parts[2]);
+            hash = Base64.getDecoder().decode(parts[3]);
+        } catch (IllegalArgumentException exception) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return submit(() -> MessageDigest.isEqual(hash, derive(password, salt, storedIterations)));
+    }
+
+    /**
+     * <p>
+     * Checks whether the stored password has to be hashed again with the current cost.
+     * </p>
+     *
+     * @param storedPassword Refers the stored hash or the legacy password.
+     * @return true if the stored password is not hashed or hashed with a lower cost.
+     */
+    @Override
+    public boolean needsRehash(final String storedPassword) {
+        if (!isHashed(storedPassword)) {
+            return true;
+        }
+        final String[] parts = storedPassword.split("\\$");
+
+        try {
+            return parts.length != 4 || Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException exception) {
+            return true;
+        }
+    }
+
+    /**
+     * <p>
+     * Stops the threads hashing the passwords. The pool is created again on the next hashing, as the bundle may be
+     * started again with the same classes.
+     * </p>
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (Objects.nonNull(executor)) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the stored password is hashed by this hasher.
+     * </p>
+     *
+     * @param storedPassword Refers the stored password.
+     * @return true if the stored password is hashed or false otherwise.
+     */
+    private boolean isHashed(final String storedPassword) {
+        return Objects.nonNull(storedPassword) && storedPassword.startsWith(PREFIX.concat(SEPARATOR));
+    }
+
+    /**
+     * <p>
+     * Derives the key of the password with the given salt and iterations.
+     * </p>
+     *
+     * @param password Refers the password.
+     * @param salt Refers the salt.
+     * @param iterations Refers the number of iterations.
+     * @return the derived key.
+     */
+    private byte[] derive(final String password, final byte[] salt, final int iterations) {
+        final PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH);
+
+        try {
+            return secretKeyFactories.get().generateSecret(keySpec).getEncoded();
+        } catch (GeneralSecurityException exception) {
+            throw new PasswordHashingFailedException(exception.getMessage());
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    /**
+     * <p>
+     * Submits the hashing task to the executor.
+     * </p>
+     *
+     * @param task Refers the task to be run.
+     * @return the future of the result of the task.
+     */
+    private <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, getExecutor());
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.failedFuture(new PasswordHashingFailedException("Too many passwords are being hashed"));
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the pool hashing the passwords, creating it if it is not created yet or was shut down.
+     * </p>
+     *
+     * @return the {@link ThreadPoolExecutor}.
+     */
+    private ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor threadPoolExecutor = executor;
+
+        if (Objects.isNull(threadPoolExecutor)) {
+            synchronized (this) {
+                threadPoolExecutor = executor;
+
+                if (Objects.isNull(threadPoolExecutor)) {
+                    threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(queueSize), runnable -> {
+                        final Thread thread = new Thread(runnable, String.format("password-hasher-%d",
+                                threadCount.incrementAndGet()));
+
+                        thread.setDaemon(true);
+
+                        return thread;
+                    });
+                    executor = threadPoolExecutor;
+                }
+            }
+        }
+
+        return threadPoolExecutor;
+    }
+}
@@ -0,0 +1,79 @@
+package com.flipkart.authentication.security;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Represents the number of requests allowed in a period. The requests are spread evenly over the period and up to the
+ * whole number of requests are allowed as a burst.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RateLimit {
+
+    private final long emissionInterval;
+    private final long burstTolerance;
+
+    /**
+     * <p>
+     * Constructs the RateLimit allowing the given number of requests in the period.
+     * </p>
+     *
+     * @param requests Refers the number of requests allowed.
+     * @param periodInSeconds Refers the period in seconds.
+     */
+    public RateLimit(final int requests, final long periodInSeconds) {
+        if (requests <= 0 || periodInSeconds <= 0) {
+            throw new IllegalArgumentException("Requests and period of the rate limit must be positive");
+        }
+        this.emissionInterval = TimeUnit.SECONDS.toNanos(periodInSeconds) / requests;
+        this.burstTolerance = emissionInterval * requests;
+    }
+
+    /**
+     * <p>
+     * Parses the limit given as {@code requests/seconds}. The limit is turned off by {@code none}.
+     * </p>
+     *
+     * @param value Refers the configured limit.
+     * @return Optional of {@link RateLimit} or empty if the limit is turned off.
+     */
+    public static Optional<RateLimit> parse(final String value) {
+        if (Objects.isNull(value) || "none".equalsIgnoreCase(value.trim())) {
+            return Optional.empty();
+        }
+        final String[] parts = value.trim().split("/");
+
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(String.format("Invalid rate limit - %s", value));
+        }
+
+        return Optional.of(new RateLimit(Integer.parseInt(parts[0].trim()), Long.parseLong(parts[1].trim())));
+    }
+
+    /**
+     * <p>
+     * Gets the time between two evenly spread requests in nanoseconds.
+     * </p>
+     *
+     * @return the emission interval.
+     */
+    public long getEmissionInterval() {
+        return emissionInterval;
+    }
+
+    /**
+     * <p>
+     * Gets how far ahead of the time the allowed requests may be taken in nanoseconds.
+     * </p>
+     *
+     * @return the burst tolerance.
+     */
+    public long getBurstTolerance() {
+        return burstTolerance;
+    }
+}
@@ -0,0 +1,210 @@
+package com.flipkart.authentication.security;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.flipkart.authentication.json.JsonFactory;
+import com.flipkart.authentication.json.StatusResponse;
+import com.flipkart.authentication.model.UserIdentifier;
+
+import jakarta.annotation.Priority;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Rejects the requests over the limits of the {@link RateLimited} endpoints with 429 before the body is read, so a
+ * burst of requests reaches neither the validation, the password hashing nor the database. The client is known by its
+ * remote address, or by the first address of {@code X-Forwarded-For} when {@code flipkart.ratelimit.trust.forwarded}
+ * is set behind a proxy.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Priority(Priorities.AUTHENTICATION - 100)
+public class RateLimitFilter implements ContainerRequestFilter {
+
+    private static final Logger LOGGER = LogManager.getLogger(RateLimitFilter.class);
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String USERNAME_FIELD = "username";
+    private static final int MAX_BODY_LENGTH = 4096;
+    private final RateLimiter rateLimiter;
+    private final Map<Method, EndpointLimits> endpointLimits;
+    private final JsonFactory jsonFactory;
+    private final boolean trustForwarded;
+    @Context
+    private ResourceInfo resourceInfo;
+    @Context
+    private HttpServletRequest httpServletRequest;
+
+    public RateLimitFilter() {
+        rateLimiter = RateLimiterImpl.getInstance();
+        endpointLimits = new ConcurrentHashMap<>();
+        jsonFactory = JsonFactory.getInstance();
+        trustForwarded = Boolean.getBoolean("flipkart.ratelimit.trust.forwarded");
+    }
+
+    /**
+     * <p>
+     * Takes the request from the buckets of the client and the identifier, and aborts the request if either of them
+     * is empty.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext) throws IOException {
+        final Method resourceMethod = resourceInfo.getResourceMethod();
+
+        if (Objects.isNull(resourceMethod) || !resourceMethod.isAnnotationPresent(RateLimited.class)) {
+            return;
+        }
+        final EndpointLimits limits = endpointLimits.computeIfAbsent(resourceMethod, EndpointLimits::new);
+
+        if (Objects.nonNull(limits.clientLimit)) {
+            final long waitTime = rateLimiter.tryAcquire(String.join(":", limits.endpoint, "c", getClientAddress(requestContext)),
+                    limits.clientLimit);
+
+            if (waitTime > 0) {
+                reject(requestContext, limits.endpoint, waitTime);
+
+                return;
+            }
+        }
+
+        if (Objects.nonNull(limits.identifierLimit)) {
+            final Optional<String> identifier = readIdentifier(requestContext);
+
+            if (identifier.isPresent()) {
+                final long waitTime = rateLimiter.tryAcquire(String.join(":", limits.endpoint, "i", identifier.get()),
+                        limits.identifierLimit);
+
+                if (waitTime > 0) {
+                    reject(requestContext, limits.endpoint, waitTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the address of the client who sent the request.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     * @return the address of the client.
+     */
+    private String getClientAddress(final ContainerRequestContext requestContext) {
+        if (trustForwarded) {
+            final String forwardedFor = requestContext.getHeaderString(FORWARDED_FOR_HEADER);
+
+            if (Objects.nonNull(forwardedFor) && !forwardedFor.isBlank()) {
+                final int index = forwardedFor.indexOf(',');
+
+                return (index < 0 ? forwardedFor : forwardedFor.substring(0, index)).trim();
+            }
+        }
+
+        return httpServletRequest.getRemoteAddr();
+    }
+
+    /**
+     * <p>
+     * Reads the normalized username from the credentials in the body and keeps the body to be read again by the
+     * resource.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     * @return Optional of the normalized identifier or empty if not given.
+     */
+    private Optional<String> readIdentifier(final ContainerRequestContext requestContext) throws IOException {
+        if (!requestContext.hasEntity()) {
+            return Optional.empty();
+        }
+        final InputStream entityStream = requestContext.getEntityStream();
+        final byte[] body = entityStream.readNBytes(MAX_BODY_LENGTH);
+
+        requestContext.setEntityStream(body.length < MAX_BODY_LENGTH ? new ByteArrayInputStream(body)
+                : new SequenceInputStream(new ByteArrayInputStream(body), entityStream));
+
+        try (final JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+
+                if (USERNAME_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    return Optional.of(UserIdentifier.normalize(parser.getText()));
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException exception) {
+            LOGGER.debug(String.format("Username is not read from the request - %s", exception.getMessage()));
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * <p>
+     * Aborts the request with 429 and the time after which the client may retry.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     * @param endpoint Refers the name of the endpoint.
+     * @param waitTime Refers the nanoseconds until the next request is allowed.
+     */
+    private void reject(final ContainerRequestContext requestContext, final String endpoint, final long waitTime) {
+        LOGGER.warn(String.format("Rate limit exceeded on %s", endpoint));
+        requestContext.abortWith(Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitTime + 999_999_999)))
+                .type(MediaType.APPLICATION_JSON)
+                .entity(StatusResponse.TOO_MANY_REQUESTS.asBytes()).build());
+    }
+
+    /**
+     * <p>
+     * Holds the limits of an endpoint read once from its {@link RateLimited} annotation and the configuration.
+     * </p>
+     */
+    private static class EndpointLimits {
+
+        private final String endpoint;
+        private final RateLimit clientLimit;
+        private final RateLimit identifierLimit;
+
+        private EndpointLimits(final Method resourceMethod) {
+            final RateLimited rateLimited = resourceMethod.getAnnotation(RateLimited.class);
+
+            endpoint = rateLimited.value();
+            clientLimit = RateLimit.parse(System.getProperty(String.format("flipkart.ratelimit.%s.client", endpoint),
+                    rateLimited.client())).orElse(null);
+            identifierLimit = RateLimit.parse(System.getProperty(String.format("flipkart.ratelimit.%s.identifier", endpoint),
+                    rateLimited.identifier())).orElse(null);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.flipkart.authentication.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Marks the resource method whose requests are rate limited. The default limits given here are overridden by
+ * {@code flipkart.ratelimit.<endpoint>.client} for each client and {@code flipkart.ratelimit.<endpoint>.identifier}
+ * for each email id or mobile number given in the credentials.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * <p>
+     * Gets the name of the endpoint used in the configuration of the limits.
+     * </p>
+     *
+     * @return the name of the endpoint.
+     */
+    String value();
+
+    /**
+     * <p>
+     * Gets the default limit for each client as {@code requests/seconds}, or {@code none}.
+     * </p>
+     *
+     * @return the default limit for each client.
+     */
+    String client() default "none";
+
+    /**
+     * <p>
+     * Gets the default limit for each email id or mobile number given in the credentials as {@code requests/seconds},
+     * or {@code none}.
+     * </p>
+     *
+     * @return the default limit for each identifier.
+     */
+    String identifier() default "none";
+}
@@ -0,0 +1,23 @@
+package com.flipkart.authentication.security;
+
+/**
+ * <p>
+ * Provides the rate limiting of the requests by a key such as the client address or the identifier of the user.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface RateLimiter {
+
+    /**
+     * <p>
+     * Takes a request from the bucket of the key if the limit allows it.
+     * </p>
+     *
+     * @param key Refers the key of the bucket.
+     * @param rateLimit Refers the {@link RateLimit} of the bucket.
+     * @return 0 if the request is allowed or the nanoseconds until the next request is allowed.
+     */
+    long tryAcquire(final String key, final RateLimit rateLimit);
+}
@@ -0,0 +1,189 @@
+package com.flipkart.authentication.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Limits the requests with the generic cell rate algorithm. Each key keeps only the time at which its bucket is full
+ * again, updated by a single compare and set, so an allowed request takes no lock. The buckets are kept in stripes of
+ * bounded size. When a stripe is full the buckets which are already full again are dropped, and a new key is rejected
+ * if that doesn't make room, until the first bucket of its stripe is full again. The time of that bucket is kept by the
+ * sweep, so the new keys are rejected without scanning the stripe until then, and a single thread sweeps the stripe
+ * after it. The buckets still limiting their keys are never dropped, so a flood of new keys can neither grow the
+ * memory nor reset the limit of another key, nor cost more than a lookup for each rejected request.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RateLimiterImpl implements RateLimiter {
+
+    private static final int STRIPES = 16;
+    private final Stripe[] stripes;
+    private final int stripeCapacity;
+
+    /**
+     * <p>
+     * Default constructor of the RateLimiterImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private RateLimiterImpl() {
+        stripes = new Stripe[STRIPES];
+        stripeCapacity = Math.max(1, Integer.getInteger("flipkart.ratelimit.keys", 100_000) / STRIPES);
+
+        for (int index = 0; index < STRIPES; index++) {
+            stripes[index] = new Stripe(System.nanoTime());
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of RateLimiterImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final RateLimiterImpl RATE_LIMITER = new RateLimiterImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of RateLimiterImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of RateLimiterImpl Class.
+     */
+    public static RateLimiter getInstance() {
+        return InstanceHolder.RATE_LIMITER;
+    }
+
+    /**
+     * <p>
+     * Takes a request from the bucket of the key if the limit allows it.
+     * </p>
+     *
+     * @param key Refers the key of the bucket.
+     * @param rateLimit Refers the {@link RateLimit} of the bucket.
+     * @return 0 if the request is allowed or the nanoseconds until the next request is allowed.
+     */
+    @Override
+    public long tryAcquire(final String key, final RateLimit rateLimit) {
+        final long now = System.nanoTime();
+        final Stripe stripe = getStripe(key);
+        final AtomicLong theoreticalArrivalTime = getBucket(stripe, key, now);
+
+        if (Objects.isNull(theoreticalArrivalTime)) {
+            return Math.max(1, stripe.sweepTime - now);
+        }
+
+        while (true) {
+            final long current = theoreticalArrivalTime.get();
+            final long next = Math.max(current, now) + rateLimit.getEmissionInterval();
+            final long waitTime = next - now - rateLimit.getBurstTolerance();
+
+            if (waitTime > 0) {
+                return waitTime;
+            }
+
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the stripe holding the bucket of the key.
+     * </p>
+     *
+     * @param key Refers the key of the bucket.
+     * @return the stripe of the key.
+     */
+    private Stripe getStripe(final String key) {
+        final int hash = key.hashCode();
+
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * <p>
+     * Gets the bucket of the key and creates it if not present and the stripe has room for it. A full stripe is swept
+     * only once its first bucket is full again, by one thread.
+     * </p>
+     *
+     * @param stripe Refers the stripe of the key.
+     * @param key Refers the key of the bucket.
+     * @param now Refers the current time in nanoseconds.
+     * @return the theoretical arrival time of the bucket, or null if the stripe is full of the buckets in use.
+     */
+    private AtomicLong getBucket(final Stripe stripe, final String key, final long now) {
+        final AtomicLong bucket = stripe.buckets.get(key);
+
+        if (Objects.nonNull(bucket)) {
+            return bucket;
+        }
+
+        if (stripe.buckets.size() >= stripeCapacity) {
+            if (stripe.sweepTime - now > 0) {
+                return null;
+            }
+
+            synchronized (stripe) {
+                if (stripe.sweepTime - now <= 0) {
+                    sweep(stripe, now);
+                }
+            }
+
+            if (stripe.buckets.size() >= stripeCapacity) {
+                return null;
+            }
+        }
+
+        return stripe.buckets.computeIfAbsent(key, id -> new AtomicLong(now));
+    }
+
+    /**
+     * <p>
+     * Drops the buckets of the stripe which are full again and keeps the time at which the first of the others is
+     * full again. The buckets only move their time forward, so none can be dropped before it.
+     * </p>
+     *
+     * @param stripe Refers the full stripe.
+     * @param now Refers the current time in nanoseconds.
+     */
+    private void sweep(final Stripe stripe, final long now) {
+        long sweepTime = Long.MAX_VALUE;
+        final Iterator<AtomicLong> iterator = stripe.buckets.values().iterator();
+
+        while (iterator.hasNext()) {
+            final long theoreticalArrivalTime = iterator.next().get();
+
+            if (theoreticalArrivalTime - now <= 0) {
+                iterator.remove();
+            } else if (sweepTime == Long.MAX_VALUE || theoreticalArrivalTime - sweepTime < 0) {
+                sweepTime = theoreticalArrivalTime;
+            }
+        }
+        stripe.sweepTime = sweepTime == Long.MAX_VALUE ? now : sweepTime;
+    }
+
+    /**
+     * <p>
+     * Holds the buckets of a stripe by their keys and the time before which the full stripe is not swept.
+     * </p>
+     */
+    private static class Stripe {
+
+        private final Map<String, AtomicLong> buckets;
+        private volatile long sweepTime;
+
+        private Stripe(final long sweepTime) {
+            buckets = new ConcurrentHashMap<>();
+            this.sweepTime = sweepTime;
+        }
+    }
+}
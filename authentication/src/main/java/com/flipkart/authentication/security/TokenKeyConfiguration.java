@@ -0,0 +1,107 @@
+package com.flipkart.authentication.security;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.osgi.service.cm.ManagedService;
+
+import java.util.Dictionary;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ * Rotates the signing keys of the {@link TokenService} from the configuration {@value #PID} of the ConfigAdmin,
+ * applied at runtime on each update. The property {@code keys} holds the keys as comma separated keyId:base64Secret
+ * pairs and {@code active.key} names the key used for new tokens, as {@code flipkart.token.keys} and
+ * {@code flipkart.token.active.key} do on startup. The keys not listed are removed, so a key is rotated by listing
+ * the new key on every node, then activating it, and dropping the old key once its tokens have expired. An invalid
+ * configuration is logged and leaves the keys as they are, as does deleting the configuration.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TokenKeyConfiguration implements ManagedService {
+
+    public static final String PID = "com.flipkart.token";
+    private static final Logger LOGGER = LogManager.getLogger(TokenKeyConfiguration.class);
+    private static final String KEYS = "keys";
+    private static final String ACTIVE_KEY = "active.key";
+    private final TokenService tokenService;
+
+    /**
+     * <p>
+     * Default constructor of the TokenKeyConfiguration class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private TokenKeyConfiguration() {
+        tokenService = TokenServiceImpl.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of TokenKeyConfiguration class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final TokenKeyConfiguration TOKEN_KEY_CONFIGURATION = new TokenKeyConfiguration();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of TokenKeyConfiguration Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of TokenKeyConfiguration Class.
+     */
+    public static TokenKeyConfiguration getInstance() {
+        return InstanceHolder.TOKEN_KEY_CONFIGURATION;
+    }
+
+    /**
+     * <p>
+     * Adds the configured keys, activates the configured active key and removes the keys no longer configured.
+     * </p>
+     *
+     * @param properties Refers the properties of the configuration or null if it is deleted.
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public synchronized void updated(final Dictionary properties) {
+        if (Objects.isNull(properties) || Objects.isNull(properties.get(KEYS))) {
+            return;
+        }
+        final Map<String, byte[]> keys;
+
+        try {
+            keys = TokenServiceImpl.parseKeys(properties.get(KEYS).toString());
+
+            if (keys.keySet().stream().anyMatch(keyId -> keyId.contains("."))) {
+                throw new IllegalArgumentException("Key ids can't contain a dot");
+            }
+        } catch (final IllegalArgumentException exception) {
+            LOGGER.warn(String.format("Token signing keys are not valid, keeping the current keys - %s",
+                    exception.getMessage()));
+
+            return;
+        }
+        final Object activeKey = properties.get(ACTIVE_KEY);
+        final String activeKeyId = Objects.isNull(activeKey) ? null : activeKey.toString().trim();
+
+        if (Objects.isNull(activeKeyId) || !keys.containsKey(activeKeyId)) {
+            LOGGER.warn(String.format("Active token signing key %s is not configured, keeping the current keys",
+                    activeKeyId));
+
+            return;
+        }
+        keys.forEach((keyId, secret) -> tokenService.addKey(keyId, secret, keyId.equals(activeKeyId)));
+        final Set<String> removedKeyIds = new HashSet<>(tokenService.getKeyIds());
+
+        removedKeyIds.removeAll(keys.keySet());
+        removedKeyIds.forEach(tokenService::removeKey);
+    }
+}
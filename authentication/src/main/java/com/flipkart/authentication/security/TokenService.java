@@ -0,0 +1,66 @@
+package com.flipkart.authentication.security;
+
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * <p>
+ * Provides the signed session tokens issued on login. A token carries the id of the user and its expiry, so it is
+ * verified by any node holding the signing keys without a database or a shared store.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface TokenService {
+
+    /**
+     * <p>
+     * Issues a token for the user signed with the active key.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the signed token.
+     */
+    String issue(final int userId);
+
+    /**
+     * <p>
+     * Verifies the signature and the expiry of the token.
+     * </p>
+     *
+     * @param token Refers the token to be verified.
+     * @return OptionalInt of the user id if the token is valid or empty otherwise.
+     */
+    OptionalInt verify(final String token);
+
+    /**
+     * <p>
+     * Adds the key to the key ring. The tokens signed with it are accepted from now on, and new tokens are signed with
+     * it when it is activated.
+     * </p>
+     *
+     * @param keyId Refers the id of the key.
+     * @param secret Refers the secret of the key.
+     * @param active Refers whether new tokens are signed with the key.
+     */
+    void addKey(final String keyId, final byte[] secret, final boolean active);
+
+    /**
+     * <p>
+     * Removes the key from the key ring so that the tokens signed with it are no longer accepted.
+     * </p>
+     *
+     * @param keyId Refers the id of the key.
+     */
+    void removeKey(final String keyId);
+
+    /**
+     * <p>
+     * Gets the ids of the keys whose tokens are accepted.
+     * </p>
+     *
+     * @return the ids of the keys.
+     */
+    Set<String> getKeyIds();
+}
@@ -0,0 +1,295 @@
+package com.flipkart.authentication.security;
+
+import com.flipkart.authentication.exceptions.AlgorithmNotFoundException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Issues and verifies the session tokens signed with HMAC-SHA256. A token is {@code keyId.payload.signature} where the
+ * payload holds the user id and the expiry in seconds. The keys are read from {@code flipkart.token.keys} as
+ * {@code keyId:base64Secret} pairs separated by commas, and {@code flipkart.token.active.key} names the key used for
+ * new tokens.
+ * </p>
+ * <p>
+ * Keys are rotated without downtime through the {@link TokenKeyConfiguration}, by adding the new key to every node
+ * first, then activating it, and removing the old key once the tokens signed with it have expired.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TokenServiceImpl implements TokenService {
+
+    private static final Logger LOGGER = LogManager.getLogger(TokenServiceImpl.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = ".";
+    private static final int PAYLOAD_LENGTH = Integer.BYTES + Long.BYTES;
+    private final ThreadLocal<Mac> macs;
+    private final long timeToLiveInSeconds;
+    private volatile KeyRing keyRing;
+
+    /**
+     * <p>
+     * Default constructor of the TokenServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private TokenServiceImpl() {
+        macs = ThreadLocal.withInitial(() -> {
+            try {
+                return Mac.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException exception) {
+                throw new AlgorithmNotFoundException(exception.getMessage());
+            }
+        });
+        timeToLiveInSeconds = Long.getLong("flipkart.token.ttl.seconds", TimeUnit.HOURS.toSeconds(1));
+        keyRing = loadKeyRing(System.getProperty("flipkart.token.keys", ""), System.getProperty("flipkart.token.active.key"));
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of TokenServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final TokenServiceImpl TOKEN_SERVICE = new TokenServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of TokenServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of TokenServiceImpl Class.
+     */
+    public static TokenService getInstance() {
+        return InstanceHolder.TOKEN_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Issues a token for the user signed with the active key.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the signed token.
+     */
+    @Override
+    public String issue(final int userId) {
+        final KeyRing currentKeyRing = keyRing;
+        final long expiresAt = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + timeToLiveInSeconds;
+        final byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH).putInt(userId).putLong(expiresAt).array();
+        final String signedContent = String.join(SEPARATOR, currentKeyRing.activeKeyId,
+                Base64.getUrlEncoder().withoutPadding().encodeToString(payload));
+        final byte[] signature = sign(currentKeyRing.keys.get(currentKeyRing.activeKeyId), signedContent);
+
+        return String.join(SEPARATOR, signedContent, Base64.getUrlEncoder().withoutPadding().encodeToString(signature));
+    }
+
+    /**
+     * <p>
+     * Verifies the signature and the expiry of the token.
+     * </p>
+     *
+     * @param token Refers the token to be verified.
+     * @return OptionalInt of the user id if the token is valid or empty otherwise.
+     */
+    @Override
+    public OptionalInt verify(final String token) {
+        if (Objects.isNull(token)) {
+            return OptionalInt.empty();
+        }
+        final int signatureIndex = token.lastIndexOf(SEPARATOR);
+        final int payloadIndex = signatureIndex > 0 ? token.lastIndexOf(SEPARATOR, signatureIndex - 1) : -1;
+
+        if (payloadIndex <= 0) {
+            return OptionalInt.empty();
+        }
+        final SecretKeySpec key = keyRing.keys.get(token.substring(0, payloadIndex));
+
+        if (Objects.isNull(key)) {
+            return OptionalInt.empty();
+        }
+        final byte[] payload;
+        final byte[] signature;
+
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(payloadIndex + 1, signatureIndex));
+            signature = Base64.getUrlDecoder().decode(token.substring(signatureIndex + 1));
+        } catch (IllegalArgumentException exception) {
+            return OptionalInt.empty();
+        }
+
+        if (payload.length != PAYLOAD_LENGTH
+                || !MessageDigest.isEqual(signature, sign(key, token.substring(0, signatureIndex)))) {
+            return OptionalInt.empty();
+        }
+        final ByteBuffer payloadBuffer = ByteBuffer.wrap(payload);
+        final int userId = payloadBuffer.getInt();
+        final long expiresAt = payloadBuffer.getLong();
+
+        return expiresAt > TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())
+                ? OptionalInt.of(userId) : OptionalInt.empty();
+    }
+
+    /**
+     * <p>
+     * Adds the key to the key ring. The tokens signed with it are accepted from now on, and new tokens are signed with
+     * it when it is activated.
+     * </p>
+     *
+     * @param keyId Refers the id of the key.
+     * @param secret Refers the secret of the key.
+     * @param active Refers whether new tokens are signed with the key.
+     */
+    @Override
+    public synchronized void addKey(final String keyId, final byte[] secret, final boolean active) {
+        if (keyId.isEmpty() || keyId.contains(SEPARATOR)) {
+            throw new IllegalArgumentException(String.format("Invalid key id - %s", keyId));
+        }
+        final Map<String, SecretKeySpec> keys = new LinkedHashMap<>(keyRing.keys);
+
+        keys.put(keyId, new SecretKeySpec(secret, ALGORITHM));
+        keyRing = new KeyRing(keys, active ? keyId : keyRing.activeKeyId);
+        LOGGER.info(String.format("Token signing key %s added%s", keyId, active ? " and activated" : ""));
+    }
+
+    /**
+     * <p>
+     * Removes the key from the key ring so that the tokens signed with it are no longer accepted.
+     * </p>
+     *
+     * @param keyId Refers the id of the key.
+     */
+    @Override
+    public synchronized void removeKey(final String keyId) {
+        if (keyId.equals(keyRing.activeKeyId)) {
+            throw new IllegalArgumentException(String.format("Active key %s can't be removed", keyId));
+        }
+        final Map<String, SecretKeySpec> keys = new LinkedHashMap<>(keyRing.keys);
+
+        keys.remove(keyId);
+        keyRing = new KeyRing(keys, keyRing.activeKeyId);
+        LOGGER.info(String.format("Token signing key %s removed", keyId));
+    }
+
+    /**
+     * <p>
+     * Gets the ids of the keys whose tokens are accepted.
+     * </p>
+     *
+     * @return the ids of the keys.
+     */
+    @Override
+    public Set<String> getKeyIds() {
+        return keyRing.keys.keySet();
+    }
+
+    /**
+     * <p>
+     * Parses the keys given as comma separated keyId:base64Secret pairs, skipping the pairs without an id.
+     * </p>
+     *
+     * @param configuredKeys Refers the keys as comma separated keyId:base64Secret pairs.
+     * @return the secrets of the keys by their ids, in the configured order.
+     * @throws IllegalArgumentException if a secret is not valid base64.
+     */
+    static Map<String, byte[]> parseKeys(final String configuredKeys) {
+        final Map<String, byte[]> keys = new LinkedHashMap<>();
+
+        for (final String configuredKey : configuredKeys.split(",")) {
+            final int index = configuredKey.indexOf(':');
+
+            if (index > 0) {
+                keys.put(configuredKey.substring(0, index).trim(),
+                        Base64.getDecoder().decode(configuredKey.substring(index + 1).trim()));
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * <p>
+     * Signs the content with the given key.
+     * </p>
+     *
+     * @param key Refers the signing key.
+     * @param content Refers the content to be signed.
+     * @return the signature.
+     */
+    private byte[] sign(final SecretKeySpec key, final String content) {
+        final Mac mac = macs.get();
+
+        try {
+            mac.init(key);
+        } catch (InvalidKeyException exception) {
+            throw new AlgorithmNotFoundException(exception.getMessage());
+        }
+
+        return mac.doFinal(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * <p>
+     * Loads the key ring from the configured keys. A random key is generated when no key is configured, in which case
+     * the tokens are accepted only by this node.
+     * </p>
+     *
+     * @param configuredKeys Refers the keys as comma separated keyId:base64Secret pairs.
+     * @param activeKeyId Refers the id of the key used for new tokens.
+     * @return the {@link KeyRing}.
+     */
+    private KeyRing loadKeyRing(final String configuredKeys, final String activeKeyId) {
+        final Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+
+        parseKeys(configuredKeys).forEach((keyId, secret) -> keys.put(keyId, new SecretKeySpec(secret, ALGORITHM)));
+
+        if (keys.isEmpty()) {
+            final byte[] secret = new byte[32];
+
+            new SecureRandom().nextBytes(secret);
+            keys.put("local", new SecretKeySpec(secret, ALGORITHM));
+            LOGGER.warn("No token signing keys configured, tokens are accepted only by this node");
+        }
+
+        return new KeyRing(keys, Objects.nonNull(activeKeyId) && keys.containsKey(activeKeyId)
+                ? activeKeyId : keys.keySet().iterator().next());
+    }
+
+    /**
+     * <p>
+     * Holds the signing keys and the id of the active key. Replaced as a whole when the keys are changed.
+     * </p>
+     */
+    private static class KeyRing {
+
+        private final Map<String, SecretKeySpec> keys;
+        private final String activeKeyId;
+
+        private KeyRing(final Map<String, SecretKeySpec> keys, final String activeKeyId) {
+            this.keys = Collections.unmodifiableMap(keys);
+            this.activeKeyId = activeKeyId;
+        }
+    }
+}
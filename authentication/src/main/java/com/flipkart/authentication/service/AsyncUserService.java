@@ -0,0 +1,60 @@
+package com.flipkart.authentication.service;
+
+import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.model.UserProfile;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous service for the User. Each call completes the returned stage once the user is read or
+ * stored.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface AsyncUserService {
+
+    /**
+     * <p>
+     * Checks if the user already exists, if not then creates a new user.
+     * </p>
+     *
+     * @param user Refers the {@link User} to be created.
+     * @return the stage completed with true if the user is created or false if the user already exists.
+     */
+    CompletionStage<Boolean> createUser(final User user);
+
+    /**
+     * <p>
+     * Gets the existing user by the given credentials.
+     * </p>
+     *
+     * @param emailIdOrMobileNumber Refers the mobile number or email id of the user.
+     * @param password Refers the password of the user.
+     * @return the stage completed with the Optional of {@link User}, empty if the credentials are wrong.
+     */
+    CompletionStage<Optional<User>> getUser(final String emailIdOrMobileNumber, final String password);
+
+    /**
+     * <p>
+     * Updates the details of the user.
+     * </p>
+     *
+     * @param user Refers the current {@link User}.
+     * @return the stage completed once the user is updated.
+     */
+    CompletionStage<Void> updateUser(final User user);
+
+    /**
+     * <p>
+     * Gets the profile of the user by id.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with the Optional of {@link UserProfile}.
+     */
+    CompletionStage<Optional<UserProfile>> getUserById(final int userId);
+}
@@ -0,0 +1,190 @@
+package com.flipkart.authentication.service;
+
+import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.model.UserIdentifier;
+import com.flipkart.authentication.model.UserProfile;
+import com.flipkart.authentication.security.PasswordHasher;
+import com.flipkart.authentication.security.PasswordHasherImpl;
+import com.flipkart.exception.CustomException;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous UserService. Each call runs the UserService on the {@link ServiceExecutor}, so
+ * the independent calls of a request run concurrently and no thread of the server waits on the database. The
+ * passwords are hashed on the {@link PasswordHasher} between the steps of the UserService, so no thread waits on the
+ * hashing either.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class AsyncUserServiceImpl implements AsyncUserService {
+
+    private final UserServiceImpl userService;
+    private final PasswordHasher passwordHasher;
+    private final ServiceExecutor serviceExecutor;
+
+    /**
+     * <p>
+     * Default constructor of the AsyncUserServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private AsyncUserServiceImpl() {
+        userService = UserServiceImpl.getImplementation();
+        passwordHasher = PasswordHasherImpl.getInstance();
+        serviceExecutor = ServiceExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of AsyncUserServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final AsyncUserServiceImpl ASYNC_USER_SERVICE = new AsyncUserServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of AsyncUserServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of AsyncUserServiceImpl Class.
+     */
+    public static AsyncUserService getInstance() {
+        return InstanceHolder.ASYNC_USER_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Checks if the user already exists, if not then hashes the password and creates a new user.
+     * </p>
+     *
+     * @param user Refers the {@link User} to be created.
+     * @return the stage completed with true if the user is created or false if the user already exists.
+     */
+    @Override
+    public CompletionStage<Boolean> createUser(final User user) {
+        return serviceExecutor.supply(() -> userService.isUserExist(user)).thenCompose(isUserExist -> isUserExist
+                ? CompletableFuture.completedFuture(false)
+                : hash(user.getPassword()).thenCompose(hashedPassword -> {
+                    user.setPassword(hashedPassword);
+
+                    return serviceExecutor.supply(() -> userService.storeUser(user));
+                }));
+    }
+
+    /**
+     * <p>
+     * Gets the existing user by the given credentials. The passwords stored before hashing was introduced, or hashed
+     * with a lower cost, are hashed again once they are verified, without failing the login when they can't be.
+     * </p>
+     *
+     * @param emailIdOrMobileNumber Refers the mobile number or email id of the user.
+     * @param password Refers the password of the user.
+     * @return the stage completed with the Optional of {@link User}, empty if the credentials are wrong.
+     */
+    @Override
+    public CompletionStage<Optional<User>> getUser(final String emailIdOrMobileNumber, final String password) {
+        final String identifier = UserIdentifier.normalize(emailIdOrMobileNumber);
+
+        return serviceExecutor.supply(() -> userService.findUser(identifier)).thenCompose(optionalUser -> {
+            if (optionalUser.isEmpty()) {
+                return CompletableFuture.completedFuture(optionalUser);
+            }
+            final User user = optionalUser.get();
+
+            return passwordHasher.verify(password, user.getPassword()).thenCompose(isVerified -> {
+                if (!isVerified) {
+                    return CompletableFuture.completedFuture(Optional.empty());
+                }
+
+                return passwordHasher.needsRehash(user.getPassword())
+                        ? rehash(user, password).thenApply(rehashed -> optionalUser)
+                        : CompletableFuture.completedFuture(optionalUser);
+            });
+        });
+    }
+
+    /**
+     * <p>
+     * Hashes the password of the user and updates the details of the user.
+     * </p>
+     *
+     * @param user Refers the current {@link User}.
+     * @return the stage completed once the user is updated.
+     */
+    @Override
+    public CompletionStage<Void> updateUser(final User user) {
+        return hash(user.getPassword()).thenCompose(hashedPassword -> {
+            user.setPassword(hashedPassword);
+
+            return serviceExecutor.supply(() -> {
+                userService.storeUpdate(user);
+
+                return null;
+            });
+        });
+    }
+
+    /**
+     * <p>
+     * Stores the password of the authenticated user hashed with the current cost. The failure is logged and the stored
+     * password kept, so it is hashed again on a later login.
+     * </p>
+     *
+     * @param user Refers the authenticated {@link User}.
+     * @param password Refers the verified password of the user.
+     * @return the stage completed once the password is stored or kept.
+     */
+    private CompletionStage<Void> rehash(final User user, final String password) {
+        final String storedPassword = user.getPassword();
+
+        return hash(password).thenCompose(hashedPassword -> serviceExecutor.supply(() -> {
+            userService.storePassword(user, hashedPassword);
+
+            return (Void) null;
+        })).exceptionally(throwable -> {
+            final Throwable cause = ServiceExecutor.unwrap(throwable);
+
+            if (!(cause instanceof CustomException)) {
+                throw new CompletionException(cause);
+            }
+            UserServiceImpl.keepPassword(user, storedPassword, (CustomException) cause);
+
+            return null;
+        });
+    }
+
+    /**
+     * <p>
+     * Hashes the password, failing the stage with the {@link CustomException} the hashing failed with.
+     * </p>
+     *
+     * @param password Refers the password to be hashed.
+     * @return the stage completed with the encoded hash.
+     */
+    private CompletionStage<String> hash(final String password) {
+        return passwordHasher.hash(password).exceptionallyCompose(throwable ->
+                CompletableFuture.failedFuture(UserServiceImpl.toHashingFailure(throwable)));
+    }
+
+    /**
+     * <p>
+     * Gets the profile of the user by id.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with the Optional of {@link UserProfile}.
+     */
+    @Override
+    public CompletionStage<Optional<UserProfile>> getUserById(final int userId) {
+        return serviceExecutor.supply(() -> userService.getUserById(userId));
+    }
+}
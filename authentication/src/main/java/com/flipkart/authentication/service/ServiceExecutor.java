@@ -0,0 +1,178 @@
+package com.flipkart.authentication.service;
+
+import com.flipkart.authentication.controller.ExecutionMode;
+import com.flipkart.database.statement.RepeatedStatementDetector;
+import com.flipkart.database.statement.StatementCounts;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs the blocking calls of the services on the threads of the configured {@link ExecutionMode}, on virtual threads
+ * in the virtual mode, on the fixed pool of platform threads in the platform mode and on the calling thread in the
+ * transport mode. The threads are created on the first call after the executor is started or shut down, so the
+ * executor serves again once its bundle is restarted. The statements the calls run on the database
+ * are capped by the connection, not by the executor. The statements of a call are counted into the request which
+ * submitted it, for the {@link RepeatedStatementDetector}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class ServiceExecutor {
+
+    private final ExecutionMode executionMode;
+    private final RepeatedStatementDetector repeatedStatementDetector;
+    private volatile ExecutorService executor;
+
+    /**
+     * <p>
+     * Default constructor of the ServiceExecutor class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private ServiceExecutor() {
+        executionMode = ExecutionMode.getConfigured();
+        repeatedStatementDetector = RepeatedStatementDetector.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of ServiceExecutor class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final ServiceExecutor SERVICE_EXECUTOR = new ServiceExecutor();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of ServiceExecutor Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of ServiceExecutor Class.
+     */
+    public static ServiceExecutor getInstance() {
+        return InstanceHolder.SERVICE_EXECUTOR;
+    }
+
+    /**
+     * <p>
+     * Runs the call and completes the stage with its result or with the exception thrown by it.
+     * </p>
+     *
+     * @param call Refers the blocking call.
+     * @return the {@link CompletionStage} of the result.
+     */
+    public <T> CompletionStage<T> supply(final Supplier<T> call) {
+        return submit(call::get);
+    }
+
+    /**
+     * <p>
+     * Runs the call throwing checked exceptions and completes the stage with its result or with the exception thrown
+     * by it.
+     * </p>
+     *
+     * @param call Refers the blocking call.
+     * @return the {@link CompletableFuture} of the result.
+     */
+    public <T> CompletableFuture<T> submit(final Callable<T> call) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        if (executionMode == ExecutionMode.TRANSPORT) {
+            complete(result, call);
+
+            return result;
+        }
+        final StatementCounts statementCounts = repeatedStatementDetector.current();
+
+        try {
+            getExecutor().execute(() -> {
+                final StatementCounts previousCounts = repeatedStatementDetector.bind(statementCounts);
+
+                try {
+                    complete(result, call);
+                } finally {
+                    repeatedStatementDetector.bind(previousCounts);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            result.completeExceptionally(exception);
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * Completes the stage with the result of the call or with the exception thrown by it.
+     * </p>
+     *
+     * @param result Refers the stage to be completed.
+     * @param call Refers the blocking call.
+     */
+    private static <T> void complete(final CompletableFuture<T> result, final Callable<T> call) {
+        try {
+            result.complete(call.call());
+        } catch (Throwable exception) {
+            result.completeExceptionally(exception);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the executor of the mode, creating it if it is not created yet or was shut down.
+     * </p>
+     *
+     * @return the {@link ExecutorService}.
+     */
+    private ExecutorService getExecutor() {
+        ExecutorService executorService = executor;
+
+        if (Objects.isNull(executorService)) {
+            synchronized (this) {
+                executorService = executor;
+
+                if (Objects.isNull(executorService)) {
+                    executorService = executionMode.createExecutor().orElseThrow();
+                    executor = executorService;
+                }
+            }
+        }
+
+        return executorService;
+    }
+
+    /**
+     * <p>
+     * Gets the cause of the failure of a composed stage, which is wrapped by the stages depending on the failed one.
+     * </p>
+     *
+     * @param throwable Refers the failure of the stage.
+     * @return the cause of the failure.
+     */
+    public static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof CompletionException && Objects.nonNull(throwable.getCause())
+                ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * <p>
+     * Stops the threads of the executor from taking more calls. The calls submitted afterwards run on new threads.
+     * </p>
+     */
+    public synchronized void shutdown() {
+        if (Objects.nonNull(executor)) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+}
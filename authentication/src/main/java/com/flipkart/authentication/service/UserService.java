@@ -1,6 +1,7 @@
 package com.flipkart.authentication.service;
 
 import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.model.UserProfile;
 
 import java.util.Optional;
 
@@ -46,11 +47,11 @@ public interface UserService {
 
     /**
      * <p>
-     * Gets the user by id.
+     * Gets the profile of the user by id.
      * </p>
      *
      * @param userId Refers the id of the user.
-     * @return Optional of {@link User}.
+     * @return Optional of {@link UserProfile}.
      */
-    Optional<User> getUserById(final int userId);
+    Optional<UserProfile> getUserById(final int userId);
 }
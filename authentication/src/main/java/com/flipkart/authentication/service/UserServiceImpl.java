@@ -1,10 +1,29 @@
 package com.flipkart.authentication.service;
 
+import com.flipkart.authentication.cache.CredentialCache;
+import com.flipkart.authentication.cache.CredentialCacheImpl;
+import com.flipkart.authentication.cache.UserExistenceCache;
+import com.flipkart.authentication.cache.UserExistenceCacheImpl;
+import com.flipkart.authentication.cache.UserIdentifierFilter;
+import com.flipkart.authentication.cache.UserIdentifierFilterImpl;
+import com.flipkart.authentication.cache.UserProfileCache;
+import com.flipkart.authentication.cache.UserProfileCacheImpl;
 import com.flipkart.authentication.dao.UserDAO;
-import com.flipkart.authentication.dao.v1.UserDAOImpl;
+import com.flipkart.authentication.dao.DaoRouters;
+import com.flipkart.authentication.exceptions.PasswordHashingFailedException;
 import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.model.UserIdentifier;
+import com.flipkart.authentication.model.UserProfile;
+import com.flipkart.authentication.security.PasswordHasher;
+import com.flipkart.authentication.security.PasswordHasherImpl;
+import com.flipkart.exception.CustomException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * <p>
@@ -16,7 +35,13 @@ import java.util.Optional;
  */
 public class UserServiceImpl implements UserService {
 
+    private static final Logger LOGGER = LogManager.getLogger(UserServiceImpl.class);
     private final UserDAO userDAO;
+    private final UserExistenceCache userExistenceCache;
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final PasswordHasher passwordHasher;
+    private final CredentialCache credentialCache;
+    private final UserProfileCache userProfileCache;
 
     /**
      * <p>
@@ -24,7 +49,12 @@ public class UserServiceImpl implements UserService {
      * </p>
      */
     private UserServiceImpl() {
-        userDAO = UserDAOImpl.getInstance();
+        userDAO = DaoRouters.getUserDAO();
+        userExistenceCache = UserExistenceCacheImpl.getInstance();
+        userIdentifierFilter = UserIdentifierFilterImpl.getInstance();
+        passwordHasher = PasswordHasherImpl.getInstance();
+        credentialCache = CredentialCacheImpl.getInstance();
+        userProfileCache = UserProfileCacheImpl.getInstance();
     }
 
     /**
@@ -50,7 +80,21 @@ public class UserServiceImpl implements UserService {
 
     /**
      * <p>
-     * Checks if the user already exists, if not then creates a new user.
+     * Gets the single instance of UserServiceImpl class, whose steps are composed by the {@link AsyncUserServiceImpl}
+     * around the password hashing.
+     * </p>
+     *
+     * @return the single instance of UserServiceImpl class.
+     */
+    static UserServiceImpl getImplementation() {
+        return InstanceHolder.USER_SERVICE_IMPL;
+    }
+
+    /**
+     * <p>
+     * Checks if the user already exists, if not then creates a new user. The database is checked only when the
+     * identifier filter can't tell that the email id and the mobile number are new, and the unique constraints on
+     * them reject the user created concurrently with the same details.
      * </p>
      *
      * @return true if the user created or false if user already exists.
@@ -58,12 +102,51 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public boolean createUser(final User user) {
-        return !userDAO.isUserExist(user.getEmailId(), user.getMobileNumber()) && userDAO.createUser(user);
+        if (isUserExist(user)) {
+            return false;
+        }
+        user.setPassword(await(passwordHasher.hash(user.getPassword())));
+
+        return storeUser(user);
+    }
+
+    /**
+     * <p>
+     * Checks whether the user with the email id or the mobile number already exists. The database is checked only
+     * when the identifier filter can't tell that they are new.
+     * </p>
+     *
+     * @param user Refers the {@link User} to be created.
+     * @return true if the user already exists.
+     */
+    boolean isUserExist(final User user) {
+        return userIdentifierFilter.mightExist(user.getEmailId(), user.getMobileNumber())
+                && userDAO.isUserExist(user.getEmailId(), user.getMobileNumber());
+    }
+
+    /**
+     * <p>
+     * Stores the user whose password is hashed and adds the user to the caches.
+     * </p>
+     *
+     * @param user Refers the {@link User} to be stored.
+     * @return true if the user is stored or false if the user is created concurrently with the same details.
+     */
+    boolean storeUser(final User user) {
+        if (!userDAO.createUser(user)) {
+            return false;
+        }
+        userExistenceCache.add(user.getId());
+        userIdentifierFilter.add(user.getEmailId(), user.getMobileNumber());
+
+        return true;
     }
 
     /**
      * <p>
-     * Gets the existing user by the given credentials.
+     * Gets the existing user by the given credentials. The user is looked up by the normalized identifier, from the
+     * credential cache when recently logged in. The passwords stored before hashing was introduced, or hashed with a
+     * lower cost, are hashed again once they are verified, without failing the login when they can't be.
      * </p>
      *
      * @param emailIdOrMobileNumber Refers the mobile number or email id of the user.
@@ -72,11 +155,85 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public Optional<User> getUser(final String emailIdOrMobileNumber, final String password) {
-        final String query = emailIdOrMobileNumber.matches("^[1-9]\d*$")
-                ? "select id, name, mobile_number, email, password from users where mobile_number=? and password=?"
-                : "select id, name, mobile_number, email, password from users where email=? and password=?";
+        final Optional<User> optionalUser = findUser(UserIdentifier.normalize(emailIdOrMobileNumber));
+
+        if (optionalUser.isEmpty() || !await(passwordHasher.verify(password, optionalUser.get().getPassword()))) {
+            return Optional.empty();
+        }
+        final User user = optionalUser.get();
+
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, password);
+        }
+
+        return optionalUser;
+    }
+
+    /**
+     * <p>
+     * Finds the user by the normalized identifier, from the credential cache when recently logged in.
+     * </p>
+     *
+     * @param identifier Refers the normalized mobile number or email id of the user.
+     * @return Optional of {@link User}.
+     */
+    Optional<User> findUser(final String identifier) {
+        Optional<User> optionalUser = credentialCache.get(identifier);
+
+        if (optionalUser.isEmpty()) {
+            optionalUser = userDAO.getUser(identifier);
+            optionalUser.ifPresent(user -> credentialCache.put(identifier, user));
+        }
+
+        return optionalUser;
+    }
+
+    /**
+     * <p>
+     * Stores the password of the authenticated user hashed with the current cost. The failure is logged and the stored
+     * password kept, so it is hashed again on a later login.
+     * </p>
+     *
+     * @param user Refers the authenticated {@link User}.
+     * @param password Refers the verified password of the user.
+     */
+    private void rehash(final User user, final String password) {
+        final String storedPassword = user.getPassword();
 
-        return userDAO.getUser(emailIdOrMobileNumber, password, query);
+        try {
+            storePassword(user, await(passwordHasher.hash(password)));
+        } catch (CustomException exception) {
+            keepPassword(user, storedPassword, exception);
+        }
+    }
+
+    /**
+     * <p>
+     * Stores the password of the user hashed again with the current cost.
+     * </p>
+     *
+     * @param user Refers the authenticated {@link User}.
+     * @param hashedPassword Refers the password hashed with the current cost.
+     */
+    void storePassword(final User user, final String hashedPassword) {
+        user.setPassword(hashedPassword);
+        userDAO.updateUser(user);
+        credentialCache.invalidate(user.getId());
+    }
+
+    /**
+     * <p>
+     * Keeps the stored password of the user whose password is not hashed again, so it is hashed on a later login.
+     * </p>
+     *
+     * @param user Refers the authenticated {@link User}.
+     * @param storedPassword Refers the password stored before.
+     * @param exception Refers the failure of the hashing or the update.
+     */
+    static void keepPassword(final User user, final String storedPassword, final CustomException exception) {
+        user.setPassword(storedPassword);
+        LOGGER.warn(String.format("Password of the user %d is not hashed again - %s", user.getId(),
+                exception.getMessage()));
     }
 
     /**
@@ -88,19 +245,65 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public void updateUser(final User user) {
+        user.setPassword(await(passwordHasher.hash(user.getPassword())));
+        storeUpdate(user);
+    }
+
+    /**
+     * <p>
+     * Stores the details of the user whose password is hashed and invalidates the cached details.
+     * </p>
+     *
+     * @param user Refers the current {@link User}.
+     */
+    void storeUpdate(final User user) {
         userDAO.updateUser(user);
+        credentialCache.invalidate(user.getId());
+        userProfileCache.invalidate(user.getId());
+        userIdentifierFilter.add(user.getEmailId(), user.getMobileNumber());
     }
 
     /**
      * <p>
-     * Gets the user by id.
+     * Gets the profile of the user by id through the profile cache.
      * </p>
      *
      * @param userId Refers the id of the user.
-     * @return Optional of {@link User}.
+     * @return Optional of {@link UserProfile}.
      */
     @Override
-    public Optional<User> getUserById(final int userId) {
-        return userDAO.getUserById(userId);
+    public Optional<UserProfile> getUserById(final int userId) {
+        return userProfileCache.get(userId);
+    }
+
+    /**
+     * <p>
+     * Waits for the password hashing to complete and returns its result.
+     * </p>
+     *
+     * @param future Refers the future of the hashing.
+     * @return the result of the hashing.
+     */
+    private <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            throw toHashingFailure(exception);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the exception thrown for the failure of the password hashing.
+     * </p>
+     *
+     * @param throwable Refers the failure of the hashing.
+     * @return the {@link CustomException} the hashing failed with, or {@link PasswordHashingFailedException} otherwise.
+     */
+    static CustomException toHashingFailure(final Throwable throwable) {
+        final Throwable cause = ServiceExecutor.unwrap(throwable);
+
+        return cause instanceof CustomException ? (CustomException) cause
+                : new PasswordHashingFailedException(throwable.getMessage());
     }
 }
@@ -18,6 +18,14 @@ import java.util.regex.Pattern;
  */
 public class MobileNumberValidator implements ConstraintValidator<ValidMobileNumber, String> {
 
+    private static final Pattern DIGITS = Pattern.compile("^[1-9]\\d*$");
+    private static final Pattern COUNTRY_MOBILE_NUMBER = Pattern.compile(String.join("|",
+            "^1[2-9]\\d{2}[2-9]\\d{2}\\d{4}$",
+            "^61(4|04)\\d{8}$",
+            "^491[5-79]\\d{9}$",
+            "^861[3-9][0-9]{9}$",
+            "^91[6789]\\d{9}$"));
+
     /**
      * <p>
      * Validates the given value.
@@ -43,25 +51,19 @@ public class MobileNumberValidator implements ConstraintValidator<ValidMobileNum
             return true;
         }
 
-        return Pattern.matches("^[1-9]\\d*$", mobileNumber) && isValidCountryMobileNumber(mobileNumber);
+        return DIGITS.matcher(mobileNumber).matches() && isValidCountryMobileNumber(mobileNumber);
     }
 
     /**
      * <p>
-     * Validates the mobile number of the provided country by the given regular expression pattern.
+     * Validates the mobile number of the provided country (America, Australia, Germany, China or India) by the given
+     * regular expression pattern.
      * </p>
      *
      * @param mobileNumber Refers the mobile number to be validated.
      * @return true if the entered mobile number is valid, otherwise false.
      */
     private boolean isValidCountryMobileNumber(final String mobileNumber) {
-        final String forAmerica = "^1[2-9]\\d{2}[2-9]\\d{2}\\d{4}$";
-        final String forAustralia = "^61(4|04)\\d{8}$";
-        final String forGermany = "^491[5-79]\\d{9}$";
-        final String forChina = "^861[3-9][0-9]{9}$";
-        final String forIndia = "^91[6789]\\d{9}$";
-        final String forAllCountries = String.join("|", forAmerica, forAustralia, forGermany, forChina, forIndia);
-
-        return Pattern.matches(forAllCountries, mobileNumber);
+        return COUNTRY_MOBILE_NUMBER.matcher(mobileNumber).matches();
     }
 }
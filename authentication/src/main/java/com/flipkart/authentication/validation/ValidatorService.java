@@ -0,0 +1,38 @@
+package com.flipkart.authentication.validation;
+
+import com.flipkart.authentication.json.JsonObject;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Provides the validation of the request models shared by all the controllers.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface ValidatorService {
+
+    /**
+     * <p>
+     * Validates the object by the given group.
+     * </p>
+     *
+     * @param object Refers the object to be validated.
+     * @param group Refers the group class.
+     * @return Optional of {@link JsonObject} containing the violations or empty if the object is valid.
+     */
+    Optional<JsonObject> validate(final Object object, final Class<?> group);
+
+    /**
+     * <p>
+     * Validates the sample object by each of the groups, so that the constraint metadata of its class and the
+     * constraint validators are built before the first request.
+     * </p>
+     *
+     * @param object Refers the sample object of the class.
+     * @param groups Refers the group classes.
+     */
+    void warm(final Object object, final Class<?>... groups);
+}
@@ -0,0 +1,144 @@
+package com.flipkart.authentication.validation;
+
+import com.flipkart.authentication.jfr.ValidationEvent;
+import com.flipkart.authentication.json.JsonFactory;
+import com.flipkart.authentication.json.JsonObject;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+
+import java.lang.annotation.ElementType;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>
+ * Validates the request models by a single validator, so that the constraint metadata of each model and the compiled
+ * patterns of its constraints are built once and shared by all the controllers. Every property is treated as
+ * reachable, which skips the lazy loading checks made through JPA on each property of the entities.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class ValidatorServiceImpl implements ValidatorService {
+
+    private static final Logger LOGGER = LogManager.getLogger(ValidatorServiceImpl.class);
+    private final Validator validator;
+    private final JsonFactory jsonFactory;
+
+    /**
+     * <p>
+     * Default constructor of the ValidatorServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private ValidatorServiceImpl() {
+        validator = Validation.byProvider(HibernateValidator.class).configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .traversableResolver(new ReachableTraversableResolver()).buildValidatorFactory().getValidator();
+        jsonFactory = JsonFactory.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of ValidatorServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final ValidatorServiceImpl VALIDATOR_SERVICE = new ValidatorServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of ValidatorServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of ValidatorServiceImpl Class.
+     */
+    public static ValidatorService getInstance() {
+        return InstanceHolder.VALIDATOR_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Validates the object by the given group. Nothing is allocated for the violations when the object is valid. The
+     * validation is recorded as a {@link ValidationEvent} when a flight recording enables it.
+     * </p>
+     *
+     * @param object Refers the object to be validated.
+     * @param group Refers the group class.
+     * @return Optional of {@link JsonObject} containing the violations or empty if the object is valid.
+     */
+    @Override
+    public Optional<JsonObject> validate(final Object object, final Class<?> group) {
+        final ValidationEvent event = new ValidationEvent();
+
+        event.begin();
+        final Set<ConstraintViolation<Object>> violations = validator.validate(object, group);
+
+        event.record(object.getClass(), group, violations.size());
+
+        if (violations.isEmpty()) {
+            return Optional.empty();
+        }
+        final JsonObject violationsInJson = jsonFactory.createJsonObject();
+
+        for (final ConstraintViolation<Object> violation : violations) {
+            violationsInJson.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+
+        return Optional.of(violationsInJson);
+    }
+
+    /**
+     * <p>
+     * Validates the sample object by each of the groups, so that the constraint metadata of its class and the
+     * constraint validators are built before the first request.
+     * </p>
+     *
+     * @param object Refers the sample object of the class.
+     * @param groups Refers the group classes.
+     */
+    @Override
+    public void warm(final Object object, final Class<?>... groups) {
+        validator.getConstraintsForClass(object.getClass());
+
+        for (final Class<?> group : groups) {
+            validator.validate(object, group);
+        }
+        LOGGER.info(String.format("Validator warmed for %s with %d groups", object.getClass().getSimpleName(),
+                groups.length));
+    }
+
+    /**
+     * <p>
+     * Treats every property as reachable and cascadable.
+     * </p>
+     */
+    private static class ReachableTraversableResolver implements TraversableResolver {
+
+        @Override
+        public boolean isReachable(final Object traversableObject, final Path.Node traversableProperty,
+                                   final Class<?> rootBeanType, final Path pathToTraversableObject,
+                                   final ElementType elementType) {
+            return true;
+        }
+
+        @Override
+        public boolean isCascadable(final Object traversableObject, final Path.Node traversableProperty,
+                                    final Class<?> rootBeanType, final Path pathToTraversableObject,
+                                    final ElementType elementType) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.flipkart.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Runs the benchmarks of the CPU hot paths with the allocation profiled and writes their results as the baseline
+ * report, one line for each benchmark and its params. When a report is at the given path already, the change of each
+ * score and allocation from it is printed before the report is replaced, so the baseline is tracked over time by
+ * committing the report.
+ * </p>
+ *
+ * <p>
+ * Run with java -cp benchmark/target/benchmarks.jar com.flipkart.benchmark.BaselineReport [path of the report],
+ * where the path defaults to benchmark/baseline/cpu.csv.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public final class BaselineReport {
+
+    private static final String DEFAULT_PATH = "benchmark/baseline/cpu.csv";
+    private static final String HEADER = "benchmark,params,mode,score,error,unit,alloc(B/op)";
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final List<String> BENCHMARKS = List.of("PasswordHasherBenchmark.(hash|verify)",
+            "ValidatorServiceBenchmark.current", "JsonFactoryBenchmark.(current|tree)", "ProductBenchmark",
+            "OrderMappingBenchmark");
+
+    /**
+     * <p>
+     * Kept private to restrict creating an object of this class outside and it provides only the main method.
+     * </p>
+     */
+    private BaselineReport() {}
+
+    public static void main(final String[] arguments) throws RunnerException, IOException {
+        final Path path = Path.of(arguments.length > 0 ? arguments[0] : DEFAULT_PATH);
+        final OptionsBuilder optionsBuilder = new OptionsBuilder();
+
+        BENCHMARKS.forEach(benchmark -> optionsBuilder.include(benchmark));
+        final Collection<RunResult> runResults = new Runner(optionsBuilder.addProfiler(GCProfiler.class).build()).run();
+        final List<String> lines = new ArrayList<>();
+
+        lines.add(HEADER);
+        runResults.forEach(runResult -> lines.add(toLine(runResult)));
+
+        if (Files.exists(path)) {
+            compare(read(path), read(lines));
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.write(path, lines);
+        System.out.printf("Baseline report written to %s%n", path.toAbsolutePath());
+    }
+
+    /**
+     * <p>
+     * Converts the result of a benchmark to a line of the report.
+     * </p>
+     *
+     * @param runResult Refers the result of the benchmark with its params.
+     * @return the line of the report.
+     */
+    private static String toLine(final RunResult runResult) {
+        final Result<?> primaryResult = runResult.getPrimaryResult();
+        final Result<?> allocation = runResult.getSecondaryResults().get(ALLOCATION);
+        final String params = runResult.getParams().getParamsKeys().stream()
+                .map(key -> String.join("=", key, runResult.getParams().getParam(key)))
+                .collect(Collectors.joining(";"));
+
+        return String.join(",", runResult.getParams().getBenchmark().replace("com.flipkart.benchmark.", ""), params,
+                runResult.getParams().getMode().shortLabel(), format(primaryResult.getScore()),
+                format(primaryResult.getScoreError()), primaryResult.getScoreUnit(),
+                Objects.isNull(allocation) ? "" : format(allocation.getScore()));
+    }
+
+    /**
+     * <p>
+     * Prints the change of the score and the allocation of each benchmark run in both the reports.
+     * </p>
+     *
+     * @param previous Refers the lines of the previous report by their benchmark, params and mode.
+     * @param current Refers the lines of the current report by their benchmark, params and mode.
+     */
+    private static void compare(final Map<String, String[]> previous, final Map<String, String[]> current) {
+        System.out.printf("%-70s %12s %12s %8s %12s %12s %8s%n", "Benchmark", "Baseline", "Current", "Change",
+                "Baseline B", "Current B", "Change");
+        current.forEach((key, columns) -> {
+            final String[] baseline = previous.get(key);
+
+            if (Objects.nonNull(baseline)) {
+                System.out.printf("%-70s %12s %12s %8s %12s %12s %8s%n", key, baseline[3], columns[3],
+                        change(baseline[3], columns[3]), baseline[6], columns[6], change(baseline[6], columns[6]));
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Reads the report at the given path.
+     * </p>
+     *
+     * @param path Refers the path of the report.
+     * @return the lines of the report by their benchmark, params and mode.
+     */
+    private static Map<String, String[]> read(final Path path) throws IOException {
+        return read(Files.readAllLines(path));
+    }
+
+    /**
+     * <p>
+     * Splits the lines of a report into their columns, skipping the header.
+     * </p>
+     *
+     * @param lines Refers the lines of the report.
+     * @return the columns of the lines by their benchmark, params and mode.
+     */
+    private static Map<String, String[]> read(final List<String> lines) {
+        final Map<String, String[]> report = new LinkedHashMap<>();
+
+        lines.stream().skip(1).map(line -> line.split(",", -1)).filter(columns -> columns.length == 7)
+                .forEach(columns -> report.put(String.join(" ", columns[0], columns[1], columns[2]), columns));
+
+        return report;
+    }
+
+    /**
+     * <p>
+     * Gets the change of a value from its baseline in percent.
+     * </p>
+     *
+     * @param baseline Refers the value of the previous report.
+     * @param current Refers the value of the current report.
+     * @return the change in percent, or empty when either of the values is missing or the baseline is zero.
+     */
+    private static String change(final String baseline, final String current) {
+        if (baseline.isEmpty() || current.isEmpty() || Double.parseDouble(baseline) == 0) {
+            return "";
+        }
+
+        return String.format(Locale.ROOT, "%+.1f%%",
+                (Double.parseDouble(current) / Double.parseDouble(baseline) - 1) * 100);
+    }
+
+    private static String format(final double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.3f", value);
+    }
+}
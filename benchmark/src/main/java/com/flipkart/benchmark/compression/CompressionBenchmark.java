@@ -0,0 +1,145 @@
+package com.flipkart.benchmark.compression;
+
+import com.flipkart.authentication.compression.CompressionOutputStream;
+import com.flipkart.authentication.compression.ContentEncoding;
+import com.flipkart.authentication.compression.DeflaterPool;
+import com.flipkart.authentication.json.JsonFactory;
+import com.flipkart.authentication.json.StatusResponse;
+import com.flipkart.product.model.order.Order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>
+ * Compares writing the page of GET /order/{userId} uncompressed, through a new {@link GZIPOutputStream} per response,
+ * and through the {@link CompressionOutputStream} with pooled deflaters. The bytes on the wire of each encoding are
+ * printed on setup. Run with -prof gc to compare the allocation.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final int THRESHOLD = 1024;
+    private final OutputStream outputStream = OutputStream.nullOutputStream();
+    @Param({"10", "100", "1000"})
+    private int size;
+    @Param({"1", "6"})
+    private int level;
+    private DeflaterPool gzipPool;
+    private DeflaterPool deflatePool;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        final List<Order> orders = new ArrayList<>(size);
+
+        for (int index = 1; index <= size; index++) {
+            orders.add(new Order.OrderBuilder(index).setId(index).setProductId(index).setQuantity(2)
+                    .setTotalAmount(1999.5f).setPaymentModeId(1).setOrderStatusId(1).setProductName("Mobile").build());
+        }
+        gzipPool = new DeflaterPool(4, level, true);
+        deflatePool = new DeflaterPool(4, level, false);
+        body = JsonFactory.getInstance().toBytes(orders);
+        final ByteArrayOutputStream gzipOutput = new ByteArrayOutputStream();
+        final ByteArrayOutputStream deflateOutput = new ByteArrayOutputStream();
+        final ByteArrayOutputStream statusOutput = new ByteArrayOutputStream();
+
+        write(gzipOutput, ContentEncoding.GZIP, gzipPool, body);
+        write(deflateOutput, ContentEncoding.DEFLATE, deflatePool, body);
+        write(statusOutput, ContentEncoding.GZIP, gzipPool, StatusResponse.NO_ORDERS_FOUND.asBytes());
+        System.out.println(String.format("%n%d orders at level %d - identity %d bytes, gzip %d bytes, deflate %d bytes, "
+                + "status %d bytes", size, level, body.length, gzipOutput.size(), deflateOutput.size(), statusOutput.size()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        gzipPool.close();
+        deflatePool.close();
+    }
+
+    @Benchmark
+    public OutputStream identity() throws IOException {
+        outputStream.write(body);
+
+        return outputStream;
+    }
+
+    @Benchmark
+    public OutputStream unpooledGzip() throws IOException {
+        final OutputStream target = OutputStream.nullOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(target) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzipOutputStream.write(body);
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    public OutputStream pooledGzip() throws IOException {
+        return write(outputStream, ContentEncoding.GZIP, gzipPool, body);
+    }
+
+    @Benchmark
+    public OutputStream pooledDeflate() throws IOException {
+        return write(outputStream, ContentEncoding.DEFLATE, deflatePool, body);
+    }
+
+    /**
+     * <p>
+     * Writes the bytes through a {@link CompressionOutputStream} as the responses are written.
+     * </p>
+     *
+     * @param target Refers the stream of the response.
+     * @param contentEncoding Refers the {@link ContentEncoding} of the response.
+     * @param deflaterPool Refers the {@link DeflaterPool} of the encoding.
+     * @param bytes Refers the body of the response.
+     * @return the stream of the response.
+     */
+    private OutputStream write(final OutputStream target, final ContentEncoding contentEncoding,
+                               final DeflaterPool deflaterPool, final byte[] bytes) throws IOException {
+        final CompressionOutputStream compressionOutputStream = new CompressionOutputStream(target, contentEncoding,
+                deflaterPool, THRESHOLD, () -> { });
+
+        try {
+            compressionOutputStream.write(bytes);
+            compressionOutputStream.finish();
+        } finally {
+            compressionOutputStream.release();
+        }
+
+        return target;
+    }
+}
@@ -0,0 +1,130 @@
+package com.flipkart.benchmark.controller;
+
+import com.flipkart.authentication.controller.DispatchingInvoker;
+import com.flipkart.authentication.controller.ExecutionMode;
+import com.flipkart.authentication.service.ServiceExecutor;
+
+import org.apache.cxf.continuations.ContinuationProvider;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.ExchangeImpl;
+import org.apache.cxf.message.MessageImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the time to serve a burst of I/O bound requests by the {@link DispatchingInvoker} in the platform and the
+ * virtual {@link ExecutionMode}. Each request waits on the database for the given milliseconds, and at most the given
+ * connections are held at once, as the database caps the statements by its connection. Each mode runs in its own
+ * fork, as the {@link ServiceExecutor} reads the mode once. The virtual mode falls back to the platform threads on a
+ * runtime older than Java 21.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DispatchingInvokerBenchmark {
+
+    private static final int REQUESTS = 200;
+    private static final int QUERY_MILLIS = 5;
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ExecutionMode executionMode;
+    @Param({"8", "64"})
+    private int threads;
+    @Param({"10"})
+    private int connections;
+    private BenchmarkInvoker invoker;
+    private Exchange exchange;
+    private Method method;
+    private Resource resource;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        System.setProperty("flipkart.server.execution", executionMode.name());
+        System.setProperty("flipkart.server.threads", Integer.toString(threads));
+        final MessageImpl message = new MessageImpl();
+
+        message.put(ContinuationProvider.class.getName(), new Object());
+        exchange = new ExchangeImpl();
+        exchange.setInMessage(message);
+        method = Resource.class.getMethod("query");
+        invoker = new BenchmarkInvoker();
+        resource = new Resource(connections);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ServiceExecutor.getInstance().shutdown();
+    }
+
+    @Benchmark
+    public Object burst() throws Exception {
+        final CompletableFuture<?>[] results = new CompletableFuture<?>[REQUESTS];
+
+        for (int index = 0; index < REQUESTS; index++) {
+            results[index] = (CompletableFuture<?>) invoker.invoke(exchange, resource, method);
+        }
+
+        return CompletableFuture.allOf(results).join();
+    }
+
+    /**
+     * <p>
+     * Represents a resource blocking on the database, holding one of its connections.
+     * </p>
+     */
+    public static class Resource {
+
+        private final Semaphore connections;
+
+        private Resource(final int connections) {
+            this.connections = new Semaphore(connections, true);
+        }
+
+        public byte[] query() throws InterruptedException {
+            connections.acquire();
+
+            try {
+                Thread.sleep(QUERY_MILLIS);
+            } finally {
+                connections.release();
+            }
+
+            return new byte[0];
+        }
+    }
+
+    /**
+     * <p>
+     * Exposes the invocation of the {@link DispatchingInvoker} to the benchmark.
+     * </p>
+     */
+    private static class BenchmarkInvoker extends DispatchingInvoker {
+
+        private Object invoke(final Exchange exchange, final Object resource, final Method method) throws Exception {
+            return performInvocation(exchange, resource, method, new Object[0]);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.flipkart.benchmark.json;
+
+import com.flipkart.authentication.json.JsonFactory;
+import com.flipkart.product.model.order.Order;
+import com.flipkart.product.model.product.Mobile;
+import com.flipkart.product.model.product.Product;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the JSON, CBOR and Smile providers of the {@link JsonFactory} on the pages of GET /order/{userId} and
+ * GET /inventory, and on reading the products of POST /inventory with their type ids. The payload size of each format
+ * is printed on setup.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    private static final Annotation[] ANNOTATIONS = new Annotation[0];
+    private static final Type PRODUCTS_TYPE = productsType();
+    private final OutputStream outputStream = OutputStream.nullOutputStream();
+    @Param({"application/json", "application/cbor", "application/x-jackson-smile"})
+    private String format;
+    @Param({"100"})
+    private int size;
+    private MediaType mediaType;
+    private MessageBodyWriter<Object> writer;
+    private MessageBodyReader<Object> reader;
+    private List<Order> orders;
+    private List<Product> products;
+    private byte[] productsInBytes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        final String[] types = format.split("/");
+        final List<Object> providers = JsonFactory.getProviders();
+
+        mediaType = new MediaType(types[0], types[1]);
+        orders = new ArrayList<>(size);
+        products = new ArrayList<>(size);
+
+        for (final Object provider : providers) {
+            final MessageBodyWriter<Object> messageBodyWriter = (MessageBodyWriter<Object>) provider;
+
+            if (messageBodyWriter.isWriteable(List.class, List.class, ANNOTATIONS, mediaType)) {
+                writer = messageBodyWriter;
+                reader = (MessageBodyReader<Object>) provider;
+            }
+        }
+
+        for (int index = 1; index <= size; index++) {
+            orders.add(new Order.OrderBuilder(index).setId(index).setProductId(index).setQuantity(2)
+                    .setTotalAmount(1999.5f).setPaymentModeId(1).setOrderStatusId(1).setProductName("Mobile").build());
+            products.add(new Mobile("Brand", "Model", 1999.5, 10, index));
+        }
+        final ByteArrayOutputStream ordersOutput = new ByteArrayOutputStream();
+        final ByteArrayOutputStream productsOutput = new ByteArrayOutputStream();
+        final ByteArrayOutputStream typedProductsOutput = new ByteArrayOutputStream();
+
+        writer.writeTo(orders, orders.getClass(), orders.getClass(), ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                ordersOutput);
+        writer.writeTo(products, products.getClass(), products.getClass(), ANNOTATIONS, mediaType,
+                new MultivaluedHashMap<>(), productsOutput);
+        writer.writeTo(products, List.class, PRODUCTS_TYPE, ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                typedProductsOutput);
+        productsInBytes = typedProductsOutput.toByteArray();
+        System.out.println(String.format("%n%s - %d orders in %d bytes, %d products in %d bytes (%d with type ids)",
+                format, size, ordersOutput.size(), size, productsOutput.size(), productsInBytes.length));
+    }
+
+    @Benchmark
+    public OutputStream writeOrders() throws IOException {
+        writer.writeTo(orders, orders.getClass(), orders.getClass(), ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                outputStream);
+
+        return outputStream;
+    }
+
+    @Benchmark
+    public OutputStream writeProducts() throws IOException {
+        writer.writeTo(products, products.getClass(), products.getClass(), ANNOTATIONS, mediaType,
+                new MultivaluedHashMap<>(), outputStream);
+
+        return outputStream;
+    }
+
+    @Benchmark
+    public Object readProducts() throws IOException {
+        return reader.readFrom(Object.class, PRODUCTS_TYPE, ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                new ByteArrayInputStream(productsInBytes));
+    }
+
+    /**
+     * <p>
+     * Gets the generic type of the products read by POST /inventory.
+     * </p>
+     *
+     * @return the type of the list of products.
+     */
+    private static Type productsType() {
+        try {
+            return FormatBenchmark.class.getDeclaredField("products").getGenericType();
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.flipkart.benchmark.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipkart.authentication.json.Json;
+import com.flipkart.authentication.json.JsonFactory;
+import com.flipkart.product.model.order.Order;
+import com.flipkart.product.model.product.Mobile;
+import com.flipkart.product.model.product.Product;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the writing of the pages of GET /order/{userId} and GET /inventory, as the tree converted by the object
+ * mapper of the factory and written by a new object mapper, with the {@link JsonFactory} writing the lists straight to
+ * bytes. The conversion of the lists to the tree by {@link JsonFactory#toJson}, as done for the responses built
+ * from JSON objects, is measured by the tree benchmarks. The streaming of the pages by the providers is measured by
+ * the {@link FormatBenchmark}. Run with -prof gc to compare the allocation.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFactoryBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final JsonFactory jsonFactory = JsonFactory.getInstance();
+    @Param({"10", "1000"})
+    private int size;
+    private List<Order> orders;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        orders = new ArrayList<>(size);
+        products = new ArrayList<>(size);
+
+        for (int index = 1; index <= size; index++) {
+            orders.add(new Order.OrderBuilder(index).setId(index).setProductId(index).setQuantity(2)
+                    .setTotalAmount(1999.5f).setPaymentModeId(1).setOrderStatusId(1).setProductName("Mobile").build());
+            products.add(new Mobile("Brand", "Model", 1999.5, 10, index));
+        }
+    }
+
+    @Benchmark
+    public byte[] legacyOrders() throws IOException {
+        return new ObjectMapper().writeValueAsBytes(objectMapper.valueToTree(orders));
+    }
+
+    @Benchmark
+    public byte[] currentOrders() {
+        return jsonFactory.toBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] legacyProducts() throws IOException {
+        return new ObjectMapper().writeValueAsBytes(objectMapper.valueToTree(products));
+    }
+
+    @Benchmark
+    public byte[] currentProducts() {
+        return jsonFactory.toBytes(products);
+    }
+
+    @Benchmark
+    public Json treeOrders() {
+        return jsonFactory.toJson(orders);
+    }
+
+    @Benchmark
+    public Json treeProducts() {
+        return jsonFactory.toJson(products);
+    }
+
+}
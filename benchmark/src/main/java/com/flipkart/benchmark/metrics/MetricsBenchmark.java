@@ -0,0 +1,87 @@
+package com.flipkart.benchmark.metrics;
+
+import com.flipkart.authentication.metrics.LatencyHistogram;
+import com.flipkart.authentication.metrics.MethodMetrics;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.metrics.MetricType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the recording of a call by the {@link MethodMetrics}, alone and from several threads on the same method,
+ * and the reading of a percentile. Run with -prof gc to check that the recording doesn't allocate. The error of the
+ * percentiles against the exact values is printed on setup.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private MethodMetrics methodMetrics;
+    private LatencyHistogram latencyHistogram;
+
+    @Setup
+    public void setUp() {
+        final long[] latencies = new long[100_000];
+
+        methodMetrics = MetricRegistry.getInstance().getMethodMetrics(MetricType.DAO, "Benchmark.record", "v1");
+        latencyHistogram = new LatencyHistogram();
+
+        for (int index = 0; index < latencies.length; index++) {
+            latencies[index] = (long) (TimeUnit.MILLISECONDS.toNanos(1) * -Math.log(1 - ThreadLocalRandom.current()
+                    .nextDouble()));
+            latencyHistogram.record(latencies[index]);
+        }
+        Arrays.sort(latencies);
+
+        for (final double percentile : new double[] {50, 90, 99, 99.9}) {
+            final long exact = latencies[(int) Math.ceil(percentile / 100 * latencies.length) - 1];
+            final long recorded = latencyHistogram.getValueAtPercentile(percentile);
+
+            System.out.println(String.format("%np%s exact %d ns, recorded %d ns, error %.2f%%", percentile, exact,
+                    recorded, 100.0 * (recorded - exact) / exact));
+        }
+    }
+
+    @Benchmark
+    public MethodMetrics record() {
+        methodMetrics.record(System.nanoTime() - 1_000);
+
+        return methodMetrics;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public MethodMetrics recordContended() {
+        methodMetrics.record(System.nanoTime() - 1_000);
+
+        return methodMetrics;
+    }
+
+    @Benchmark
+    public long percentile() {
+        return latencyHistogram.getValueAtPercentile(99);
+    }
+}
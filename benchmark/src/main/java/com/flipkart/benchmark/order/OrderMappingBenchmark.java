@@ -0,0 +1,85 @@
+package com.flipkart.benchmark.order;
+
+import com.flipkart.product.dao.order.v1.OrderRowMapper;
+import com.flipkart.product.model.OrderStatus;
+import com.flipkart.product.model.PaymentMode;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.order.Order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the mapping of the rows of GET /order/{userId} to the orders by the {@link OrderRowMapper} of the v1
+ * OrderDAO, on pages of mobiles, laptops and clothes laid out as its query returns them. The rows are served by the
+ * {@link RowsResultSet}, whose own cost of reading every column is measured apart by readRows. Run with -prof gc to compare the allocation.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    private static final int COLUMNS = 20;
+    private static final int USER_ID = 1;
+    private final OrderRowMapper orderRowMapper = OrderRowMapper.getInstance();
+    @Param({"5", "100"})
+    private int size;
+    private RowsResultSet rowsResultSet;
+
+    @Setup
+    public void setUp() {
+        final Object[][] rows = new Object[size][];
+
+        for (int index = 0; index < size; index++) {
+            final ProductCategory productCategory = ProductCategory.values()[index % ProductCategory.values().length];
+            final boolean electronics = ProductCategory.CLOTHES != productCategory;
+
+            rows[index] = new Object[] {index + 1, 1000 + index, PaymentMode.UPI.getId(), 2, 39998.0F,
+                    OrderStatus.PLACED.getId(), productCategory.getId(),
+                    electronics ? "Samsung" : null, electronics ? String.format("Galaxy S%d", index) : null, 19999.0F,
+                    electronics ? null : "T-Shirt", electronics ? null : "M", electronics ? null : "Male",
+                    electronics ? null : "Allen Solly", "12/4", "Anna Salai", "Chennai", "Tamil Nadu", "India",
+                    600002};
+        }
+        rowsResultSet = new RowsResultSet(rows);
+    }
+
+    @Benchmark
+    public List<Order> mapOrders() throws SQLException {
+        return orderRowMapper.getOrders(rowsResultSet.rewind(), USER_ID);
+    }
+
+    @Benchmark
+    public void readRows(final Blackhole blackhole) throws SQLException {
+        final ResultSet resultSet = rowsResultSet.rewind();
+
+        while (resultSet.next()) {
+            for (int column = 1; column <= COLUMNS; column++) {
+                blackhole.consume(resultSet.getObject(column));
+            }
+        }
+    }
+}
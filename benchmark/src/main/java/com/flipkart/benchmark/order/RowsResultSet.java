@@ -0,0 +1,76 @@
+package com.flipkart.benchmark.order;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Serves fixed rows through a {@link ResultSet} proxy, so the mapping of the rows is measured without the database.
+ * Supports moving to the next row and reading the columns by index as the DAOs do, and is rewound for each
+ * measured call.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RowsResultSet implements InvocationHandler {
+
+    private final Object[][] rows;
+    private final ResultSet resultSet;
+    private int row;
+    private boolean wasNull;
+
+    public RowsResultSet(final Object[][] rows) {
+        this.rows = rows;
+        resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, this);
+        row = -1;
+    }
+
+    /**
+     * <p>
+     * Moves the cursor back before the first row.
+     * </p>
+     *
+     * @return the {@link ResultSet} of the rows.
+     */
+    public ResultSet rewind() {
+        row = -1;
+
+        return resultSet;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] arguments) {
+        return switch (method.getName()) {
+            case "next" -> ++row < rows.length;
+            case "getInt" -> getColumn(arguments, 0);
+            case "getFloat" -> getColumn(arguments, 0F);
+            case "getString", "getObject" -> getColumn(arguments, null);
+            case "wasNull" -> wasNull;
+            case "close" -> null;
+            case "isClosed" -> false;
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    /**
+     * <p>
+     * Gets the column of the current row by its index from 1, or the default value of its type when it is null.
+     * </p>
+     *
+     * @param arguments Refers the arguments holding the index of the column.
+     * @param defaultValue Refers the value of a null column.
+     * @return the value of the column.
+     */
+    private Object getColumn(final Object[] arguments, final Object defaultValue) {
+        final Object value = rows[row][(Integer) arguments[0] - 1];
+
+        wasNull = Objects.isNull(value);
+
+        return wasNull ? defaultValue : value;
+    }
+}
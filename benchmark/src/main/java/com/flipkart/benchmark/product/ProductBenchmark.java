@@ -0,0 +1,94 @@
+package com.flipkart.benchmark.product;
+
+import com.flipkart.product.model.product.Clothes;
+import com.flipkart.product.model.product.Laptop;
+import com.flipkart.product.model.product.Mobile;
+import com.flipkart.product.model.product.Product;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the hash code and the equality of the products, which hash their fields on each call, and the lookup of a
+ * new product in the set of the whole inventory as done by the v1 InventoryDAO for each product added. Run with
+ * -prof gc to check the allocation of the hashing.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductBenchmark {
+
+    @Param({"1000"})
+    private int size;
+    private Product mobile;
+    private Product sameMobile;
+    private Product clothes;
+    private Product sameClothes;
+    private Product newProduct;
+    private Set<Product> inventory;
+
+    @Setup
+    public void setUp() {
+        mobile = new Mobile("Samsung", "Galaxy S24", 79999.0, 10, 1);
+        sameMobile = new Mobile("Samsung", "Galaxy S24", 79999.0, 10, 2);
+        clothes = new Clothes("T-Shirt", "Allen Solly", "Male", "M", 999.0, 10, 3);
+        sameClothes = new Clothes("T-Shirt", "Allen Solly", "Male", "M", 999.0, 10, 4);
+        newProduct = new Laptop("Dell", "XPS 13", 129999.0, 10, size + 1);
+        inventory = new HashSet<>();
+
+        for (int index = 0; index < size; index++) {
+            inventory.add(switch (index % 3) {
+                case 0 -> new Mobile("Samsung", String.format("Galaxy M%d", index), 19999.0, 10, index);
+                case 1 -> new Laptop("Lenovo", String.format("ThinkPad T%d", index), 89999.0, 10, index);
+                default -> new Clothes("Shirt", String.format("Brand %d", index), "Female", "S", 1499.0, 10,
+                        index);
+            });
+        }
+    }
+
+    @Benchmark
+    public int mobileHashCode() {
+        return mobile.hashCode();
+    }
+
+    @Benchmark
+    public int clothesHashCode() {
+        return clothes.hashCode();
+    }
+
+    @Benchmark
+    public boolean mobileEquals() {
+        return mobile.equals(sameMobile);
+    }
+
+    @Benchmark
+    public boolean clothesEquals() {
+        return clothes.equals(sameClothes);
+    }
+
+    @Benchmark
+    public boolean inventoryContains() {
+        return inventory.contains(newProduct);
+    }
+}
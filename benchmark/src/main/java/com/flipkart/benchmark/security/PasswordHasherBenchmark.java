@@ -0,0 +1,72 @@
+package com.flipkart.benchmark.security;
+
+import com.flipkart.authentication.security.PasswordHasher;
+import com.flipkart.authentication.security.PasswordHasherImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures the cost of hashing and verifying a password with the {@link PasswordHasher} for the given iterations,
+ * against the legacy plain comparison of the stored password. Each value of the iterations runs in its own fork since
+ * the hasher reads its cost once.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    @Param({"210000", "600000"})
+    private int iterations;
+    private final String password = "Password@123";
+    private PasswordHasher passwordHasher;
+    private String storedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("flipkart.password.hash.iterations", String.valueOf(iterations));
+        passwordHasher = PasswordHasherImpl.getInstance();
+        storedPassword = passwordHasher.hash(password).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public String hash() {
+        return passwordHasher.hash(password).join();
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return passwordHasher.verify(password, storedPassword).join();
+    }
+
+    @Benchmark
+    public boolean legacyVerify() {
+        return passwordHasher.verify(password, password).join();
+    }
+}
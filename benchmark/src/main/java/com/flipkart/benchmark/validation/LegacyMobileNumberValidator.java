@@ -0,0 +1,51 @@
+package com.flipkart.benchmark.validation;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Copy of the validation done by the MobileNumberValidator before its patterns were compiled once, kept as the
+ * baseline of the benchmarks. Compiles both the patterns on each call.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class LegacyMobileNumberValidator {
+
+    /**
+     * <p>
+     * Validates the mobile number by the given regular expression pattern.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number to be validated.
+     * @return true if the entered mobile number is valid, otherwise false.
+     */
+    public boolean isValid(final String mobileNumber) {
+        if (Objects.isNull(mobileNumber)) {
+            return true;
+        }
+
+        return Pattern.matches("^[1-9]\\d*$", mobileNumber) && isValidCountryMobileNumber(mobileNumber);
+    }
+
+    /**
+     * <p>
+     * Validates the mobile number of the provided country by the given regular expression pattern.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number to be validated.
+     * @return true if the entered mobile number is valid, otherwise false.
+     */
+    private boolean isValidCountryMobileNumber(final String mobileNumber) {
+        final String forAmerica = "^1[2-9]\\d{2}[2-9]\\d{2}\\d{4}$";
+        final String forAustralia = "^61(4|04)\\d{8}$";
+        final String forGermany = "^491[5-79]\\d{9}$";
+        final String forChina = "^861[3-9][0-9]{9}$";
+        final String forIndia = "^91[6789]\\d{9}$";
+        final String forAllCountries = String.join("|", forAmerica, forAustralia, forGermany, forChina, forIndia);
+
+        return Pattern.matches(forAllCountries, mobileNumber);
+    }
+}
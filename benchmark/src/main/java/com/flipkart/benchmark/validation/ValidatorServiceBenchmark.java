@@ -0,0 +1,118 @@
+package com.flipkart.benchmark.validation;
+
+import com.flipkart.authentication.json.Json;
+import com.flipkart.authentication.json.JsonFactory;
+import com.flipkart.authentication.json.JsonObject;
+import com.flipkart.authentication.model.Address;
+import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.validation.MobileNumberValidator;
+import com.flipkart.authentication.validation.ValidatorService;
+import com.flipkart.authentication.validation.ValidatorServiceImpl;
+import com.flipkart.authentication.validation.groups.OrderChecker;
+import com.flipkart.authentication.validation.groups.UserCreationChecker;
+import com.flipkart.product.model.order.Order;
+import com.flipkart.product.model.product.Mobile;
+import com.flipkart.product.model.product.Product;
+import com.flipkart.product.validation.group.ElectronicProductChecker;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Compares the validation of a valid user by a validator of the controller, which collects the violations into a new
+ * JSON object, with the shared {@link ValidatorService}. Also compares the mobile number validation of the
+ * {@link LegacyMobileNumberValidator} with the {@link MobileNumberValidator} which compiles its patterns once. The
+ * validation of the orders placed, cascading to their address, and of the products added to the inventory is measured
+ * by the shared {@link ValidatorService} alone.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorServiceBenchmark {
+
+    private final JsonFactory jsonFactory = JsonFactory.getInstance();
+    private final Validator validator = Validation.byProvider(HibernateValidator.class).configure()
+            .messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
+    private final ValidatorService validatorService = ValidatorServiceImpl.getInstance();
+    private final LegacyMobileNumberValidator legacyMobileNumberValidator = new LegacyMobileNumberValidator();
+    private final MobileNumberValidator mobileNumberValidator = new MobileNumberValidator();
+    private final String mobileNumber = "919876543210";
+    private User user;
+    private Order order;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setName("Maharaja");
+        user.setEmailId("maharaja@flipkart.com");
+        user.setMobileNumber(mobileNumber);
+        user.setPassword("Password@123");
+        final Address address = new Address(1, "12/4", "Anna Salai", "Chennai", "Tamil Nadu", 600002, "India");
+
+        address.setId(1);
+        order = new Order.OrderBuilder(1).setAddress(address).setProductId(1).setQuantity(2).setTotalAmount(1999.5f)
+                .setPaymentModeId(1).setOrderStatusId(1).setProductName("Mobile").build();
+        product = new Mobile("Samsung", "Galaxy S24", 79999.0, 10, 1);
+    }
+
+    @Benchmark
+    public Json legacy() {
+        final JsonObject violationsInJson = jsonFactory.createJsonObject();
+
+        validator.validate(user, UserCreationChecker.class).forEach(violation -> violationsInJson
+                .put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+        return violationsInJson;
+    }
+
+    @Benchmark
+    public Optional<JsonObject> current() {
+        return validatorService.validate(user, UserCreationChecker.class);
+    }
+
+    @Benchmark
+    public boolean legacyMobileNumber() {
+        return legacyMobileNumberValidator.isValid(mobileNumber);
+    }
+
+    @Benchmark
+    public boolean currentMobileNumber() {
+        return mobileNumberValidator.isValid(mobileNumber, null);
+    }
+
+    @Benchmark
+    public Optional<JsonObject> currentOrder() {
+        return validatorService.validate(order, OrderChecker.class);
+    }
+
+    @Benchmark
+    public Optional<JsonObject> currentProduct() {
+        return validatorService.validate(product, ElectronicProductChecker.class);
+    }
+}
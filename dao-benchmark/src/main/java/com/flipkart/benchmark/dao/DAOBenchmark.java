@@ -0,0 +1,54 @@
+package com.flipkart.benchmark.dao;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Measures each method of a DAO in both versions against the {@link DatabaseState}, as the throughput and as the
+ * sampled latency with its percentiles. Run with -prof gc for the allocation rate per operation. Each call is counted
+ * as a request by the {@link RequestState}, and the sampled EXPLAIN plans are turned off so they don't compete with
+ * the measured statements. The data volumes are set with -p users=, -p products= and -p itemsPerUser=.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dflipkart.database.repeat.fail=true", "-Dflipkart.database.explain.rate=0"})
+public abstract class DAOBenchmark {
+
+    @Param({"v1", "v2"})
+    public String version;
+
+    /**
+     * <p>
+     * Gets the DAO of the benchmarked version.
+     * </p>
+     *
+     * @param v1 Refers the DAO of the version v1.
+     * @param v2 Refers the DAO of the version v2.
+     * @return the DAO.
+     */
+    protected <T> T select(final Supplier<T> v1, final Supplier<T> v2) {
+        return switch (version) {
+            case "v1" -> v1.get();
+            case "v2" -> v2.get();
+            default -> throw new IllegalArgumentException(String.format("Unknown version %s", version));
+        };
+    }
+}
@@ -0,0 +1,255 @@
+package com.flipkart.benchmark.dao;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ * Starts an embedded PostgreSQL for the trial, creates the tables of the DAOs and seeds them with the given volumes:
+ * the users, each with an address, the products spread over the categories, and the cart, wishlist and orders of
+ * every user. The v1 DAOs are pointed at it by the db.properties of {@code flipkart.database.config.path} and the v2
+ * DAOs by the hibernate.* system properties, which take precedence over the hibernate.properties of the bundles. Both
+ * have to be set before the first DAO is created, so the states of the benchmarks set this one up first.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+public class DatabaseState {
+
+    private static final String USER = "postgres";
+    private static final String DATABASE = "postgres";
+
+    @Param({"10000"})
+    public int users;
+    @Param({"10000"})
+    public int products;
+    @Param({"10"})
+    public int itemsPerUser;
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+    private Path configPath;
+
+    /**
+     * <p>
+     * Starts the database, seeds it and configures the DAOs with it.
+     * </p>
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        connection = postgres.getPostgresDatabase().getConnection();
+        final String url = postgres.getJdbcUrl(USER, DATABASE);
+
+        createSchema();
+        seed();
+        configPath = Files.createTempDirectory("flipkart-db");
+        final Properties properties = new Properties();
+
+        properties.setProperty("url", url);
+        properties.setProperty("username", USER);
+        properties.setProperty("password", "");
+
+        try (final FileWriter fileWriter = new FileWriter(configPath.resolve("db.properties").toFile(),
+                StandardCharsets.UTF_8)) {
+            properties.store(fileWriter, "Embedded database of the benchmarks");
+        }
+        System.setProperty("flipkart.database.config.path", configPath.toString());
+        System.setProperty("hibernate.connection.url", url);
+        System.setProperty("hibernate.connection.username", USER);
+        System.setProperty("hibernate.connection.password", "");
+        System.setProperty("hibernate.connection.autocommit", Boolean.TRUE.toString());
+        System.setProperty("hibernate.hbm2ddl.auto", "none");
+        System.setProperty("hibernate.show_sql", Boolean.FALSE.toString());
+    }
+
+    /**
+     * <p>
+     * Stops the database and removes its configuration.
+     * </p>
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        postgres.close();
+        Files.deleteIfExists(configPath.resolve("db.properties"));
+        Files.deleteIfExists(configPath);
+    }
+
+    /**
+     * <p>
+     * Creates the tables from the schema.sql.
+     * </p>
+     */
+    private void createSchema() throws IOException, SQLException {
+        try (final InputStream inputStream = DatabaseState.class.getResourceAsStream("/schema.sql");
+             final Statement statement = connection.createStatement()) {
+            statement.execute(new String(Objects.requireNonNull(inputStream).readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * <p>
+     * Seeds the tables with the given volumes. The ids of the seeded rows start at 1 and are contiguous, so the
+     * benchmarks pick them at random and {@link #restore} removes the rows added after.
+     * </p>
+     */
+    private void seed() throws SQLException {
+        update(String.join(" ", "insert into users(name, mobile_number, email, password)",
+                "select 'user' || i, '+91' || (9000000000 + i), 'user' || i || '@flipkart.com', left(md5(i::text), 20)",
+                "from generate_series(1, ?) i"), users);
+        update(String.join(" ", "insert into user_identifiers(identifier, user_id)",
+                "select lower(trim(email)), id from users union all",
+                "select '+' || ltrim(regexp_replace(mobile_number, '[^0-9]', '', 'g'), '0'), id from users"));
+        update(String.join(" ", "insert into address(user_id, door_number, street, city, state, country, pin_code)",
+                "select i, i::text, 'street' || i, 'Chennai', 'Tamil Nadu', 'India', 600000 + i % 100",
+                "from generate_series(1, ?) i"), users);
+        update(String.join(" ", "insert into product(product_category_id, price, quantity)",
+                "select 1 + i % 3, 100 + i % 1000, 1000000000 from generate_series(1, ?) i"), products);
+        update(String.join(" ", "insert into electronics_inventory(product_id, brand, model)",
+                "select id, 'brand' || id % 50, 'model' || id from product where product_category_id in (1, 2)"));
+        update(String.join(" ", "insert into clothes_inventory(product_id, brand, clothes_type, gender, size)",
+                "select id, 'brand' || id % 50, 'shirt', 'male', 'M' from product where product_category_id = 3"));
+
+        for (final String table : new String[] {"cart", "wishlist"}) {
+            update(String.format(String.join(" ", "insert into %s(user_id, product_id)",
+                    "select u, 1 + (u * ? + k) %% ? from generate_series(1, ?) u, generate_series(1, ?) k",
+                    "order by u, k"), table), itemsPerUser, products, users, itemsPerUser);
+        }
+        update(String.join(" ", "insert into orders(user_id, product_id, address_id, payment_mode_id, quantity,",
+                "total_amount, order_status_id) select u, 1 + (u * ? + k) % ?, u, 1, 1, 100, 1",
+                "from generate_series(1, ?) u, generate_series(1, ?) k order by u, k"),
+                itemsPerUser, products, users, itemsPerUser);
+
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("vacuum analyze");
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the rows added to the table by the benchmark, after its seeded rows.
+     * </p>
+     *
+     * @param table Refers the name of the table.
+     * @param seededRows Refers the count of the seeded rows.
+     */
+    public void restore(final String table, final int seededRows) throws SQLException {
+        update(String.format("delete from %s where id > ?", table), seededRows);
+    }
+
+    /**
+     * <p>
+     * Inserts a row outside the measured DAO, as the input of a benchmark which removes it.
+     * </p>
+     *
+     * @param sql Refers the insert returning the id.
+     * @param values Refers the values of the insert.
+     * @return the id of the row.
+     */
+    public int insert(final String sql, final int... values) throws SQLException {
+        try (final PreparedStatement preparedStatement = prepare(sql, values);
+             final ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+
+            return resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * <p>
+     * Picks a seeded user at random.
+     * </p>
+     *
+     * @return the id of the user.
+     */
+    public int randomUserId() {
+        return ThreadLocalRandom.current().nextInt(users) + 1;
+    }
+
+    /**
+     * <p>
+     * Picks a seeded product at random.
+     * </p>
+     *
+     * @return the id of the product.
+     */
+    public int randomProductId() {
+        return ThreadLocalRandom.current().nextInt(products) + 1;
+    }
+
+    /**
+     * <p>
+     * Picks one of the items seeded in the cart, wishlist and orders of each user at random.
+     * </p>
+     *
+     * @return the item, from 1.
+     */
+    public int randomItem() {
+        return ThreadLocalRandom.current().nextInt(itemsPerUser) + 1;
+    }
+
+    /**
+     * <p>
+     * Gets the id of the cart, wishlist or order row seeded as the given item of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param item Refers the item of the user, from 1.
+     * @return the id of the row.
+     */
+    public int getItemId(final int userId, final int item) {
+        return (userId - 1) * itemsPerUser + item;
+    }
+
+    /**
+     * <p>
+     * Gets the product seeded as the given item of the user, in the cart, wishlist and orders.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param item Refers the item of the user, from 1.
+     * @return the id of the product.
+     */
+    public int getItemProductId(final int userId, final int item) {
+        return 1 + (userId * itemsPerUser + item) % products;
+    }
+
+    private void update(final String sql, final int... values) throws SQLException {
+        try (final PreparedStatement preparedStatement = prepare(sql, values)) {
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    private PreparedStatement prepare(final String sql, final int... values) throws SQLException {
+        final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+
+        for (int index = 0; index < values.length; index++) {
+            preparedStatement.setInt(index + 1, values[index]);
+        }
+
+        return preparedStatement;
+    }
+}
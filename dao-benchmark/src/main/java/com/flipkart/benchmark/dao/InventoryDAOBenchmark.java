@@ -0,0 +1,93 @@
+package com.flipkart.benchmark.dao;
+
+import com.flipkart.product.dao.inventory.InventoryDAO;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.product.Mobile;
+import com.flipkart.product.model.product.Product;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ * Measures the methods of the {@link InventoryDAO}. The products added are new mobiles, removed after each iteration,
+ * and each product removed is added just before, outside of the measured time. The products are listed from the first
+ * page of a category picked at random.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class InventoryDAOBenchmark extends DAOBenchmark {
+
+    private static final ProductCategory[] PRODUCT_CATEGORIES = ProductCategory.values();
+    private DatabaseState database;
+    private InventoryDAO inventoryDAO;
+    private long addedItems;
+
+    /**
+     * <p>
+     * Adds a mobile to the inventory, to be removed by the benchmark.
+     * </p>
+     */
+    @State(Scope.Thread)
+    public static class AddedItem {
+
+        private int productId;
+
+        @Setup(Level.Invocation)
+        public void add(final DatabaseState database) throws SQLException {
+            productId = database.insert(String.join(" ", "with added as (insert into product(product_category_id,",
+                    "price, quantity) values (?, 100, 10) returning id) insert into electronics_inventory(product_id,",
+                    "brand, model) select id, 'benchmark', 'benchmark' || id from added returning product_id"),
+                    ProductCategory.MOBILE.getId());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(final DatabaseState database) {
+        this.database = database;
+        inventoryDAO = select(com.flipkart.product.dao.inventory.v1.InventoryDAOImpl::getInstance,
+                com.flipkart.product.dao.inventory.v2.InventoryDAOImpl::getInstance);
+    }
+
+    @TearDown(Level.Iteration)
+    public void restore() throws SQLException {
+        database.restore("product", database.products);
+    }
+
+    @Benchmark
+    public void addItem(final RequestState request) {
+        addedItems++;
+        inventoryDAO.addItem(List.of(new Mobile("benchmark", String.format("model%d", addedItems), 100, 10, 0)));
+    }
+
+    @Benchmark
+    public boolean removeItem(final AddedItem item, final RequestState request) {
+        return inventoryDAO.removeItem(item.productId);
+    }
+
+    @Benchmark
+    public List<? extends Product> getProductByCategory(final RequestState request) {
+        return inventoryDAO.getProductByCategory(
+                PRODUCT_CATEGORIES[ThreadLocalRandom.current().nextInt(PRODUCT_CATEGORIES.length)], 1);
+    }
+
+    @Benchmark
+    public boolean isProductExist(final RequestState request) {
+        return inventoryDAO.isProductExist(database.randomProductId());
+    }
+
+    @Benchmark
+    public int getQuantity(final RequestState request) {
+        return inventoryDAO.getQuantity(database.randomProductId());
+    }
+}
@@ -0,0 +1,88 @@
+package com.flipkart.benchmark.dao;
+
+import com.flipkart.authentication.model.Address;
+import com.flipkart.product.dao.order.OrderDAO;
+import com.flipkart.product.model.OrderStatus;
+import com.flipkart.product.model.PaymentMode;
+import com.flipkart.product.model.order.Order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * <p>
+ * Measures the methods of the {@link OrderDAO}. The orders are placed with the seeded address of the user, and the
+ * orders and addresses added are removed after each iteration. The orders cancelled are the seeded ones, so the
+ * later cancels of the same order find it cancelled already.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class OrderDAOBenchmark extends DAOBenchmark {
+
+    private DatabaseState database;
+    private OrderDAO orderDAO;
+
+    @Setup(Level.Trial)
+    public void setUp(final DatabaseState database) {
+        this.database = database;
+        orderDAO = select(com.flipkart.product.dao.order.v1.OrderDAOImpl::getInstance,
+                com.flipkart.product.dao.order.v2.OrderDAOImpl::getInstance);
+    }
+
+    @TearDown(Level.Iteration)
+    public void restore() throws SQLException {
+        database.restore("orders", database.users * database.itemsPerUser);
+        database.restore("address", database.users);
+    }
+
+    @Benchmark
+    public boolean addOrder(final RequestState request) {
+        final int userId = database.randomUserId();
+        final Address address = createAddress(userId);
+
+        address.setId(userId);
+
+        return orderDAO.addOrder(userId, new Order.OrderBuilder(userId).setAddress(address)
+                .setProductId(database.randomProductId()).setQuantity(1).setTotalAmount(100)
+                .setPaymentModeId(PaymentMode.UPI.getId()).setOrderStatusId(OrderStatus.PLACED.getId())
+                .setProductName("benchmark").build());
+    }
+
+    @Benchmark
+    public List<Order> getOrders(final RequestState request) {
+        return orderDAO.getOrders(database.randomUserId(), 1);
+    }
+
+    @Benchmark
+    public boolean cancelOrder(final RequestState request) {
+        final int userId = database.randomUserId();
+        final int item = database.randomItem();
+
+        return orderDAO.cancelOrder(new Order.OrderBuilder(userId).setId(database.getItemId(userId, item))
+                .setProductId(database.getItemProductId(userId, item)).setQuantity(1).build());
+    }
+
+    @Benchmark
+    public void addAddress(final RequestState request) {
+        final int userId = database.randomUserId();
+
+        orderDAO.addAddress(userId, createAddress(userId));
+    }
+
+    @Benchmark
+    public List<Address> getAddresses(final RequestState request) {
+        return orderDAO.getAddresses(database.randomUserId());
+    }
+
+    private Address createAddress(final int userId) {
+        return new Address(userId, String.valueOf(userId), String.format("street%d", userId), "Chennai", "Tamil Nadu",
+                600_000 + userId % 100, "India");
+    }
+}
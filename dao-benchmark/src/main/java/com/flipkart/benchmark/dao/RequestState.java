@@ -0,0 +1,47 @@
+package com.flipkart.benchmark.dao;
+
+import com.flipkart.database.statement.RepeatedStatementDetector;
+import com.flipkart.database.statement.StatementCounts;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * <p>
+ * Counts the statements of each call of a DAO method as a request, outside of its measured time, so a method which
+ * repeats a statement over {@code flipkart.database.repeat.threshold} times fails its benchmark with the
+ * {@link RepeatedStatementDetector} of the bundles.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Thread)
+public class RequestState {
+
+    private RepeatedStatementDetector repeatedStatementDetector;
+    private String name;
+    private StatementCounts statementCounts;
+
+    @Setup(Level.Trial)
+    public void setUp(final BenchmarkParams benchmarkParams) {
+        repeatedStatementDetector = RepeatedStatementDetector.getInstance();
+        name = benchmarkParams.getBenchmark();
+    }
+
+    @Setup(Level.Invocation)
+    public void begin() {
+        statementCounts = repeatedStatementDetector.begin(name);
+        repeatedStatementDetector.bind(statementCounts);
+    }
+
+    @TearDown(Level.Invocation)
+    public void end() {
+        repeatedStatementDetector.bind(null);
+        repeatedStatementDetector.end(statementCounts);
+    }
+}
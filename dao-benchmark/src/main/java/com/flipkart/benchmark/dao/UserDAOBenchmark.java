@@ -0,0 +1,121 @@
+package com.flipkart.benchmark.dao;
+
+import com.flipkart.authentication.dao.UserDAO;
+import com.flipkart.authentication.model.User;
+import com.flipkart.authentication.model.UserIdentifier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Measures the methods of the {@link UserDAO}. The users are looked up by their seeded email ids and mobile numbers,
+ * and the ones created are removed after each iteration.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserDAOBenchmark extends DAOBenchmark {
+
+    private DatabaseState database;
+    private UserDAO userDAO;
+    private long createdUsers;
+
+    @Setup(Level.Trial)
+    public void setUp(final DatabaseState database) {
+        this.database = database;
+        userDAO = select(com.flipkart.authentication.dao.v1.UserDAOImpl::getInstance,
+                com.flipkart.authentication.dao.v2.UserDAOImpl::getInstance);
+    }
+
+    @TearDown(Level.Iteration)
+    public void restore() throws SQLException {
+        database.restore("users", database.users);
+    }
+
+    @Benchmark
+    public boolean createUser(final RequestState request) {
+        final User user = new User();
+
+        createdUsers++;
+        user.setName("benchmark");
+        user.setEmailId(String.format("benchmark%d@flipkart.com", createdUsers));
+        user.setMobileNumber(String.format("+91%d", 8_000_000_000L + createdUsers));
+        user.setPassword("benchmark");
+
+        return userDAO.createUser(user);
+    }
+
+    @Benchmark
+    public Optional<User> getUserByEmailId(final RequestState request) {
+        return userDAO.getUser(UserIdentifier.normalizeEmailId(getEmailId(database.randomUserId())));
+    }
+
+    @Benchmark
+    public Optional<User> getUserByMobileNumber(final RequestState request) {
+        return userDAO.getUser(UserIdentifier.normalizeMobileNumber(getMobileNumber(database.randomUserId())));
+    }
+
+    @Benchmark
+    public void updateUser(final RequestState request) {
+        final int userId = database.randomUserId();
+        final User user = new User();
+
+        user.setId(userId);
+        user.setName(String.format("user%d", userId));
+        user.setEmailId(getEmailId(userId));
+        user.setMobileNumber(getMobileNumber(userId));
+        user.setPassword("benchmark");
+        userDAO.updateUser(user);
+    }
+
+    @Benchmark
+    public Optional<User> getUserById(final RequestState request) {
+        return userDAO.getUserById(database.randomUserId());
+    }
+
+    @Benchmark
+    public boolean isUserExist(final RequestState request) {
+        final int userId = database.randomUserId();
+
+        return userDAO.isUserExist(getEmailId(userId), getMobileNumber(userId));
+    }
+
+    @Benchmark
+    public boolean isUserExistById(final RequestState request) {
+        return userDAO.isUserExist(database.randomUserId());
+    }
+
+    @Benchmark
+    public int[] getUserIds(final RequestState request) {
+        return userDAO.getUserIds();
+    }
+
+    @Benchmark
+    public void loadUserIdentifiers(final RequestState request, final Blackhole blackhole) {
+        userDAO.loadUserIdentifiers((emailId, mobileNumber) -> {
+            blackhole.consume(emailId);
+            blackhole.consume(mobileNumber);
+        });
+    }
+
+    @Benchmark
+    public void indexUserIdentifiers(final RequestState request) {
+        userDAO.indexUserIdentifiers();
+    }
+
+    private String getEmailId(final int userId) {
+        return String.format("user%d@flipkart.com", userId);
+    }
+
+    private String getMobileNumber(final int userId) {
+        return String.format("+91%d", 9_000_000_000L + userId);
+    }
+}
@@ -0,0 +1,84 @@
+package com.flipkart.benchmark.dao;
+
+import com.flipkart.product.dao.wishlist.WishlistDAO;
+import com.flipkart.product.model.wishlist.Wishlist;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Measures the methods of the {@link WishlistDAO}. The products added are the ones next to the seeded items of the
+ * user, removed after each iteration, and each product removed is added just before, outside of the measured time.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class WishlistDAOBenchmark extends DAOBenchmark {
+
+    private DatabaseState database;
+    private WishlistDAO wishlistDAO;
+
+    /**
+     * <p>
+     * Adds a product to the wishlist of a user, to be removed by the benchmark.
+     * </p>
+     */
+    @State(Scope.Thread)
+    public static class AddedItem {
+
+        private int userId;
+        private int productId;
+
+        @Setup(Level.Invocation)
+        public void add(final DatabaseState database) throws SQLException {
+            userId = database.randomUserId();
+            productId = database.getItemProductId(userId, database.itemsPerUser + 1);
+            database.insert("insert into wishlist(user_id, product_id) values (?, ?) returning id", userId, productId);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(final DatabaseState database) {
+        this.database = database;
+        wishlistDAO = select(com.flipkart.product.dao.wishlist.v1.WishlistDAOImpl::getInstance,
+                com.flipkart.product.dao.wishlist.v2.WishlistDAOImpl::getInstance);
+    }
+
+    @TearDown(Level.Iteration)
+    public void restore() throws SQLException {
+        database.restore("wishlist", database.users * database.itemsPerUser);
+    }
+
+    @Benchmark
+    public boolean addProduct(final RequestState request) {
+        final int userId = database.randomUserId();
+
+        return wishlistDAO.addProduct(database.getItemProductId(userId, database.itemsPerUser + 1), userId);
+    }
+
+    @Benchmark
+    public boolean removeProduct(final AddedItem item, final RequestState request) {
+        return wishlistDAO.removeProduct(item.productId, item.userId);
+    }
+
+    @Benchmark
+    public Optional<Wishlist> getWishlist(final RequestState request) {
+        return wishlistDAO.getWishlist(database.randomUserId(), 1);
+    }
+
+    @Benchmark
+    public boolean isProductExist(final RequestState request) {
+        final int userId = database.randomUserId();
+
+        return wishlistDAO.isProductExist(userId, database.getItemProductId(userId, database.randomItem()));
+    }
+}
@@ -0,0 +1,82 @@
+-- Schema of the tables used by the v1 and v2 DAOs.
+
+create table users (
+    id serial primary key,
+    name varchar(30),
+    mobile_number varchar(15) unique,
+    email varchar(60) unique,
+    -- as on the live databases, widened to hold the password hashes by UserDAO.indexUserIdentifiers
+    password varchar(20)
+);
+
+create table user_identifiers (
+    identifier varchar(64) primary key,
+    user_id int not null references users(id) on delete cascade
+);
+
+create index user_identifiers_user_id on user_identifiers(user_id);
+
+create table address (
+    id serial primary key,
+    user_id int references users(id) on delete cascade,
+    door_number varchar(30),
+    street varchar(60),
+    city varchar(30),
+    state varchar(30),
+    country varchar(30),
+    pin_code int
+);
+
+create index address_user_id on address(user_id);
+
+create table product (
+    id serial primary key,
+    product_category_id int not null,
+    price real,
+    quantity int
+);
+
+create index product_product_category_id on product(product_category_id);
+
+create table electronics_inventory (
+    product_id int primary key references product(id) on delete cascade,
+    brand varchar(30),
+    model varchar(30)
+);
+
+create table clothes_inventory (
+    product_id int primary key references product(id) on delete cascade,
+    brand varchar(30),
+    clothes_type varchar(30),
+    gender varchar(10),
+    size varchar(10)
+);
+
+create table cart (
+    id serial primary key,
+    user_id int references users(id) on delete cascade,
+    product_id int references product(id) on delete cascade
+);
+
+create index cart_user_id on cart(user_id, product_id);
+
+create table wishlist (
+    id serial primary key,
+    user_id int references users(id) on delete cascade,
+    product_id int references product(id) on delete cascade
+);
+
+create index wishlist_user_id on wishlist(user_id, product_id);
+
+create table orders (
+    id serial primary key,
+    user_id int references users(id) on delete cascade,
+    product_id int references product(id) on delete cascade,
+    address_id int references address(id),
+    payment_mode_id int,
+    quantity int,
+    total_amount real,
+    order_status_id int
+);
+
+create index orders_user_id on orders(user_id);
@@ -1,5 +1,7 @@
 package com.flipkart.database;
 
+import com.flipkart.database.statement.StatementMonitor;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,6 +39,7 @@ public class Activator implements BundleActivator {
      */
     @Override
     public void stop(final BundleContext context) {
+        StatementMonitor.getInstance().shutdown();
         LOGGER.info("Stopping the bundle - database");
     }
 }
@@ -1,19 +1,23 @@
 package com.flipkart.database.connection;
 
 import com.flipkart.database.exceptions.ConnectionFailedException;
+import com.flipkart.database.statement.StatementMonitor;
 
 import java.io.FileReader;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.Semaphore;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
 /**
  * <p>
- * Provides connection with the database.
+ * Provides connection with the database. The statements running on the connection at once are capped by
+ * {@code flipkart.database.max.concurrency}, which is one by default as the single connection runs its statements one
+ * at a time. The callers beyond the cap wait for their turn in the order they came, only while they run a statement.
  * </p>
  *
  * @author Maharaja S
@@ -22,6 +26,8 @@ import org.apache.logging.log4j.LogManager;
 public class DatabaseConnection {
 
     private static Connection connection;
+    private static final Semaphore PERMITS = new Semaphore(Integer.getInteger("flipkart.database.max.concurrency", 1),
+            true);
     private static final Logger LOGGER = LogManager.getLogger(DatabaseConnection.class);
 
     /**
@@ -33,30 +39,43 @@ public class DatabaseConnection {
 
     /**
      * <p>
-     * Creates a connection with database and returns it.
+     * Creates a connection with database and returns it. The statements of the connection are timed by the
+     * {@link StatementMonitor}.
      * </p>
      *
      * @return {@link Connection} of the database.
      */
     public static Connection get() {
         if (Objects.isNull(connection)) {
-            final Properties properties = new Properties();
+            connection = StatementMonitor.getInstance().wrap(open(), DatabaseConnection::open, PERMITS);
+            LOGGER.info("Database is connected");
+        }
+
+        return connection;
+    }
 
-            try (final FileReader fileReader = new FileReader(String.join("",
-                    System.getenv("DB_CONFIG_PATH"), "/db.properties"))) {
-                properties.load(fileReader);
-                Class.forName("org.postgresql.Driver");
+    /**
+     * <p>
+     * Opens a new connection with the database configured in the db.properties of the directory given by
+     * {@code flipkart.database.config.path}, or by the DB_CONFIG_PATH environment variable when it is not set.
+     * </p>
+     *
+     * @return {@link Connection} of the database.
+     */
+    private static Connection open() {
+        final Properties properties = new Properties();
 
-                connection = DriverManager.getConnection(properties.getProperty("url"),
-                        properties.getProperty("username"), properties.getProperty("password"));
+        try (final FileReader fileReader = new FileReader(String.join("",
+                System.getProperty("flipkart.database.config.path", System.getenv("DB_CONFIG_PATH")),
+                "/db.properties"))) {
+            properties.load(fileReader);
+            Class.forName("org.postgresql.Driver");
 
-                LOGGER.info("Database is connected");
-            } catch (final Exception exception) {
-                LOGGER.error("Database Connection failed");
-                throw new ConnectionFailedException(exception.getMessage());
-            }
+            return DriverManager.getConnection(properties.getProperty("url"),
+                    properties.getProperty("username"), properties.getProperty("password"));
+        } catch (final Exception exception) {
+            LOGGER.error("Database Connection failed");
+            throw new ConnectionFailedException(exception.getMessage());
         }
-
-        return connection;
     }
 }
@@ -0,0 +1,25 @@
+package com.flipkart.database.exceptions;
+
+import com.flipkart.exception.CustomException;
+
+/**
+ * <p>
+ * Provides information on a statement repeated too many times by a request.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RepeatedStatementException extends CustomException {
+
+    /**
+     * <p>
+     * Default constructor of RepeatedStatementException class.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public RepeatedStatementException(final String message) {
+        super(message);
+    }
+}
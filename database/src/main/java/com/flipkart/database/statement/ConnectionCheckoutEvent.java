@@ -0,0 +1,31 @@
+package com.flipkart.database.statement;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * Records the wait for a permit of the connection before a statement runs on it in a flight recording, so the
+ * statements queued behind the cap of the connection are seen. Disabled unless enabled by the recording settings.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Name("com.flipkart.ConnectionCheckout")
+@Label("Connection Checkout")
+@Category({"Flipkart", "Database"})
+@Description("Wait for a permit of the connection of the database")
+@Enabled(false)
+@StackTrace(false)
+public class ConnectionCheckoutEvent extends Event {
+
+    @Label("Waiting")
+    @Description("Statements waiting for a permit when the wait started")
+    int waiting;
+}
@@ -0,0 +1,49 @@
+package com.flipkart.database.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.Semaphore;
+
+/**
+ * <p>
+ * Passes the calls to the wrapped connection and wraps the statements it creates by a {@link StatementHandler}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+class ConnectionHandler implements InvocationHandler {
+
+    private final StatementMonitor statementMonitor;
+    private final Connection connection;
+    private final Semaphore permits;
+
+    ConnectionHandler(final StatementMonitor statementMonitor, final Connection connection, final Semaphore permits) {
+        this.statementMonitor = statementMonitor;
+        this.connection = connection;
+        this.permits = permits;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final Object result;
+
+        try {
+            result = method.invoke(connection, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+
+        if (!(result instanceof Statement) || !Statement.class.isAssignableFrom(method.getReturnType())) {
+            return result;
+        }
+        final String sql = "createStatement".equals(method.getName()) ? null : (String) args[0];
+
+        return Proxy.newProxyInstance(StatementHandler.class.getClassLoader(), new Class<?>[] {method.getReturnType()},
+                new StatementHandler(statementMonitor, (Statement) result, sql, permits));
+    }
+}
@@ -0,0 +1,167 @@
+package com.flipkart.database.statement;
+
+import com.flipkart.database.exceptions.RepeatedStatementException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Detects the N+1 queries, flagging a request which runs the same statement, apart from its values, more than
+ * {@code flipkart.database.repeat.threshold} times. The statements are counted into the {@link StatementCounts} bound
+ * to the running thread, from the JDBC connections wrapped by the {@link StatementMonitor} and from the Hibernate
+ * sessions. The repeated statements are logged as warnings, or fail the request with a
+ * {@link RepeatedStatementException} when {@code flipkart.database.repeat.fail} is set, as in the benchmarks.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RepeatedStatementDetector {
+
+    private static final Logger LOGGER = LogManager.getLogger(RepeatedStatementDetector.class);
+    private static final ThreadLocal<StatementCounts> CURRENT = new ThreadLocal<>();
+    private final int threshold;
+    private final boolean failing;
+
+    /**
+     * <p>
+     * Default constructor of the RepeatedStatementDetector class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private RepeatedStatementDetector() {
+        threshold = Integer.getInteger("flipkart.database.repeat.threshold", 10);
+        failing = Boolean.getBoolean("flipkart.database.repeat.fail");
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of RepeatedStatementDetector class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final RepeatedStatementDetector REPEATED_STATEMENT_DETECTOR = new RepeatedStatementDetector();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of RepeatedStatementDetector Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of RepeatedStatementDetector Class.
+     */
+    public static RepeatedStatementDetector getInstance() {
+        return InstanceHolder.REPEATED_STATEMENT_DETECTOR;
+    }
+
+    /**
+     * <p>
+     * Begins counting the statements of a request and marks its start. The counts are to be bound to each thread
+     * running the request.
+     * </p>
+     *
+     * @param name Refers the name of the request in the warnings.
+     * @return the {@link StatementCounts} of the request.
+     */
+    public StatementCounts begin(final String name) {
+        return new StatementCounts(name);
+    }
+
+    /**
+     * <p>
+     * Binds the counts to the current thread, so the statements run by it are counted into them.
+     * </p>
+     *
+     * @param counts Refers the {@link StatementCounts} to be bound or null to unbind.
+     * @return the counts bound before, to be bound back afterwards.
+     */
+    public StatementCounts bind(final StatementCounts counts) {
+        final StatementCounts previous = CURRENT.get();
+
+        if (Objects.isNull(counts)) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counts);
+        }
+
+        return previous;
+    }
+
+    /**
+     * <p>
+     * Gets the counts bound to the current thread.
+     * </p>
+     *
+     * @return the {@link StatementCounts} or null if none is bound.
+     */
+    public StatementCounts current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * <p>
+     * Counts a run of the statement by the current thread.
+     * </p>
+     *
+     * @param sql Refers the SQL of the statement.
+     */
+    public void count(final String sql) {
+        final StatementCounts counts = CURRENT.get();
+
+        if (Objects.nonNull(counts)) {
+            counts.add(StatementMonitor.redact(sql));
+        }
+    }
+
+    /**
+     * <p>
+     * Counts a run of the statement whose SQL is already redacted by the current thread.
+     * </p>
+     *
+     * @param stats Refers the {@link StatementStats} of the statement.
+     */
+    void count(final StatementStats stats) {
+        final StatementCounts counts = CURRENT.get();
+
+        if (Objects.nonNull(counts)) {
+            counts.add(stats.getSql());
+        }
+    }
+
+    /**
+     * <p>
+     * Ends counting the statements of a request and flags the ones repeated over the threshold.
+     * </p>
+     *
+     * @param counts Refers the {@link StatementCounts} of the request.
+     */
+    public void end(final StatementCounts counts) {
+        StringJoiner repeated = null;
+
+        for (final Map.Entry<String, AtomicInteger> entry : counts.getCounts().entrySet()) {
+            if (entry.getValue().get() > threshold) {
+                if (Objects.isNull(repeated)) {
+                    repeated = new StringJoiner(System.lineSeparator());
+                }
+                repeated.add(String.format("%d times - %s", entry.getValue().get(), entry.getKey()));
+            }
+        }
+
+        if (Objects.isNull(repeated)) {
+            return;
+        }
+        final String message = String.format("Request %s repeated statements over %d times:%n%s", counts.getName(),
+                threshold, repeated);
+
+        if (failing) {
+            throw new RepeatedStatementException(message);
+        }
+        LOGGER.warn(message);
+    }
+}
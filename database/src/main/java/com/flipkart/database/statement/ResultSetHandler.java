@@ -0,0 +1,62 @@
+package com.flipkart.database.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+/**
+ * <p>
+ * Passes the calls to the wrapped result set and counts the rows read from it, so the {@link StatementEvent} of the
+ * query is committed with its rows once the result set or its statement is closed. Only wrapped while a flight
+ * recording enables the event.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+class ResultSetHandler implements InvocationHandler {
+
+    private final ResultSet resultSet;
+    private final StatementEvent event;
+    private final StatementStats stats;
+    private long rowCount;
+    private boolean recorded;
+
+    ResultSetHandler(final ResultSet resultSet, final StatementEvent event, final StatementStats stats) {
+        this.resultSet = resultSet;
+        this.event = event;
+        this.stats = stats;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final Object result;
+
+        try {
+            result = method.invoke(resultSet, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+
+        if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+            rowCount++;
+        } else if ("close".equals(method.getName())) {
+            record();
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * Commits the event of the query with the rows read so far, once.
+     * </p>
+     */
+    void record() {
+        if (!recorded) {
+            recorded = true;
+            event.record(stats, rowCount);
+        }
+    }
+}
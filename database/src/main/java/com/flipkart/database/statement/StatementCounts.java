@@ -0,0 +1,76 @@
+package com.flipkart.database.statement;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Holds how many times each statement, known by its SQL with the literals redacted, was run by a request, and when
+ * the request started. The counts are shared by all the threads the request runs on. The map of the counts is created
+ * by the first statement, so a request answered without any statement allocates nothing else than its counts.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class StatementCounts {
+
+    private final String name;
+    private final long startTime;
+    private volatile Map<String, AtomicInteger> counts;
+
+    StatementCounts(final String name) {
+        this.name = name;
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * <p>
+     * Counts a run of the statement.
+     * </p>
+     *
+     * @param sql Refers the redacted SQL of the statement.
+     */
+    void add(final String sql) {
+        Map<String, AtomicInteger> counts = this.counts;
+
+        if (Objects.isNull(counts)) {
+            synchronized (this) {
+                if (Objects.isNull(this.counts)) {
+                    this.counts = new ConcurrentHashMap<>();
+                }
+                counts = this.counts;
+            }
+        }
+        AtomicInteger count = counts.get(sql);
+
+        if (Objects.isNull(count)) {
+            count = counts.computeIfAbsent(sql, key -> new AtomicInteger());
+        }
+        count.incrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <p>
+     * Gets the time the request started at, from {@link System#nanoTime()}.
+     * </p>
+     *
+     * @return the start time in nanoseconds.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    Map<String, AtomicInteger> getCounts() {
+        final Map<String, AtomicInteger> counts = this.counts;
+
+        return Objects.isNull(counts) ? Collections.emptyMap() : counts;
+    }
+}
@@ -0,0 +1,79 @@
+package com.flipkart.database.statement;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>
+ * Records an execution of a statement in a flight recording, with the id of the statement and the rows it read or
+ * wrote. The rows of a query are counted as they are read, and the event is committed once its result set is closed.
+ * Disabled unless enabled by the recording settings.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Name("com.flipkart.Statement")
+@Label("Statement")
+@Category({"Flipkart", "Database"})
+@Description("Execution of a statement on the connection of the database")
+@Enabled(false)
+@Threshold("10 ms")
+public class StatementEvent extends Event {
+
+    @Label("SQL Id")
+    @Description("Id of the statement, as registered under com.flipkart.database")
+    String sqlId;
+
+    @Label("SQL")
+    @Description("SQL of the statement with the literals redacted")
+    String sql;
+
+    @Label("Row Count")
+    @Description("Rows read or written by the execution, or -1 when not known")
+    long rowCount;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * <p>
+     * Commits the event of a completed execution if the recording takes it.
+     * </p>
+     *
+     * @param stats Refers the {@link StatementStats} of the statement.
+     * @param rowCount Refers the rows read or written by the execution.
+     */
+    void record(final StatementStats stats, final long rowCount) {
+        if (shouldCommit()) {
+            this.sqlId = stats.getId();
+            this.sql = stats.getSql();
+            this.rowCount = rowCount;
+            commit();
+        }
+    }
+
+    /**
+     * <p>
+     * Ends the event of a failed execution and commits it if the recording takes it.
+     * </p>
+     *
+     * @param stats Refers the {@link StatementStats} of the statement.
+     */
+    void recordFailure(final StatementStats stats) {
+        end();
+
+        if (shouldCommit()) {
+            this.sqlId = stats.getId();
+            this.sql = stats.getSql();
+            this.rowCount = -1;
+            this.failed = true;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.flipkart.database.statement;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+
+/**
+ * <p>
+ * Times the executions of a statement and keeps the parameters bound to it, so a slow execution can be explained with
+ * the same values. The statements run in batches or bound to streams are timed but not explained. Each execution
+ * holds a permit of the connection while it runs, and the wait for the permit is not timed. The executions and the
+ * waits are recorded as {@link StatementEvent}s and {@link ConnectionCheckoutEvent}s when a flight recording enables
+ * them.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+class StatementHandler implements InvocationHandler {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+    private final StatementMonitor statementMonitor;
+    private final Statement statement;
+    private final String sql;
+    private final StatementStats preparedStats;
+    private final Semaphore permits;
+    private Object[] parameters;
+    private int parameterCount;
+    private boolean explainable;
+    private ResultSetHandler resultSetHandler;
+
+    StatementHandler(final StatementMonitor statementMonitor, final Statement statement, final String sql,
+                     final Semaphore permits) {
+        this.statementMonitor = statementMonitor;
+        this.statement = statement;
+        this.sql = sql;
+        this.permits = permits;
+        preparedStats = Objects.isNull(sql) ? null : statementMonitor.getStatementStats(sql);
+        parameters = NO_PARAMETERS;
+        explainable = true;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final String name = method.getName();
+
+        if (name.startsWith("execute")) {
+            return execute(method, args);
+        }
+
+        if (name.startsWith("set") && Objects.nonNull(args) && args.length >= 2 && args[0] instanceof Integer
+                && method.getParameterTypes()[0] == int.class) {
+            bind((Integer) args[0], "setNull".equals(name) ? null : args[1]);
+        } else if ("clearParameters".equals(name)) {
+            Arrays.fill(parameters, null);
+            parameterCount = 0;
+            explainable = true;
+        } else if ("addBatch".equals(name)) {
+            explainable = false;
+        } else if ("close".equals(name)) {
+            recordResultSet();
+        }
+
+        return invokeStatement(method, args);
+    }
+
+    /**
+     * <p>
+     * Runs the statement once a permit is taken and records the time taken.
+     * </p>
+     *
+     * @param method Refers the execute method called.
+     * @param args Refers the arguments of the call.
+     * @return the result of the execution.
+     */
+    private Object execute(final Method method, final Object[] args) throws Throwable {
+        final boolean withSql = Objects.nonNull(args) && args.length > 0 && args[0] instanceof String;
+        final String executedSql = withSql ? (String) args[0] : sql;
+        final StatementStats stats = withSql || Objects.isNull(preparedStats)
+                ? statementMonitor.getStatementStats(String.valueOf(executedSql)) : preparedStats;
+
+        final ConnectionCheckoutEvent checkoutEvent = new ConnectionCheckoutEvent();
+
+        if (checkoutEvent.isEnabled()) {
+            checkoutEvent.waiting = permits.getQueueLength();
+        }
+        checkoutEvent.begin();
+
+        try {
+            permits.acquire();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new SQLException("Interrupted while waiting for the connection", exception);
+        }
+        checkoutEvent.commit();
+        recordResultSet();
+        final StatementEvent event = new StatementEvent();
+
+        event.begin();
+        final long startTime = System.nanoTime();
+        final Object result;
+
+        try {
+            result = invokeStatement(method, args);
+        } catch (final Throwable exception) {
+            statementMonitor.record(stats, System.nanoTime() - startTime, true);
+            event.recordFailure(stats);
+
+            throw exception;
+        } finally {
+            permits.release();
+        }
+        event.end();
+
+        if (statementMonitor.record(stats, System.nanoTime() - startTime, false) && explainable
+                && !method.getName().startsWith("executeBatch") && !method.getName().startsWith("executeLargeBatch")) {
+            statementMonitor.explain(stats, executedSql, withSql ? NO_PARAMETERS
+                    : Arrays.copyOf(parameters, parameterCount));
+        }
+
+        return record(event, stats, result);
+    }
+
+    /**
+     * <p>
+     * Records the event of the execution with the rows it wrote. The result set of a query is wrapped to count the
+     * rows read from it while the event is enabled, and the event is recorded once it is closed.
+     * </p>
+     *
+     * @param event Refers the ended {@link StatementEvent} of the execution.
+     * @param stats Refers the {@link StatementStats} of the statement.
+     * @param result Refers the result of the execution.
+     * @return the result of the execution, or its wrapped result set.
+     */
+    private Object record(final StatementEvent event, final StatementStats stats, final Object result)
+            throws SQLException {
+        if (!event.isEnabled()) {
+            return result;
+        }
+
+        if (result instanceof ResultSet) {
+            resultSetHandler = new ResultSetHandler((ResultSet) result, event, stats);
+
+            return Proxy.newProxyInstance(ResultSetHandler.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    resultSetHandler);
+        }
+
+        if (result instanceof Number) {
+            event.record(stats, ((Number) result).longValue());
+        } else if (result instanceof int[]) {
+            event.record(stats, Arrays.stream((int[]) result).filter(count -> count >= 0).sum());
+        } else if (result instanceof long[]) {
+            event.record(stats, Arrays.stream((long[]) result).filter(count -> count >= 0).sum());
+        } else {
+            event.record(stats, Boolean.FALSE.equals(result) ? statement.getUpdateCount() : -1);
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * Records the event of the query whose result set is still open, as it is closed along with the statement or by
+     * the next execution.
+     * </p>
+     */
+    private void recordResultSet() {
+        if (Objects.nonNull(resultSetHandler)) {
+            resultSetHandler.record();
+            resultSetHandler = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Keeps the parameter bound to the statement.
+     * </p>
+     *
+     * @param index Refers the index of the parameter starting from 1.
+     * @param value Refers the value of the parameter.
+     */
+    private void bind(final int index, final Object value) {
+        if (index < 1) {
+            return;
+        }
+
+        if (index > parameters.length) {
+            parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+        }
+        parameters[index - 1] = value;
+        parameterCount = Math.max(parameterCount, index);
+
+        if (value instanceof InputStream || value instanceof Reader || value instanceof Blob || value instanceof Clob) {
+            explainable = false;
+        }
+    }
+
+    private Object invokeStatement(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(statement, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
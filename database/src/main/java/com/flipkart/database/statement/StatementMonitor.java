@@ -0,0 +1,323 @@
+package com.flipkart.database.statement;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Times every statement run on the wrapped connections. The statements slower than
+ * {@code flipkart.database.slow.threshold} milliseconds are logged with their literals and bound parameters redacted,
+ * and a {@code flipkart.database.explain.rate} share of them is explained with {@code EXPLAIN (ANALYZE, BUFFERS)} by
+ * a background thread, on a connection of its own and always rolled back, at most once every
+ * {@code flipkart.database.explain.interval} seconds for a statement. The plans are logged with the literals redacted
+ * as well, keeping only the measures of the plan, which are written as {@code cost=0.29..8.30} or
+ * {@code Execution Time: 0.05} unlike any value compared in a condition. The executions of each statement are
+ * registered as an MXBean under {@value #DOMAIN}, and counted by the {@link RepeatedStatementDetector}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class StatementMonitor {
+
+    private static final Logger LOGGER = LogManager.getLogger(StatementMonitor.class);
+    private static final String DOMAIN = "com.flipkart.database";
+    private static final String STRING_LITERAL = "'(?:[^']|'')*'";
+    private static final String NUMERIC_LITERAL = "\\b\\d+(?:\\.\\d+)?\\b";
+    private static final Pattern LITERALS = Pattern.compile(String.join("|", STRING_LITERAL, NUMERIC_LITERAL));
+    private static final Pattern PLAN_LITERALS = Pattern.compile(String.join("|", STRING_LITERAL,
+            String.join("", "(?<![=.]|: )", NUMERIC_LITERAL)));
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    private final Map<String, StatementStats> statementStats;
+    private final long slowThreshold;
+    private final double explainRate;
+    private final long explainInterval;
+    private volatile ThreadPoolExecutor explainExecutor;
+    private volatile Supplier<Connection> connectionFactory;
+    private Connection explainConnection;
+
+    /**
+     * <p>
+     * Default constructor of the StatementMonitor class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private StatementMonitor() {
+        statementStats = new ConcurrentHashMap<>();
+        slowThreshold = TimeUnit.MILLISECONDS.toNanos(Long.getLong("flipkart.database.slow.threshold", 100));
+        explainRate = Double.parseDouble(System.getProperty("flipkart.database.explain.rate", "0.1"));
+        explainInterval = TimeUnit.SECONDS.toNanos(Long.getLong("flipkart.database.explain.interval", 60));
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of StatementMonitor class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final StatementMonitor STATEMENT_MONITOR = new StatementMonitor();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of StatementMonitor Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of StatementMonitor Class.
+     */
+    public static StatementMonitor getInstance() {
+        return InstanceHolder.STATEMENT_MONITOR;
+    }
+
+    /**
+     * <p>
+     * Wraps the connection so that the statements created by it are timed, each run once a permit is taken.
+     * </p>
+     *
+     * @param connection Refers the {@link Connection} to be wrapped.
+     * @param connectionFactory Refers the factory of the connection the slow statements are explained on.
+     * @param permits Refers the permits capping the statements running on the connection at once.
+     * @return the wrapped connection.
+     */
+    public Connection wrap(final Connection connection, final Supplier<Connection> connectionFactory,
+                           final Semaphore permits) {
+        this.connectionFactory = connectionFactory;
+
+        return (Connection) Proxy.newProxyInstance(StatementMonitor.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(this, connection, permits));
+    }
+
+    /**
+     * <p>
+     * Gets the executions of the statement, registering them on the first execution. The statements are known by
+     * their redacted SQL, and identified by its hash, suffixed when the hash is taken by another statement already.
+     * </p>
+     *
+     * @param sql Refers the SQL of the statement.
+     * @return the {@link StatementStats} of the statement.
+     */
+    StatementStats getStatementStats(final String sql) {
+        final String redactedSql = redact(sql);
+
+        return statementStats.computeIfAbsent(redactedSql, key -> {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final String hash = String.format("%08x", key.hashCode());
+
+            for (int suffix = 0; ; suffix++) {
+                final StatementStats stats = new StatementStats(suffix == 0 ? hash
+                        : String.join("-", hash, Integer.toString(suffix)), key);
+
+                try {
+                    mBeanServer.registerMBean(stats, getObjectName(stats));
+
+                    return stats;
+                } catch (final InstanceAlreadyExistsException exception) {
+                    LOGGER.debug(String.format("Id %s is taken by another statement", stats.getId()));
+                } catch (final JMException exception) {
+                    LOGGER.warn(String.format("Statistics of statement %s are not registered - %s", stats.getId(),
+                            exception.getMessage()));
+
+                    return stats;
+                }
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Records an execution of the statement and logs it if it is slow.
+     * </p>
+     *
+     * @param stats Refers the {@link StatementStats} of the statement.
+     * @param nanos Refers the time taken in nanoseconds.
+     * @param failed Refers whether the execution failed.
+     * @return true if the execution is to be explained.
+     */
+    boolean record(final StatementStats stats, final long nanos, final boolean failed) {
+        final boolean slow = nanos >= slowThreshold;
+
+        stats.record(nanos, failed, slow);
+        RepeatedStatementDetector.getInstance().count(stats);
+
+        if (!slow) {
+            return false;
+        }
+        LOGGER.warn(String.format("Slow statement %s took %.1f ms - %s", stats.getId(),
+                nanos / (double) TimeUnit.MILLISECONDS.toNanos(1), stats.getSql()));
+
+        return !failed && ThreadLocalRandom.current().nextDouble() < explainRate
+                && stats.claimExplain(System.nanoTime(), explainInterval);
+    }
+
+    /**
+     * <p>
+     * Explains the statement by the background thread. The explain is dropped if the thread is already behind.
+     * </p>
+     *
+     * @param stats Refers the {@link StatementStats} of the statement.
+     * @param sql Refers the SQL of the statement as it was run.
+     * @param parameters Refers the parameters bound to the statement.
+     */
+    void explain(final StatementStats stats, final String sql, final Object[] parameters) {
+        getExplainExecutor().execute(() -> {
+            try {
+                final String plan = PLAN_LITERALS.matcher(explainPlan(sql, parameters)).replaceAll("?");
+
+                stats.setLastPlan(plan);
+                LOGGER.warn(String.format("Plan of slow statement %s:%n%s", stats.getId(), plan));
+            } catch (final RuntimeException | SQLException exception) {
+                LOGGER.warn(String.format("Slow statement %s is not explained - %s", stats.getId(),
+                        exception.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the thread explaining the slow statements, creating it if it is not created yet or was shut down.
+     * </p>
+     *
+     * @return the {@link ThreadPoolExecutor} of the explains.
+     */
+    private ThreadPoolExecutor getExplainExecutor() {
+        ThreadPoolExecutor executor = explainExecutor;
+
+        if (Objects.isNull(executor)) {
+            synchronized (this) {
+                executor = explainExecutor;
+
+                if (Objects.isNull(executor)) {
+                    executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(8),
+                            runnable -> {
+                                final Thread thread = new Thread(runnable, "statement-explain");
+
+                                thread.setDaemon(true);
+
+                                return thread;
+                            }, new ThreadPoolExecutor.DiscardPolicy());
+                    explainExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * <p>
+     * Runs the statement under {@code EXPLAIN (ANALYZE, BUFFERS)} in a transaction rolled back afterwards, so the
+     * statements writing the database are explained without writing it.
+     * </p>
+     *
+     * @param sql Refers the SQL of the statement.
+     * @param parameters Refers the parameters bound to the statement.
+     * @return the plan in text.
+     */
+    private String explainPlan(final String sql, final Object[] parameters) throws SQLException {
+        if (Objects.isNull(explainConnection) || explainConnection.isClosed()) {
+            explainConnection = connectionFactory.get();
+        }
+        explainConnection.setAutoCommit(false);
+
+        try (final PreparedStatement preparedStatement = explainConnection
+                .prepareStatement(String.join(" ", "EXPLAIN (ANALYZE, BUFFERS)", sql))) {
+            for (int index = 0; index < parameters.length; index++) {
+                preparedStatement.setObject(index + 1, parameters[index]);
+            }
+            final StringJoiner plan = new StringJoiner(System.lineSeparator());
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+
+            return plan.toString();
+        } finally {
+            explainConnection.rollback();
+        }
+    }
+
+    /**
+     * <p>
+     * Stops the explaining, closes its connection and unregisters the MXBeans of all the statements. The statements
+     * are forgotten, so they are registered again on their next execution, and the slow statements run afterwards are
+     * explained by a new thread.
+     * </p>
+     */
+    public synchronized void shutdown() {
+        final ThreadPoolExecutor executor = explainExecutor;
+
+        explainExecutor = null;
+
+        try {
+            if (Objects.nonNull(executor)) {
+                executor.shutdownNow();
+
+                if (executor.awaitTermination(5, TimeUnit.SECONDS) && Objects.nonNull(explainConnection)) {
+                    explainConnection.close();
+                    explainConnection = null;
+                }
+            }
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("Connection of the explains is not closed - %s", exception.getMessage()));
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        for (final StatementStats stats : statementStats.values()) {
+            try {
+                final ObjectName objectName = getObjectName(stats);
+
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (final JMException exception) {
+                LOGGER.warn(String.format("Statistics of statement %s are not unregistered - %s", stats.getId(),
+                        exception.getMessage()));
+            }
+        }
+        statementStats.clear();
+    }
+
+    /**
+     * <p>
+     * Replaces the literals of the SQL by {@code ?} and collapses its whitespaces, so no value reaches the logs and
+     * the statements differing only by their values are counted together.
+     * </p>
+     *
+     * @param sql Refers the SQL of the statement.
+     * @return the redacted SQL.
+     */
+    static String redact(final String sql) {
+        return WHITESPACES.matcher(LITERALS.matcher(sql).replaceAll("?")).replaceAll(" ").trim();
+    }
+
+    private ObjectName getObjectName(final StatementStats stats) throws JMException {
+        return new ObjectName(String.format("%s:type=Statement,id=%s", DOMAIN, stats.getId()));
+    }
+}
@@ -0,0 +1,134 @@
+package com.flipkart.database.statement;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Holds the executions of a statement, known by its SQL with the literals redacted.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class StatementStats implements StatementStatsMXBean {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private final String id;
+    private final String sql;
+    private final LongAdder count;
+    private final LongAdder failureCount;
+    private final LongAdder slowCount;
+    private final LongAdder totalTime;
+    private final AtomicLong maxTime;
+    private final AtomicLong lastExplainTime;
+    private final LongAdder explainCount;
+    private volatile String lastPlan;
+
+    StatementStats(final String id, final String sql) {
+        this.id = id;
+        this.sql = sql;
+        count = new LongAdder();
+        failureCount = new LongAdder();
+        slowCount = new LongAdder();
+        totalTime = new LongAdder();
+        maxTime = new AtomicLong();
+        lastExplainTime = new AtomicLong(Long.MIN_VALUE);
+        explainCount = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Records an execution of the statement.
+     * </p>
+     *
+     * @param nanos Refers the time taken in nanoseconds.
+     * @param failed Refers whether the execution failed.
+     * @param slow Refers whether the execution is over the threshold of the slow statements.
+     */
+    void record(final long nanos, final boolean failed, final boolean slow) {
+        count.increment();
+        totalTime.add(nanos);
+
+        if (failed) {
+            failureCount.increment();
+        }
+
+        if (slow) {
+            slowCount.increment();
+        }
+        long max = maxTime.get();
+
+        while (nanos > max && !maxTime.compareAndSet(max, nanos)) {
+            max = maxTime.get();
+        }
+    }
+
+    /**
+     * <p>
+     * Claims the explaining of the statement, so it is explained at most once in the interval.
+     * </p>
+     *
+     * @param now Refers the current {@link System#nanoTime()}.
+     * @param interval Refers the least nanoseconds between two explains.
+     * @return true if the statement is to be explained now.
+     */
+    boolean claimExplain(final long now, final long interval) {
+        final long lastTime = lastExplainTime.get();
+
+        return (lastTime == Long.MIN_VALUE || now - lastTime >= interval)
+                && lastExplainTime.compareAndSet(lastTime, now);
+    }
+
+    void setLastPlan(final String lastPlan) {
+        this.lastPlan = lastPlan;
+        explainCount.increment();
+    }
+
+    String getId() {
+        return id;
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public long getSlowCount() {
+        return slowCount.sum();
+    }
+
+    @Override
+    public double getMeanTime() {
+        final long executions = count.sum();
+
+        return executions == 0 ? 0 : totalTime.sum() / NANOS_PER_MILLI / executions;
+    }
+
+    @Override
+    public double getMaxTime() {
+        return maxTime.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getExplainCount() {
+        return explainCount.sum();
+    }
+
+    @Override
+    public String getLastPlan() {
+        return lastPlan;
+    }
+}
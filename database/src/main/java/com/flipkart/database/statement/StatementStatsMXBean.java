@@ -0,0 +1,28 @@
+package com.flipkart.database.statement;
+
+/**
+ * <p>
+ * Exposes the executions of a statement through JMX. The times are in milliseconds.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface StatementStatsMXBean {
+
+    String getSql();
+
+    long getCount();
+
+    long getFailureCount();
+
+    long getSlowCount();
+
+    double getMeanTime();
+
+    double getMaxTime();
+
+    long getExplainCount();
+
+    String getLastPlan();
+}
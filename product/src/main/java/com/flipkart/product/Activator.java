@@ -1,11 +1,43 @@
 package com.flipkart.product;
 
+import com.flipkart.authentication.compression.CompressionInterceptor;
+import com.flipkart.authentication.controller.CustomExceptionMapper;
+import com.flipkart.authentication.controller.DispatchingInvoker;
+import com.flipkart.authentication.controller.ExecutionMode;
+import com.flipkart.authentication.controller.MetricsController;
 import com.flipkart.authentication.controller.UserController;
+import com.flipkart.authentication.dao.DaoRouter;
 import com.flipkart.authentication.json.JsonFactory;
+import com.flipkart.authentication.json.SerializationInterceptor;
+import com.flipkart.authentication.json.StatusResponse;
+import com.flipkart.authentication.metrics.MetricsFilter;
+import com.flipkart.authentication.model.Address;
+import com.flipkart.authentication.service.ServiceExecutor;
+import com.flipkart.authentication.validation.ValidatorService;
+import com.flipkart.authentication.validation.ValidatorServiceImpl;
+import com.flipkart.authentication.validation.groups.GetUserChecker;
+import com.flipkart.authentication.validation.groups.OrderChecker;
+import com.flipkart.authentication.security.AuthenticationFilter;
+import com.flipkart.authentication.security.RateLimitFilter;
 import com.flipkart.product.controller.cart.CartController;
 import com.flipkart.product.controller.inventory.InventoryController;
 import com.flipkart.product.controller.order.OrderController;
 import com.flipkart.product.controller.wishlist.WishlistController;
+import com.flipkart.product.dao.DaoRouters;
+import com.flipkart.product.exceptions.ItemNotFoundException;
+import com.flipkart.product.exceptions.OrderNotFoundException;
+import com.flipkart.product.exceptions.StockNotAvailableException;
+import com.flipkart.product.model.order.Order;
+import com.flipkart.product.model.product.Clothes;
+import com.flipkart.product.model.product.Laptop;
+import com.flipkart.product.model.product.Mobile;
+import com.flipkart.product.service.hold.StockHoldServiceImpl;
+import com.flipkart.product.service.user.TrackedUserExistenceCache;
+import com.flipkart.product.validation.group.AddressChecker;
+import com.flipkart.product.validation.group.CancelOrderChecker;
+import com.flipkart.product.validation.group.ClothesChecker;
+import com.flipkart.product.validation.group.ElectronicProductChecker;
+import com.flipkart.product.validation.group.UserIdChecker;
 
 import org.apache.cxf.endpoint.Server;
 import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
@@ -15,7 +47,11 @@ import org.apache.logging.log4j.Logger;
 
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
 
+import jakarta.ws.rs.core.Response;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -31,11 +67,17 @@ import java.util.Objects;
 public class Activator implements BundleActivator {
 
     private Server server;
+    private CompressionInterceptor compressionInterceptor;
+    private final List<ServiceRegistration<?>> daoRegistrations = new ArrayList<>();
     private static final Logger LOGGER = LogManager.getLogger(Activator.class);
 
     /**
      * <p>
-     * Invoked when the osgi bundle starts. Initializes and starts JAX-RS server.
+     * Invoked when the osgi bundle starts. Tracks the user existence cache published by the authentication bundle,
+     * starts releasing the expired stock holds, warms the validation of the request models, maps the exceptions of the
+     * bundle to their responses, initializes and starts JAX-RS server measuring the requests, compressing the large
+     * responses and invoking the resources in the configured {@link ExecutionMode}, and publishes the versions of the
+     * DAOs.
      * </p>
      *
      * @param context Refers the context of the bundle.
@@ -43,19 +85,53 @@ public class Activator implements BundleActivator {
     @Override
     public void start(final BundleContext context) {
         LOGGER.info("Starting the bundle - product");
+        TrackedUserExistenceCache.getInstance().open(context);
+        StockHoldServiceImpl.getInstance().start();
+        final ValidatorService validatorService = ValidatorServiceImpl.getInstance();
+
+        validatorService.warm(new Order(), OrderChecker.class, CancelOrderChecker.class, UserIdChecker.class,
+                AddressChecker.class, GetUserChecker.class);
+        validatorService.warm(new Address(), OrderChecker.class);
+        validatorService.warm(new Mobile(null, null, 0, 0), ElectronicProductChecker.class);
+        validatorService.warm(new Laptop(null, null, 0, 0), ElectronicProductChecker.class);
+        validatorService.warm(new Clothes(null, null, null, 0, null, 0), ClothesChecker.class);
         final List<Object> serviceBeans = Arrays.asList(UserController.getInstance(), CartController.getInstance(),
-                 WishlistController.getInstance(), InventoryController.getInstance(), OrderController.getInstance());
+                 WishlistController.getInstance(), InventoryController.getInstance(), OrderController.getInstance(),
+                 MetricsController.getInstance());
         final JAXRSServerFactoryBean serverFactory = new JAXRSServerFactoryBean();
 
+        compressionInterceptor = new CompressionInterceptor();
+        final CustomExceptionMapper customExceptionMapper = new CustomExceptionMapper.CustomExceptionMapperBuilder()
+                .addMapping(ItemNotFoundException.class, Response.Status.NOT_FOUND, StatusResponse.ITEM_NOT_FOUND)
+                .addMapping(OrderNotFoundException.class, Response.Status.NOT_FOUND, StatusResponse.ORDER_NOT_FOUND)
+                .addMapping(StockNotAvailableException.class, Response.Status.CONFLICT,
+                        StatusResponse.STOCK_NOT_AVAILABLE).build();
+
         serverFactory.setAddress("/");
         serverFactory.setServiceBeans(serviceBeans);
-        serverFactory.setProvider(JsonFactory.getProvider());
+        final List<Object> providers = new ArrayList<>(JsonFactory.getProviders());
+
+        providers.addAll(Arrays.asList(new MetricsFilter(), new RateLimitFilter(),
+                new AuthenticationFilter(TrackedUserExistenceCache.getInstance()),
+                customExceptionMapper, compressionInterceptor, new SerializationInterceptor()));
+        serverFactory.setProviders(providers);
+        final ExecutionMode executionMode = ExecutionMode.getConfigured();
+
+        if (executionMode != ExecutionMode.TRANSPORT) {
+            serverFactory.setInvoker(new DispatchingInvoker());
+        }
+        LOGGER.info(String.format("Invoking the resources in %s mode", executionMode));
         server = serverFactory.create();
+
+        for (final DaoRouter<?> router : DaoRouters.getAll()) {
+            daoRegistrations.addAll(router.register(context));
+        }
     }
 
     /**
      * <p>
-     * Invoked when the osgi bundle stops. Stops and destroys the JAX-RS server.
+     * Invoked when the osgi bundle stops. Withdraws the DAO services, stops and destroys the JAX-RS server, the
+     * executor of the services, frees the pooled deflaters and stops tracking the user existence cache.
      * </p>
      *
      * @param context Refers the context of the bundle.
@@ -63,9 +139,19 @@ public class Activator implements BundleActivator {
     @Override
     public void stop(final BundleContext context) {
         LOGGER.info("Stopping the bundle - product");
+        daoRegistrations.forEach(ServiceRegistration::unregister);
+        daoRegistrations.clear();
 
         if (Objects.nonNull(server)) {
             server.destroy();
         }
+
+        ServiceExecutor.getInstance().shutdown();
+
+        if (Objects.nonNull(compressionInterceptor)) {
+            compressionInterceptor.close();
+        }
+        StockHoldServiceImpl.getInstance().shutdown();
+        TrackedUserExistenceCache.getInstance().close();
     }
 }
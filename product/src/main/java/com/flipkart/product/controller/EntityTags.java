@@ -0,0 +1,113 @@
+package com.flipkart.product.controller;
+
+import com.flipkart.authentication.compression.ContentEncoding;
+import com.flipkart.authentication.json.JsonFactory;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * <p>
+ * Creates the strong entity tags of the listings from the version of their content, and answers the conditional
+ * requests before the content is read. The tag also holds the format and the encoding negotiated for the request, as
+ * each of them is a different representation of the same content.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public final class EntityTags {
+
+    private static final String VARY = "Vary";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final List<MediaType> FORMATS = Arrays.asList(MediaType.APPLICATION_JSON_TYPE,
+            MediaType.valueOf(JsonFactory.APPLICATION_CBOR), MediaType.valueOf(JsonFactory.APPLICATION_SMILE));
+
+    private EntityTags() {
+    }
+
+    /**
+     * <p>
+     * Creates the strong entity tag of the content for the format and the encoding accepted by the request.
+     * </p>
+     *
+     * @param httpHeaders Refers the headers of the request.
+     * @param resource Refers the name of the resource.
+     * @param version Refers the version of the content.
+     * @param keys Refers the keys of the content such as the category and the page.
+     * @return the {@link EntityTag}.
+     */
+    public static EntityTag create(final HttpHeaders httpHeaders, final String resource, final long version,
+                                   final Object... keys) {
+        final StringJoiner value = new StringJoiner("-").add(resource);
+
+        for (final Object key : keys) {
+            value.add(String.valueOf(key));
+        }
+        value.add(Long.toString(version)).add(getFormat(httpHeaders).getSubtype())
+                .add(ContentEncoding.negotiate(httpHeaders.getHeaderString(ACCEPT_ENCODING))
+                        .map(ContentEncoding::getName).orElse("identity"));
+
+        return new EntityTag(value.toString());
+    }
+
+    /**
+     * <p>
+     * Evaluates the {@code If-None-Match} header of the request against the entity tag.
+     * </p>
+     *
+     * @param request Refers the request.
+     * @param entityTag Refers the {@link EntityTag} of the current content.
+     * @return Optional of the not modified response or empty if the content is to be sent.
+     */
+    public static Optional<Response> evaluate(final Request request, final EntityTag entityTag) {
+        final Response.ResponseBuilder responseBuilder = request.evaluatePreconditions(entityTag);
+
+        return Objects.isNull(responseBuilder)
+                ? Optional.empty()
+                : Optional.of(responseBuilder.tag(entityTag).header(VARY, HttpHeaders.ACCEPT)
+                        .header(VARY, ACCEPT_ENCODING).build());
+    }
+
+    /**
+     * <p>
+     * Tags the response of the content. The encoding is added to the {@code Vary} header by the compression.
+     * </p>
+     *
+     * @param responseBuilder Refers the builder of the response.
+     * @param entityTag Refers the {@link EntityTag} of the content.
+     * @return the response.
+     */
+    public static Response tag(final Response.ResponseBuilder responseBuilder, final EntityTag entityTag) {
+        return responseBuilder.tag(entityTag).header(VARY, HttpHeaders.ACCEPT).build();
+    }
+
+    /**
+     * <p>
+     * Gets the format of the highest quality accepted by the request, which is JSON if none is given.
+     * </p>
+     *
+     * @param httpHeaders Refers the headers of the request.
+     * @return the {@link MediaType} of the format.
+     */
+    private static MediaType getFormat(final HttpHeaders httpHeaders) {
+        for (final MediaType acceptableMediaType : httpHeaders.getAcceptableMediaTypes()) {
+            for (final MediaType format : FORMATS) {
+                if (acceptableMediaType.isCompatible(format)) {
+                    return format;
+                }
+            }
+        }
+
+        return MediaType.APPLICATION_JSON_TYPE;
+    }
+}
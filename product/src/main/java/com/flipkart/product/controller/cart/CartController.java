@@ -1,10 +1,13 @@
 package com.flipkart.product.controller.cart;
 
+import com.flipkart.authentication.controller.AsyncResponses;
 import com.flipkart.authentication.json.JsonFactory;
-import com.flipkart.authentication.json.JsonObject;
+import com.flipkart.authentication.json.StatusResponse;
 import com.flipkart.product.service.cart.CartServiceImpl;
 import com.flipkart.product.model.ProductCategory;
-import com.flipkart.product.model.cart.Cart;
+import com.flipkart.product.model.sync.Delta;
+import com.flipkart.product.service.cart.AsyncCartService;
+import com.flipkart.product.service.cart.AsyncCartServiceImpl;
 import com.flipkart.product.service.cart.CartService;
 
 import org.apache.logging.log4j.LogManager;
@@ -17,9 +20,15 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * <p>
@@ -33,8 +42,10 @@ import java.util.Optional;
 public class CartController {
 
     private final CartService cartService;
+    private final AsyncCartService asyncCartService;
     private final JsonFactory jsonFactory;
     private static final Logger LOGGER = LogManager.getLogger(CartController.class);
+    private static final String VERSION_HEADER = "X-Version";
 
     /**
      * <p>
@@ -43,7 +54,8 @@ public class CartController {
      */
     private CartController() {
         cartService = CartServiceImpl.getInstance();
-        jsonFactory = new JsonFactory();
+        asyncCartService = AsyncCartServiceImpl.getInstance();
+        jsonFactory = JsonFactory.getInstance();
     }
 
     /**
@@ -69,97 +81,115 @@ public class CartController {
 
     /**
      * <p>
-     * Adds the product to the cart of the specified user.
+     * Adds the product to the cart of the specified user. The existence of the user and the product are checked
+     * concurrently, and the response is resumed once the product is added.
      * </p>
      *
      * @param productId       Refers the id of the product to be added
      * @param userId          Refers the user id.
      * @param productCategory Refers the product category.
-     * @return JsonNode if product added.
+     * @param asyncResponse   Refers the suspended response.
      */
     @Path("/{userId}/{category}/{productId}")
     @Produces(MediaType.APPLICATION_JSON)
     @POST
-    public byte[] addProduct(@PathParam("productId") final int productId,
-                             @PathParam("userId") final int userId,
-                             @PathParam("category") final ProductCategory productCategory) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!cartService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        } else if (!cartService.isProductExist(productId)) {
-            return jsonObject.put("status", "product not found").asBytes();
-        }
-
-        if (cartService.addProduct(productId, userId, productCategory)) {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item added to the cart", userId, productId));
-
-            return jsonObject.put("status", "Item added to the cart").asBytes();
-        } else {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item is already in the cart", userId, productId));
-
-            return jsonObject.put("status", "Item is already in the cart").asBytes();
-        }
+    public void addProduct(@PathParam("productId") final int productId,
+                           @PathParam("userId") final int userId,
+                           @PathParam("category") final ProductCategory productCategory,
+                           @Suspended final AsyncResponse asyncResponse) {
+        final CompletionStage<Optional<StatusResponse>> checks = AsyncResponses.check(
+                asyncCartService.isUserExist(userId), StatusResponse.USER_NOT_FOUND,
+                asyncCartService.isProductExist(productId), StatusResponse.PRODUCT_NOT_FOUND);
+
+        AsyncResponses.resume(asyncResponse, AsyncResponses.ifPassed(checks, () -> asyncCartService
+                .addProduct(productId, userId, productCategory).thenApply(isAdded -> {
+                    if (isAdded) {
+                        LOGGER.info(String.format("User id :%d Product Id :%d - Item added to the cart", userId, productId));
+
+                        return StatusResponse.ITEM_ADDED_TO_CART.asBytes();
+                    }
+                    LOGGER.info(String.format("User id :%d Product Id :%d - Item is already in the cart", userId, productId));
+
+                    return StatusResponse.ITEM_ALREADY_IN_CART.asBytes();
+                })));
     }
 
     /**
      * <p>
-     * Removes the product from the cart of the specified user.
+     * Removes the product from the cart of the specified user. The existence of the product and the user are checked
+     * concurrently, and the response is resumed once the product is removed.
      * </p>
      *
-     * @param productId Refers the id of the product to be removed.
-     * @param userId    Refers the user id.
+     * @param productId     Refers the id of the product to be removed.
+     * @param userId        Refers the user id.
+     * @param asyncResponse Refers the suspended response.
      */
     @Path("/{userId}/{productId}")
     @Produces(MediaType.APPLICATION_JSON)
     @DELETE
-    public byte[] removeProduct(@PathParam("productId") final int productId,
-                                @PathParam("userId") final int userId) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!cartService.isProductExist(productId)) {
-            return jsonObject.put("status", "product not found").asBytes();
-        } else if (!cartService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
-        final boolean status = cartService.removeProduct(productId, userId);
-
-        if (status) {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the cart", userId, productId));
-
-            return jsonObject.put("status", "Item removed from the cart").asBytes();
-        } else {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item not found", userId, productId));
-
-            return jsonObject.put("status", "Item not found").asBytes();
-        }
+    public void removeProduct(@PathParam("productId") final int productId,
+                              @PathParam("userId") final int userId,
+                              @Suspended final AsyncResponse asyncResponse) {
+        final CompletionStage<Optional<StatusResponse>> checks = AsyncResponses.check(
+                asyncCartService.isProductExist(productId), StatusResponse.PRODUCT_NOT_FOUND,
+                asyncCartService.isUserExist(userId), StatusResponse.USER_NOT_FOUND);
+
+        AsyncResponses.resume(asyncResponse, AsyncResponses.ifPassed(checks, () -> asyncCartService
+                .removeProduct(productId, userId).thenApply(isRemoved -> {
+                    if (isRemoved) {
+                        LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the cart", userId, productId));
+
+                        return StatusResponse.ITEM_REMOVED_FROM_CART.asBytes();
+                    }
+                    LOGGER.info(String.format("User id :%d Product Id :%d - Item not found", userId, productId));
+
+                    return StatusResponse.ITEM_NOT_FOUND.asBytes();
+                })));
     }
 
     /**
      * <p>
-     * Gets the cart of the specified user id and returns it.
+     * Gets the cart of the specified user id and returns it. When the version known by the client is given, only the
+     * products added or removed since that version are returned, or not modified if there is no change.
      * </p>
      *
-     * @param userId Refers the user id.
-     * @param page   Refers the page number.
-     * @return the {@link Cart} of the user.
+     * @param userId        Refers the user id.
+     * @param page          Refers the page number.
+     * @param version       Refers the version of the cart known by the client.
+     * @param asyncResponse Refers the suspended response.
      */
     @Path("/{userId}")
     @Produces(MediaType.APPLICATION_JSON)
     @GET
-    public byte[] getCart(@PathParam("userId") final int userId,
-                          @QueryParam("page") final int page) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!cartService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
-
-        final Optional<Cart> optionalCart = cartService.getCart(userId, page);
-
-        return optionalCart.isPresent()
-                ? jsonFactory.toJson(optionalCart.get()).asBytes()
-                : jsonObject.put("status", "No items in the cart").asBytes();
+    public void getCart(@PathParam("userId") final int userId,
+                        @QueryParam("page") final int page,
+                        @QueryParam("since") final Long version,
+                        @Suspended final AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse, asyncCartService.isUserExist(userId).thenCompose(isUserExist -> {
+            if (!isUserExist) {
+                return CompletableFuture.completedFuture(Response.ok(StatusResponse.USER_NOT_FOUND.asBytes()).build());
+            }
+
+            if (Objects.nonNull(version)) {
+                final Optional<Delta> optionalDelta = cartService.getChanges(userId, version);
+
+                if (optionalDelta.isPresent()) {
+                    final Delta delta = optionalDelta.get();
+
+                    return CompletableFuture.completedFuture(delta.isEmpty()
+                            ? Response.notModified().header(VERSION_HEADER, delta.getVersion()).build()
+                            : Response.ok(jsonFactory.toBytes(delta)).header(VERSION_HEADER, delta.getVersion())
+                            .build());
+                }
+            }
+            final long currentVersion = cartService.getVersion(userId);
+
+            return asyncCartService.getCart(userId, page).thenApply(optionalCart -> Response.ok(
+                    optionalCart.isPresent()
+                            ? jsonFactory.toBytes(optionalCart.get())
+                            : StatusResponse.NO_ITEMS_IN_CART.asBytes())
+                    .header(VERSION_HEADER, currentVersion).build());
+        }));
     }
 }
 
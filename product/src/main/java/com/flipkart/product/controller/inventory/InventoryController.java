@@ -1,22 +1,23 @@
 package com.flipkart.product.controller.inventory;
 
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-
+import com.flipkart.authentication.controller.AsyncResponses;
 import com.flipkart.authentication.json.Json;
 import com.flipkart.authentication.json.JsonArray;
 import com.flipkart.authentication.json.JsonFactory;
 import com.flipkart.authentication.json.JsonObject;
+import com.flipkart.authentication.json.StatusResponse;
+import com.flipkart.authentication.validation.ValidatorService;
+import com.flipkart.authentication.validation.ValidatorServiceImpl;
+import com.flipkart.product.controller.EntityTags;
 import com.flipkart.product.model.ProductCategory;
 import com.flipkart.product.model.product.Product;
+import com.flipkart.product.service.inventory.AsyncInventoryService;
+import com.flipkart.product.service.inventory.AsyncInventoryServiceImpl;
 import com.flipkart.product.service.inventory.InventoryService;
 import com.flipkart.product.service.inventory.InventoryServiceImpl;
 import com.flipkart.product.validation.group.ClothesChecker;
 import com.flipkart.product.validation.group.ElectronicProductChecker;
 
-import org.hibernate.validator.HibernateValidator;
-import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
-
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PathParam;
@@ -25,10 +26,19 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p>
@@ -42,8 +52,9 @@ import java.util.Objects;
 public class InventoryController {
 
     private final InventoryService inventory;
+    private final AsyncInventoryService asyncInventoryService;
     private final JsonFactory jsonFactory;
-    private final Validator validator;
+    private final ValidatorService validatorService;
 
     /**
      * <p>
@@ -52,9 +63,9 @@ public class InventoryController {
      */
     private InventoryController() {
         inventory = InventoryServiceImpl.getInstance();
-        jsonFactory = new JsonFactory();
-        validator = Validation.byProvider(HibernateValidator.class)
-                .configure().messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
+        asyncInventoryService = AsyncInventoryServiceImpl.getInstance();
+        jsonFactory = JsonFactory.getInstance();
+        validatorService = ValidatorServiceImpl.getInstance();
     }
 
     /**
@@ -80,15 +91,17 @@ public class InventoryController {
 
     /**
      * <p>
-     * Adds the given products to the inventory.
+     * Adds the given products to the inventory. The products are validated before any query, and the response is
+     * resumed once the products are added.
      * </p>
      *
-     * @param products the products to be added.
+     * @param products      the products to be added.
+     * @param asyncResponse Refers the suspended response.
      */
     @Produces(MediaType.APPLICATION_JSON)
-    @Consumes(MediaType.APPLICATION_JSON)
+    @Consumes({MediaType.APPLICATION_JSON, JsonFactory.APPLICATION_CBOR, JsonFactory.APPLICATION_SMILE})
     @POST
-    public byte[] addProduct(final List<Product> products) {
+    public void addProduct(final List<Product> products, @Suspended final AsyncResponse asyncResponse) {
         final JsonArray violationsInJson = jsonFactory.createJsonArray();
 
         for (final Product product : products) {
@@ -110,55 +123,79 @@ public class InventoryController {
             }
         }
 
-        if (violationsInJson.isEmpty()) {
-            inventory.addProduct(products);
-            violationsInJson.add(jsonFactory.createJsonObject().put("status", "Items added"));
+        if (!violationsInJson.isEmpty()) {
+            asyncResponse.resume(violationsInJson.asBytes());
+
+            return;
         }
+        AsyncResponses.resume(asyncResponse, asyncInventoryService.addProduct(products).thenApply(added -> {
+            violationsInJson.add(jsonFactory.createJsonObject().put("status", "Items added"));
 
-        return violationsInJson.asBytes();
+            return violationsInJson.asBytes();
+        }));
     }
 
     /**
      * <p>
-     * Removes the given item from the inventory.
+     * Removes the given item from the inventory. The response is resumed once the product is removed.
      * </p>
      *
-     * @param productId Refers the id of the product to be removed.
+     * @param productId       Refers the id of the product to be removed.
+     * @param productCategory Refers the product category.
+     * @param asyncResponse   Refers the suspended response.
      */
     @Path("/{category}/{id}")
     @Produces(MediaType.APPLICATION_JSON)
     @DELETE
-    public byte[] removeProduct(@PathParam("id") final int productId,
-                                @PathParam("category") final ProductCategory productCategory) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!inventory.isProductExist(productId)) {
-            return jsonObject.put("status", "product id not found").asBytes();
-        }
+    public void removeProduct(@PathParam("id") final int productId,
+                              @PathParam("category") final ProductCategory productCategory,
+                              @Suspended final AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse, asyncInventoryService.isProductExist(productId)
+                .thenCompose(isProductExist -> {
+                    if (!isProductExist) {
+                        return CompletableFuture.completedFuture(StatusResponse.PRODUCT_ID_NOT_FOUND.asBytes());
+                    }
 
-        return inventory.removeProduct(productId, productCategory)
-                ? jsonFactory.createJsonObject().put("status", "Item removed").asBytes()
-                : jsonFactory.createJsonObject().put("status", "Item not found").asBytes();
+                    return asyncInventoryService.removeProduct(productId, productCategory)
+                            .thenApply(isRemoved -> isRemoved
+                                    ? StatusResponse.ITEM_REMOVED.asBytes()
+                                    : StatusResponse.ITEM_NOT_FOUND.asBytes());
+                }));
     }
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets all the products from the inventory based on the category and streams them to the response as JSON, CBOR
+     * or Smile, as accepted by the request. The status is always sent as JSON. The response is tagged with the
+     * version of the category, and not modified is returned without reading the products when the tag given in
+     * {@code If-None-Match} is still current. Otherwise the response is resumed once the products are read.
      * </p>
      *
      * @param productCategory Refers the product category
      * @param page            Refers the page number.
-     * @return all the {@link Product} from the inventory.
+     * @param request         Refers the request.
+     * @param httpHeaders     Refers the headers of the request.
+     * @param asyncResponse   Refers the suspended response streaming all the {@link Product} from the inventory.
      */
-    @Produces(MediaType.APPLICATION_JSON)
+    @Produces({MediaType.APPLICATION_JSON, JsonFactory.APPLICATION_CBOR, JsonFactory.APPLICATION_SMILE})
     @GET
-    public byte[] getProductsByCategory(@QueryParam("category") final ProductCategory productCategory,
-                                        @QueryParam("page") final int page) {
-        final List<? extends Product> products = inventory.getItemsByCategory(productCategory, page);
-
-        return products.isEmpty()
-                ? jsonFactory.createJsonObject().put("status", "No items found").asBytes()
-                : jsonFactory.toJson(products).asBytes();
+    public void getProductsByCategory(@QueryParam("category") final ProductCategory productCategory,
+                                      @QueryParam("page") final int page, @Context final Request request,
+                                      @Context final HttpHeaders httpHeaders,
+                                      @Suspended final AsyncResponse asyncResponse) {
+        final EntityTag entityTag = EntityTags.create(httpHeaders, "inventory", inventory.getVersion(productCategory),
+                productCategory, page);
+        final Optional<Response> notModified = EntityTags.evaluate(request, entityTag);
+
+        if (notModified.isPresent()) {
+            asyncResponse.resume(notModified.get());
+
+            return;
+        }
+        AsyncResponses.resume(asyncResponse, asyncInventoryService.getItemsByCategory(productCategory, page)
+                .thenApply(products -> EntityTags.tag(products.isEmpty()
+                        ? Response.ok(StatusResponse.NO_ITEMS_FOUND.asBytes(), MediaType.APPLICATION_JSON_TYPE)
+                        : Response.ok(products), entityTag)));
     }
 
     /**
@@ -171,11 +208,6 @@ public class InventoryController {
      * @return the object node contains the violations.
      */
     private Json validate(final Class<?> clazz, final Product product) {
-        final JsonObject violationsInJson = jsonFactory.createJsonObject();
-
-        validator.validate(product, clazz).forEach(violation -> violationsInJson
-                .put(violation.getPropertyPath().toString(), violation.getMessage()));
-
-        return violationsInJson.isEmpty() ? null : violationsInJson;
+        return validatorService.validate(product, clazz).orElse(null);
     }
 }
@@ -1,27 +1,26 @@
 package com.flipkart.product.controller.order;
 
 import com.flipkart.product.model.order.Order;
-import com.flipkart.product.service.order.OrderService;
-import com.flipkart.product.service.order.OrderServiceImpl;
+import com.flipkart.product.service.order.AsyncOrderService;
+import com.flipkart.product.service.order.AsyncOrderServiceImpl;
 import com.flipkart.product.validation.group.AddressChecker;
 import com.flipkart.product.validation.group.CancelOrderChecker;
 import com.flipkart.product.validation.group.UserIdChecker;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
 
+import com.flipkart.authentication.controller.AsyncResponses;
 import com.flipkart.authentication.json.Json;
 import com.flipkart.authentication.json.JsonFactory;
 import com.flipkart.authentication.json.JsonObject;
+import com.flipkart.authentication.json.StatusResponse;
 import com.flipkart.authentication.model.Address;
+import com.flipkart.authentication.validation.ValidatorService;
+import com.flipkart.authentication.validation.ValidatorServiceImpl;
 import com.flipkart.authentication.validation.groups.GetUserChecker;
 import com.flipkart.authentication.validation.groups.OrderChecker;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import org.hibernate.validator.HibernateValidator;
-import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
-
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PathParam;
@@ -30,9 +29,15 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * <p>
@@ -45,9 +50,9 @@ import java.util.List;
 @Path("/order")
 public class OrderController {
 
-    private final OrderService orderService;
+    private final AsyncOrderService asyncOrderService;
     private final JsonFactory jsonFactory;
-    private final Validator validator;
+    private final ValidatorService validatorService;
     private static final Logger LOGGER = LogManager.getLogger(OrderController.class);
 
     /**
@@ -56,10 +61,9 @@ public class OrderController {
      * </p>
      */
     private OrderController() {
-        orderService = OrderServiceImpl.getInstance();
-        jsonFactory = new JsonFactory();
-        validator = Validation.byProvider(HibernateValidator.class).configure()
-                .messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
+        asyncOrderService = AsyncOrderServiceImpl.getInstance();
+        jsonFactory = JsonFactory.getInstance();
+        validatorService = ValidatorServiceImpl.getInstance();
     }
 
     /**
@@ -85,155 +89,180 @@ public class OrderController {
 
     /**
      * <p>
-     * Gets all the orders placed by the user.
+     * Gets all the orders placed by the user. The orders are written straight to the response as JSON, CBOR or Smile,
+     * as accepted by the request. The status and the violations are always sent as JSON. The existence of the user is
+     * checked while the orders are read, and the response is resumed once both are done.
      * </p>
      *
-     * @param userId Refers the id of the user
-     * @return all the {@link Order} of the user.
+     * @param userId        Refers the id of the user
+     * @param page          Refers the page number.
+     * @param asyncResponse Refers the suspended response streaming all the {@link Order} of the user.
      */
     @Path("/{userId}")
-    @Produces(MediaType.APPLICATION_JSON)
+    @Produces({MediaType.APPLICATION_JSON, JsonFactory.APPLICATION_CBOR, JsonFactory.APPLICATION_SMILE})
     @GET
-    public byte[] getOrders(@PathParam("userId") final int userId,
-                            @QueryParam("page") final int page) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!orderService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
-
+    public void getOrders(@PathParam("userId") final int userId,
+                          @QueryParam("page") final int page,
+                          @Suspended final AsyncResponse asyncResponse) {
         final JsonObject violationsInJson = (JsonObject) validate(UserIdChecker.class, new Order.OrderBuilder(userId).build());
-
-        if (violationsInJson.isEmpty()) {
-            List<Order> orders = orderService.getOrders(userId, page);
-
-            return !orders.isEmpty()
-                    ? jsonFactory.toJson(orders).asBytes()
-                    : jsonObject.put("status", "No orders found").asBytes();
-        } else {
-            return violationsInJson.asBytes();
-        }
+        final CompletionStage<List<Order>> orders = violationsInJson.isEmpty()
+                ? asyncOrderService.getOrders(userId, page)
+                : CompletableFuture.completedFuture(Collections.emptyList());
+
+        AsyncResponses.resume(asyncResponse, asyncOrderService.isUserExist(userId).thenCombine(orders,
+                (isUserExist, userOrders) -> {
+                    if (!isUserExist) {
+                        return Response.ok(StatusResponse.USER_NOT_FOUND.asBytes(), MediaType.APPLICATION_JSON_TYPE)
+                                .build();
+                    } else if (!violationsInJson.isEmpty()) {
+                        return Response.ok(violationsInJson.asBytes(), MediaType.APPLICATION_JSON_TYPE).build();
+                    }
+
+                    return userOrders.isEmpty()
+                            ? Response.ok(StatusResponse.NO_ORDERS_FOUND.asBytes(), MediaType.APPLICATION_JSON_TYPE)
+                                    .build()
+                            : Response.ok(userOrders).build();
+                }));
     }
 
     /**
      * <p>
-     * Adds the order of the user.
+     * Adds the order of the user. The order is validated before any query, and the existence of the product and the
+     * user is checked by the insert itself. The user is looked up concurrently only to tell which of them is not found,
+     * and the response is resumed once the order is added.
      * </p>
      *
-     * @param order Refers the {@link Order} to be added.
+     * @param order         Refers the {@link Order} to be added.
+     * @param asyncResponse Refers the suspended response.
      */
-    @Consumes(MediaType.APPLICATION_JSON)
+    @Consumes({MediaType.APPLICATION_JSON, JsonFactory.APPLICATION_CBOR, JsonFactory.APPLICATION_SMILE})
     @Produces(MediaType.APPLICATION_JSON)
     @POST
-    public byte[] addOrder(final Order order) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!orderService.isProductExist(order.getProductId())) {
-            return jsonObject.put("status", "product not found").asBytes();
-        } else if (!orderService.isUserExist(order.getUserId())) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
+    public void addOrder(final Order order, @Suspended final AsyncResponse asyncResponse) {
         final JsonObject violationsInJson = (JsonObject) validate(OrderChecker.class, order);
 
-        if (violationsInJson.isEmpty()) {
-            orderService.addOrder(order.getUserId(), order);
-            LOGGER.info(String.format("User id :%d Product Id :%d - Order placed successfully", order.getUserId(), order.getProductId()));
+        if (!violationsInJson.isEmpty()) {
+            asyncResponse.resume(violationsInJson.asBytes());
 
-            return jsonObject.put("status", "Order placed successfully").asBytes();
-        } else {
-            return violationsInJson.asBytes();
+            return;
         }
+        final CompletionStage<Boolean> userExists = asyncOrderService.isUserExist(order.getUserId());
+
+        AsyncResponses.resume(asyncResponse, asyncOrderService.addOrder(order.getUserId(), order)
+                .thenCombine(userExists, (added, userExist) -> {
+                    if (!added) {
+                        return userExist ? StatusResponse.PRODUCT_NOT_FOUND.asBytes()
+                                : StatusResponse.USER_NOT_FOUND.asBytes();
+                    }
+                    LOGGER.info(String.format("User id :%d Product Id :%d - Order placed successfully",
+                            order.getUserId(), order.getProductId()));
+
+                    return StatusResponse.ORDER_PLACED.asBytes();
+                }));
     }
 
     /**
      * <p>
-     * Cancels the order placed by the user.
+     * Cancels the order placed by the user. The order is validated before any query, and the order is matched on the
+     * user and the product by the update itself. The user is looked up concurrently only to tell which of them is not
+     * found, and the response is resumed once the order is cancelled.
      * </p>
      *
-     * @param order Refers the {@link Order} to be cancelled.
+     * @param order         Refers the {@link Order} to be cancelled.
+     * @param asyncResponse Refers the suspended response.
      */
-    @Consumes(MediaType.APPLICATION_JSON)
+    @Consumes({MediaType.APPLICATION_JSON, JsonFactory.APPLICATION_CBOR, JsonFactory.APPLICATION_SMILE})
     @Produces(MediaType.APPLICATION_JSON)
     @PUT
-    public byte[] cancelOrder(final Order order) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!orderService.isProductExist(order.getProductId())) {
-            return jsonObject.put("status", "product not found").asBytes();
-        } else if (!orderService.isUserExist(order.getUserId())) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
+    public void cancelOrder(final Order order, @Suspended final AsyncResponse asyncResponse) {
         final JsonObject violationsInJson = (JsonObject) validate(CancelOrderChecker.class, order);
 
-        if (violationsInJson.isEmpty()) {
-            orderService.cancelOrder(order);
-            LOGGER.info(String.format("User id :%d Product Id :%d - Order cancelled successfully.",
-                    order.getUserId(), order.getProductId()));
+        if (!violationsInJson.isEmpty()) {
+            asyncResponse.resume(violationsInJson.asBytes());
 
-            return jsonObject.put("status", "Order cancelled successfully").asBytes();
-        } else {
-            return violationsInJson.asBytes();
+            return;
         }
+        final CompletionStage<Boolean> userExists = asyncOrderService.isUserExist(order.getUserId());
+
+        AsyncResponses.resume(asyncResponse, asyncOrderService.cancelOrder(order)
+                .thenCombine(userExists, (cancelled, userExist) -> {
+                    if (!cancelled) {
+                        return userExist ? StatusResponse.ORDER_NOT_FOUND.asBytes()
+                                : StatusResponse.USER_NOT_FOUND.asBytes();
+                    }
+                    LOGGER.info(String.format("User id :%d Product Id :%d - Order cancelled successfully.",
+                            order.getUserId(), order.getProductId()));
+
+                    return StatusResponse.ORDER_CANCELLED.asBytes();
+                }));
     }
 
     /**
      * <p>
-     * Adds the address of the user.
+     * Adds the address of the user. The address is validated while the existence of the user is checked, and the
+     * response is resumed once the address is added.
      * </p>
      *
-     * @param userId  Refers the id of the user.
-     * @param address Refers the address to be added.
+     * @param userId        Refers the id of the user.
+     * @param address       Refers the address to be added.
+     * @param asyncResponse Refers the suspended response.
      */
     @Path("/address/{userId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @POST
-    public byte[] addAddress(@PathParam("userId") final int userId, final Address address) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!orderService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
-        final JsonObject violationsInJson = (JsonObject) validate(AddressChecker.class, new Order.OrderBuilder(userId).setAddress(address).build());
-
-        if (violationsInJson.isEmpty()) {
-            orderService.addAddress(userId, address);
-            LOGGER.info(String.format("User id :%d - Address added successfully.", userId));
-
-            return jsonFactory.createJsonObject().put("status", "Address added successfully").asBytes();
-        } else {
-            return violationsInJson.asBytes();
-        }
+    public void addAddress(@PathParam("userId") final int userId, final Address address,
+                           @Suspended final AsyncResponse asyncResponse) {
+        final CompletionStage<Boolean> userExists = asyncOrderService.isUserExist(userId);
+        final JsonObject violationsInJson = (JsonObject) validate(AddressChecker.class,
+                new Order.OrderBuilder(userId).setAddress(address).build());
+
+        AsyncResponses.resume(asyncResponse, userExists.thenCompose(isUserExist -> {
+            if (!isUserExist) {
+                return CompletableFuture.completedFuture(StatusResponse.USER_NOT_FOUND.asBytes());
+            } else if (!violationsInJson.isEmpty()) {
+                return CompletableFuture.completedFuture(violationsInJson.asBytes());
+            }
+
+            return asyncOrderService.addAddress(userId, address).thenApply(added -> {
+                LOGGER.info(String.format("User id :%d - Address added successfully.", userId));
+
+                return StatusResponse.ADDRESS_ADDED.asBytes();
+            });
+        }));
     }
 
     /**
      * <p>
-     * Gets all the addresses of the user.
+     * Gets all the addresses of the user. The existence of the user is checked while the addresses are read, and the
+     * response is resumed once both are done.
      * </p>
      *
-     * @param userId Refers the id of the user.
-     * @return the list of all the address.
+     * @param userId        Refers the id of the user.
+     * @param asyncResponse Refers the suspended response with the list of all the address.
      */
     @Path("/address/{userId}")
     @Produces(MediaType.APPLICATION_JSON)
     @GET
-    public byte[] getAddresses(@PathParam("userId") final int userId) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!orderService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
-        final JsonObject violationsInJson = (JsonObject) validate(GetUserChecker.class, new Order.OrderBuilder(userId).build());
-
-        if (violationsInJson.isEmpty()) {
-            List<Address> addresses = orderService.getAddresses(userId);
-
-            return !addresses.isEmpty()
-                    ? jsonFactory.toJson(addresses).asBytes()
-                    : jsonFactory.createJsonObject().put("status", "No address found").asBytes();
-        } else {
-            return violationsInJson.asBytes();
-        }
+    public void getAddresses(@PathParam("userId") final int userId, @Suspended final AsyncResponse asyncResponse) {
+        final JsonObject violationsInJson = (JsonObject) validate(GetUserChecker.class,
+                new Order.OrderBuilder(userId).build());
+        final CompletionStage<List<Address>> addresses = violationsInJson.isEmpty()
+                ? asyncOrderService.getAddresses(userId)
+                : CompletableFuture.completedFuture(Collections.emptyList());
+
+        AsyncResponses.resume(asyncResponse, asyncOrderService.isUserExist(userId).thenCombine(addresses,
+                (isUserExist, userAddresses) -> {
+                    if (!isUserExist) {
+                        return StatusResponse.USER_NOT_FOUND.asBytes();
+                    } else if (!violationsInJson.isEmpty()) {
+                        return violationsInJson.asBytes();
+                    }
+
+                    return !userAddresses.isEmpty()
+                            ? jsonFactory.toBytes(userAddresses)
+                            : StatusResponse.NO_ADDRESS_FOUND.asBytes();
+                }));
     }
 
     /**
@@ -246,11 +275,6 @@ public class OrderController {
      * @return the object node contains the violations.
      */
     private Json validate(final Class<?> clazz, final Order order) {
-        final JsonObject violationsInJson = jsonFactory.createJsonObject();
-
-        validator.validate(order, clazz).forEach(violation -> violationsInJson
-                .put(violation.getPropertyPath().toString(), violation.getMessage()));
-
-        return violationsInJson;
+        return validatorService.validate(order, clazz).orElseGet(jsonFactory::createJsonObject);
     }
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.flipkart.product.controller.wishlist;
 
+import com.flipkart.authentication.controller.AsyncResponses;
 import com.flipkart.authentication.json.JsonFactory;
-import com.flipkart.authentication.json.JsonObject;
-import com.flipkart.product.model.wishlist.Wishlist;
+import com.flipkart.authentication.json.StatusResponse;
+import com.flipkart.product.model.sync.Delta;
 import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.service.wishlist.AsyncWishlistService;
+import com.flipkart.product.service.wishlist.AsyncWishlistServiceImpl;
 import com.flipkart.product.service.wishlist.WishlistService;
 import com.flipkart.product.service.wishlist.WishlistServiceImpl;
 
@@ -17,9 +20,15 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * <p>
@@ -33,8 +42,10 @@ import java.util.Optional;
 public class WishlistController {
 
     private final WishlistService wishlistService;
+    private final AsyncWishlistService asyncWishlistService;
     private final JsonFactory jsonFactory;
     private static final Logger LOGGER = LogManager.getLogger(WishlistService.class);
+    private static final String VERSION_HEADER = "X-Version";
 
     /**
      * <p>
@@ -43,7 +54,8 @@ public class WishlistController {
      */
     private WishlistController() {
         wishlistService = WishlistServiceImpl.getInstance();
-        jsonFactory = new JsonFactory();
+        asyncWishlistService = AsyncWishlistServiceImpl.getInstance();
+        jsonFactory = JsonFactory.getInstance();
     }
 
     /**
@@ -69,93 +81,114 @@ public class WishlistController {
 
     /**
      * <p>
-     * Adds the product to the wishlist of the specified user.
+     * Adds the product to the wishlist of the specified user. The existence of the user and the product are checked
+     * concurrently, and the response is resumed once the product is added.
      * </p>
      *
      * @param productId       Refers the id of the product to be added
      * @param userId          Refers the user id.
      * @param productCategory Refers the product category.
-     * @return the if product added to the wishlist.
+     * @param asyncResponse   Refers the suspended response.
      */
     @Path("/{userId}/{category}/{productId}")
     @Produces(MediaType.APPLICATION_JSON)
     @POST
-    public byte[] addProduct(@PathParam("productId") final int productId,
-                             @PathParam("userId") final int userId,
-                             @PathParam("category") final ProductCategory productCategory) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!wishlistService.isUserExist(userId)) {
-            return jsonObject.put("status", "User id not found").asBytes();
-        } else if (!wishlistService.isProductExist(productId)) {
-            return jsonObject.put("status", "product id not found").asBytes();
-        }
-
-        if (wishlistService.addProduct(productId, userId, productCategory)) {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item added to the wishlist", userId, productId));
-
-            return jsonObject.put("status", "Item added to the wishlist").asBytes();
-        } else {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item is already in the wishlist", userId, productId));
-
-            return jsonObject.put("status", "Item is already in the wishlist").asBytes();
-        }
+    public void addProduct(@PathParam("productId") final int productId,
+                           @PathParam("userId") final int userId,
+                           @PathParam("category") final ProductCategory productCategory,
+                           @Suspended final AsyncResponse asyncResponse) {
+        final CompletionStage<Optional<StatusResponse>> checks = AsyncResponses.check(
+                asyncWishlistService.isUserExist(userId), StatusResponse.USER_ID_NOT_FOUND,
+                asyncWishlistService.isProductExist(productId), StatusResponse.PRODUCT_ID_NOT_FOUND);
+
+        AsyncResponses.resume(asyncResponse, AsyncResponses.ifPassed(checks, () -> asyncWishlistService
+                .addProduct(productId, userId, productCategory).thenApply(isAdded -> {
+                    if (isAdded) {
+                        LOGGER.info(String.format("User id :%d Product Id :%d - Item added to the wishlist", userId, productId));
+
+                        return StatusResponse.ITEM_ADDED_TO_WISHLIST.asBytes();
+                    }
+                    LOGGER.info(String.format("User id :%d Product Id :%d - Item is already in the wishlist", userId, productId));
+
+                    return StatusResponse.ITEM_ALREADY_IN_WISHLIST.asBytes();
+                })));
     }
 
     /**
      * <p>
-     * Removes the product from the wishlist of the specified user.
+     * Removes the product from the wishlist of the specified user. The existence of the product and the user are checked
+     * concurrently, and the response is resumed once the product is removed.
      * </p>
      *
-     * @param productId Refers the id of the product to be removed.
-     * @param userId    Refers the user id.
+     * @param productId     Refers the id of the product to be removed.
+     * @param userId        Refers the user id.
+     * @param asyncResponse Refers the suspended response.
      */
     @Path("/{userId}/{productId}")
     @Produces(MediaType.APPLICATION_JSON)
     @DELETE
-    public byte[] removeProduct(@PathParam("productId") final int productId, @PathParam("userId") final int userId) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!wishlistService.isProductExist(productId)) {
-            return jsonObject.put("status", "product not found").asBytes();
-        } else if (!wishlistService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
-        final boolean status = wishlistService.removeProduct(productId, userId);
-
-        if (status) {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the wishlist", userId, productId));
-
-            return jsonObject.put("status", "Item removed from the wishlist").asBytes();
-        } else {
-            LOGGER.info(String.format("User id :%d Product Id :%d - Item not found", userId, productId));
-
-            return jsonObject.put("status", "Item not found").asBytes();
-        }
+    public void removeProduct(@PathParam("productId") final int productId,
+                              @PathParam("userId") final int userId,
+                              @Suspended final AsyncResponse asyncResponse) {
+        final CompletionStage<Optional<StatusResponse>> checks = AsyncResponses.check(
+                asyncWishlistService.isProductExist(productId), StatusResponse.PRODUCT_NOT_FOUND,
+                asyncWishlistService.isUserExist(userId), StatusResponse.USER_NOT_FOUND);
+
+        AsyncResponses.resume(asyncResponse, AsyncResponses.ifPassed(checks, () -> asyncWishlistService
+                .removeProduct(productId, userId).thenApply(isRemoved -> {
+                    if (isRemoved) {
+                        LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the wishlist", userId, productId));
+
+                        return StatusResponse.ITEM_REMOVED_FROM_WISHLIST.asBytes();
+                    }
+                    LOGGER.info(String.format("User id :%d Product Id :%d - Item not found", userId, productId));
+
+                    return StatusResponse.ITEM_NOT_FOUND.asBytes();
+                })));
     }
 
     /**
      * <p>
-     * Gets the wishlist of the specified user id and returns it.
+     * Gets the wishlist of the specified user id and returns it. When the version known by the client is given, only
+     * the products added or removed since that version are returned, or not modified if there is no change.
      * </p>
      *
-     * @param userId Refers the user id who owns the cart.
-     * @return the {@link Wishlist} of the user.
+     * @param userId        Refers the user id who owns the cart.
+     * @param page          Refers the page number.
+     * @param version       Refers the version of the wishlist known by the client.
+     * @param asyncResponse Refers the suspended response.
      */
     @Path("/{userId}")
     @Produces(MediaType.APPLICATION_JSON)
     @GET
-    public byte[] getWishlist(@PathParam("userId") final int userId,
-                              @QueryParam("page") final int page) {
-        final JsonObject jsonObject = jsonFactory.createJsonObject();
-
-        if (!wishlistService.isUserExist(userId)) {
-            return jsonObject.put("status", "User not found").asBytes();
-        }
-        final Optional<Wishlist> optionalWishlist = wishlistService.getWishlist(userId, page);
-
-        return optionalWishlist.isPresent()
-                ? jsonFactory.toJson(optionalWishlist.get()).asBytes()
-                : jsonObject.put("status", "No items in wishlist").asBytes();
+    public void getWishlist(@PathParam("userId") final int userId,
+                            @QueryParam("page") final int page,
+                            @QueryParam("since") final Long version,
+                            @Suspended final AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse, asyncWishlistService.isUserExist(userId).thenCompose(isUserExist -> {
+            if (!isUserExist) {
+                return CompletableFuture.completedFuture(Response.ok(StatusResponse.USER_NOT_FOUND.asBytes()).build());
+            }
+
+            if (Objects.nonNull(version)) {
+                final Optional<Delta> optionalDelta = wishlistService.getChanges(userId, version);
+
+                if (optionalDelta.isPresent()) {
+                    final Delta delta = optionalDelta.get();
+
+                    return CompletableFuture.completedFuture(delta.isEmpty()
+                            ? Response.notModified().header(VERSION_HEADER, delta.getVersion()).build()
+                            : Response.ok(jsonFactory.toBytes(delta)).header(VERSION_HEADER, delta.getVersion())
+                            .build());
+                }
+            }
+            final long currentVersion = wishlistService.getVersion(userId);
+
+            return asyncWishlistService.getWishlist(userId, page).thenApply(optionalWishlist -> Response.ok(
+                    optionalWishlist.isPresent()
+                            ? jsonFactory.toBytes(optionalWishlist.get())
+                            : StatusResponse.NO_ITEMS_IN_WISHLIST.asBytes())
+                    .header(VERSION_HEADER, currentVersion).build());
+        }));
     }
 }
@@ -0,0 +1,105 @@
+package com.flipkart.product.dao;
+
+import com.flipkart.authentication.dao.DaoConfiguration;
+import com.flipkart.authentication.dao.DaoRouter;
+import com.flipkart.product.dao.cart.CartDAO;
+import com.flipkart.product.dao.cart.RoutedCartDAO;
+import com.flipkart.product.dao.inventory.InventoryDAO;
+import com.flipkart.product.dao.inventory.RoutedInventoryDAO;
+import com.flipkart.product.dao.order.OrderDAO;
+import com.flipkart.product.dao.order.RoutedOrderDAO;
+import com.flipkart.product.dao.wishlist.RoutedWishlistDAO;
+import com.flipkart.product.dao.wishlist.WishlistDAO;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Holds the {@link DaoRouter} of each DAO of the product bundle. The services use the routed DAOs, so their versions
+ * follow the {@link DaoConfiguration}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class DaoRouters {
+
+    /**
+     * <p>
+     * Default constructor of DaoRouters class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private DaoRouters() {}
+
+    /**
+     * <p>
+     * Creates a single instance of the router of each DAO.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final DaoConfiguration DAO_CONFIGURATION = DaoConfiguration.getInstance();
+        private static final RoutedCartDAO CART_DAO_ROUTER = DAO_CONFIGURATION.register(new RoutedCartDAO());
+        private static final RoutedInventoryDAO INVENTORY_DAO_ROUTER = DAO_CONFIGURATION.register(
+                new RoutedInventoryDAO());
+        private static final RoutedOrderDAO ORDER_DAO_ROUTER = DAO_CONFIGURATION.register(new RoutedOrderDAO());
+        private static final RoutedWishlistDAO WISHLIST_DAO_ROUTER = DAO_CONFIGURATION.register(
+                new RoutedWishlistDAO());
+    }
+
+    /**
+     * <p>
+     * Gets the cart DAO routed to the selected version.
+     * </p>
+     *
+     * @return the routed {@link CartDAO}.
+     */
+    public static CartDAO getCartDAO() {
+        return InstanceHolder.CART_DAO_ROUTER;
+    }
+
+    /**
+     * <p>
+     * Gets the inventory DAO routed to the selected version.
+     * </p>
+     *
+     * @return the routed {@link InventoryDAO}.
+     */
+    public static InventoryDAO getInventoryDAO() {
+        return InstanceHolder.INVENTORY_DAO_ROUTER;
+    }
+
+    /**
+     * <p>
+     * Gets the order DAO routed to the selected version.
+     * </p>
+     *
+     * @return the routed {@link OrderDAO}.
+     */
+    public static OrderDAO getOrderDAO() {
+        return InstanceHolder.ORDER_DAO_ROUTER;
+    }
+
+    /**
+     * <p>
+     * Gets the wishlist DAO routed to the selected version.
+     * </p>
+     *
+     * @return the routed {@link WishlistDAO}.
+     */
+    public static WishlistDAO getWishlistDAO() {
+        return InstanceHolder.WISHLIST_DAO_ROUTER;
+    }
+
+    /**
+     * <p>
+     * Gets the routers of all the DAOs of the bundle.
+     * </p>
+     *
+     * @return the list of {@link DaoRouter}.
+     */
+    public static List<DaoRouter<?>> getAll() {
+        return List.of(InstanceHolder.CART_DAO_ROUTER, InstanceHolder.INVENTORY_DAO_ROUTER,
+                InstanceHolder.ORDER_DAO_ROUTER, InstanceHolder.WISHLIST_DAO_ROUTER);
+    }
+}
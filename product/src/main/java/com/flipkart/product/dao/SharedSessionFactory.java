@@ -0,0 +1,47 @@
+package com.flipkart.product.dao;
+
+import com.flipkart.authentication.hibernate.SessionFactoryBuilder;
+import com.flipkart.authentication.model.Address;
+import com.flipkart.product.model.order.Order;
+
+import org.hibernate.SessionFactory;
+
+/**
+ * <p>
+ * Holds the session factory shared by all the v2 DAOs of the product bundle, so its statistics cover all of them.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SharedSessionFactory {
+
+    /**
+     * <p>
+     * Default constructor of SharedSessionFactory class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private SharedSessionFactory() {}
+
+    /**
+     * <p>
+     * Creates a single instance of the session factory, built with the entities of the bundle. The products are not
+     * registered, as the v2 DAOs read them from the rows and Hibernate can't proxy their sealed class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final SessionFactory SESSION_FACTORY = SessionFactoryBuilder.build(Order.class, Address.class);
+    }
+
+    /**
+     * <p>
+     * Gets the single session factory of the bundle and returns it.
+     * </p>
+     *
+     * @return returns the shared {@link SessionFactory}.
+     */
+    public static SessionFactory getInstance() {
+        return InstanceHolder.SESSION_FACTORY;
+    }
+}
@@ -0,0 +1,48 @@
+package com.flipkart.product.dao.cart;
+
+import com.flipkart.authentication.dao.DaoRouter;
+import com.flipkart.product.model.cart.Cart;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Routes the calls of the {@link CartDAO} to the selected version, shadowing the reads of the cart and its products.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RoutedCartDAO extends DaoRouter<CartDAO> implements CartDAO {
+
+    /**
+     * <p>
+     * Creates the router of the cart DAO with its v1 and v2 implementations.
+     * </p>
+     */
+    public RoutedCartDAO() {
+        super(CartDAO.class, "cart", Map.of("v1", com.flipkart.product.dao.cart.v1.CartDAOImpl::getInstance,
+                "v2", com.flipkart.product.dao.cart.v2.CartDAOImpl::getInstance));
+    }
+
+    @Override
+    public boolean addProduct(final int productId, final int userId) {
+        return getPrimary().addProduct(productId, userId);
+    }
+
+    @Override
+    public boolean removeProduct(final int productId, final int userId) {
+        return getPrimary().removeProduct(productId, userId);
+    }
+
+    @Override
+    public Optional<Cart> getCart(final int userId, final int page) {
+        return read("getCart", cartDAO -> cartDAO.getCart(userId, page));
+    }
+
+    @Override
+    public boolean isProductExist(final int userId, final int productId) {
+        return read("isProductExist", cartDAO -> cartDAO.isProductExist(userId, productId));
+    }
+}
@@ -0,0 +1,135 @@
+package com.flipkart.product.dao.cart;
+
+import com.flipkart.authentication.jfr.DaoCallEvent;
+import com.flipkart.authentication.metrics.MethodMetrics;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.metrics.MetricType;
+import com.flipkart.product.model.cart.Cart;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Measures the calls of the {@link CartDAO} of a version with the {@link MetricRegistry}, and records them as
+ * {@link DaoCallEvent}s when a flight recording enables them. The metrics of each method are got once on creation,
+ * so a call only adds a clock read and the recording to the DAO. The method is started as the current one of the
+ * thread, so the Hibernate work of the call is attributed to it.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TimedCartDAO implements CartDAO {
+
+    private final CartDAO cartDAO;
+    private final MethodMetrics addProductMetrics;
+    private final MethodMetrics removeProductMetrics;
+    private final MethodMetrics getCartMetrics;
+    private final MethodMetrics isProductExistMetrics;
+
+    /**
+     * <p>
+     * Wraps the DAO to measure its calls.
+     * </p>
+     *
+     * @param cartDAO Refers the {@link CartDAO} to be measured.
+     * @param version Refers the version of the DAO.
+     */
+    public TimedCartDAO(final CartDAO cartDAO, final String version) {
+        final MetricRegistry metricRegistry = MetricRegistry.getInstance();
+
+        this.cartDAO = cartDAO;
+        addProductMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "CartDAO.addProduct", version);
+        removeProductMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "CartDAO.removeProduct", version);
+        getCartMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "CartDAO.getCart", version);
+        isProductExistMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "CartDAO.isProductExist", version);
+    }
+
+    @Override
+    public boolean addProduct(final int productId, final int userId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = addProductMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = cartDAO.addProduct(productId, userId);
+
+            addProductMetrics.record(startTime);
+            event.record(addProductMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            addProductMetrics.recordFailure(startTime);
+            event.recordFailure(addProductMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean removeProduct(final int productId, final int userId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = removeProductMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = cartDAO.removeProduct(productId, userId);
+
+            removeProductMetrics.record(startTime);
+            event.record(removeProductMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            removeProductMetrics.recordFailure(startTime);
+            event.recordFailure(removeProductMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public Optional<Cart> getCart(final int userId, final int page) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getCartMetrics.start();
+
+        event.begin();
+
+        try {
+            final Optional<Cart> result = cartDAO.getCart(userId, page);
+
+            getCartMetrics.record(startTime);
+            event.record(getCartMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getCartMetrics.recordFailure(startTime);
+            event.recordFailure(getCartMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isProductExist(final int userId, final int productId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = isProductExistMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = cartDAO.isProductExist(userId, productId);
+
+            isProductExistMetrics.record(startTime);
+            event.record(isProductExistMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            isProductExistMetrics.recordFailure(startTime);
+            event.recordFailure(isProductExistMetrics);
+
+            throw exception;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.flipkart.product.model.product.Clothes;
 import com.flipkart.product.model.product.Laptop;
 import com.flipkart.product.model.product.Mobile;
 import com.flipkart.product.dao.cart.CartDAO;
+import com.flipkart.product.dao.cart.TimedCartDAO;
 import com.flipkart.product.exceptions.ItemAdditionFailedException;
 import com.flipkart.product.exceptions.ItemRemovalFailedException;
 
@@ -41,12 +42,12 @@ public class CartDAOImpl implements CartDAO {
 
     /**
      * <p>
-     * Creates a single instance of CartDAOImpl class.
+     * Creates a single instance of CartDAOImpl class, measured by the {@link TimedCartDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final CartDAOImpl CART_DAO = new CartDAOImpl();
+        private static final CartDAO CART_DAO = new TimedCartDAO(new CartDAOImpl(), "v1");
     }
 
     /**
@@ -6,7 +6,9 @@ import com.flipkart.product.model.product.Clothes;
 import com.flipkart.product.model.product.Laptop;
 import com.flipkart.product.model.product.Mobile;
 import com.flipkart.authentication.exceptions.UserCheckFailedException;
+import com.flipkart.product.dao.SharedSessionFactory;
 import com.flipkart.product.dao.cart.CartDAO;
+import com.flipkart.product.dao.cart.TimedCartDAO;
 import com.flipkart.product.exceptions.ItemAdditionFailedException;
 import com.flipkart.product.exceptions.ItemRemovalFailedException;
 
@@ -14,7 +16,6 @@ import jakarta.persistence.Query;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
 import java.util.List;
 import java.util.Optional;
@@ -37,17 +38,17 @@ public class CartDAOImpl implements CartDAO {
      * </p>
      */
     private CartDAOImpl() {
-        sessionFactory = new Configuration().buildSessionFactory();
+        sessionFactory = SharedSessionFactory.getInstance();
     }
 
     /**
      * <p>
-     * Creates a single instance of CartDAOImpl2 class.
+     * Creates a single instance of CartDAOImpl2 class, measured by the {@link TimedCartDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final CartDAOImpl CART_DAO = new CartDAOImpl();
+        private static final CartDAO CART_DAO = new TimedCartDAO(new CartDAOImpl(), "v2");
     }
 
     /**
@@ -57,7 +58,7 @@ public class CartDAOImpl implements CartDAO {
      *
      * @return returns the single instance of CartDAOImpl Class.
      */
-    public static CartDAOImpl getInstance() {
+    public static CartDAO getInstance() {
         return InstanceHolder.CART_DAO;
     }
 
@@ -144,18 +145,18 @@ public class CartDAOImpl implements CartDAO {
 
     /**
      * <p>
-     * Checks whether the product exists in wishlist or not.
+     * Checks whether the product exists in cart or not.
      * </p>
      *
-     * @param userId Refers the id of the user.
      * @param productId Refers the product id.
+     * @param userId Refers the id of the user.
      * @return true if the product already exists or false otherwise.
      */
     @Override
-    public boolean isProductExist(final int userId, final int productId) {
+    public boolean isProductExist(final int productId, final int userId) {
         try (final Session session = sessionFactory.openSession()) {
             final Query query = session.createNativeQuery(
-                    "select count(id) from cart where cart.user_id = :userId or cart.product_id = :productId", Integer.class);
+                    "select count(id) from cart where cart.user_id = :userId and cart.product_id = :productId", Integer.class);
 
             query.setParameter("userId", userId);
             query.setParameter("productId", productId);
@@ -182,11 +183,11 @@ public class CartDAOImpl implements CartDAO {
         final Cart cart = new Cart();
 
         for (final Object[] row : resultList) {
-            final long productId = (Long) row[0];
+            final int productId = (Integer) row[0];
             final int productCategoryId = (Integer) row[1];
             final String brand = (String) row[2];
             final String model = (String) row[3];
-            final double price = (double) row[4];
+            final double price = ((Number) row[4]).doubleValue();
             final String clothesType = (String) row[5];
             final String size = (String) row[6];
             final String gender = (String) row[7];
@@ -194,9 +195,9 @@ public class CartDAOImpl implements CartDAO {
             final int quantity = (int) row[9];
 
             switch (productCategoryId) {
-                case 1 -> cart.addItem(new Mobile(brand, model, price, quantity, (int) productId));
-                case 2 -> cart.addItem(new Laptop(brand, model, price, quantity, (int) productId));
-                case 3 -> cart.addItem(new Clothes(clothesType, clothesBrand, gender, size, price, quantity, (int) productId));
+                case 1 -> cart.addItem(new Mobile(brand, model, price, quantity, productId));
+                case 2 -> cart.addItem(new Laptop(brand, model, price, quantity, productId));
+                case 3 -> cart.addItem(new Clothes(clothesType, clothesBrand, gender, size, price, quantity, productId));
             }
         }
 
@@ -54,4 +54,14 @@ public interface InventoryDAO {
      * @return true if the product already exists or false otherwise.
      */
     boolean isProductExist(final int productId);
+
+    /**
+     * <p>
+     * Gets the quantity of the product available in the inventory.
+     * </p>
+     *
+     * @param productId Refers the product id.
+     * @return the available quantity or zero if the product is not found.
+     */
+    int getQuantity(final int productId);
 }
@@ -0,0 +1,56 @@
+package com.flipkart.product.dao.inventory;
+
+import com.flipkart.authentication.dao.DaoRouter;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.product.Product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Routes the calls of the {@link InventoryDAO} to the selected version, shadowing the reads of the products and their
+ * quantities.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RoutedInventoryDAO extends DaoRouter<InventoryDAO> implements InventoryDAO {
+
+    /**
+     * <p>
+     * Creates the router of the inventory DAO with its v1 and v2 implementations.
+     * </p>
+     */
+    public RoutedInventoryDAO() {
+        super(InventoryDAO.class, "inventory", Map.of(
+                "v1", com.flipkart.product.dao.inventory.v1.InventoryDAOImpl::getInstance,
+                "v2", com.flipkart.product.dao.inventory.v2.InventoryDAOImpl::getInstance));
+    }
+
+    @Override
+    public void addItem(final List<Product> products) {
+        getPrimary().addItem(products);
+    }
+
+    @Override
+    public boolean removeItem(final int productId) {
+        return getPrimary().removeItem(productId);
+    }
+
+    @Override
+    public List<? extends Product> getProductByCategory(final ProductCategory productCategory, final int page) {
+        return read("getProductByCategory", inventoryDAO -> inventoryDAO.getProductByCategory(productCategory, page));
+    }
+
+    @Override
+    public boolean isProductExist(final int productId) {
+        return read("isProductExist", inventoryDAO -> inventoryDAO.isProductExist(productId));
+    }
+
+    @Override
+    public int getQuantity(final int productId) {
+        return read("getQuantity", inventoryDAO -> inventoryDAO.getQuantity(productId));
+    }
+}
@@ -0,0 +1,158 @@
+package com.flipkart.product.dao.inventory;
+
+import com.flipkart.authentication.jfr.DaoCallEvent;
+import com.flipkart.authentication.metrics.MethodMetrics;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.metrics.MetricType;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.product.Product;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Measures the calls of the {@link InventoryDAO} of a version with the {@link MetricRegistry}, and records them as
+ * {@link DaoCallEvent}s when a flight recording enables them. The metrics of each method are got once on creation,
+ * so a call only adds a clock read and the recording to the DAO. The method is started as the current one of the
+ * thread, so the Hibernate work of the call is attributed to it.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TimedInventoryDAO implements InventoryDAO {
+
+    private final InventoryDAO inventoryDAO;
+    private final MethodMetrics addItemMetrics;
+    private final MethodMetrics removeItemMetrics;
+    private final MethodMetrics getProductByCategoryMetrics;
+    private final MethodMetrics isProductExistMetrics;
+    private final MethodMetrics getQuantityMetrics;
+
+    /**
+     * <p>
+     * Wraps the DAO to measure its calls.
+     * </p>
+     *
+     * @param inventoryDAO Refers the {@link InventoryDAO} to be measured.
+     * @param version Refers the version of the DAO.
+     */
+    public TimedInventoryDAO(final InventoryDAO inventoryDAO, final String version) {
+        final MetricRegistry metricRegistry = MetricRegistry.getInstance();
+
+        this.inventoryDAO = inventoryDAO;
+        addItemMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "InventoryDAO.addItem", version);
+        removeItemMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "InventoryDAO.removeItem", version);
+        getProductByCategoryMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "InventoryDAO.getProductByCategory",
+                version);
+        isProductExistMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "InventoryDAO.isProductExist", version);
+        getQuantityMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "InventoryDAO.getQuantity", version);
+    }
+
+    @Override
+    public void addItem(final List<Product> products) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = addItemMetrics.start();
+
+        event.begin();
+
+        try {
+            inventoryDAO.addItem(products);
+            addItemMetrics.record(startTime);
+            event.record(addItemMetrics);
+        } catch (final RuntimeException exception) {
+            addItemMetrics.recordFailure(startTime);
+            event.recordFailure(addItemMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean removeItem(final int productId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = removeItemMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = inventoryDAO.removeItem(productId);
+
+            removeItemMetrics.record(startTime);
+            event.record(removeItemMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            removeItemMetrics.recordFailure(startTime);
+            event.recordFailure(removeItemMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public List<? extends Product> getProductByCategory(final ProductCategory productCategory, final int page) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getProductByCategoryMetrics.start();
+
+        event.begin();
+
+        try {
+            final List<? extends Product> result = inventoryDAO.getProductByCategory(productCategory, page);
+
+            getProductByCategoryMetrics.record(startTime);
+            event.record(getProductByCategoryMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getProductByCategoryMetrics.recordFailure(startTime);
+            event.recordFailure(getProductByCategoryMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isProductExist(final int productId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = isProductExistMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = inventoryDAO.isProductExist(productId);
+
+            isProductExistMetrics.record(startTime);
+            event.record(isProductExistMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            isProductExistMetrics.recordFailure(startTime);
+            event.recordFailure(isProductExistMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public int getQuantity(final int productId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getQuantityMetrics.start();
+
+        event.begin();
+
+        try {
+            final int result = inventoryDAO.getQuantity(productId);
+
+            getQuantityMetrics.record(startTime);
+            event.record(getQuantityMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getQuantityMetrics.recordFailure(startTime);
+            event.recordFailure(getQuantityMetrics);
+
+            throw exception;
+        }
+    }
+}
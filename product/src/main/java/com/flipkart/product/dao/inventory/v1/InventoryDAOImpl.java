@@ -12,6 +12,7 @@ import com.flipkart.product.model.product.Mobile;
 import com.flipkart.product.model.product.Product;
 import com.flipkart.database.connection.DatabaseConnection;
 import com.flipkart.product.dao.inventory.InventoryDAO;
+import com.flipkart.product.dao.inventory.TimedInventoryDAO;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -43,12 +44,12 @@ public class InventoryDAOImpl implements InventoryDAO {
     }
     /**
      * <p>
-     * Creates a single instance of InventoryDAOImpl class.
+     * Creates a single instance of InventoryDAOImpl class, measured by the {@link TimedInventoryDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final InventoryDAOImpl INVENTORY_DAO = new InventoryDAOImpl();
+        private static final InventoryDAO INVENTORY_DAO = new TimedInventoryDAO(new InventoryDAOImpl(), "v1");
     }
 
     /**
@@ -58,7 +59,7 @@ public class InventoryDAOImpl implements InventoryDAO {
      *
      * @return returns the single instance of InventoryDAOImpl Class.
      */
-    public static InventoryDAOImpl getInstance() {
+    public static InventoryDAO getInstance() {
         return InstanceHolder.INVENTORY_DAO;
     }
 
@@ -410,4 +411,25 @@ public class InventoryDAOImpl implements InventoryDAO {
             throw new UserCheckFailedException(exception.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * <p>
+     * Gets the quantity of the product available in the inventory.
+     * </p>
+     *
+     * @param productId Refers the product id.
+     * @return the available quantity or zero if the product is not found.
+     */
+    @Override
+    public int getQuantity(final int productId) {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement("select quantity from product where id = ?")) {
+            connection.setAutoCommit(true);
+            preparedStatement.setInt(1, productId);
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        } catch (SQLException exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
+    }
+}
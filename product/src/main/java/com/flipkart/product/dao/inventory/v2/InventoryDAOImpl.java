@@ -6,7 +6,9 @@ import com.flipkart.product.model.product.Clothes;
 import com.flipkart.product.model.product.Laptop;
 import com.flipkart.product.model.product.Mobile;
 import com.flipkart.authentication.exceptions.UserCheckFailedException;
+import com.flipkart.product.dao.SharedSessionFactory;
 import com.flipkart.product.dao.inventory.InventoryDAO;
+import com.flipkart.product.dao.inventory.TimedInventoryDAO;
 import com.flipkart.product.exceptions.ItemAdditionFailedException;
 import com.flipkart.product.exceptions.ItemRemovalFailedException;
 import com.flipkart.product.model.product.Product;
@@ -14,10 +16,10 @@ import com.flipkart.product.model.product.Product;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
-import org.hibernate.cfg.Configuration;
 
 import jakarta.persistence.Query;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -40,17 +42,17 @@ public class InventoryDAOImpl implements InventoryDAO {
      * </p>
      */
     private InventoryDAOImpl() {
-        sessionFactory = new Configuration().buildSessionFactory();
+        sessionFactory = SharedSessionFactory.getInstance();
     }
 
     /**
      * <p>
-     * Creates a single instance of InventoryDAOImpl2 class.
+     * Creates a single instance of InventoryDAOImpl2 class, measured by the {@link TimedInventoryDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final InventoryDAOImpl INVENTORY_DAO = new InventoryDAOImpl();
+        private static final InventoryDAO INVENTORY_DAO = new TimedInventoryDAO(new InventoryDAOImpl(), "v2");
     }
 
     /**
@@ -60,7 +62,7 @@ public class InventoryDAOImpl implements InventoryDAO {
      *
      * @return returns the single instance of InventoryDAOImpl2 Class.
      */
-    public static InventoryDAOImpl getInstance() {
+    public static InventoryDAO getInstance() {
         return InstanceHolder.INVENTORY_DAO;
     }
 
@@ -77,9 +79,9 @@ public class InventoryDAOImpl implements InventoryDAO {
         try (final Session session = sessionFactory.openSession()) {
             final HashSet<Product> allProducts = new HashSet<>();
 
-            allProducts.addAll(getMobileItems());
-            allProducts.addAll(getLaptopItems());
-            allProducts.addAll(getClothesItems());
+            allProducts.addAll(getItems(ProductCategory.MOBILE));
+            allProducts.addAll(getItems(ProductCategory.LAPTOP));
+            allProducts.addAll(getItems(ProductCategory.CLOTHES));
 
             for (final Product product : products) {
                 if (allProducts.contains(product)) {
@@ -174,10 +176,10 @@ public class InventoryDAOImpl implements InventoryDAO {
     @Override
     public boolean removeItem(final int productId) {
         try (final Session session = sessionFactory.openSession()) {
-            final Query query = session.createNativeQuery("Delete from product where id=?", Product.class);
+            final Query query = (Query) session.createNativeMutationQuery("Delete from product where id=?");
 
             session.beginTransaction();
-            query.setParameter(1, 116);
+            query.setParameter(1, productId);
             final int rowsAffected = query.executeUpdate();
 
             session.getTransaction().commit();
@@ -199,58 +201,45 @@ public class InventoryDAOImpl implements InventoryDAO {
      */
     @Override
     public List<? extends Product> getProductByCategory(final ProductCategory productCategory, final int page) {
-        return switch (productCategory) {
-            case MOBILE -> getMobileItems(page);
-            case LAPTOP -> getLaptopItems(page);
-            case CLOTHES -> getClothesItems(page);
-        };
-    }
+        final int limit = 5;
 
-    /**
-     * <p>
-     * Gets all the mobiles from the inventory and returns it.
-     * </p>
-     *
-     * @return all the {@link Mobile}.
-     */
-    private List<Mobile> getMobileItems() {
-        try (final Session session = sessionFactory.openSession()) {
-            return session.createNativeQuery(getQueryForMobiles(), Mobile.class).getResultList();
-        } catch (Exception exception) {
-            throw new ItemNotFoundException(exception.getMessage());
-        }
+        return getItems(productCategory, page, limit);
     }
 
     /**
      * <p>
-     * Gets all the mobiles from the inventory and returns it.
+     * Gets all the products of the category from the inventory and returns it.
      * </p>
      *
-     * @param page Refers the page number.
-     * @return all the {@link Product}.
+     * @param productCategory Refers the product category.
+     * @return all the {@link Product} of the category.
      */
-    private List<Mobile> getMobileItems(final int page) {
-        final int limit = 5;
-        final Session session = sessionFactory.openSession();
-
-        final Query query = session.createNativeQuery(getQueryForMobiles(), Mobile.class);
-        query.setFirstResult(page);
-        query.setMaxResults(limit);
-        session.close();
-
-        return query.getResultList();
+    private List<Product> getItems(final ProductCategory productCategory) {
+        return getItems(productCategory, 0, Integer.MAX_VALUE);
     }
 
     /**
      * <p>
-     * Gets all the laptops from the inventory and returns it.
+     * Gets the products of the category from the inventory within the session and returns it.
      * </p>
      *
-     * @return all the {@link Laptop}.
+     * @param productCategory Refers the product category.
+     * @param firstResult Refers the position of the first product.
+     * @param maxResults Refers the maximum count of the products.
+     * @return the {@link Product} of the category.
      */
-    private List<Laptop> getLaptopItems() {
+    private List<Product> getItems(final ProductCategory productCategory, final int firstResult,
+                                   final int maxResults) {
         try (final Session session = sessionFactory.openSession()) {
-            return session.createNativeQuery(getQueryForLaptops(), Laptop.class).getResultList();
+            final List<Object[]> resultList = session.createNativeQuery(getQuery(productCategory), Object[].class)
+                    .setFirstResult(firstResult).setMaxResults(maxResults).getResultList();
+            final List<Product> products = new ArrayList<>(resultList.size());
+
+            for (final Object[] row : resultList) {
+                products.add(getProduct(productCategory, row));
+            }
+
+            return products;
         } catch (Exception exception) {
             throw new ItemNotFoundException(exception.getMessage());
         }
@@ -258,57 +247,38 @@ public class InventoryDAOImpl implements InventoryDAO {
 
     /**
      * <p>
-     * Gets all the Laptops from the inventory and returns it.
-     * </p>
-     *
-     * @param page Refers the page number.
-     * @return all the {@link Product} in the mobile inventory.
-     */
-    private List<Laptop> getLaptopItems(final int page) {
-        final int limit = 5;
-        final Session session = sessionFactory.openSession();
-
-        final Query query = session.createNativeQuery(getQueryForMobiles(), Laptop.class);
-        query.setFirstResult(page);
-        query.setMaxResults(limit);
-        session.close();
-
-        return query.getResultList();
-    }
-
-    /**
-     * <p>
-     * Gets all the clothes from the inventory and returns it.
+     * Gets the product of the category from a row of its query.
      * </p>
      *
-     * @return all the {@link Clothes}.
+     * @param productCategory Refers the product category.
+     * @param row Refers the row of the query of the category.
+     * @return the {@link Product}.
      */
-    private List<Clothes> getClothesItems() {
-        try (final Session session = sessionFactory.openSession()) {
-            return session.createNativeQuery(getQueryForClothes(), Clothes.class).getResultList();
-        } catch (Exception exception) {
-            throw new ItemNotFoundException(exception.getMessage());
-        }
+    private Product getProduct(final ProductCategory productCategory, final Object[] row) {
+        return switch (productCategory) {
+            case MOBILE -> new Mobile((String) row[0], (String) row[1], ((Number) row[2]).doubleValue(),
+                    (Integer) row[3], (Integer) row[4]);
+            case LAPTOP -> new Laptop((String) row[0], (String) row[1], ((Number) row[2]).doubleValue(),
+                    (Integer) row[3], (Integer) row[4]);
+            case CLOTHES -> new Clothes((String) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    ((Number) row[4]).doubleValue(), (Integer) row[5], (Integer) row[6]);
+        };
     }
 
     /**
      * <p>
-     * Gets all the clothes from inventory and returns it.
+     * Gets the query for getting all the products of the category.
      * </p>
      *
-     * @param page Refers the page number.
-     * @return all the {@link Product} in the mobile inventory.
+     * @param productCategory Refers the product category.
+     * @return the query.
      */
-    private List<Clothes> getClothesItems(final int page) {
-        final int limit = 5;
-        final Session session = sessionFactory.openSession();
-
-        final Query query = session.createNativeQuery(getQueryForClothes(), Clothes.class);
-        query.setFirstResult(page);
-        query.setMaxResults(limit);
-        session.close();
-
-        return (List<Clothes>)query.getResultList();
+    private String getQuery(final ProductCategory productCategory) {
+        return switch (productCategory) {
+            case MOBILE -> getQueryForMobiles();
+            case LAPTOP -> getQueryForLaptops();
+            case CLOTHES -> getQueryForClothes();
+        };
     }
 
     /**
@@ -371,4 +341,26 @@ public class InventoryDAOImpl implements InventoryDAO {
             throw new UserCheckFailedException(exception.getMessage());
         }
     }
+
+    /**
+     * <p>
+     * Gets the quantity of the product available in the inventory.
+     * </p>
+     *
+     * @param productId Refers the product id.
+     * @return the available quantity or zero if the product is not found.
+     */
+    @Override
+    public int getQuantity(final int productId) {
+        try (final Session session = sessionFactory.openSession()) {
+            final Query query = session.createNativeQuery(
+                    "select quantity from product where product.id = :productId", Integer.class);
+            query.setParameter("productId", productId);
+            final List<?> quantities = query.getResultList();
+
+            return quantities.isEmpty() ? 0 : (Integer) quantities.get(0);
+        } catch (Exception exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.flipkart.product.dao.order;
+
+import com.flipkart.authentication.dao.DaoRouter;
+import com.flipkart.authentication.model.Address;
+import com.flipkart.product.model.order.Order;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Routes the calls of the {@link OrderDAO} to the selected version, shadowing the reads of the orders and the
+ * addresses.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RoutedOrderDAO extends DaoRouter<OrderDAO> implements OrderDAO {
+
+    /**
+     * <p>
+     * Creates the router of the order DAO with its v1 and v2 implementations.
+     * </p>
+     */
+    public RoutedOrderDAO() {
+        super(OrderDAO.class, "order", Map.of("v1", com.flipkart.product.dao.order.v1.OrderDAOImpl::getInstance,
+                "v2", com.flipkart.product.dao.order.v2.OrderDAOImpl::getInstance));
+    }
+
+    @Override
+    public boolean addOrder(final int userId, final Order order) {
+        return getPrimary().addOrder(userId, order);
+    }
+
+    @Override
+    public List<Order> getOrders(final int userId, final int page) {
+        return read("getOrders", orderDAO -> orderDAO.getOrders(userId, page));
+    }
+
+    @Override
+    public boolean cancelOrder(final Order order) {
+        return getPrimary().cancelOrder(order);
+    }
+
+    @Override
+    public void addAddress(final int userId, final Address address) {
+        getPrimary().addAddress(userId, address);
+    }
+
+    @Override
+    public List<Address> getAddresses(final int userId) {
+        return read("getAddresses", orderDAO -> orderDAO.getAddresses(userId));
+    }
+}
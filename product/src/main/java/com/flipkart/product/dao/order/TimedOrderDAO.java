@@ -0,0 +1,157 @@
+package com.flipkart.product.dao.order;
+
+import com.flipkart.authentication.jfr.DaoCallEvent;
+import com.flipkart.authentication.metrics.MethodMetrics;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.metrics.MetricType;
+import com.flipkart.authentication.model.Address;
+import com.flipkart.product.model.order.Order;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Measures the calls of the {@link OrderDAO} of a version with the {@link MetricRegistry}, and records them as
+ * {@link DaoCallEvent}s when a flight recording enables them. The metrics of each method are got once on creation,
+ * so a call only adds a clock read and the recording to the DAO. The method is started as the current one of the
+ * thread, so the Hibernate work of the call is attributed to it.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TimedOrderDAO implements OrderDAO {
+
+    private final OrderDAO orderDAO;
+    private final MethodMetrics addOrderMetrics;
+    private final MethodMetrics getOrdersMetrics;
+    private final MethodMetrics cancelOrderMetrics;
+    private final MethodMetrics addAddressMetrics;
+    private final MethodMetrics getAddressesMetrics;
+
+    /**
+     * <p>
+     * Wraps the DAO to measure its calls.
+     * </p>
+     *
+     * @param orderDAO Refers the {@link OrderDAO} to be measured.
+     * @param version Refers the version of the DAO.
+     */
+    public TimedOrderDAO(final OrderDAO orderDAO, final String version) {
+        final MetricRegistry metricRegistry = MetricRegistry.getInstance();
+
+        this.orderDAO = orderDAO;
+        addOrderMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "OrderDAO.addOrder", version);
+        getOrdersMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "OrderDAO.getOrders", version);
+        cancelOrderMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "OrderDAO.cancelOrder", version);
+        addAddressMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "OrderDAO.addAddress", version);
+        getAddressesMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "OrderDAO.getAddresses", version);
+    }
+
+    @Override
+    public boolean addOrder(final int userId, final Order order) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = addOrderMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = orderDAO.addOrder(userId, order);
+
+            addOrderMetrics.record(startTime);
+            event.record(addOrderMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            addOrderMetrics.recordFailure(startTime);
+            event.recordFailure(addOrderMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public List<Order> getOrders(final int userId, final int page) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getOrdersMetrics.start();
+
+        event.begin();
+
+        try {
+            final List<Order> result = orderDAO.getOrders(userId, page);
+
+            getOrdersMetrics.record(startTime);
+            event.record(getOrdersMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getOrdersMetrics.recordFailure(startTime);
+            event.recordFailure(getOrdersMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean cancelOrder(final Order order) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = cancelOrderMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = orderDAO.cancelOrder(order);
+
+            cancelOrderMetrics.record(startTime);
+            event.record(cancelOrderMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            cancelOrderMetrics.recordFailure(startTime);
+            event.recordFailure(cancelOrderMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public void addAddress(final int userId, final Address address) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = addAddressMetrics.start();
+
+        event.begin();
+
+        try {
+            orderDAO.addAddress(userId, address);
+            addAddressMetrics.record(startTime);
+            event.record(addAddressMetrics);
+        } catch (final RuntimeException exception) {
+            addAddressMetrics.recordFailure(startTime);
+            event.recordFailure(addAddressMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public List<Address> getAddresses(final int userId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getAddressesMetrics.start();
+
+        event.begin();
+
+        try {
+            final List<Address> result = orderDAO.getAddresses(userId);
+
+            getAddressesMetrics.record(startTime);
+            event.record(getAddressesMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getAddressesMetrics.recordFailure(startTime);
+            event.recordFailure(getAddressesMetrics);
+
+            throw exception;
+        }
+    }
+}
@@ -2,8 +2,8 @@ package com.flipkart.product.dao.order.v1;
 
 import com.flipkart.authentication.model.Address;
 import com.flipkart.product.dao.order.OrderDAO;
+import com.flipkart.product.dao.order.TimedOrderDAO;
 import com.flipkart.product.model.OrderStatus;
-import com.flipkart.product.model.ProductCategory;
 import com.flipkart.authentication.exceptions.UpdateActionFailedException;
 import com.flipkart.authentication.exceptions.UserNotFoundException;
 import com.flipkart.database.connection.DatabaseConnection;
@@ -28,6 +28,7 @@ import java.util.List;
 public class OrderDAOImpl implements OrderDAO {
 
     private final Connection connection;
+    private final OrderRowMapper orderRowMapper;
 
     /**
      * <p>
@@ -36,16 +37,17 @@ public class OrderDAOImpl implements OrderDAO {
      */
     private OrderDAOImpl() {
         connection = DatabaseConnection.get();
+        orderRowMapper = OrderRowMapper.getInstance();
     }
 
     /**
      * <p>
-     * Creates a single instance of OrderDAOImpl class.
+     * Creates a single instance of OrderDAOImpl class, measured by the {@link TimedOrderDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final OrderDAOImpl ORDER_DAO = new OrderDAOImpl();
+        private static final OrderDAO ORDER_DAO = new TimedOrderDAO(new OrderDAOImpl(), "v1");
     }
 
     /**
@@ -61,19 +63,22 @@ public class OrderDAOImpl implements OrderDAO {
 
     /**
      * <p>
-     * Adds the order of the user.
+     * Adds the order of the user. The existence of the product and the user is checked by the insert itself, so
+     * nothing is inserted when either of them is not found.
      * </p>
      *
      * @param userId Refers the id of the user
      * @param order  Refers the {@link Order} to be added.
+     * @return true if the order is added or false if the product or the user is not found.
      */
     @Override
-    public void addOrder(final int userId, final Order order) {
+    public boolean addOrder(final int userId, final Order order) {
         final int productId = order.getProductId();
 
         try (final PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "insert into orders(user_id, product_id, address_id,",
-                        "payment_mode_id, quantity, total_amount, order_status_id) values (?,?,?,?,?,?,?)"))) {
+                        "payment_mode_id, quantity, total_amount, order_status_id) select ?,?,?,?,?,?,?",
+                        "where exists (select 1 from product where id = ?) and exists (select 1 from users where id = ?)"))) {
             connection.setAutoCommit(false);
             preparedStatement.setInt(1, userId);
             preparedStatement.setInt(2, productId);
@@ -82,10 +87,19 @@ public class OrderDAOImpl implements OrderDAO {
             preparedStatement.setInt(5, order.getQuantity());
             preparedStatement.setFloat(6, order.getTotalAmount());
             preparedStatement.setInt(7, order.getOrderStatusId());
-            preparedStatement.executeUpdate();
+            preparedStatement.setInt(8, productId);
+            preparedStatement.setInt(9, userId);
+
+            if (preparedStatement.executeUpdate() == 0) {
+                connection.rollback();
+
+                return false;
+            }
             addAddress(userId, order.getAddress());
             updateQuantity(productId, order.getQuantity());
             connection.commit();
+
+            return true;
         } catch (SQLException exception) {
             try {
                 connection.rollback();
@@ -124,20 +138,29 @@ public class OrderDAOImpl implements OrderDAO {
 
     /**
      * <p>
-     * Cancels the order placed by the user.
+     * Cancels the order placed by the user. The order is matched on the user and the product as well, so nothing is
+     * updated when either of them is not found.
      * </p>
      *
      * @param order Refers the {@link Order} to be cancelled.
+     * @return true if the order is cancelled or false if no such order is found.
      */
     @Override
-    public void cancelOrder(final Order order) {
+    public boolean cancelOrder(final Order order) {
         try (final PreparedStatement preparedStatement = connection
-                .prepareStatement("update orders set order_status_id =? where id =?")) {
+                .prepareStatement("update orders set order_status_id =? where id =? and user_id =? and product_id =?")) {
             connection.setAutoCommit(true);
             preparedStatement.setInt(1, OrderStatus.CANCELLED.getId());
             preparedStatement.setInt(2, order.getId());
-            preparedStatement.executeUpdate();
+            preparedStatement.setInt(3, order.getUserId());
+            preparedStatement.setInt(4, order.getProductId());
+
+            if (preparedStatement.executeUpdate() == 0) {
+                return false;
+            }
             updateQuantity(order.getProductId(), -order.getQuantity());
+
+            return true;
         } catch (SQLException exception) {
             throw new OrderRemovalFailedException(exception.getMessage());
         }
@@ -170,66 +193,12 @@ public class OrderDAOImpl implements OrderDAO {
             preparedStatement.setInt(2, offset);
             preparedStatement.setInt(3, limit);
 
-            return getOrdersFromResultSet(preparedStatement.executeQuery(), userId);
+            return orderRowMapper.getOrders(preparedStatement.executeQuery(), userId);
         } catch (SQLException exception) {
             throw new OrderNotFoundException(exception.getMessage());
         }
     }
 
-    /**
-     * <p>
-     * Gets all the orders from the provided ResultSet.
-     * </p>
-     *
-     * @param resultSet Refers the result set.
-     * @param userId    Refers the user id.
-     * @return all the {@link Order} of the user.
-     */
-    private List<Order> getOrdersFromResultSet(final ResultSet resultSet, final int userId) throws SQLException {
-        final List<Order> orders = new ArrayList<>();
-
-        while (resultSet.next()) {
-            final int orderId = resultSet.getInt(1);
-            final int productId = resultSet.getInt(2);
-            String productName = null;
-            final int paymentModeId = resultSet.getInt(3);
-            final int quantity = resultSet.getInt(4);
-            final float totalAmount = resultSet.getFloat(5);
-            final int orderStatusId = resultSet.getInt(6);
-            final ProductCategory productCategory = ProductCategory.valueOf(resultSet.getInt(7));
-            final String doorNumber = resultSet.getString(14);
-            final String street = resultSet.getString(15);
-            final String city = resultSet.getString(16);
-            final String state = resultSet.getString(17);
-            final String country = resultSet.getString(18);
-            final int pinCode = resultSet.getInt(19);
-
-            if (ProductCategory.MOBILE == productCategory || ProductCategory.LAPTOP == productCategory) {
-                final String brand = resultSet.getString(8);
-                final String model = resultSet.getString(9);
-                final float price = resultSet.getFloat(10);
-                productName = String.format("Product name : %s %s - Rs :%.2f", brand, model, price);
-            }
-
-            if (ProductCategory.CLOTHES == productCategory) {
-                final float price = resultSet.getFloat(10);
-                final String clothesType = resultSet.getString(11);
-                final String size = resultSet.getString(12);
-                final String gender = resultSet.getString(13);
-                final String brand = resultSet.getString(14);
-                productName = String.format("%s brand :%s size : %s gender: %s - Rs :%.2f ", clothesType, brand, size, gender, price);
-            }
-            final Address address = new Address(userId, doorNumber, street, city, state, pinCode, country);
-            final Order order = new Order.OrderBuilder(userId).setId(orderId)
-                    .setProductName(productName).setTotalAmount(totalAmount).setQuantity(quantity).setAddress(address)
-                    .setOrderStatusId(orderStatusId).setPaymentModeId(paymentModeId).setProductId(productId).build();
-
-            orders.add(order);
-        }
-
-        return orders;
-    }
-
     /**
      * <p>
      * Gets all the addresses of the user.
@@ -0,0 +1,104 @@
+package com.flipkart.product.dao.order.v1;
+
+import com.flipkart.authentication.model.Address;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.order.Order;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Maps the rows of the orders queried by the {@link OrderDAOImpl} to the orders, apart from the connection so the
+ * mapping is also measured without the database.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public final class OrderRowMapper {
+
+    /**
+     * <p>
+     * Default constructor of the OrderRowMapper class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private OrderRowMapper() {}
+
+    /**
+     * <p>
+     * Creates a single instance of OrderRowMapper class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final OrderRowMapper ORDER_ROW_MAPPER = new OrderRowMapper();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of OrderRowMapper Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of OrderRowMapper Class.
+     */
+    public static OrderRowMapper getInstance() {
+        return InstanceHolder.ORDER_ROW_MAPPER;
+    }
+
+    /**
+     * <p>
+     * Gets all the orders from the provided ResultSet. The address of the order follows the columns of the product.
+     * </p>
+     *
+     * @param resultSet Refers the result set.
+     * @param userId    Refers the user id.
+     * @return all the {@link Order} of the user.
+     */
+    public List<Order> getOrders(final ResultSet resultSet, final int userId) throws SQLException {
+        final List<Order> orders = new ArrayList<>();
+
+        while (resultSet.next()) {
+            final int orderId = resultSet.getInt(1);
+            final int productId = resultSet.getInt(2);
+            String productName = null;
+            final int paymentModeId = resultSet.getInt(3);
+            final int quantity = resultSet.getInt(4);
+            final float totalAmount = resultSet.getFloat(5);
+            final int orderStatusId = resultSet.getInt(6);
+            final ProductCategory productCategory = ProductCategory.valueOf(resultSet.getInt(7));
+            final String doorNumber = resultSet.getString(15);
+            final String street = resultSet.getString(16);
+            final String city = resultSet.getString(17);
+            final String state = resultSet.getString(18);
+            final String country = resultSet.getString(19);
+            final int pinCode = resultSet.getInt(20);
+
+            if (ProductCategory.MOBILE == productCategory || ProductCategory.LAPTOP == productCategory) {
+                final String brand = resultSet.getString(8);
+                final String model = resultSet.getString(9);
+                final float price = resultSet.getFloat(10);
+                productName = String.format("Product name : %s %s - Rs :%.2f", brand, model, price);
+            }
+
+            if (ProductCategory.CLOTHES == productCategory) {
+                final float price = resultSet.getFloat(10);
+                final String clothesType = resultSet.getString(11);
+                final String size = resultSet.getString(12);
+                final String gender = resultSet.getString(13);
+                final String brand = resultSet.getString(14);
+                productName = String.format("%s brand :%s size : %s gender: %s - Rs :%.2f ", clothesType, brand, size, gender, price);
+            }
+            final Address address = new Address(userId, doorNumber, street, city, state, pinCode, country);
+            final Order order = new Order.OrderBuilder(userId).setId(orderId)
+                    .setProductName(productName).setTotalAmount(totalAmount).setQuantity(quantity).setAddress(address)
+                    .setOrderStatusId(orderStatusId).setPaymentModeId(paymentModeId).setProductId(productId).build();
+
+            orders.add(order);
+        }
+
+        return orders;
+    }
+}
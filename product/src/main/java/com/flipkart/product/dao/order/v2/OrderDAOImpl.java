@@ -2,7 +2,9 @@ package com.flipkart.product.dao.order.v2;
 
 import jakarta.persistence.Query;
 
+import com.flipkart.product.dao.SharedSessionFactory;
 import com.flipkart.product.dao.order.OrderDAO;
+import com.flipkart.product.dao.order.TimedOrderDAO;
 import com.flipkart.authentication.exceptions.UpdateActionFailedException;
 import com.flipkart.authentication.exceptions.UserNotFoundException;
 import com.flipkart.authentication.model.Address;
@@ -12,11 +14,9 @@ import com.flipkart.product.exceptions.OrderAdditionFailedException;
 import com.flipkart.product.exceptions.OrderNotFoundException;
 import com.flipkart.product.exceptions.OrderRemovalFailedException;
 import com.flipkart.product.model.order.Order;
-import com.flipkart.product.model.product.Product;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -40,17 +40,17 @@ public class OrderDAOImpl implements OrderDAO {
      * </p>
      */
     private OrderDAOImpl() {
-        sessionFactory = new Configuration().addAnnotatedClass(Order.class).addAnnotatedClass(Product.class).buildSessionFactory();
+        sessionFactory = SharedSessionFactory.getInstance();
     }
 
     /**
      * <p>
-     * Creates a single instance of OrderDAOImpl2 class.
+     * Creates a single instance of OrderDAOImpl2 class, measured by the {@link TimedOrderDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final OrderDAOImpl ORDER_DAO = new OrderDAOImpl();
+        private static final OrderDAO ORDER_DAO = new TimedOrderDAO(new OrderDAOImpl(), "v2");
 
     }
 
@@ -61,24 +61,42 @@ public class OrderDAOImpl implements OrderDAO {
      *
      * @return returns the single instance of OrderDAOImpl Class.
      */
-    public static OrderDAOImpl getInstance() {
+    public static OrderDAO getInstance() {
         return InstanceHolder.ORDER_DAO;
     }
 
     /**
      * <p>
-     * Adds the order of the user.
+     * Adds the order of the user. The existence of the product and the user is checked by the insert itself, so
+     * nothing is inserted when either of them is not found.
      * </p>
      *
      * @param userId Refers the id of the user
      * @param order Refers the {@link Order} to be added.
+     * @return true if the order is added or false if the product or the user is not found.
      */
     @Override
-    public void addOrder(final int userId, final Order order) {
+    public boolean addOrder(final int userId, final Order order) {
         try (final Session session = sessionFactory.openSession()) {
+            final Query query = (Query) session.createNativeMutationQuery(String.join(" ",
+                    "insert into orders(user_id, product_id, address_id, payment_mode_id, quantity, total_amount,",
+                    "order_status_id) select :userId, :productId, :addressId, :paymentModeId, :quantity, :totalAmount,",
+                    ":orderStatusId where exists (select 1 from product where id = :productId)",
+                    "and exists (select 1 from users where id = :userId)"));
+
             session.beginTransaction();
-            session.persist(order);
+            query.setParameter("userId", userId);
+            query.setParameter("productId", order.getProductId());
+            query.setParameter("addressId", order.getAddress().getId());
+            query.setParameter("paymentModeId", order.getPaymentModeId());
+            query.setParameter("quantity", order.getQuantity());
+            query.setParameter("totalAmount", order.getTotalAmount());
+            query.setParameter("orderStatusId", order.getOrderStatusId());
+            final boolean added = query.executeUpdate() > 0;
+
             session.getTransaction().commit();
+
+            return added;
         } catch (Exception exception) {
             throw new OrderAdditionFailedException(exception.getMessage());
         }
@@ -99,10 +117,12 @@ public class OrderDAOImpl implements OrderDAO {
 
         try (final Session session = sessionFactory.openSession()) {
             final String sqlQuery = String.join(" ", "select o.id, o.product_id,",
-                    "o.payment_mode_id,o.quantity,o.total_amount, o.address,o.order_status_id, p.product_category_id,",
-                    "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand from orders o join product p",
-                    "on o.product_id=p.id  left join electronics_inventory e on o.product_id = e.product_id",
-                    "left join clothes_inventory c on o.product_id=c.product_id where o.user_id=?");
+                    "o.payment_mode_id,o.quantity,o.total_amount,o.order_status_id, p.product_category_id,",
+                    "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, a.door_number, a.street,",
+                    "a.city, a.state, a.country, a.pin_code from orders o join product p on o.product_id=p.id",
+                    "left join electronics_inventory e on o.product_id = e.product_id left join clothes_inventory c",
+                    "on o.product_id=c.product_id join address a on a.id = o.address_id where o.user_id=?",
+                    "order by o.id");
             final List<Object[]> resultList = session.createNativeQuery(sqlQuery, Object[].class).setParameter(1, userId)
                     .setFirstResult(page).setMaxResults(limit).getResultList();
 
@@ -114,30 +134,47 @@ public class OrderDAOImpl implements OrderDAO {
 
     /**
      * <p>
-     * Cancels the order placed by the user.
+     * Cancels the order placed by the user and restores the quantity of the product in the same transaction. The
+     * order is matched on the user and the product as well.
      * </p>
      *
      * @param order Refers the {@link Order} to be cancelled.
+     * @return true if the order is cancelled or false if no such order is found.
      */
     @Override
-    public void cancelOrder(final Order order) {
+    public boolean cancelOrder(final Order order) {
         Session session = null;
 
         try {
             session = sessionFactory.openSession();
-            final Query query = (Query) session.createNativeMutationQuery("update orders set orderStatusId=:orderStatusId where id=:id");
+            final Query query = (Query) session.createNativeMutationQuery(String.join(" ",
+                    "update orders set order_status_id=:orderStatusId where id=:id and user_id=:userId",
+                    "and product_id=:productId"));
 
             session.beginTransaction();
             query.setParameter("orderStatusId", OrderStatus.CANCELLED.getId());
             query.setParameter("id", order.getId());
-            query.executeUpdate();
-            updateQuantity(order.getProductId(), order.getQuantity());
+            query.setParameter("userId", order.getUserId());
+            query.setParameter("productId", order.getProductId());
+
+            if (query.executeUpdate() == 0) {
+                session.getTransaction().rollback();
+
+                return false;
+            }
+            updateQuantity(session, order.getProductId(), -order.getQuantity());
             session.getTransaction().commit();
+
+            return true;
         } catch (Exception exception) {
-            if (Objects.nonNull(session)) {
+            if (Objects.nonNull(session) && session.getTransaction().isActive()) {
                 session.getTransaction().rollback();
             }
             throw new OrderRemovalFailedException(exception.getMessage());
+        } finally {
+            if (Objects.nonNull(session)) {
+                session.close();
+            }
         }
     }
 
@@ -182,7 +219,7 @@ public class OrderDAOImpl implements OrderDAO {
     public List<Address> getAddresses(final int userId) {
         try (final Session session = sessionFactory.openSession()) {
             final String sqlQuery = """
-            select a.id, a.door_number, a.street, a.city, a.state, a.country,
+            select a.id, a.user_id, a.door_number, a.street, a.city, a.state, a.country,
             a.pin_code from address a join users on users.id=a.user_id where a.user_id =?""";
 
             return session.createNativeQuery(sqlQuery, Address.class)
@@ -194,24 +231,20 @@ public class OrderDAOImpl implements OrderDAO {
 
     /**
      * <p>
-     * Updates the quantity of product when order is placed by the user.
+     * Updates the quantity of product in the transaction of the session, restoring it when the quantity is negative.
      * </p>
      *
+     * @param session Refers the session of the transaction.
      * @param productId Refers the id of the product.
      * @param quantity Refers the quantity to be updated.
      */
-    private void updateQuantity(final int productId, final int quantity) {
-        try (final Session session = sessionFactory.openSession()) {
-            final Query query = (Query) session.createNativeMutationQuery("update product p set p.quantity=quantity -:quantity where p.id =:id");
+    private void updateQuantity(final Session session, final int productId, final int quantity) {
+        final Query query = (Query) session.createNativeMutationQuery(
+                "update product set quantity = quantity - :quantity where id = :id");
 
-            session.beginTransaction();
-            query.setParameter("quantity", quantity);
-            query.setParameter("id", productId);
-            query.executeUpdate();
-            session.getTransaction().commit();
-        } catch (Exception exception) {
-            throw new UpdateActionFailedException(exception.getMessage());
-        }
+        query.setParameter("quantity", quantity);
+        query.setParameter("id", productId);
+        query.executeUpdate();
     }
 
     /**
@@ -232,7 +265,7 @@ public class OrderDAOImpl implements OrderDAO {
             String productName = null;
             final int paymentModeId = (int) row[2];
             final int quantity = (int) row[3];
-            final double totalAmount = (double) row[4];
+            final double totalAmount = ((Number) row[4]).doubleValue();
             final int orderStatusId = (int) row[5];
             final ProductCategory productCategory = ProductCategory.valueOf((int) row[6]);
             final String doorNumber = (String) row[14];
@@ -245,12 +278,12 @@ public class OrderDAOImpl implements OrderDAO {
             if (ProductCategory.MOBILE == productCategory || ProductCategory.LAPTOP == productCategory) {
                 final String brand = (String) row[7];
                 final String model = (String) row[8];
-                final double price = (double) row[9];
+                final double price = ((Number) row[9]).doubleValue();
                 productName = String.format("Product name : %s %s - Rs :%.2f", brand, model, price);
             }
 
             if (ProductCategory.CLOTHES == productCategory) {
-                final double price = (double) row[9];
+                final double price = ((Number) row[9]).doubleValue();
                 final String clothesType = (String) row[10];
                 final String size = (String) row[11];
                 final String gender = (String) row[12];
@@ -0,0 +1,50 @@
+package com.flipkart.product.dao.wishlist;
+
+import com.flipkart.authentication.dao.DaoRouter;
+import com.flipkart.product.model.wishlist.Wishlist;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Routes the calls of the {@link WishlistDAO} to the selected version, shadowing the reads of the wishlist and its
+ * products.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RoutedWishlistDAO extends DaoRouter<WishlistDAO> implements WishlistDAO {
+
+    /**
+     * <p>
+     * Creates the router of the wishlist DAO with its v1 and v2 implementations.
+     * </p>
+     */
+    public RoutedWishlistDAO() {
+        super(WishlistDAO.class, "wishlist", Map.of(
+                "v1", com.flipkart.product.dao.wishlist.v1.WishlistDAOImpl::getInstance,
+                "v2", com.flipkart.product.dao.wishlist.v2.WishlistDAOImpl::getInstance));
+    }
+
+    @Override
+    public boolean addProduct(final int productId, final int userId) {
+        return getPrimary().addProduct(productId, userId);
+    }
+
+    @Override
+    public boolean removeProduct(final int productId, final int userId) {
+        return getPrimary().removeProduct(productId, userId);
+    }
+
+    @Override
+    public Optional<Wishlist> getWishlist(final int userId, final int page) {
+        return read("getWishlist", wishlistDAO -> wishlistDAO.getWishlist(userId, page));
+    }
+
+    @Override
+    public boolean isProductExist(final int userId, final int productId) {
+        return read("isProductExist", wishlistDAO -> wishlistDAO.isProductExist(userId, productId));
+    }
+}
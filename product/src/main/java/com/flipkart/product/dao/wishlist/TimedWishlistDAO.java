@@ -0,0 +1,135 @@
+package com.flipkart.product.dao.wishlist;
+
+import com.flipkart.authentication.jfr.DaoCallEvent;
+import com.flipkart.authentication.metrics.MethodMetrics;
+import com.flipkart.authentication.metrics.MetricRegistry;
+import com.flipkart.authentication.metrics.MetricType;
+import com.flipkart.product.model.wishlist.Wishlist;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Measures the calls of the {@link WishlistDAO} of a version with the {@link MetricRegistry}, and records them as
+ * {@link DaoCallEvent}s when a flight recording enables them. The metrics of each method are got once on creation,
+ * so a call only adds a clock read and the recording to the DAO. The method is started as the current one of the
+ * thread, so the Hibernate work of the call is attributed to it.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TimedWishlistDAO implements WishlistDAO {
+
+    private final WishlistDAO wishlistDAO;
+    private final MethodMetrics addProductMetrics;
+    private final MethodMetrics removeProductMetrics;
+    private final MethodMetrics getWishlistMetrics;
+    private final MethodMetrics isProductExistMetrics;
+
+    /**
+     * <p>
+     * Wraps the DAO to measure its calls.
+     * </p>
+     *
+     * @param wishlistDAO Refers the {@link WishlistDAO} to be measured.
+     * @param version Refers the version of the DAO.
+     */
+    public TimedWishlistDAO(final WishlistDAO wishlistDAO, final String version) {
+        final MetricRegistry metricRegistry = MetricRegistry.getInstance();
+
+        this.wishlistDAO = wishlistDAO;
+        addProductMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "WishlistDAO.addProduct", version);
+        removeProductMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "WishlistDAO.removeProduct", version);
+        getWishlistMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "WishlistDAO.getWishlist", version);
+        isProductExistMetrics = metricRegistry.getMethodMetrics(MetricType.DAO, "WishlistDAO.isProductExist", version);
+    }
+
+    @Override
+    public boolean addProduct(final int productId, final int userId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = addProductMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = wishlistDAO.addProduct(productId, userId);
+
+            addProductMetrics.record(startTime);
+            event.record(addProductMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            addProductMetrics.recordFailure(startTime);
+            event.recordFailure(addProductMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean removeProduct(final int productId, final int userId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = removeProductMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = wishlistDAO.removeProduct(productId, userId);
+
+            removeProductMetrics.record(startTime);
+            event.record(removeProductMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            removeProductMetrics.recordFailure(startTime);
+            event.recordFailure(removeProductMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public Optional<Wishlist> getWishlist(final int userId, final int page) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = getWishlistMetrics.start();
+
+        event.begin();
+
+        try {
+            final Optional<Wishlist> result = wishlistDAO.getWishlist(userId, page);
+
+            getWishlistMetrics.record(startTime);
+            event.record(getWishlistMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            getWishlistMetrics.recordFailure(startTime);
+            event.recordFailure(getWishlistMetrics);
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isProductExist(final int userId, final int productId) {
+        final DaoCallEvent event = new DaoCallEvent();
+        final long startTime = isProductExistMetrics.start();
+
+        event.begin();
+
+        try {
+            final boolean result = wishlistDAO.isProductExist(userId, productId);
+
+            isProductExistMetrics.record(startTime);
+            event.record(isProductExistMetrics);
+
+            return result;
+        } catch (final RuntimeException exception) {
+            isProductExistMetrics.recordFailure(startTime);
+            event.recordFailure(isProductExistMetrics);
+
+            throw exception;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.flipkart.product.dao.wishlist.v1;
 import com.flipkart.authentication.exceptions.UserCheckFailedException;
 import com.flipkart.database.connection.DatabaseConnection;
 import com.flipkart.product.dao.wishlist.WishlistDAO;
+import com.flipkart.product.dao.wishlist.TimedWishlistDAO;
 import com.flipkart.product.model.wishlist.Wishlist;
 import com.flipkart.product.model.ProductCategory;
 import com.flipkart.product.exceptions.ItemAdditionFailedException;
@@ -41,12 +42,12 @@ public class WishlistDAOImpl implements WishlistDAO {
 
     /**
      * <p>
-     * Creates a single instance of WishlistDAOImpl class.
+     * Creates a single instance of WishlistDAOImpl class, measured by the {@link TimedWishlistDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final WishlistDAOImpl WishlistDAOImpl = new WishlistDAOImpl();
+        private static final WishlistDAO WishlistDAOImpl = new TimedWishlistDAO(new WishlistDAOImpl(), "v1");
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.flipkart.product.dao.wishlist.v2;
 
+import com.flipkart.product.dao.SharedSessionFactory;
 import com.flipkart.product.dao.wishlist.WishlistDAO;
+import com.flipkart.product.dao.wishlist.TimedWishlistDAO;
 import com.flipkart.product.model.wishlist.Wishlist;
 import com.flipkart.authentication.exceptions.UserCheckFailedException;
 import com.flipkart.product.exceptions.ItemAdditionFailedException;
@@ -14,7 +16,6 @@ import jakarta.persistence.Query;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
 import java.util.List;
 import java.util.Optional;
@@ -37,17 +38,17 @@ public class WishlistDAOImpl implements WishlistDAO {
      * </p>
      */
     private WishlistDAOImpl() {
-        sessionFactory = new Configuration().buildSessionFactory();
+        sessionFactory = SharedSessionFactory.getInstance();
     }
 
     /**
      * <p>
-     * Creates a single instance of WishlistDAOImpl2 class.
+     * Creates a single instance of WishlistDAOImpl2 class, measured by the {@link TimedWishlistDAO}.
      * </p>
      */
     private static class InstanceHolder {
 
-        private static final WishlistDAOImpl WISHLIST_DAO = new WishlistDAOImpl();
+        private static final WishlistDAO WISHLIST_DAO = new TimedWishlistDAO(new WishlistDAOImpl(), "v2");
     }
 
     /**
@@ -57,7 +58,7 @@ public class WishlistDAOImpl implements WishlistDAO {
      *
      * @return returns the single instance of WishlistDAOImpl2 Class.
      */
-    public static WishlistDAOImpl getInstance() {
+    public static WishlistDAO getInstance() {
         return InstanceHolder.WISHLIST_DAO;
     }
 
@@ -159,11 +160,11 @@ public class WishlistDAOImpl implements WishlistDAO {
         final Wishlist wishlist = new Wishlist();
 
         for (final Object[] row : resultList) {
-            final long productId = (Long) row[0];
+            final int productId = (Integer) row[0];
             final int productCategoryId = (Integer) row[1];
             final String brand = (String) row[2];
             final String model = (String) row[3];
-            final double price = (double) row[4];
+            final double price = ((Number) row[4]).doubleValue();
             final String clothesType =  (String) row[5];
             final String size = (String) row[6];
             final String gender = (String) row[7];
@@ -171,9 +172,9 @@ public class WishlistDAOImpl implements WishlistDAO {
             final int quantity = (int) row[9];
 
             switch (productCategoryId) {
-                case 1 -> wishlist.addProduct(new Mobile(brand, model, price, quantity, (int) productId));
-                case 2 -> wishlist.addProduct(new Laptop(brand, model, price, quantity, (int) productId));
-                case 3 -> wishlist.addProduct(new Clothes(clothesType, clothesBrand, gender, size, price, quantity, (int) productId));
+                case 1 -> wishlist.addProduct(new Mobile(brand, model, price, quantity, productId));
+                case 2 -> wishlist.addProduct(new Laptop(brand, model, price, quantity, productId));
+                case 3 -> wishlist.addProduct(new Clothes(clothesType, clothesBrand, gender, size, price, quantity, productId));
             }
         }
 
@@ -185,15 +186,15 @@ public class WishlistDAOImpl implements WishlistDAO {
      * Checks whether the product exists in wishlist or not.
      * </p>
      *
-     * @param userId Refers the id of the user.
      * @param productId Refers the product id.
+     * @param userId Refers the id of the user.
      * @return true if the product already exists or false otherwise.
      */
     @Override
-    public boolean isProductExist(final int userId, final int productId) {
+    public boolean isProductExist(final int productId, final int userId) {
         try (final Session session = sessionFactory.openSession()) {
             final Query query = session.createNativeQuery(
-                    "select count(id) from cart wishlist wishlist.user_id = :userId or wishlist.product_id = :productId", Integer.class);
+                    "select count(id) from wishlist where wishlist.user_id = :userId and wishlist.product_id = :productId", Integer.class);
 
             query.setParameter("userId", userId);
             query.setParameter("productId", productId);
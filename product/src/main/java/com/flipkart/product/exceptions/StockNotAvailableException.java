@@ -0,0 +1,25 @@
+package com.flipkart.product.exceptions;
+
+import com.flipkart.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when no unit of the product is left to be held for the user.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class StockNotAvailableException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the StockNotAvailableException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public StockNotAvailableException(final String message) {
+        super(message);
+    }
+}
@@ -15,6 +15,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Transient;
 
 import jakarta.validation.Valid;
@@ -52,6 +54,8 @@ public class Order {
     @Positive(message = "Total amount should be positive", groups = OrderChecker.class)
     private float totalAmount;
     @Valid
+    @ManyToOne
+    @JoinColumn(name = "address_id")
     private Address address;
     @Column(name = "payment_mode_id")
     @Positive(message = "Payment mode id can't be negative", groups = OrderChecker.class)
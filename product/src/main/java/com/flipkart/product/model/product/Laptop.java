@@ -40,7 +40,7 @@ public non-sealed class Laptop extends Product {
     }
 
     public Laptop(final String brandName, final String model, final double price, final int quantity, final int id) {
-        super(ProductCategory.MOBILE, (float) price, brandName, quantity);
+        super(ProductCategory.LAPTOP, (float) price, brandName, quantity);
         this.model = model;
 
         super.setId(id);
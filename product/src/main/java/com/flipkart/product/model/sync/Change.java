@@ -0,0 +1,43 @@
+package com.flipkart.product.model.sync;
+
+import com.flipkart.product.model.ProductCategory;
+
+/**
+ * <p>
+ * Represents a product added to or removed from the cart or wishlist of the user.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class Change {
+
+    private final long version;
+    private final int productId;
+    private final ProductCategory productCategory;
+    private final ChangeType changeType;
+
+    public Change(final long version, final int productId, final ProductCategory productCategory,
+                  final ChangeType changeType) {
+        this.version = version;
+        this.productId = productId;
+        this.productCategory = productCategory;
+        this.changeType = changeType;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getProductId() {
+        return productId;
+    }
+
+    public ProductCategory getProductCategory() {
+        return productCategory;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
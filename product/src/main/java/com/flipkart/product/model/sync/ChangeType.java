@@ -0,0 +1,14 @@
+package com.flipkart.product.model.sync;
+
+/**
+ * <p>
+ * Provides the type of change made to the cart or wishlist of the user.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public enum ChangeType {
+
+    ADDED, REMOVED
+}
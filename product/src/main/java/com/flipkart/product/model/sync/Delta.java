@@ -0,0 +1,38 @@
+package com.flipkart.product.model.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Represents the changes made to the cart or wishlist of the user since a known version. Only the latest change of
+ * each product is kept.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class Delta {
+
+    private final long version;
+    private final List<Change> changes;
+
+    public Delta(final long version, final List<Change> changes) {
+        this.version = version;
+        this.changes = changes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.flipkart.product.service.cart;
+
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.cart.Cart;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous service for the cart. Each call completes the returned stage once the cart is read or
+ * updated.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface AsyncCartService {
+
+    /**
+     * <p>
+     * Adds the product to the cart of the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     * @param productCategory Refers the {@link ProductCategory}.
+     * @return the stage completed with true if the product is added.
+     */
+    CompletionStage<Boolean> addProduct(final int productId, final int userId, final ProductCategory productCategory);
+
+    /**
+     * <p>
+     * Removes the product from the cart of the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the product is removed.
+     */
+    CompletionStage<Boolean> removeProduct(final int productId, final int userId);
+
+    /**
+     * <p>
+     * Gets the cart of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param page Refers the page number.
+     * @return the stage completed with the Optional of {@link Cart}.
+     */
+    CompletionStage<Optional<Cart>> getCart(final int userId, final int page);
+
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the user exists.
+     */
+    CompletionStage<Boolean> isUserExist(final int userId);
+
+    /**
+     * <p>
+     * Checks whether the product exists or not.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the stage completed with true if the product exists.
+     */
+    CompletionStage<Boolean> isProductExist(final int productId);
+}
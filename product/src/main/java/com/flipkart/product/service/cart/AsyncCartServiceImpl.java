@@ -0,0 +1,124 @@
+package com.flipkart.product.service.cart;
+
+import com.flipkart.authentication.service.ServiceExecutor;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.cart.Cart;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous CartService. Each call runs the CartService on the {@link ServiceExecutor}, so
+ * the independent calls of a request run concurrently and no thread of the server waits on the database.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class AsyncCartServiceImpl implements AsyncCartService {
+
+    private final CartService cartService;
+    private final ServiceExecutor serviceExecutor;
+
+    /**
+     * <p>
+     * Default constructor of the AsyncCartServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private AsyncCartServiceImpl() {
+        cartService = CartServiceImpl.getInstance();
+        serviceExecutor = ServiceExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of AsyncCartServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final AsyncCartServiceImpl ASYNC_CART_SERVICE = new AsyncCartServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of AsyncCartServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of AsyncCartServiceImpl Class.
+     */
+    public static AsyncCartService getInstance() {
+        return InstanceHolder.ASYNC_CART_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Adds the product to the cart of the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     * @param productCategory Refers the {@link ProductCategory}.
+     * @return the stage completed with true if the product is added.
+     */
+    @Override
+    public CompletionStage<Boolean> addProduct(final int productId, final int userId,
+                                               final ProductCategory productCategory) {
+        return serviceExecutor.supply(() -> cartService.addProduct(productId, userId, productCategory));
+    }
+
+    /**
+     * <p>
+     * Removes the product from the cart of the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the product is removed.
+     */
+    @Override
+    public CompletionStage<Boolean> removeProduct(final int productId, final int userId) {
+        return serviceExecutor.supply(() -> cartService.removeProduct(productId, userId));
+    }
+
+    /**
+     * <p>
+     * Gets the cart of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param page Refers the page number.
+     * @return the stage completed with the Optional of {@link Cart}.
+     */
+    @Override
+    public CompletionStage<Optional<Cart>> getCart(final int userId, final int page) {
+        return serviceExecutor.supply(() -> cartService.getCart(userId, page));
+    }
+
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the user exists.
+     */
+    @Override
+    public CompletionStage<Boolean> isUserExist(final int userId) {
+        return serviceExecutor.supply(() -> cartService.isUserExist(userId));
+    }
+
+    /**
+     * <p>
+     * Checks whether the product exists or not.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the stage completed with true if the product exists.
+     */
+    @Override
+    public CompletionStage<Boolean> isProductExist(final int productId) {
+        return serviceExecutor.supply(() -> cartService.isProductExist(productId));
+    }
+}
@@ -2,6 +2,7 @@ package com.flipkart.product.service.cart;
 
 import com.flipkart.product.model.ProductCategory;
 import com.flipkart.product.model.cart.Cart;
+import com.flipkart.product.model.sync.Delta;
 
 import java.util.Optional;
 
@@ -59,4 +60,25 @@ public interface CartService {
      * @return true if the user already exists or false otherwise.
      */
     boolean isProductExist(final int productId);
+
+    /**
+     * <p>
+     * Gets the current version of the cart of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the current version.
+     */
+    long getVersion(final int userId);
+
+    /**
+     * <p>
+     * Gets the products added to or removed from the cart of the user after the given version.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param version Refers the version known by the client.
+     * @return Optional of {@link Delta} or empty if the changes since the version are no longer available.
+     */
+    Optional<Delta> getChanges(final int userId, final long version);
 }
@@ -1,11 +1,17 @@
 package com.flipkart.product.service.cart;
 
-import com.flipkart.authentication.dao.v1.UserDAOImpl;
+import com.flipkart.authentication.cache.UserExistenceCache;
 import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.dao.DaoRouters;
 import com.flipkart.product.dao.cart.CartDAO;
-import com.flipkart.product.dao.cart.v1.CartDAOImpl;
-import com.flipkart.product.dao.inventory.v1.InventoryDAOImpl;
+import com.flipkart.product.exceptions.StockNotAvailableException;
 import com.flipkart.product.model.cart.Cart;
+import com.flipkart.product.service.hold.StockHoldService;
+import com.flipkart.product.service.hold.StockHoldServiceImpl;
+import com.flipkart.product.model.sync.ChangeType;
+import com.flipkart.product.model.sync.Delta;
+import com.flipkart.product.service.sync.ChangeLog;
+import com.flipkart.product.service.user.TrackedUserExistenceCache;
 
 import java.util.Optional;
 
@@ -20,6 +26,9 @@ import java.util.Optional;
 public class CartServiceImpl implements CartService {
 
     private final CartDAO cartDAO;
+    private final UserExistenceCache userExistenceCache;
+    private final StockHoldService stockHoldService;
+    private final ChangeLog changeLog;
 
     /**
      * <p>
@@ -27,7 +36,11 @@ public class CartServiceImpl implements CartService {
      * </p>
      */
     private CartServiceImpl() {
-        cartDAO = CartDAOImpl.getInstance();
+        cartDAO = DaoRouters.getCartDAO();
+        userExistenceCache = TrackedUserExistenceCache.getInstance();
+        stockHoldService = StockHoldServiceImpl.getInstance();
+        changeLog = new ChangeLog(Integer.getInteger("flipkart.sync.log.size", 50),
+                Integer.getInteger("flipkart.sync.log.users", 10_000));
     }
 
     /**
@@ -53,22 +66,47 @@ public class CartServiceImpl implements CartService {
 
     /**
      * <p>
-     * Adds the product to the cart of the user.
+     * Adds the product to the cart of the user. When the stock holds are enabled, a unit of the product is held for
+     * the user before it is added, and the product is not added without the hold. The hold is released again when the
+     * product is not added to the cart.
      * </p>
      *
      * @param productId Refers the id of the product to be added to the cart.
      * @param userId Refers the user id.
      * @param productCategory Refers the product category.
      * @return true if product added to the cart
+     * @throws StockNotAvailableException if the stock holds are enabled and no unit is left to hold for the user.
      */
     @Override
     public boolean addProduct(final int productId, final int userId, final ProductCategory productCategory) {
-        return !cartDAO.isProductExist(productId, userId) && cartDAO.addProduct(productId, userId);
+        if (cartDAO.isProductExist(productId, userId)) {
+            return false;
+        }
+        final boolean isHeld = stockHoldService.isEnabled();
+
+        if (isHeld && !stockHoldService.hold(productId, userId, DaoRouters.getInventoryDAO().getQuantity(productId))) {
+            throw new StockNotAvailableException(String.format("Product id :%d - No stock left to hold", productId));
+        }
+        boolean isAdded = false;
+
+        try {
+            isAdded = cartDAO.addProduct(productId, userId);
+        } finally {
+            if (isHeld && !isAdded) {
+                stockHoldService.release(productId, userId);
+            }
+        }
+
+        if (isAdded) {
+            changeLog.record(userId, productId, productCategory, ChangeType.ADDED);
+        }
+
+        return isAdded;
     }
 
     /**
      * <p>
-     * Removes the specific product from the cart.
+     * Removes the specific product from the cart and releases the hold placed on it.
      * </p>
      *
      * @param userId Refers the user id.
@@ -77,7 +115,14 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public boolean removeProduct(final int productId, final int userId) {
-        return cartDAO.removeProduct(productId, userId);
+        final boolean isRemoved = cartDAO.removeProduct(productId, userId);
+
+        if (isRemoved) {
+            changeLog.record(userId, productId, null, ChangeType.REMOVED);
+            stockHoldService.release(productId, userId);
+        }
+
+        return isRemoved;
     }
 
     /**
@@ -104,7 +149,7 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public boolean isUserExist(final int userId) {
-        return UserDAOImpl.getInstance().isUserExist(userId);
+        return userExistenceCache.isUserExist(userId);
     }
 
     /**
@@ -117,6 +162,33 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public boolean isProductExist(final int productId) {
-        return InventoryDAOImpl.getInstance().isProductExist(productId);
+        return DaoRouters.getInventoryDAO().isProductExist(productId);
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the cart of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the current version.
+     */
+    @Override
+    public long getVersion(final int userId) {
+        return changeLog.getVersion(userId);
+    }
+
+    /**
+     * <p>
+     * Gets the products added to or removed from the cart of the user after the given version.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param version Refers the version known by the client.
+     * @return Optional of {@link Delta} or empty if the changes since the version are no longer available.
+     */
+    @Override
+    public Optional<Delta> getChanges(final int userId, final long version) {
+        return changeLog.getChangesSince(userId, version);
     }
 }
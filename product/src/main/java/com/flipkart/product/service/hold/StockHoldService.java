@@ -0,0 +1,85 @@
+package com.flipkart.product.service.hold;
+
+/**
+ * <p>
+ * Provides the service for the time limited stock holds placed on the products in the cart.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface StockHoldService {
+
+    /**
+     * <p>
+     * Checks whether the stock holds are enabled or not.
+     * </p>
+     *
+     * @return true if the stock holds are enabled or false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * <p>
+     * Holds a unit of the product for the user if the stock is not already held by the other users.
+     * </p>
+     *
+     * @param productId Refers the id of the product to be held.
+     * @param userId Refers the id of the user.
+     * @param availableQuantity Refers the quantity of the product available in the inventory.
+     * @return true if the product is held for the user or false otherwise.
+     */
+    boolean hold(final int productId, final int userId, final int availableQuantity);
+
+    /**
+     * <p>
+     * Releases the hold placed on the product by the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     */
+    void release(final int productId, final int userId);
+
+    /**
+     * <p>
+     * Releases all the holds placed on the product.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     */
+    void releaseAll(final int productId);
+
+    /**
+     * <p>
+     * Gets the quantity of the product held by the active holds.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the held quantity.
+     */
+    int getHeldQuantity(final int productId);
+
+    /**
+     * <p>
+     * Gets the version of the holds which is increased whenever a hold is placed, released or expired.
+     * </p>
+     *
+     * @return the version of the holds.
+     */
+    long getVersion();
+
+    /**
+     * <p>
+     * Starts releasing the expired holds.
+     * </p>
+     */
+    void start();
+
+    /**
+     * <p>
+     * Stops releasing the expired holds.
+     * </p>
+     */
+    void shutdown();
+}
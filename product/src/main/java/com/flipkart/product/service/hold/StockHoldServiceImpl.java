@@ -0,0 +1,242 @@
+package com.flipkart.product.service.hold;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Keeps the stock holds in memory. Each hold reserves a unit of the product for a user until it expires, the item is
+ * removed from the cart or the order is placed. Expired holds are released by a scheduler.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class StockHoldServiceImpl implements StockHoldService {
+
+    private static final Logger LOGGER = LogManager.getLogger(StockHoldServiceImpl.class);
+    private final Map<Integer, Map<Integer, Long>> holds;
+    private final boolean enabled;
+    private final long holdDurationInMillis;
+    private final long sweepInterval;
+    private final AtomicLong version;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * <p>
+     * Default constructor of the StockHoldServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private StockHoldServiceImpl() {
+        holds = new ConcurrentHashMap<>();
+        version = new AtomicLong();
+        enabled = Boolean.getBoolean("flipkart.cart.hold.enabled");
+        holdDurationInMillis = TimeUnit.SECONDS.toMillis(Long.getLong("flipkart.cart.hold.seconds", 600));
+        sweepInterval = Long.getLong("flipkart.cart.hold.sweep.seconds", 30);
+        start();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of StockHoldServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final StockHoldServiceImpl STOCK_HOLD_SERVICE = new StockHoldServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of StockHoldServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of StockHoldServiceImpl Class.
+     */
+    public static StockHoldService getInstance() {
+        return InstanceHolder.STOCK_HOLD_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Checks whether the stock holds are enabled or not.
+     * </p>
+     *
+     * @return true if the stock holds are enabled or false otherwise.
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * <p>
+     * Holds a unit of the product for the user if the stock is not already held by the other users. The check and the
+     * hold are done atomically for the product so that the same unit is not held twice.
+     * </p>
+     *
+     * @param productId Refers the id of the product to be held.
+     * @param userId Refers the id of the user.
+     * @param availableQuantity Refers the quantity of the product available in the inventory.
+     * @return true if the product is held for the user or false otherwise.
+     */
+    @Override
+    public boolean hold(final int productId, final int userId, final int availableQuantity) {
+        if (!enabled) {
+            return false;
+        }
+        final long now = System.currentTimeMillis();
+        final boolean[] held = new boolean[1];
+
+        holds.compute(productId, (id, productHolds) -> {
+            final Map<Integer, Long> activeHolds = Objects.isNull(productHolds) ? new ConcurrentHashMap<>() : productHolds;
+
+            activeHolds.values().removeIf(expiresAt -> expiresAt <= now);
+            activeHolds.remove(userId);
+
+            if (activeHolds.size() < availableQuantity) {
+                activeHolds.put(userId, now + holdDurationInMillis);
+                held[0] = true;
+            }
+
+            return activeHolds.isEmpty() ? null : activeHolds;
+        });
+        version.incrementAndGet();
+
+        return held[0];
+    }
+
+    /**
+     * <p>
+     * Releases the hold placed on the product by the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     */
+    @Override
+    public void release(final int productId, final int userId) {
+        holds.computeIfPresent(productId, (id, productHolds) -> {
+            if (Objects.nonNull(productHolds.remove(userId))) {
+                version.incrementAndGet();
+            }
+
+            return productHolds.isEmpty() ? null : productHolds;
+        });
+    }
+
+    /**
+     * <p>
+     * Releases all the holds placed on the product.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     */
+    @Override
+    public void releaseAll(final int productId) {
+        if (Objects.nonNull(holds.remove(productId))) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the quantity of the product held by the active holds.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the held quantity.
+     */
+    @Override
+    public int getHeldQuantity(final int productId) {
+        final Map<Integer, Long> productHolds = holds.get(productId);
+
+        if (Objects.isNull(productHolds)) {
+            return 0;
+        }
+        final long now = System.currentTimeMillis();
+        int heldQuantity = 0;
+
+        for (final long expiresAt : productHolds.values()) {
+            if (expiresAt > now) {
+                heldQuantity++;
+            }
+        }
+
+        return heldQuantity;
+    }
+
+    /**
+     * <p>
+     * Gets the version of the holds which is increased whenever a hold is placed, released or expired.
+     * </p>
+     *
+     * @return the version of the holds.
+     */
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * <p>
+     * Starts releasing the expired holds when the holds are enabled, unless already started. Called again when the
+     * bundle is restarted, as the scheduler is stopped on shutdown.
+     * </p>
+     */
+    @Override
+    public synchronized void start() {
+        if (!enabled || Objects.nonNull(scheduler)) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "stock-hold-reaper");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::releaseExpiredHolds, sweepInterval, sweepInterval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * <p>
+     * Stops releasing the expired holds until started again.
+     * </p>
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (Objects.nonNull(scheduler)) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Releases all the holds which are expired.
+     * </p>
+     */
+    private void releaseExpiredHolds() {
+        final long now = System.currentTimeMillis();
+
+        for (final Integer productId : holds.keySet()) {
+            holds.computeIfPresent(productId, (id, productHolds) -> {
+                if (productHolds.values().removeIf(expiresAt -> expiresAt <= now)) {
+                    version.incrementAndGet();
+                }
+
+                return productHolds.isEmpty() ? null : productHolds;
+            });
+        }
+        LOGGER.debug("Expired stock holds released");
+    }
+}
@@ -0,0 +1,61 @@
+package com.flipkart.product.service.inventory;
+
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.product.Product;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous service for the inventory. Each call completes the returned stage once the inventory is
+ * read or updated.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface AsyncInventoryService {
+
+    /**
+     * <p>
+     * Adds the products to the inventory.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be added.
+     * @return the stage completed once the products are added.
+     */
+    CompletionStage<Void> addProduct(final List<Product> products);
+
+    /**
+     * <p>
+     * Removes the product from the inventory.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param productCategory Refers the product category.
+     * @return the stage completed with true if the product is removed.
+     */
+    CompletionStage<Boolean> removeProduct(final int productId, final ProductCategory productCategory);
+
+    /**
+     * <p>
+     * Gets the products of the category from the inventory.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @param page Refers the page number.
+     * @return the stage completed with the {@link Product} of the page.
+     */
+    CompletionStage<List<? extends Product>> getItemsByCategory(final ProductCategory productCategory, final int page);
+
+    /**
+     * <p>
+     * Checks whether the product exists or not.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the stage completed with true if the product exists.
+     */
+    CompletionStage<Boolean> isProductExist(final int productId);
+}
@@ -0,0 +1,113 @@
+package com.flipkart.product.service.inventory;
+
+import com.flipkart.authentication.service.ServiceExecutor;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.product.Product;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous InventoryService. Each call runs the InventoryService on the {@link ServiceExecutor}, so
+ * the independent calls of a request run concurrently and no thread of the server waits on the database.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class AsyncInventoryServiceImpl implements AsyncInventoryService {
+
+    private final InventoryService inventoryService;
+    private final ServiceExecutor serviceExecutor;
+
+    /**
+     * <p>
+     * Default constructor of the AsyncInventoryServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private AsyncInventoryServiceImpl() {
+        inventoryService = InventoryServiceImpl.getInstance();
+        serviceExecutor = ServiceExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of AsyncInventoryServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final AsyncInventoryServiceImpl ASYNC_INVENTORY_SERVICE = new AsyncInventoryServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of AsyncInventoryServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of AsyncInventoryServiceImpl Class.
+     */
+    public static AsyncInventoryService getInstance() {
+        return InstanceHolder.ASYNC_INVENTORY_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Adds the products to the inventory.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be added.
+     * @return the stage completed once the products are added.
+     */
+    @Override
+    public CompletionStage<Void> addProduct(final List<Product> products) {
+        return serviceExecutor.supply(() -> {
+            inventoryService.addProduct(products);
+
+            return null;
+        });
+    }
+
+    /**
+     * <p>
+     * Removes the product from the inventory.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param productCategory Refers the product category.
+     * @return the stage completed with true if the product is removed.
+     */
+    @Override
+    public CompletionStage<Boolean> removeProduct(final int productId, final ProductCategory productCategory) {
+        return serviceExecutor.supply(() -> inventoryService.removeProduct(productId, productCategory));
+    }
+
+    /**
+     * <p>
+     * Gets the products of the category from the inventory.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @param page Refers the page number.
+     * @return the stage completed with the {@link Product} of the page.
+     */
+    @Override
+    public CompletionStage<List<? extends Product>> getItemsByCategory(final ProductCategory productCategory,
+                                                                      final int page) {
+        return serviceExecutor.supply(() -> inventoryService.getItemsByCategory(productCategory, page));
+    }
+
+    /**
+     * <p>
+     * Checks whether the product exists or not.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the stage completed with true if the product exists.
+     */
+    @Override
+    public CompletionStage<Boolean> isProductExist(final int productId) {
+        return serviceExecutor.supply(() -> inventoryService.isProductExist(productId));
+    }
+}
@@ -47,4 +47,22 @@ public interface InventoryService {
      * @return true if the user already exists or false otherwise.
      */
     boolean isProductExist(final int productId);
+
+    /**
+     * <p>
+     * Gets the version of the products of the category, which changes whenever a product of the category is added or
+     * removed or the available quantity of any product changes.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @return the version of the category.
+     */
+    long getVersion(final ProductCategory productCategory);
+
+    /**
+     * <p>
+     * Marks the products of all the categories changed when the quantity of a product is changed by an order.
+     * </p>
+     */
+    void markStockChanged();
 }
@@ -1,11 +1,17 @@
 package com.flipkart.product.service.inventory;
 
 import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.dao.DaoRouters;
 import com.flipkart.product.dao.inventory.InventoryDAO;
-import com.flipkart.product.dao.inventory.v1.InventoryDAOImpl;
 import com.flipkart.product.model.product.Product;
+import com.flipkart.product.service.hold.StockHoldService;
+import com.flipkart.product.service.hold.StockHoldServiceImpl;
+import com.flipkart.product.service.sync.Versions;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -18,6 +24,9 @@ import java.util.List;
 public class InventoryServiceImpl implements InventoryService {
 
     private final InventoryDAO inventoryDao;
+    private final StockHoldService stockHoldService;
+    private final Versions<ProductCategory> categoryVersions;
+    private final AtomicLong stockVersion;
 
     /**
      * <p>
@@ -25,7 +34,10 @@ public class InventoryServiceImpl implements InventoryService {
      * </p>
      */
     private InventoryServiceImpl() {
-        inventoryDao = InventoryDAOImpl.getInstance();
+        inventoryDao = DaoRouters.getInventoryDAO();
+        stockHoldService = StockHoldServiceImpl.getInstance();
+        categoryVersions = new Versions<>();
+        stockVersion = new AtomicLong();
     }
 
     /**
@@ -51,19 +63,26 @@ public class InventoryServiceImpl implements InventoryService {
 
     /**
      * <p>
-     * Adds the given products to the inventory.
+     * Adds the given products to the inventory and changes the versions of their categories.
      * </p>
      *
      * @param products Refers the {@link Product} to be added.
      */
     @Override
     public void addProduct(final List<Product> products) {
+        final Set<ProductCategory> productCategories = EnumSet.noneOf(ProductCategory.class);
+
         inventoryDao.addItem(products);
+
+        for (final Product product : products) {
+            productCategories.add(product.getProductCategory());
+        }
+        productCategories.forEach(categoryVersions::increment);
     }
 
     /**
      * <p>
-     * Removes the given item from the inventory.
+     * Removes the given item from the inventory and changes the version of its category.
      * </p>
      *
      * @param productId       Refers the id of the {@link Product} to be removed.
@@ -72,12 +91,20 @@ public class InventoryServiceImpl implements InventoryService {
      */
     @Override
     public boolean removeProduct(final int productId, final ProductCategory productCategory) {
-        return inventoryDao.removeItem(productId);
+        final boolean isRemoved = inventoryDao.removeItem(productId);
+
+        if (isRemoved) {
+            stockHoldService.releaseAll(productId);
+            categoryVersions.increment(productCategory);
+        }
+
+        return isRemoved;
     }
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets all the products from the inventory based on the category and returns it. The quantity held in the carts
+     * of the users is not reported as available.
      * </p>
      *
      * @param productCategory Refers the product Category.
@@ -86,7 +113,15 @@ public class InventoryServiceImpl implements InventoryService {
      */
     @Override
     public List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int page) {
-        return inventoryDao.getProductByCategory(productCategory, page);
+        final List<? extends Product> products = inventoryDao.getProductByCategory(productCategory, page);
+
+        if (stockHoldService.isEnabled()) {
+            for (final Product product : products) {
+                product.setQuantity(Math.max(0, product.getQuantity() - stockHoldService.getHeldQuantity(product.getId())));
+            }
+        }
+
+        return products;
     }
 
     /**
@@ -101,4 +136,30 @@ public class InventoryServiceImpl implements InventoryService {
     public boolean isProductExist(final int productId) {
         return inventoryDao.isProductExist(productId);
     }
+
+    /**
+     * <p>
+     * Gets the version of the products of the category. The versions of the category, the stock and the holds only
+     * increase, so their sum changes on every change of any of them.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @return the version of the category.
+     */
+    @Override
+    public long getVersion(final ProductCategory productCategory) {
+        final long version = categoryVersions.getVersion(productCategory) + stockVersion.get();
+
+        return stockHoldService.isEnabled() ? version + stockHoldService.getVersion() : version;
+    }
+
+    /**
+     * <p>
+     * Marks the products of all the categories changed when the quantity of a product is changed by an order.
+     * </p>
+     */
+    @Override
+    public void markStockChanged() {
+        stockVersion.incrementAndGet();
+    }
 }
\ No newline at end of file
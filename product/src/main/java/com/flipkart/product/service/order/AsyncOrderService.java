@@ -0,0 +1,82 @@
+package com.flipkart.product.service.order;
+
+import com.flipkart.authentication.model.Address;
+import com.flipkart.product.model.order.Order;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous service for the orders. Each call completes the returned stage once the orders are read or
+ * updated.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface AsyncOrderService {
+
+    /**
+     * <p>
+     * Adds the order placed by the user, if both the product and the user exist.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param order Refers the {@link Order} to be added.
+     * @return the stage completed with true if the order is added or false if the product or the user is not found.
+     */
+    CompletionStage<Boolean> addOrder(final int userId, final Order order);
+
+    /**
+     * <p>
+     * Gets the orders placed by the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param page Refers the page number.
+     * @return the stage completed with all the {@link Order} of the user.
+     */
+    CompletionStage<List<Order>> getOrders(final int userId, final int page);
+
+    /**
+     * <p>
+     * Cancels the order placed by the user, if the order of the product is placed by the user.
+     * </p>
+     *
+     * @param order Refers the {@link Order} to be cancelled.
+     * @return the stage completed with true if the order is cancelled or false if no such order is found.
+     */
+    CompletionStage<Boolean> cancelOrder(final Order order);
+
+    /**
+     * <p>
+     * Adds the address of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param address Refers the {@link Address} to be added.
+     * @return the stage completed once the address is added.
+     */
+    CompletionStage<Void> addAddress(final int userId, final Address address);
+
+    /**
+     * <p>
+     * Gets all the addresses of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with the list of all the address.
+     */
+    CompletionStage<List<Address>> getAddresses(final int userId);
+
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the user exists.
+     */
+    CompletionStage<Boolean> isUserExist(final int userId);
+}
@@ -0,0 +1,139 @@
+package com.flipkart.product.service.order;
+
+import com.flipkart.authentication.model.Address;
+import com.flipkart.authentication.service.ServiceExecutor;
+import com.flipkart.product.model.order.Order;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous OrderService. Each call runs the OrderService on the {@link ServiceExecutor}, so
+ * the independent calls of a request run concurrently and no thread of the server waits on the database.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class AsyncOrderServiceImpl implements AsyncOrderService {
+
+    private final OrderService orderService;
+    private final ServiceExecutor serviceExecutor;
+
+    /**
+     * <p>
+     * Default constructor of the AsyncOrderServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private AsyncOrderServiceImpl() {
+        orderService = OrderServiceImpl.getInstance();
+        serviceExecutor = ServiceExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of AsyncOrderServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final AsyncOrderServiceImpl ASYNC_ORDER_SERVICE = new AsyncOrderServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of AsyncOrderServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of AsyncOrderServiceImpl Class.
+     */
+    public static AsyncOrderService getInstance() {
+        return InstanceHolder.ASYNC_ORDER_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Adds the order placed by the user, if both the product and the user exist.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param order Refers the {@link Order} to be added.
+     * @return the stage completed with true if the order is added or false if the product or the user is not found.
+     */
+    @Override
+    public CompletionStage<Boolean> addOrder(final int userId, final Order order) {
+        return serviceExecutor.supply(() -> orderService.addOrder(userId, order));
+    }
+
+    /**
+     * <p>
+     * Gets the orders placed by the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param page Refers the page number.
+     * @return the stage completed with all the {@link Order} of the user.
+     */
+    @Override
+    public CompletionStage<List<Order>> getOrders(final int userId, final int page) {
+        return serviceExecutor.supply(() -> orderService.getOrders(userId, page));
+    }
+
+    /**
+     * <p>
+     * Cancels the order placed by the user, if the order of the product is placed by the user.
+     * </p>
+     *
+     * @param order Refers the {@link Order} to be cancelled.
+     * @return the stage completed with true if the order is cancelled or false if no such order is found.
+     */
+    @Override
+    public CompletionStage<Boolean> cancelOrder(final Order order) {
+        return serviceExecutor.supply(() -> orderService.cancelOrder(order));
+    }
+
+    /**
+     * <p>
+     * Adds the address of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param address Refers the {@link Address} to be added.
+     * @return the stage completed once the address is added.
+     */
+    @Override
+    public CompletionStage<Void> addAddress(final int userId, final Address address) {
+        return serviceExecutor.supply(() -> {
+            orderService.addAddress(userId, address);
+
+            return null;
+        });
+    }
+
+    /**
+     * <p>
+     * Gets all the addresses of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with the list of all the address.
+     */
+    @Override
+    public CompletionStage<List<Address>> getAddresses(final int userId) {
+        return serviceExecutor.supply(() -> orderService.getAddresses(userId));
+    }
+
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the user exists.
+     */
+    @Override
+    public CompletionStage<Boolean> isUserExist(final int userId) {
+        return serviceExecutor.supply(() -> orderService.isUserExist(userId));
+    }
+}
@@ -17,13 +17,14 @@ public interface OrderService {
 
     /**
      * <p>
-     * Adds the order placed by the user.
+     * Adds the order placed by the user, if both the product and the user exist.
      * </p>
      *
      * @param userId Refers the id of the user
      * @param order Refers the {@link Order} to be added.
+     * @return true if the order is added or false if the product or the user is not found.
      */
-    void addOrder(final int userId, final Order order);
+    boolean addOrder(final int userId, final Order order);
 
     /**
      * <p>
@@ -38,12 +39,13 @@ public interface OrderService {
 
     /**
      * <p>
-     * Cancels the order placed by the user.
+     * Cancels the order placed by the user, if the order of the product is placed by the user.
      * </p>
      *
      * @param order Refers the {@link Order} to be cancelled.
+     * @return true if the order is cancelled or false if no such order is found.
      */
-    void cancelOrder(final Order order);
+    boolean cancelOrder(final Order order);
 
     /**
      * <p>
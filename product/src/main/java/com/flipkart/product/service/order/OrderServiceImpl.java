@@ -1,11 +1,15 @@
 package com.flipkart.product.service.order;
 
-import com.flipkart.authentication.dao.v1.UserDAOImpl;
+import com.flipkart.authentication.cache.UserExistenceCache;
 import com.flipkart.authentication.model.Address;
+import com.flipkart.product.dao.DaoRouters;
 import com.flipkart.product.dao.order.OrderDAO;
-import com.flipkart.product.dao.order.v1.OrderDAOImpl;
-import com.flipkart.product.dao.inventory.v1.InventoryDAOImpl;
 import com.flipkart.product.model.order.Order;
+import com.flipkart.product.service.hold.StockHoldService;
+import com.flipkart.product.service.hold.StockHoldServiceImpl;
+import com.flipkart.product.service.inventory.InventoryService;
+import com.flipkart.product.service.inventory.InventoryServiceImpl;
+import com.flipkart.product.service.user.TrackedUserExistenceCache;
 
 import java.util.List;
 
@@ -20,6 +24,9 @@ import java.util.List;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderDAO orderDAO;
+    private final UserExistenceCache userExistenceCache;
+    private final StockHoldService stockHoldService;
+    private final InventoryService inventoryService;
 
     /**
      * <p>
@@ -27,7 +34,10 @@ public class OrderServiceImpl implements OrderService {
      * </p>
      */
     private OrderServiceImpl() {
-        orderDAO = OrderDAOImpl.getInstance();
+        orderDAO = DaoRouters.getOrderDAO();
+        userExistenceCache = TrackedUserExistenceCache.getInstance();
+        stockHoldService = StockHoldServiceImpl.getInstance();
+        inventoryService = InventoryServiceImpl.getInstance();
     }
 
     /**
@@ -53,15 +63,23 @@ public class OrderServiceImpl implements OrderService {
 
     /**
      * <p>
-     * Adds the order placed by the user.
+     * Adds the order placed by the user. The hold placed on the product is released as the order now owns the stock,
+     * and the stock of the inventory is marked changed.
      * </p>
      *
      * @param userId Refers the id of the user
      * @param order  Refers the {@link Order} to be added.
+     * @return true if the order is added or false if the product or the user is not found.
      */
     @Override
-    public void addOrder(final int userId, final Order order) {
-        orderDAO.addOrder(userId, order);
+    public boolean addOrder(final int userId, final Order order) {
+        if (!orderDAO.addOrder(userId, order)) {
+            return false;
+        }
+        stockHoldService.release(order.getProductId(), userId);
+        inventoryService.markStockChanged();
+
+        return true;
     }
 
     /**
@@ -80,14 +98,20 @@ public class OrderServiceImpl implements OrderService {
 
     /**
      * <p>
-     * Cancels the order placed by the user.
+     * Cancels the order placed by the user and marks the stock of the inventory changed.
      * </p>
      *
      * @param order Refers the {@link Order} to be cancelled.
+     * @return true if the order is cancelled or false if no such order is found.
      */
     @Override
-    public void cancelOrder(final Order order) {
-        orderDAO.cancelOrder(order);
+    public boolean cancelOrder(final Order order) {
+        if (!orderDAO.cancelOrder(order)) {
+            return false;
+        }
+        inventoryService.markStockChanged();
+
+        return true;
     }
 
     /**
@@ -126,7 +150,7 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     public boolean isUserExist(final int userId) {
-        return UserDAOImpl.getInstance().isUserExist(userId);
+        return userExistenceCache.isUserExist(userId);
     }
 
     /**
@@ -139,6 +163,6 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     public boolean isProductExist(final int productId) {
-        return InventoryDAOImpl.getInstance().isProductExist(productId);
+        return DaoRouters.getInventoryDAO().isProductExist(productId);
     }
 }
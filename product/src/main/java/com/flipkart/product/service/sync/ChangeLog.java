@@ -0,0 +1,178 @@
+package com.flipkart.product.service.sync;
+
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.sync.Change;
+import com.flipkart.product.model.sync.ChangeType;
+import com.flipkart.product.model.sync.Delta;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Keeps a small log of the recent changes made to the cart or wishlist of each user along with a version which is
+ * increased on every change. The versions of a user start from the time the log is created, so the versions issued
+ * before a restart are always older than the ones issued after it and are answered with the full content.
+ * </p>
+ *
+ * <p>
+ * Only the users who changed their cart or wishlist are logged, and only the given number of the most recently changed
+ * users are kept. The log of a user dropped to keep the bound is started again above every version issued before, so
+ * the versions known by the client are answered with the full content. The versions are kept by each node apart, so a
+ * version issued by another node doesn't match the changes of this node and is to be sent back to the same node.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class ChangeLog {
+
+    private final Map<Integer, UserChangeLog> userChangeLogs;
+    private final int capacity;
+    private long baseVersion;
+
+    /**
+     * <p>
+     * Constructs the ChangeLog which keeps the given number of recent changes for each of the given number of users.
+     * </p>
+     *
+     * @param capacity Refers the number of changes kept for each user.
+     * @param userCapacity Refers the number of the most recently changed users kept.
+     */
+    public ChangeLog(final int capacity, final int userCapacity) {
+        this.userChangeLogs = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, UserChangeLog> eldest) {
+                if (size() > userCapacity) {
+                    baseVersion = Math.max(baseVersion, eldest.getValue().getVersion());
+
+                    return true;
+                }
+
+                return false;
+            }
+        };
+        this.baseVersion = System.currentTimeMillis();
+        this.capacity = capacity;
+    }
+
+    /**
+     * <p>
+     * Records the change made by the user and returns the new version.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param productId Refers the id of the product added or removed.
+     * @param productCategory Refers the category of the product if known.
+     * @param changeType Refers the {@link ChangeType}.
+     * @return the new version.
+     */
+    public long record(final int userId, final int productId, final ProductCategory productCategory,
+                       final ChangeType changeType) {
+        final UserChangeLog userChangeLog;
+
+        synchronized (userChangeLogs) {
+            userChangeLog = userChangeLogs.computeIfAbsent(userId, id -> new UserChangeLog(baseVersion, capacity));
+        }
+
+        return userChangeLog.record(productId, productCategory, changeType);
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the user, without logging the user when nothing is changed yet.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the current version.
+     */
+    public long getVersion(final int userId) {
+        synchronized (userChangeLogs) {
+            final UserChangeLog userChangeLog = userChangeLogs.get(userId);
+
+            return Objects.isNull(userChangeLog) ? baseVersion : userChangeLog.getVersion();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the changes made by the user after the given version.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param version Refers the version known by the client.
+     * @return Optional of {@link Delta} or empty if the changes since the version are no longer kept.
+     */
+    public Optional<Delta> getChangesSince(final int userId, final long version) {
+        final UserChangeLog userChangeLog;
+        final long currentBaseVersion;
+
+        synchronized (userChangeLogs) {
+            userChangeLog = userChangeLogs.get(userId);
+            currentBaseVersion = baseVersion;
+        }
+
+        if (Objects.isNull(userChangeLog)) {
+            return version == currentBaseVersion ? Optional.of(new Delta(version, new ArrayList<>()))
+                    : Optional.empty();
+        }
+
+        return userChangeLog.getChangesSince(version);
+    }
+
+    /**
+     * <p>
+     * Holds the recent changes of a single user.
+     * </p>
+     */
+    private static class UserChangeLog {
+
+        private final Deque<Change> changes;
+        private final int capacity;
+        private long version;
+        private long oldestKnownVersion;
+
+        private UserChangeLog(final long initialVersion, final int capacity) {
+            this.changes = new ArrayDeque<>(capacity);
+            this.capacity = capacity;
+            this.version = initialVersion;
+            this.oldestKnownVersion = initialVersion;
+        }
+
+        private synchronized long record(final int productId, final ProductCategory productCategory,
+                                         final ChangeType changeType) {
+            if (changes.size() == capacity) {
+                oldestKnownVersion = changes.removeFirst().getVersion();
+            }
+            changes.addLast(new Change(++version, productId, productCategory, changeType));
+
+            return version;
+        }
+
+        private synchronized long getVersion() {
+            return version;
+        }
+
+        private synchronized Optional<Delta> getChangesSince(final long knownVersion) {
+            if (knownVersion < oldestKnownVersion || knownVersion > version) {
+                return Optional.empty();
+            }
+            final Map<Integer, Change> latestChanges = new LinkedHashMap<>();
+
+            for (final Change change : changes) {
+                if (change.getVersion() > knownVersion) {
+                    latestChanges.remove(change.getProductId());
+                    latestChanges.put(change.getProductId(), change);
+                }
+            }
+
+            return Optional.of(new Delta(version, new ArrayList<>(latestChanges.values())));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.flipkart.product.service.sync;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Keeps a version for each key which is increased after every change of the content known by the key. As in the
+ * {@link ChangeLog}, the versions start from the time they are created, so a version issued before a restart is never
+ * issued again after it.
+ * </p>
+ *
+ * @param <K> Refers the type of the key.
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class Versions<K> {
+
+    private final Map<K, AtomicLong> versions;
+    private final long initialVersion;
+
+    public Versions() {
+        this.versions = new ConcurrentHashMap<>();
+        this.initialVersion = System.currentTimeMillis();
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the key.
+     * </p>
+     *
+     * @param key Refers the key of the content.
+     * @return the current version.
+     */
+    public long getVersion(final K key) {
+        final AtomicLong version = versions.get(key);
+
+        return Objects.isNull(version) ? initialVersion : version.get();
+    }
+
+    /**
+     * <p>
+     * Increases the version of the key. Called after the change is stored, so a content read before the change is
+     * never tagged with the new version.
+     * </p>
+     *
+     * @param key Refers the key of the changed content.
+     * @return the new version.
+     */
+    public long increment(final K key) {
+        return versions.computeIfAbsent(key, id -> new AtomicLong(initialVersion)).incrementAndGet();
+    }
+}
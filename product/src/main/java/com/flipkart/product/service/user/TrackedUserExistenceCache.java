@@ -0,0 +1,134 @@
+package com.flipkart.product.service.user;
+
+import com.flipkart.authentication.cache.UserExistenceCache;
+import com.flipkart.authentication.dao.DaoRouters;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.util.tracker.ServiceTracker;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Checks the existence of the users by the {@link UserExistenceCache} service published by the authentication bundle.
+ * While the service is not published, the existence is checked by the user DAO as done before the cache.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TrackedUserExistenceCache implements UserExistenceCache {
+
+    private volatile ServiceTracker<UserExistenceCache, UserExistenceCache> serviceTracker;
+
+    /**
+     * <p>
+     * Default constructor of the TrackedUserExistenceCache class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private TrackedUserExistenceCache() {}
+
+    /**
+     * <p>
+     * Creates a single instance of TrackedUserExistenceCache class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final TrackedUserExistenceCache TRACKED_USER_EXISTENCE_CACHE = new TrackedUserExistenceCache();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of TrackedUserExistenceCache Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of TrackedUserExistenceCache Class.
+     */
+    public static TrackedUserExistenceCache getInstance() {
+        return InstanceHolder.TRACKED_USER_EXISTENCE_CACHE;
+    }
+
+    /**
+     * <p>
+     * Starts tracking the service in the context of the bundle.
+     * </p>
+     *
+     * @param context Refers the context of the bundle.
+     */
+    public void open(final BundleContext context) {
+        final ServiceTracker<UserExistenceCache, UserExistenceCache> tracker = new ServiceTracker<>(context,
+                UserExistenceCache.class, null);
+
+        tracker.open();
+        serviceTracker = tracker;
+    }
+
+    /**
+     * <p>
+     * Stops tracking the service.
+     * </p>
+     */
+    public void close() {
+        final ServiceTracker<UserExistenceCache, UserExistenceCache> tracker = serviceTracker;
+
+        serviceTracker = null;
+
+        if (Objects.nonNull(tracker)) {
+            tracker.close();
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the user exists or not by the service, or by the user DAO while the service is not published.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return true if the user already exists or false otherwise.
+     */
+    @Override
+    public boolean isUserExist(final int userId) {
+        final UserExistenceCache userExistenceCache = getService();
+
+        return Objects.isNull(userExistenceCache) ? DaoRouters.getUserDAO().isUserExist(userId)
+                : userExistenceCache.isUserExist(userId);
+    }
+
+    /**
+     * <p>
+     * Adds the id of the newly created user to the cache of the service if published.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    @Override
+    public void add(final int userId) {
+        final UserExistenceCache userExistenceCache = getService();
+
+        if (Objects.nonNull(userExistenceCache)) {
+            userExistenceCache.add(userId);
+        }
+    }
+
+    /**
+     * <p>
+     * Leaves the warming to the authentication bundle which publishes the service.
+     * </p>
+     */
+    @Override
+    public void warm() {}
+
+    /**
+     * <p>
+     * Gets the tracked service.
+     * </p>
+     *
+     * @return the service or null if it is not published or not tracked.
+     */
+    private UserExistenceCache getService() {
+        final ServiceTracker<UserExistenceCache, UserExistenceCache> tracker = serviceTracker;
+
+        return Objects.isNull(tracker) ? null : tracker.getService();
+    }
+}
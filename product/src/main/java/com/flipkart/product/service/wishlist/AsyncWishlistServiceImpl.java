@@ -0,0 +1,124 @@
+package com.flipkart.product.service.wishlist;
+
+import com.flipkart.authentication.service.ServiceExecutor;
+import com.flipkart.product.model.ProductCategory;
+import com.flipkart.product.model.wishlist.Wishlist;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * Provides the asynchronous WishlistService. Each call runs the WishlistService on the {@link ServiceExecutor}, so
+ * the independent calls of a request run concurrently and no thread of the server waits on the database.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class AsyncWishlistServiceImpl implements AsyncWishlistService {
+
+    private final WishlistService wishlistService;
+    private final ServiceExecutor serviceExecutor;
+
+    /**
+     * <p>
+     * Default constructor of the AsyncWishlistServiceImpl class. Kept private to restrict from creating object from outside of this class.
+     * </p>
+     */
+    private AsyncWishlistServiceImpl() {
+        wishlistService = WishlistServiceImpl.getInstance();
+        serviceExecutor = ServiceExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates a single instance of AsyncWishlistServiceImpl class.
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final AsyncWishlistServiceImpl ASYNC_WISHLIST_SERVICE = new AsyncWishlistServiceImpl();
+    }
+
+    /**
+     * <p>
+     * Gets a single object of AsyncWishlistServiceImpl Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of AsyncWishlistServiceImpl Class.
+     */
+    public static AsyncWishlistService getInstance() {
+        return InstanceHolder.ASYNC_WISHLIST_SERVICE;
+    }
+
+    /**
+     * <p>
+     * Adds the product to the wishlist of the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     * @param productCategory Refers the {@link ProductCategory}.
+     * @return the stage completed with true if the product is added.
+     */
+    @Override
+    public CompletionStage<Boolean> addProduct(final int productId, final int userId,
+                                               final ProductCategory productCategory) {
+        return serviceExecutor.supply(() -> wishlistService.addProduct(productId, userId, productCategory));
+    }
+
+    /**
+     * <p>
+     * Removes the product from the wishlist of the user.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the product is removed.
+     */
+    @Override
+    public CompletionStage<Boolean> removeProduct(final int productId, final int userId) {
+        return serviceExecutor.supply(() -> wishlistService.removeProduct(productId, userId));
+    }
+
+    /**
+     * <p>
+     * Gets the wishlist of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param page Refers the page number.
+     * @return the stage completed with the Optional of {@link Wishlist}.
+     */
+    @Override
+    public CompletionStage<Optional<Wishlist>> getWishlist(final int userId, final int page) {
+        return serviceExecutor.supply(() -> wishlistService.getWishlist(userId, page));
+    }
+
+    /**
+     * <p>
+     * Checks whether the user exists or not.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the stage completed with true if the user exists.
+     */
+    @Override
+    public CompletionStage<Boolean> isUserExist(final int userId) {
+        return serviceExecutor.supply(() -> wishlistService.isUserExist(userId));
+    }
+
+    /**
+     * <p>
+     * Checks whether the product exists or not.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the stage completed with true if the product exists.
+     */
+    @Override
+    public CompletionStage<Boolean> isProductExist(final int productId) {
+        return serviceExecutor.supply(() -> wishlistService.isProductExist(productId));
+    }
+}
@@ -2,6 +2,7 @@ package com.flipkart.product.service.wishlist;
 
 import com.flipkart.product.model.ProductCategory;
 import com.flipkart.product.model.wishlist.Wishlist;
+import com.flipkart.product.model.sync.Delta;
 
 import java.util.Optional;
 
@@ -60,4 +61,25 @@ public interface WishlistService {
      * @return true if the user already exists or false otherwise.
      */
     boolean isProductExist(final int productId);
+
+    /**
+     * <p>
+     * Gets the current version of the wishlist of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the current version.
+     */
+    long getVersion(final int userId);
+
+    /**
+     * <p>
+     * Gets the products added to or removed from the wishlist of the user after the given version.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param version Refers the version known by the client.
+     * @return Optional of {@link Delta} or empty if the changes since the version are no longer available.
+     */
+    Optional<Delta> getChanges(final int userId, final long version);
 }
@@ -1,11 +1,14 @@
 package com.flipkart.product.service.wishlist;
 
-import com.flipkart.authentication.dao.v1.UserDAOImpl;
+import com.flipkart.authentication.cache.UserExistenceCache;
+import com.flipkart.product.dao.DaoRouters;
 import com.flipkart.product.dao.wishlist.WishlistDAO;
-import com.flipkart.product.dao.wishlist.v1.WishlistDAOImpl;
 import com.flipkart.product.model.wishlist.Wishlist;
 import com.flipkart.product.model.ProductCategory;
-import com.flipkart.product.dao.inventory.v1.InventoryDAOImpl;
+import com.flipkart.product.model.sync.ChangeType;
+import com.flipkart.product.model.sync.Delta;
+import com.flipkart.product.service.sync.ChangeLog;
+import com.flipkart.product.service.user.TrackedUserExistenceCache;
 
 import java.util.Optional;
 
@@ -20,6 +23,8 @@ import java.util.Optional;
 public class WishlistServiceImpl implements WishlistService {
 
     private final WishlistDAO wishlistDAO;
+    private final UserExistenceCache userExistenceCache;
+    private final ChangeLog changeLog;
 
     /**
      * <p>
@@ -27,7 +32,10 @@ public class WishlistServiceImpl implements WishlistService {
      * </p>
      */
     private WishlistServiceImpl() {
-        wishlistDAO = WishlistDAOImpl.getInstance();
+        wishlistDAO = DaoRouters.getWishlistDAO();
+        userExistenceCache = TrackedUserExistenceCache.getInstance();
+        changeLog = new ChangeLog(Integer.getInteger("flipkart.sync.log.size", 50),
+                Integer.getInteger("flipkart.sync.log.users", 10_000));
     }
 
     /**
@@ -63,7 +71,12 @@ public class WishlistServiceImpl implements WishlistService {
      */
     @Override
     public boolean addProduct(final int productId, final int userId, final ProductCategory productCategory) {
-        return !wishlistDAO.isProductExist(productId, userId) && wishlistDAO.addProduct(productId, userId);
+        if (wishlistDAO.isProductExist(productId, userId) || !wishlistDAO.addProduct(productId, userId)) {
+            return false;
+        }
+        changeLog.record(userId, productId, productCategory, ChangeType.ADDED);
+
+        return true;
     }
 
     /**
@@ -77,7 +90,13 @@ public class WishlistServiceImpl implements WishlistService {
      */
     @Override
     public boolean removeProduct(final int productId, final int userId) {
-         return wishlistDAO.removeProduct(productId, userId);
+        final boolean isRemoved = wishlistDAO.removeProduct(productId, userId);
+
+        if (isRemoved) {
+            changeLog.record(userId, productId, null, ChangeType.REMOVED);
+        }
+
+        return isRemoved;
     }
 
     /**
@@ -104,7 +123,7 @@ public class WishlistServiceImpl implements WishlistService {
      */
     @Override
     public boolean isUserExist(final int userId) {
-        return UserDAOImpl.getInstance().isUserExist(userId);
+        return userExistenceCache.isUserExist(userId);
     }
 
     /**
@@ -117,6 +136,33 @@ public class WishlistServiceImpl implements WishlistService {
      */
     @Override
     public boolean isProductExist(final int productId) {
-        return InventoryDAOImpl.getInstance().isProductExist(productId);
+        return DaoRouters.getInventoryDAO().isProductExist(productId);
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the wishlist of the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @return the current version.
+     */
+    @Override
+    public long getVersion(final int userId) {
+        return changeLog.getVersion(userId);
+    }
+
+    /**
+     * <p>
+     * Gets the products added to or removed from the wishlist of the user after the given version.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param version Refers the version known by the client.
+     * @return Optional of {@link Delta} or empty if the changes since the version are no longer available.
+     */
+    @Override
+    public Optional<Delta> getChanges(final int userId, final long version) {
+        return changeLog.getChangesSince(userId, version);
     }
 }